@@ -0,0 +1,162 @@
+package com.example.record.common.logging;
+
+import ch.qos.logback.classic.AsyncAppender;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.encoder.PatternLayoutEncoder;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.OutputStreamAppender;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 요청 경로 로그 처리량 벤치마크 (초당 요청 수)
+ *
+ * - imageSystemOut / authSystemOut: 기존 방식 (System.out.println, 이미지 응답은 b64_json까지 전체 출력)
+ * - imageAsyncTruncated / authAsyncSampled: 현재 방식 (logback-spring.xml과 같은 AsyncAppender + key=value 패턴,
+ *   이미지 응답은 필드 이름과 길이만, 인증 로그는 SamplingTurboFilter로 100건 중 1건)
+ *
+ * 두 방식 모두 콘솔 대신 임시 파일에 씁니다. (JMH 출력과 섞이지 않게, 디스크 쓰기 비용은 그대로)
+ * 로그가 실제로 출력되는 경우를 재기 위해 현재 방식도 해당 로거를 DEBUG로 켭니다.
+ * 여러 요청 스레드가 동시에 로그를 남기는 상황을 보기 위해 4개 스레드로 실행합니다.
+ *
+ * 실행: ./gradlew jmh -PjmhIncludes=RequestLoggingBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Threads(4)
+@Fork(1)
+public class RequestLoggingBenchmark {
+
+    /** logback-spring.xml CONSOLE 패턴과 같음 */
+    private static final String PATTERN =
+            "ts=%d{yyyy-MM-dd'T'HH:mm:ss.SSSXXX} level=%level thread=%thread logger=%logger{36} " +
+            "msg=\"%replace(%msg){'\"', '\\\\\"'}\"%n%ex";
+
+    /** 1024x1024 PNG의 base64 크기 수준 */
+    private static final int B64_LENGTH = 1_500_000;
+
+    private static final String REQUEST_PATH = "/review/summarize";
+
+    private Path legacyFile;
+    private Path asyncFile;
+    private PrintStream console;
+    private LoggerContext loggerContext;
+    private Logger imageLog;
+    private Logger authLog;
+
+    private Map<String, Object> imageResponse;
+    private String b64Json;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        char[] b64 = new char[B64_LENGTH];
+        Arrays.fill(b64, 'A');
+        b64Json = new String(b64);
+        imageResponse = Map.of("created", 1735689600L, "data", List.of(Map.of("b64_json", b64Json)));
+
+        // System.out과 같은 구성 (버퍼 + println마다 flush, PrintStream 내부 동기화)
+        legacyFile = Files.createTempFile("bench-legacy-log", ".log");
+        console = new PrintStream(new BufferedOutputStream(new FileOutputStream(legacyFile.toFile()), 8192),
+                true, StandardCharsets.UTF_8);
+
+        asyncFile = Files.createTempFile("bench-async-log", ".log");
+        loggerContext = new LoggerContext();
+
+        PatternLayoutEncoder encoder = new PatternLayoutEncoder();
+        encoder.setContext(loggerContext);
+        encoder.setPattern(PATTERN);
+        encoder.setCharset(StandardCharsets.UTF_8);
+        encoder.start();
+
+        OutputStreamAppender<ILoggingEvent> sink = new OutputStreamAppender<>();
+        sink.setContext(loggerContext);
+        sink.setName("FILE");
+        sink.setEncoder(encoder);
+        sink.setOutputStream(new FileOutputStream(asyncFile.toFile()));
+        sink.start();
+
+        AsyncAppender async = new AsyncAppender();
+        async.setContext(loggerContext);
+        async.setName("ASYNC");
+        async.setQueueSize(8192);
+        async.setNeverBlock(true);
+        async.setIncludeCallerData(false);
+        async.addAppender(sink);
+        async.start();
+
+        SamplingTurboFilter authSampling = new SamplingTurboFilter();
+        authSampling.setContext(loggerContext);
+        authSampling.setName("auth");
+        authSampling.setLoggerPrefix("com.example.record.auth.jwt");
+        authSampling.setLevel("DEBUG");
+        authSampling.setRate(100);
+        authSampling.start();
+        loggerContext.addTurboFilter(authSampling);
+
+        Logger root = loggerContext.getLogger(org.slf4j.Logger.ROOT_LOGGER_NAME);
+        root.setLevel(ch.qos.logback.classic.Level.INFO);
+        root.addAppender(async);
+
+        imageLog = loggerContext.getLogger("com.example.record.promptcontrol_w03.service.ImageService");
+        imageLog.setLevel(ch.qos.logback.classic.Level.DEBUG);
+        authLog = loggerContext.getLogger("com.example.record.auth.jwt.JwtAuthenticationFilter");
+        authLog.setLevel(ch.qos.logback.classic.Level.DEBUG);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        loggerContext.stop();
+        console.close();
+        Files.deleteIfExists(legacyFile);
+        Files.deleteIfExists(asyncFile);
+    }
+
+    /**
+     * 기존 ImageService: 요청 본문과 응답 전체(b64_json 포함)를 System.out으로 출력
+     */
+    @Benchmark
+    public void imageSystemOut() {
+        console.println("📤 BODY => {model=gpt-image-1, prompt=레미제라블 공연 후기 포스터, size=1024x1024}");
+        console.println("📥 RESPONSE => " + imageResponse);
+        console.println("✅ Base64 이미지 사용");
+    }
+
+    /**
+     * 현재 ImageService: 요청 프롬프트는 잘라서, 응답은 필드 이름과 base64 길이만 비동기로 기록
+     */
+    @Benchmark
+    public void imageAsyncTruncated() {
+        imageLog.debug("OpenAI 이미지 요청: model={}, prompt={}", "gpt-image-1", LogPayloads.truncate("레미제라블 공연 후기 포스터"));
+        imageLog.debug("OpenAI 이미지 응답: created={}, fields={}", imageResponse.get("created"), imageResponse.keySet());
+        imageLog.debug("Base64 이미지 사용: length={}", b64Json.length());
+    }
+
+    /**
+     * 기존 JwtAuthenticationFilter: 요청마다 경로를 System.out으로 출력
+     */
+    @Benchmark
+    public void authSystemOut() {
+        console.println("🔍 JwtAuthenticationFilter - 요청 경로: " + REQUEST_PATH);
+        console.println("✅ JWT 검사 제외 경로: " + REQUEST_PATH);
+    }
+
+    /**
+     * 현재 JwtAuthenticationFilter: DEBUG 로그를 100건 중 1건만 비동기로 기록
+     */
+    @Benchmark
+    public void authAsyncSampled() {
+        authLog.debug("JWT 검사 제외 경로: {}", REQUEST_PATH);
+    }
+}
@@ -0,0 +1,134 @@
+package com.example.record.review.service;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.sql.*;
+import java.time.LocalDate;
+import java.util.Properties;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 티켓 일괄 INSERT 벤치마크 (초당 행 수)
+ *
+ * - identityRowByRow: 기존 IDENTITY 방식 (행마다 INSERT ... RETURNING id 한 번씩, 배치 불가)
+ * - sequenceBatched: 시퀀스 pooled 방식 (nextval 한 번으로 50개 ID 할당, JDBC 배치 + reWriteBatchedInserts)
+ *
+ * 실제 PostgreSQL이 필요합니다. 임시 테이블/시퀀스만 사용하므로 운영 데이터는 건드리지 않습니다.
+ * 실행: BENCH_DB_URL=jdbc:postgresql://localhost:5432/recorddb BENCH_DB_USER=... BENCH_DB_PASSWORD=... \
+ *       ./gradlew jmh -PjmhIncludes=TicketImportBenchmark
+ * 결과(ops/s)는 @OperationsPerInvocation으로 행 단위로 환산됩니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TicketImportBenchmark {
+
+    private static final int ROWS = 1000;
+    private static final int ALLOCATION_SIZE = 50;
+
+    private static final String INSERT_RETURNING =
+            "INSERT INTO bench_tickets (user_id, performance_title, venue, artist, genre, view_date, review_text, created_at) " +
+            "VALUES (?, ?, ?, ?, ?, ?, ?, NOW()) RETURNING id";
+    private static final String INSERT_WITH_ID =
+            "INSERT INTO bench_tickets (id, user_id, performance_title, venue, artist, genre, view_date, review_text, created_at) " +
+            "VALUES (?, ?, ?, ?, ?, ?, ?, ?, NOW())";
+
+    private Connection connection;
+
+    @Setup(Level.Trial)
+    public void setUp() throws SQLException {
+        String url = System.getenv("BENCH_DB_URL");
+        if (url == null) {
+            throw new IllegalStateException("BENCH_DB_URL 환경 변수가 필요합니다.");
+        }
+        Properties props = new Properties();
+        props.setProperty("user", System.getenv().getOrDefault("BENCH_DB_USER", "recorduser"));
+        props.setProperty("password", System.getenv().getOrDefault("BENCH_DB_PASSWORD", ""));
+        props.setProperty("reWriteBatchedInserts", "true");
+        connection = DriverManager.getConnection(url, props);
+
+        try (Statement st = connection.createStatement()) {
+            st.execute("CREATE TEMP SEQUENCE IF NOT EXISTS bench_identity_seq");
+            st.execute("CREATE TEMP SEQUENCE IF NOT EXISTS bench_pooled_seq INCREMENT BY " + ALLOCATION_SIZE);
+            st.execute("CREATE TEMP TABLE IF NOT EXISTS bench_tickets (" +
+                    "id BIGINT PRIMARY KEY DEFAULT nextval('bench_identity_seq'), " +
+                    "user_id VARCHAR(15) NOT NULL, performance_title VARCHAR(100) NOT NULL, " +
+                    "venue VARCHAR(100), artist VARCHAR(100), genre VARCHAR(20), view_date DATE NOT NULL, " +
+                    "review_text TEXT, created_at TIMESTAMP)");
+        }
+        connection.setAutoCommit(false);
+    }
+
+    @TearDown(Level.Iteration)
+    public void truncate() throws SQLException {
+        try (Statement st = connection.createStatement()) {
+            st.execute("TRUNCATE bench_tickets");
+        }
+        connection.commit();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws SQLException {
+        connection.close();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ROWS)
+    public long identityRowByRow() throws SQLException {
+        long last = 0;
+        try (PreparedStatement ps = connection.prepareStatement(INSERT_RETURNING)) {
+            for (int i = 0; i < ROWS; i++) {
+                bind(ps, 1, i);
+                try (ResultSet rs = ps.executeQuery()) {
+                    rs.next();
+                    last = rs.getLong(1);
+                }
+            }
+        }
+        connection.commit();
+        return last;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ROWS)
+    public int sequenceBatched() throws SQLException {
+        int inserted = 0;
+        try (PreparedStatement next = connection.prepareStatement("SELECT nextval('bench_pooled_seq')");
+             PreparedStatement ps = connection.prepareStatement(INSERT_WITH_ID)) {
+            long hi = 0;
+            long nextId = 1;
+            for (int i = 0; i < ROWS; i++) {
+                // pooled 최적화: 시퀀스 값 하나로 (hi - 50, hi] 구간을 사용
+                if (nextId > hi) {
+                    try (ResultSet rs = next.executeQuery()) {
+                        rs.next();
+                        hi = rs.getLong(1);
+                    }
+                    nextId = hi - ALLOCATION_SIZE + 1;
+                }
+                ps.setLong(1, nextId++);
+                bind(ps, 2, i);
+                ps.addBatch();
+                if ((i + 1) % ALLOCATION_SIZE == 0) {
+                    inserted += ps.executeBatch().length;
+                }
+            }
+            inserted += ps.executeBatch().length;
+        }
+        connection.commit();
+        return inserted;
+    }
+
+    private static void bind(PreparedStatement ps, int index, int i) throws SQLException {
+        ps.setString(index, "bench-user");
+        ps.setString(index + 1, "작품" + (i % 300));
+        ps.setString(index + 2, "공연장" + (i % 40));
+        ps.setString(index + 3, "아티스트" + (i % 200));
+        ps.setString(index + 4, "MUSICAL");
+        ps.setObject(index + 5, LocalDate.of(2025, 1, 1).plusDays(i % 365));
+        ps.setString(index + 6, "후기".repeat(1 + i % 50));
+    }
+}
@@ -0,0 +1,120 @@
+package com.example.record.review.service;
+
+import com.example.record.review.dto.projection.TicketYearInReviewRow;
+import com.example.record.review.entity.Ticket;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.time.LocalDate;
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * 연말 결산 집계 벤치마크
+ *
+ * - legacyMultiPass: 기존 방식 (티켓 엔티티 전체를 리스트로 올린 뒤 차원마다 stream 재순회)
+ * - accumulatorOnePass: YearInReviewAccumulator (프로젝션 행을 한 번만 순회)
+ *
+ * 실행: ./gradlew jmh
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class YearInReviewBenchmark {
+
+    private static final int TARGET_YEAR = 2025;
+    private static final String[] GENRES = {"MUSICAL", "PLAY", "CONCERT", "BAND", "CLASSIC", null};
+
+    @Param({"1000", "10000", "100000"})
+    private int ticketCount;
+
+    private List<Ticket> tickets;
+    private List<TicketYearInReviewRow> rows;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        Random random = new Random(42);
+        tickets = new ArrayList<>(ticketCount);
+        for (int i = 0; i < ticketCount; i++) {
+            int year = TARGET_YEAR - random.nextInt(2);
+            String review = random.nextInt(4) == 0 ? null : "후기".repeat(1 + random.nextInt(80));
+            tickets.add(Ticket.builder()
+                    .id((long) i)
+                    .performanceTitle("작품" + random.nextInt(300))
+                    .venue("공연장" + random.nextInt(40))
+                    .artist(random.nextInt(5) == 0 ? null : "아티스트" + random.nextInt(200))
+                    .genre(GENRES[random.nextInt(GENRES.length)])
+                    .viewDate(LocalDate.of(year, 1, 1).plusDays(random.nextInt(365)))
+                    .imageUrl(random.nextBoolean() ? "https://example.com/" + i + ".png" : null)
+                    .reviewText(review)
+                    .build());
+        }
+        // DB 정렬(관람일 오름차순)과 같은 순서의 프로젝션 행
+        rows = tickets.stream()
+                .sorted(Comparator.comparing(Ticket::getViewDate))
+                .map(t -> new TicketYearInReviewRow(t.getId(), t.getViewDate(), t.getGenre(), t.getVenue(),
+                        t.getArtist(), t.getPerformanceTitle(), t.getImageUrl(),
+                        t.getReviewText() != null ? t.getReviewText().length() : null,
+                        t.getReviewText() != null ? t.getReviewText().substring(0, Math.min(50, t.getReviewText().length())) : null))
+                .collect(Collectors.toList());
+    }
+
+    @Benchmark
+    public Object accumulatorOnePass() {
+        YearInReviewAccumulator accumulator = new YearInReviewAccumulator(TARGET_YEAR);
+        rows.forEach(accumulator);
+        return accumulator.toResponse();
+    }
+
+    @Benchmark
+    public void legacyMultiPass(Blackhole bh) {
+        List<Ticket> yearTickets = tickets.stream()
+                .filter(t -> t.getViewDate().getYear() == TARGET_YEAR)
+                .sorted(Comparator.comparing(Ticket::getViewDate))
+                .collect(Collectors.toList());
+        bh.consume(tickets.stream().filter(t -> t.getViewDate().getYear() == TARGET_YEAR - 1).count());
+
+        Map<String, Long> genreCounts = yearTickets.stream()
+                .filter(t -> t.getGenre() != null)
+                .collect(Collectors.groupingBy(Ticket::getGenre, Collectors.counting()));
+        bh.consume(genreCounts.entrySet().stream()
+                .sorted(Map.Entry.<String, Long>comparingByValue().reversed()).limit(3).collect(Collectors.toList()));
+        String venue = yearTickets.stream().filter(t -> t.getVenue() != null)
+                .collect(Collectors.groupingBy(Ticket::getVenue, Collectors.counting()))
+                .entrySet().stream().max(Map.Entry.comparingByValue()).map(Map.Entry::getKey).orElse(null);
+        bh.consume(venue);
+        bh.consume(yearTickets.stream()
+                .collect(Collectors.groupingBy(Ticket::getPerformanceTitle, Collectors.counting()))
+                .entrySet().stream().max(Map.Entry.comparingByValue()).map(Map.Entry::getKey).orElse(null));
+        bh.consume(yearTickets.stream().filter(t -> t.getArtist() != null)
+                .collect(Collectors.groupingBy(Ticket::getArtist, Collectors.counting()))
+                .entrySet().stream().max(Map.Entry.comparingByValue()).map(Map.Entry::getKey).orElse(null));
+
+        Map<String, Long> dayCounts = new LinkedHashMap<>();
+        for (Ticket ticket : yearTickets) {
+            String day = TicketStatisticsAssembler.DAY_NAMES[ticket.getViewDate().getDayOfWeek().getValue() % 7];
+            dayCounts.put(day, dayCounts.getOrDefault(day, 0L) + 1);
+        }
+        bh.consume(dayCounts);
+        bh.consume(yearTickets.stream().filter(t -> t.getViewDate().getMonthValue() <= 6).count());
+        bh.consume(yearTickets.stream().filter(t -> t.getReviewText() != null)
+                .max(Comparator.comparing(t -> t.getReviewText().length())).orElse(null));
+
+        // 소비 성향 분석 (공연장/아티스트/작품 재집계)
+        bh.consume(yearTickets.stream().filter(t -> t.getVenue() != null && t.getVenue().equals(venue)).count());
+        bh.consume(yearTickets.stream().filter(t -> t.getArtist() != null)
+                .collect(Collectors.groupingBy(Ticket::getArtist, Collectors.counting())));
+        bh.consume(yearTickets.stream()
+                .collect(Collectors.groupingBy(Ticket::getPerformanceTitle, Collectors.counting())).size());
+
+        bh.consume(yearTickets.stream().filter(t -> t.getArtist() != null)
+                .collect(Collectors.groupingBy(Ticket::getArtist, Collectors.counting()))
+                .entrySet().stream().sorted(Map.Entry.<String, Long>comparingByValue().reversed())
+                .limit(5).collect(Collectors.toList()));
+        bh.consume(yearTickets.stream().filter(t -> t.getImageUrl() != null && !t.getImageUrl().isEmpty()).count());
+    }
+}
@@ -0,0 +1,162 @@
+// ApiKeyRegistry: API 키를 해시로 메모리에 보관하고 키별 요청 수를 제한하는 컴포넌트입니다.
+
+package com.example.record;
+
+import com.example.record.ratelimit.GcraLimiter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * API 키 메모리 레지스트리
+ *
+ * 역할:
+ * 1. api_key 테이블을 읽어 키의 SHA-256 해시 → 키 정보 맵을 만듦 (원문 키는 메모리에 두지 않음)
+ * 2. 요청마다 해시 맵 조회 한 번으로 키를 검증 (DB 조회 없음)
+ * 3. 키마다 GcraLimiter를 붙여, 한 연동 업체가 이미지 생성 파이프라인을 독점하지 못하게 함
+ *
+ * 맵은 주기적으로(app.api-key.refresh-interval-ms) 또는 refresh() 호출 시 통째로 바꿔 끼웁니다.
+ * 이미 있던 키는 기존 제한기를 그대로 넘겨, 다시 읽어도 사용량이 초기화되지 않습니다.
+ */
+@Slf4j
+@Component
+public class ApiKeyRegistry {
+
+    /**
+     * 키 검증 결과
+     */
+    public enum Decision {
+        /** 허용 */
+        ALLOWED,
+        /** 등록되지 않은 키 */
+        UNKNOWN,
+        /** 요청 수 제한 초과 */
+        RATE_LIMITED
+    }
+
+    /**
+     * @param decision 검증 결과
+     * @param retryAfterSeconds RATE_LIMITED일 때 다시 시도할 수 있을 때까지의 초 (그 외 0)
+     */
+    public record Check(Decision decision, long retryAfterSeconds) {
+        static final Check ALLOWED = new Check(Decision.ALLOWED, 0);
+        static final Check UNKNOWN = new Check(Decision.UNKNOWN, 0);
+    }
+
+    private record Entry(Long id, String userId, GcraLimiter limiter) {}
+
+    private final ApiKeyRepository apiKeyRepository;
+    private final long permitsPerMinute;
+    private final int burst;
+
+    /** 키 해시 → 키 정보 (읽기 전용 맵을 통째로 교체, null이면 아직 적재 전) */
+    private volatile Map<String, Entry> entries;
+
+    private final AtomicLong allowed = new AtomicLong();
+    private final AtomicLong rejectedUnknown = new AtomicLong();
+    private final AtomicLong rejectedRateLimited = new AtomicLong();
+    private final AtomicLong refreshes = new AtomicLong();
+
+    public ApiKeyRegistry(ApiKeyRepository apiKeyRepository,
+                          @Value("${app.api-key.permits-per-minute:60}") long permitsPerMinute,
+                          @Value("${app.api-key.burst:10}") int burst) {
+        this.apiKeyRepository = apiKeyRepository;
+        this.permitsPerMinute = permitsPerMinute;
+        this.burst = burst;
+    }
+
+    /**
+     * API 키를 검증하고, 유효하면 키의 요청 수 제한을 적용합니다.
+     *
+     * @param apiKey Authorization 헤더의 원문 키
+     */
+    public Check check(String apiKey) {
+        Map<String, Entry> current = entries;
+        if (current == null) {
+            // 시작 직후 첫 요청이면 그 자리에서 적재
+            refresh();
+            current = entries;
+        }
+
+        Entry entry = current.get(hash(apiKey));
+        if (entry == null) {
+            rejectedUnknown.incrementAndGet();
+            return Check.UNKNOWN;
+        }
+
+        long waitNanos = entry.limiter().tryAcquire();
+        if (waitNanos > 0) {
+            rejectedRateLimited.incrementAndGet();
+            log.debug("API 키 요청 수 제한 초과: keyId={}, userId={}", entry.id(), entry.userId());
+            return new Check(Decision.RATE_LIMITED, GcraLimiter.retryAfterSeconds(waitNanos));
+        }
+        allowed.incrementAndGet();
+        return Check.ALLOWED;
+    }
+
+    /**
+     * api_key 테이블을 다시 읽어 맵을 교체합니다. (키 추가/삭제 후 즉시 반영할 때도 호출)
+     */
+    @Scheduled(initialDelayString = "${app.api-key.refresh-interval-ms:60000}",
+               fixedDelayString = "${app.api-key.refresh-interval-ms:60000}")
+    public synchronized void refresh() {
+        Map<String, Entry> previous = entries;
+        Map<String, Entry> loaded = new HashMap<>();
+        try {
+            for (ApiKey apiKey : apiKeyRepository.findAll()) {
+                if (apiKey.getApiKey() == null || apiKey.getApiKey().isBlank()) {
+                    continue;
+                }
+                String hash = hash(apiKey.getApiKey());
+                Entry existing = previous != null ? previous.get(hash) : null;
+                GcraLimiter limiter = existing != null ? existing.limiter() : new GcraLimiter(permitsPerMinute, burst);
+                loaded.put(hash, new Entry(apiKey.getId(), apiKey.getUserId(), limiter));
+            }
+        } catch (RuntimeException e) {
+            if (previous == null) {
+                throw e;
+            }
+            log.error("API 키 목록 적재 실패 (기존 목록 유지)", e);
+            return;
+        }
+
+        entries = Map.copyOf(loaded);
+        refreshes.incrementAndGet();
+        log.debug("API 키 목록 적재: keys={}", loaded.size());
+    }
+
+    /**
+     * 레지스트리 지표 조회
+     */
+    public Map<String, Object> stats() {
+        Map<String, Entry> current = entries;
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("keys", current != null ? current.size() : 0);
+        stats.put("allowed", allowed.get());
+        stats.put("rejectedUnknown", rejectedUnknown.get());
+        stats.put("rejectedRateLimited", rejectedRateLimited.get());
+        stats.put("refreshes", refreshes.get());
+        stats.put("permitsPerMinute", permitsPerMinute);
+        stats.put("burst", burst);
+        return stats;
+    }
+
+    private static String hash(String apiKey) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(apiKey.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256을 사용할 수 없습니다.", e);
+        }
+    }
+}
@@ -2,14 +2,17 @@ package com.example.record.STTorText.stt;
 
 import com.example.record.STTorText.entity.Transcription;
 import com.example.record.STTorText.entity.TranscriptionRepository;
+import com.example.record.common.logging.LogPayloads;
 import com.example.record.user.User;
 import com.example.record.user.UserRepository;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
 import java.time.LocalDateTime;
 
+@Slf4j
 @RestController
 @RequiredArgsConstructor
 @RequestMapping("/stt")
@@ -38,10 +41,8 @@ public class SttController {
                 .orElseThrow(() -> new RuntimeException("사용자를 찾을 수 없습니다: " + userId));
 
         try {
-            System.out.println("=== STT 요청 정보 ===");
-            System.out.println("원본 파일명: " + file.getOriginalFilename());
-            System.out.println("Content-Type: " + file.getContentType());
-            System.out.println("파일 크기: " + file.getSize() + " bytes");
+            log.debug("STT 요청: userId={}, filename={}, contentType={}, size={} bytes",
+                    user.getId(), file.getOriginalFilename(), file.getContentType(), file.getSize());
             
             byte[] bytes = file.getBytes();
             // 모든 파일을 m4a 형식으로 변환 (Whisper API 호환성 보장)
@@ -57,9 +58,7 @@ public class SttController {
 
             String transcript = whisperService.transcribe(bytes, filename, "ko");
 
-            System.out.println("=== 변환된 텍스트 ===");
-            System.out.println("텍스트 길이: " + (transcript != null ? transcript.length() : 0) + " 문자");
-            System.out.println("텍스트 내용 (처음 100자): " + (transcript != null && transcript.length() > 100 ? transcript.substring(0, 100) + "..." : transcript));
+            log.debug("STT 변환 결과: {}", LogPayloads.truncate(transcript, 100));
 
             Transcription t = Transcription.builder()
                     .user(user)
@@ -71,9 +70,8 @@ public class SttController {
                     .build();
 
             Transcription saved = repo.save(t);
-            System.out.println("=== DB 저장 완료 ===");
-            System.out.println("저장된 ID: " + saved.getId());
-            System.out.println("저장된 resultText 길이: " + (saved.getResultText() != null ? saved.getResultText().length() : 0) + " 문자");
+            log.info("STT 결과 저장: id={}, userId={}, length={}",
+                    saved.getId(), user.getId(), saved.getResultText() != null ? saved.getResultText().length() : 0);
 
             return ResponseEntity.ok(t);
 
@@ -1,6 +1,8 @@
 
 package com.example.record.STTorText.stt;
 
+import com.example.record.common.logging.LogPayloads;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
@@ -10,6 +12,7 @@ import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
 
+@Slf4j
 @Service
 public class SttService {
 
@@ -34,9 +37,7 @@ public class SttService {
             // 출력 파일 (항상 .m4a)
             out = Files.createTempFile("whisper_enc_", ".m4a");
             
-            System.out.println("=== ffmpeg 변환 시작 ===");
-            System.out.println("입력 파일: " + src);
-            System.out.println("출력 파일: " + out);
+            log.debug("ffmpeg 변환 시작: src={}, out={}", src, out);
             
             ProcessBuilder pb = new ProcessBuilder(
                     ffmpegPath, "-y",
@@ -60,18 +61,18 @@ public class SttService {
             int exit = p.waitFor();
             
             if (exit != 0) {
-                System.err.println("ffmpeg 출력: " + output.toString());
+                log.warn("ffmpeg 출력: {}", LogPayloads.truncate(output, 2000));
                 throw new RuntimeException("ffmpeg 재인코딩 실패(exit=" + exit + ")");
             }
 
             byte[] result = Files.readAllBytes(out);
-            System.out.println("변환 완료: " + result.length + " bytes");
+            log.debug("ffmpeg 변환 완료: {} bytes", result.length);
             return result;
         } catch (Exception e) {
-            System.err.println("ffmpeg 변환 오류: " + e.getMessage());
+            log.warn("ffmpeg 변환 오류: {}", e.getMessage());
             // 변환 실패 시 원본 반환 (25MB 이하인 경우만)
             if (inputBytes.length <= 24 * 1024 * 1024) {
-                System.out.println("변환 실패, 원본 파일 사용");
+                log.info("ffmpeg 변환 실패, 원본 파일 사용: {} bytes", inputBytes.length);
                 return inputBytes;
             }
             throw e;
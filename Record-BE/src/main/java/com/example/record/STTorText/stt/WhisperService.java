@@ -1,7 +1,9 @@
 
 package com.example.record.STTorText.stt;
 
+import com.example.record.common.logging.LogPayloads;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.core.io.ByteArrayResource;
 import org.springframework.http.MediaType;
@@ -14,6 +16,7 @@ import reactor.util.retry.Retry;
 
 import java.time.Duration;
 
+@Slf4j
 @Service
 @RequiredArgsConstructor
 public class WhisperService {
@@ -67,22 +70,18 @@ public class WhisperService {
             
             // 확장자가 없거나 지원되지 않는 형식이면 m4a로 변경
             if (!isSupported) {
-                System.out.println("⚠ 파일 확장자가 지원되지 않거나 없습니다. 원본: " + filename + ", 확장자: " + extension);
                 if (lastDot > 0) {
                     finalFilename = filename.substring(0, lastDot) + ".m4a";
                 } else {
                     finalFilename = filename + ".m4a";
                 }
-                System.out.println("→ 파일명을 " + finalFilename + "로 변경합니다.");
+                log.debug("지원되지 않는 확장자({})라 파일명을 {}로 변경합니다.", extension, finalFilename);
             } else {
                 finalFilename = filename;
             }
         }
         
-        System.out.println("=== 파일 정보 ===");
-        System.out.println("원본 파일명: " + filename);
-        System.out.println("최종 파일명: " + finalFilename);
-        System.out.println("파일 크기: " + audioBytes.length + " bytes");
+        log.debug("Whisper 파일 정보: filename={}, finalFilename={}, size={} bytes", filename, finalFilename, audioBytes.length);
 
         final String finalFilenameForLambda = finalFilename;
         
@@ -117,8 +116,6 @@ public class WhisperService {
             }
         }
         
-        System.out.println("Content-Type: " + contentType);
-        
         ByteArrayResource filePart = new ByteArrayResource(audioBytes) {
             @Override public String getFilename() {
                 return finalFilenameForLambda;
@@ -143,14 +140,8 @@ public class WhisperService {
         // API 키 앞뒤 공백 제거 (환경변수 설정 시 공백이 포함될 수 있음)
         apiKey = apiKey.trim();
         
-        // 디버깅: API 키 일부만 로그 출력 (보안을 위해 앞 4자리와 뒤 4자리만)
-        String maskedKey = apiKey.length() > 8 
-                ? apiKey.substring(0, 4) + "..." + apiKey.substring(apiKey.length() - 4)
-                : "***";
-        System.out.println("=== Whisper API 호출 ===");
-        System.out.println("API Key (마스킹): " + maskedKey);
-        System.out.println("API Key 길이: " + apiKey.length());
-        System.out.println("URL: " + transcriptionUrl);
+        // API 키는 로그에 남기지 않음
+        log.debug("Whisper API 호출: url={}, contentType={}", transcriptionUrl, contentType);
         
         return webClient.post()
                 .uri(transcriptionUrl)
@@ -159,12 +150,9 @@ public class WhisperService {
                 .bodyValue(bodyBuilder.build())
                 .retrieve()
                 .onStatus(status -> status.isError(), response -> {
-                    System.err.println("=== Whisper API HTTP 오류 ===");
-                    System.err.println("HTTP 상태 코드: " + response.statusCode());
                     return response.bodyToMono(String.class)
-                            .doOnNext(errorBody -> {
-                                System.err.println("오류 응답 본문: " + errorBody);
-                            })
+                            .doOnNext(errorBody -> log.warn("Whisper API HTTP 오류: status={}, body={}",
+                                    response.statusCode(), LogPayloads.truncate(errorBody, 1000)))
                             .map(errorBody -> new RuntimeException(
                                     "Whisper API 오류 [" + response.statusCode() + "]: " + errorBody
                             ));
@@ -172,19 +160,12 @@ public class WhisperService {
                 .bodyToMono(WhisperResponse.class)
                 .timeout(Duration.ofSeconds(120))
                 .retryWhen(Retry.backoff(2, Duration.ofMillis(500))
-                        .doBeforeRetry(retrySignal -> {
-                            System.out.println("재시도 중... (시도 횟수: " + retrySignal.totalRetries() + ")");
-                        }))
+                        .doBeforeRetry(retrySignal ->
+                                log.info("Whisper API 재시도 중... (시도 횟수: {})", retrySignal.totalRetries())))
                 .map(WhisperResponse::text)
                 .onErrorResume(e -> {
                     // 더 자세한 오류 정보를 포함하여 예외 발생
-                    System.err.println("=== Whisper API 호출 오류 ===");
-                    System.err.println("오류 타입: " + e.getClass().getName());
-                    System.err.println("오류 메시지: " + e.getMessage());
-                    if (e.getCause() != null) {
-                        System.err.println("원인: " + e.getCause().getMessage());
-                    }
-                    e.printStackTrace();
+                    log.error("Whisper API 호출 오류", e);
                     return Mono.error(new RuntimeException("Whisper 요청 실패: " + e.getMessage(), e));
                 })
                 .block();
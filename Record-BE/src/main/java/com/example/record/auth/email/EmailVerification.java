@@ -7,7 +7,8 @@ import org.hibernate.annotations.CreationTimestamp;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "email_verification")
+@Table(name = "email_verification",
+        indexes = @Index(name = "idx_email_verification_email_created", columnList = "email, created_at DESC"))
 @Getter
 @Setter
 @NoArgsConstructor
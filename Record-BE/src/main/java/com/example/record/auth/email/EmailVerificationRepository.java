@@ -1,15 +1,42 @@
 package com.example.record.auth.email;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import java.time.LocalDateTime;
 import java.util.Optional;
 
 public interface EmailVerificationRepository extends JpaRepository<EmailVerification, Long> {
 
-    /** 가장 최근 기록 하나 */
+    /** 가장 최근 기록 하나 (idx_email_verification_email_created) */
     Optional<EmailVerification> findTopByEmailOrderByCreatedAtDesc(String email);
 
     /** 아직 만료 안 됐고 인증 성공한 기록이 있는지 확인용 */
     boolean existsByEmailAndVerifiedIsTrueAndExpiresAtAfter(String email, LocalDateTime now);
+
+    /**
+     * 새 코드를 발급하기 전, 더 이상 쓸 일이 없는 기록 삭제
+     * (미인증 코드 또는 만료된 기록 → 아직 유효한 인증 기록만 남음)
+     */
+    @Modifying
+    @Query("DELETE FROM EmailVerification e WHERE e.email = :email AND (e.verified = false OR e.expiresAt < :now)")
+    int deleteStale(@Param("email") String email, @Param("now") LocalDateTime now);
+
+    /**
+     * 코드가 아직 이 이메일의 최신 기록일 때만 인증 성공 처리
+     * (그 사이 더 새 코드가 발급됐으면 0건)
+     */
+    @Modifying
+    @Query("UPDATE EmailVerification e SET e.verified = true WHERE e.id = :id AND NOT EXISTS (" +
+           "SELECT 1 FROM EmailVerification n WHERE n.email = e.email AND n.createdAt > e.createdAt)")
+    int markVerifiedIfLatest(@Param("id") Long id);
+
+    /**
+     * 만료된 기록 일괄 삭제
+     */
+    @Modifying
+    @Query("DELETE FROM EmailVerification e WHERE e.expiresAt < :cutoff")
+    int deleteExpiredBefore(@Param("cutoff") LocalDateTime cutoff);
 }
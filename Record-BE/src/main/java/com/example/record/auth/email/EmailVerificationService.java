@@ -12,7 +12,7 @@ import java.time.LocalDateTime;
 @RequiredArgsConstructor
 public class EmailVerificationService {
 
-    private final EmailVerificationRepository emailVerificationRepository;
+    private final EmailVerificationStore emailVerificationStore;
     private final MailServiceT mailService;
 
     private static final int EXPIRE_MINUTES = 10;
@@ -29,44 +29,22 @@ public class EmailVerificationService {
     public void sendCode(String email) {
         String code = generateCode();
 
-        EmailVerification entity = EmailVerification.builder()
-                .email(email)
-                .code(code)
-                .verified(false)
-                .createdAt(LocalDateTime.now())
-                .expiresAt(LocalDateTime.now().plusMinutes(EXPIRE_MINUTES))
-                .build();
-
-        emailVerificationRepository.save(entity);
+        // 같은 이메일의 이전 미인증 코드는 지우고 새 코드 저장 (커밋 후 메모리에도 반영)
+        emailVerificationStore.issue(email, code, LocalDateTime.now().plusMinutes(EXPIRE_MINUTES));
 
         // 실제 이메일 발송
         mailService.sendVerificationMail(email, code);
     }
 
-    /** 코드 검증 */
+    /** 코드 검증 (메모리에서 먼저 확인, 없거나 맞지 않으면 DB로 확인) */
     @Transactional
     public boolean verifyCode(String email, String code) {
-        var now = LocalDateTime.now();
-
-        EmailVerification ev = emailVerificationRepository
-                .findTopByEmailOrderByCreatedAtDesc(email)
-                .orElse(null);
-
-        if (ev == null) return false;
-        if (ev.isVerified()) return true; // 이미 인증했던 경우
-        if (ev.getExpiresAt().isBefore(now)) return false; // 만료
-        if (!ev.getCode().equals(code)) return false;      // 코드 불일치
-
-        ev.setVerified(true);
-        // 선택: 인증 성공 후, 만료 시각을 약간 연장해도 됨
-        // ev.setExpiresAt(now.plusMinutes(30));
-        return true;
+        return emailVerificationStore.verify(email, code);
     }
 
     /** 회원가입 전에, 이 이메일이 인증된 상태인지 확인하는 용도 */
     @Transactional(readOnly = true)
     public boolean isEmailVerified(String email) {
-        return emailVerificationRepository
-                .existsByEmailAndVerifiedIsTrueAndExpiresAtAfter(email, LocalDateTime.now());
+        return emailVerificationStore.isVerified(email);
     }
 }
@@ -0,0 +1,240 @@
+package com.example.record.auth.email;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 이메일 인증 코드 저장소 (메모리 + DB)
+ *
+ * 역할:
+ * 1. 이메일별 최신 코드와 인증 상태를 메모리에 보관해, 코드 확인/인증 여부 확인을 맵 조회 한 번으로 처리
+ * 2. DB(email_verification)에도 함께 기록해, 재시작하거나 다른 인스턴스로 요청이 가도 결과가 같음
+ *    (메모리는 "맞다"는 답만 믿고, 없거나 맞지 않으면 DB로 다시 확인)
+ * 3. 만료된 메모리 항목은 타이밍 휠(ExpiryWheel)로, 만료된 DB 행은 매일 일괄 삭제로 정리
+ *
+ * 코드를 새로 보낼 때 같은 이메일의 쓸모없는 행(미인증 또는 만료)을 지우므로,
+ * 테이블은 이메일당 최대 두 행(최신 코드 + 아직 유효한 인증 기록)으로 유지됩니다.
+ */
+@Slf4j
+@Component
+public class EmailVerificationStore {
+
+    /** 타이밍 휠 한 칸 (1초) */
+    private static final long WHEEL_TICK_MILLIS = 1_000L;
+
+    /** 타이밍 휠 칸 수 (한 바퀴 약 17분 → 인증 코드 유효 시간 10분이 한 바퀴 안에 들어옴) */
+    private static final int WHEEL_SLOTS = 1024;
+
+    /**
+     * 이메일별 메모리 항목
+     *
+     * @param id 최신 코드 행 ID
+     * @param code 최신 코드
+     * @param expiresAt 최신 코드 만료 시각 (epoch ms)
+     * @param verified 최신 코드 인증 여부
+     * @param verifiedUntil 인증 기록이 유효한 시각 (epoch ms, 없으면 0)
+     */
+    private record Entry(Long id, String code, long expiresAt, boolean verified, long verifiedUntil) {
+
+        long deadline() {
+            return Math.max(expiresAt, verifiedUntil);
+        }
+
+        Entry markVerified() {
+            return new Entry(id, code, expiresAt, true, Math.max(verifiedUntil, expiresAt));
+        }
+    }
+
+    private final EmailVerificationRepository emailVerificationRepository;
+    private final TransactionTemplate purgeTransaction;
+    private final int maxEntries;
+    private final ConcurrentHashMap<String, Entry> entries = new ConcurrentHashMap<>();
+    private final ExpiryWheel wheel = new ExpiryWheel(WHEEL_TICK_MILLIS, WHEEL_SLOTS, System.currentTimeMillis());
+
+    private final AtomicLong memoryHits = new AtomicLong();
+    private final AtomicLong databaseFallbacks = new AtomicLong();
+    private final AtomicLong expirations = new AtomicLong();
+
+    public EmailVerificationStore(EmailVerificationRepository emailVerificationRepository,
+                                  PlatformTransactionManager transactionManager,
+                                  @Value("${app.email-verification.max-entries:100000}") int maxEntries) {
+        this.emailVerificationRepository = emailVerificationRepository;
+        this.purgeTransaction = new TransactionTemplate(transactionManager);
+        this.maxEntries = maxEntries;
+    }
+
+    /**
+     * 새 코드를 저장합니다. (현재 트랜잭션에서 DB 기록, 커밋 후 메모리 반영)
+     * 같은 이메일의 미인증/만료 행은 함께 지웁니다.
+     */
+    public void issue(String email, String code, LocalDateTime expiresAt) {
+        LocalDateTime now = LocalDateTime.now();
+        emailVerificationRepository.deleteStale(email, now);
+        EmailVerification saved = emailVerificationRepository.save(EmailVerification.builder()
+                .email(email)
+                .code(code)
+                .verified(false)
+                .createdAt(now)
+                .expiresAt(expiresAt)
+                .build());
+
+        long expiresAtMillis = toMillis(expiresAt);
+        afterCommit(() -> {
+            Entry entry = entries.compute(email, (key, previous) -> new Entry(saved.getId(), code, expiresAtMillis, false,
+                    previous != null && previous.verifiedUntil() > System.currentTimeMillis() ? previous.verifiedUntil() : 0L));
+            wheel.schedule(email, entry.deadline());
+            trimIfFull();
+        });
+    }
+
+    /**
+     * 코드 확인 (성공하면 인증 상태로 바꿈)
+     *
+     * 최신 코드가 이미 인증됐으면 true, 만료됐거나 다르면 false (기존 동작과 같음)
+     */
+    public boolean verify(String email, String code) {
+        long now = System.currentTimeMillis();
+        Entry cached = entries.get(email);
+        if (cached != null && (cached.verified() || (cached.expiresAt() >= now && cached.code().equals(code)))) {
+            // 다른 인스턴스에서 더 새 코드가 발급됐으면 UPDATE가 0건 → DB로 다시 확인
+            if (cached.verified() || emailVerificationRepository.markVerifiedIfLatest(cached.id()) > 0) {
+                memoryHits.incrementAndGet();
+                if (!cached.verified()) {
+                    afterCommit(() -> entries.computeIfPresent(email, (key, current) ->
+                            current.id().equals(cached.id()) ? current.markVerified() : current));
+                }
+                return true;
+            }
+        }
+
+        databaseFallbacks.incrementAndGet();
+        Optional<EmailVerification> latest = emailVerificationRepository.findTopByEmailOrderByCreatedAtDesc(email);
+        if (latest.isEmpty()) {
+            return false;
+        }
+        EmailVerification ev = latest.get();
+        if (ev.isVerified()) {
+            remember(email, ev, true);
+            return true; // 이미 인증했던 경우
+        }
+        if (toMillis(ev.getExpiresAt()) < now || !ev.getCode().equals(code)) {
+            remember(email, ev, false);
+            return false; // 만료 또는 코드 불일치
+        }
+        ev.setVerified(true);
+        remember(email, ev, true);
+        return true;
+    }
+
+    /**
+     * 아직 만료되지 않은 인증 기록이 있는지 확인 (회원가입 직전)
+     */
+    public boolean isVerified(String email) {
+        Entry cached = entries.get(email);
+        if (cached != null && cached.verifiedUntil() > System.currentTimeMillis()) {
+            memoryHits.incrementAndGet();
+            return true;
+        }
+        databaseFallbacks.incrementAndGet();
+        return emailVerificationRepository.existsByEmailAndVerifiedIsTrueAndExpiresAtAfter(email, LocalDateTime.now());
+    }
+
+    /**
+     * 타이밍 휠을 현재 시각까지 돌려 만료된 메모리 항목 제거 (1초마다)
+     */
+    @Scheduled(fixedDelay = WHEEL_TICK_MILLIS)
+    public void expire() {
+        long now = System.currentTimeMillis();
+        wheel.advance(now, email -> {
+            Entry remaining = entries.computeIfPresent(email, (key, entry) -> entry.deadline() < now ? null : entry);
+            if (remaining == null) {
+                expirations.incrementAndGet();
+            } else {
+                // 갱신됐거나 한 바퀴보다 먼 항목 → 만료 시각 칸에 다시 넣음 (지금 비운 칸에는 넣지 않음)
+                wheel.schedule(email, Math.max(remaining.deadline(), now + WHEEL_TICK_MILLIS));
+            }
+        });
+    }
+
+    /**
+     * 만료된 DB 행 일괄 삭제 (매일)
+     */
+    @Scheduled(cron = "${app.email-verification.purge-cron:0 50 4 * * *}")
+    public void purgeExpired() {
+        LocalDateTime now = LocalDateTime.now();
+        Integer deleted = purgeTransaction.execute(status -> emailVerificationRepository.deleteExpiredBefore(now));
+        log.info("만료된 이메일 인증 코드 정리: deleted={}", deleted);
+    }
+
+    /**
+     * 저장소 지표 조회
+     */
+    public Map<String, Object> stats() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("entries", entries.size());
+        stats.put("memoryHits", memoryHits.get());
+        stats.put("databaseFallbacks", databaseFallbacks.get());
+        stats.put("expirations", expirations.get());
+        stats.put("maxEntries", maxEntries);
+        return stats;
+    }
+
+    /**
+     * DB에서 읽은 최신 행을 메모리에 반영 (커밋 후)
+     */
+    private void remember(String email, EmailVerification ev, boolean verified) {
+        Entry entry = new Entry(ev.getId(), ev.getCode(), toMillis(ev.getExpiresAt()), verified,
+                verified ? toMillis(ev.getExpiresAt()) : 0L);
+        afterCommit(() -> {
+            if (entries.size() < maxEntries || entries.containsKey(email)) {
+                entries.put(email, entry);
+                wheel.schedule(email, entry.deadline());
+            }
+        });
+    }
+
+    /**
+     * 가득 차면 임의의 항목 하나를 내보냄 (DB로 다시 확인하므로 결과는 같음)
+     */
+    private void trimIfFull() {
+        if (entries.size() <= maxEntries) {
+            return;
+        }
+        var it = entries.keySet().iterator();
+        if (it.hasNext()) {
+            it.next();
+            it.remove();
+        }
+    }
+
+    private static void afterCommit(Runnable task) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    task.run();
+                }
+            });
+        } else {
+            task.run();
+        }
+    }
+
+    private static long toMillis(LocalDateTime time) {
+        return time.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+}
@@ -0,0 +1,65 @@
+package com.example.record.auth.email;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.function.Consumer;
+
+/**
+ * 만료 시각 타이밍 휠 (hashed timing wheel)
+ *
+ * 키를 만료 시각이 속한 칸(tick)에 넣어 두고, 시간이 지나간 칸만 비우며 만료 후보를 넘겨줍니다.
+ * 전체 키를 훑지 않으므로 정리 비용이 만료된 키 수에만 비례합니다.
+ *
+ * 휠은 메모리 회수용일 뿐이고 만료 판단은 호출하는 쪽이 항목의 만료 시각으로 다시 합니다.
+ * (갱신된 항목이 이전 칸에 남아 있거나, 휠 한 바퀴보다 먼 만료 시각이어도 결과가 틀리지 않음)
+ */
+final class ExpiryWheel {
+
+    private final long tickMillis;
+    private final Queue<String>[] slots;
+
+    /** 다음에 비울 tick 번호 (advance는 한 스레드씩) */
+    private long cursor;
+
+    @SuppressWarnings("unchecked")
+    ExpiryWheel(long tickMillis, int slotCount, long nowMillis) {
+        this.tickMillis = tickMillis;
+        this.slots = new Queue[slotCount];
+        for (int i = 0; i < slotCount; i++) {
+            slots[i] = new ConcurrentLinkedQueue<>();
+        }
+        this.cursor = nowMillis / tickMillis;
+    }
+
+    /**
+     * 키를 만료 시각 칸에 넣습니다.
+     */
+    void schedule(String key, long deadlineMillis) {
+        slots[slotOf(deadlineMillis / tickMillis)].add(key);
+    }
+
+    /**
+     * 현재 시각까지 지나간 칸을 비우며 만료 후보 키를 넘겨줍니다.
+     */
+    synchronized void advance(long nowMillis, Consumer<String> candidate) {
+        long target = nowMillis / tickMillis;
+        // 오래 멈춰 있었으면 한 바퀴만 돌면 모든 칸을 한 번씩 비움
+        long from = Math.max(cursor, target - slots.length + 1);
+        for (long tick = from; tick <= target; tick++) {
+            Queue<String> slot = slots[slotOf(tick)];
+            // 비우는 도중 같은 칸에 다시 들어온 키는 다음 바퀴에 처리
+            for (int remaining = slot.size(); remaining > 0; remaining--) {
+                String key = slot.poll();
+                if (key == null) {
+                    break;
+                }
+                candidate.accept(key);
+            }
+        }
+        cursor = Math.max(cursor, target + 1);
+    }
+
+    private int slotOf(long tick) {
+        return (int) Math.floorMod(tick, (long) slots.length);
+    }
+}
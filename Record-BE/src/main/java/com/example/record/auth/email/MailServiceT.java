@@ -1,23 +1,21 @@
 package com.example.record.auth.email;
 
+import com.example.record.auth.mail.MailOutboxDispatcher;
 import lombok.RequiredArgsConstructor;
-import org.springframework.mail.SimpleMailMessage;
-import org.springframework.mail.javamail.JavaMailSender;
 import org.springframework.stereotype.Service;
 
 @Service
 @RequiredArgsConstructor
 public class MailServiceT {
 
-    private final JavaMailSender mailSender;
+    private final MailOutboxDispatcher mailOutboxDispatcher;
 
+    /** 인증 코드 메일 (mail_outbox에 저장, 커밋 후 발송) */
     public void sendVerificationMail(String to, String code) {
-        SimpleMailMessage message = new SimpleMailMessage();
-        message.setTo(to);
-        message.setSubject("[Re:cord] 이메일 인증 코드 안내");
-        message.setText("Re:cord 회원가입을 위한 이메일 인증 코드입니다.\n\n" +
+        mailOutboxDispatcher.enqueue(to,
+                "[Re:cord] 이메일 인증 코드 안내",
+                "Re:cord 회원가입을 위한 이메일 인증 코드입니다.\n\n" +
                 "인증 코드: " + code + "\n\n" +
                 "10분 이내에 앱에서 코드를 입력해 주세요.");
-        mailSender.send(message);
     }
 }
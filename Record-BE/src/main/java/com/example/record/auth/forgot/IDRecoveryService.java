@@ -12,8 +12,8 @@ public class IDRecoveryService {
     private final UserRepository userRepository;
     private final MailService mailService;
 
-    /** 1) 아이디 찾기: 이메일로 아이디 발송 */
-    @Transactional(readOnly = true)
+    /** 1) 아이디 찾기: 이메일로 아이디 발송 (mail_outbox에 저장하므로 쓰기 트랜잭션) */
+    @Transactional
     public void sendLoginIdByEmail(ForgotIdRequest req) {
         userRepository.findByEmail(req.getEmail()).ifPresent(user -> {
             String loginId = user.getId();
@@ -1,26 +1,20 @@
 package com.example.record.auth.forgot;
 
+import com.example.record.auth.mail.MailOutboxDispatcher;
 import lombok.RequiredArgsConstructor;
-import org.springframework.beans.factory.annotation.Value;
-import org.springframework.mail.SimpleMailMessage;
-import org.springframework.mail.javamail.JavaMailSender;
 import org.springframework.stereotype.Service;
 
 
 @Service
 @RequiredArgsConstructor
 public class MailService {
-    private final JavaMailSender mailSender;
-
-    @Value("${app.mail.from}")
-    private String from;
+    private final MailOutboxDispatcher mailOutboxDispatcher;
 
+    /**
+     * 메일 발송 요청
+     * 현재 트랜잭션에서 mail_outbox에 저장만 하고, 커밋 후 MailOutboxDispatcher가 발송합니다. (SMTP 대기 없음)
+     */
     public void send(String to, String subject, String text) {
-        SimpleMailMessage msg = new SimpleMailMessage();
-        msg.setFrom(from);
-        msg.setTo(to);
-        msg.setSubject(subject);
-        msg.setText(text);
-        mailSender.send(msg);
+        mailOutboxDispatcher.enqueue(to, subject, text);
     }
 }
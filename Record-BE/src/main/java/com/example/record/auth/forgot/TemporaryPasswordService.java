@@ -1,5 +1,6 @@
 package com.example.record.auth.forgot;
 
+import com.example.record.auth.security.AuthPrincipalCache;
 import com.example.record.user.User;
 import com.example.record.user.UserRepository;
 import lombok.RequiredArgsConstructor;
@@ -14,6 +15,7 @@ public class TemporaryPasswordService {
     private final UserRepository userRepository;
     private final PasswordEncoder passwordEncoder;
     private final MailService mailService;
+    private final AuthPrincipalCache authPrincipalCache;
 
     /** 이메일로 임시 비번 생성/저장/발송 */
     @Transactional
@@ -23,6 +25,7 @@ public class TemporaryPasswordService {
 
         String temp = TempPasswordGenerator.generate(12); // 8자 이상 숫자+영문 혼합
         user.setPassword(passwordEncoder.encode(temp));    // 기존 비번 덮어쓰기
+        authPrincipalCache.invalidateAfterCommit(user.getId());
 
         // 메일 본문은 앱 기준으로 안내
         String subject = "[Re:cord] 임시 비밀번호가 발급되었습니다";
@@ -1,14 +1,15 @@
 package com.example.record.auth.jwt;
 
+import com.example.record.auth.security.AuthPrincipalCache;
 import com.example.record.auth.security.AuthUser;
 import com.example.record.user.User;
 import com.example.record.user.UserRepository;
-import io.jsonwebtoken.JwtException;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.context.SecurityContextHolder;
@@ -19,11 +20,19 @@ import org.springframework.web.filter.OncePerRequestFilter;
 import java.io.IOException;
 import java.util.List;
 
+/**
+ * JWT 인증 필터
+ *
+ * 토큰은 한 번만 파싱하고 (JwtUtil.parseClaims),
+ * 사용자 정보는 AuthPrincipalCache에서 읽어 대부분의 인증 요청이 DB를 조회하지 않습니다.
+ */
+@Slf4j
 @RequiredArgsConstructor
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
     private final JwtUtil jwtUtil;
     private final UserRepository userRepository;
+    private final AuthPrincipalCache authPrincipalCache;
 
     /** ===========================================================
      *  JWT 검사 제외 경로 (startsWith 확실하게 체크)
@@ -49,11 +58,10 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
             throws ServletException, IOException {
 
         String path = request.getRequestURI();
-        System.out.println("🔍 JwtAuthenticationFilter - 요청 경로: " + path);
 
         /** 1) JWT 필요 없는 경로는 필터 통과 */
         if (isExcluded(path)) {
-            System.out.println("✅ JWT 검사 제외 경로: " + path);
+            log.debug("JWT 검사 제외 경로: {}", path);
             chain.doFilter(request, response);
             return;
         }
@@ -68,44 +76,30 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
         String token = authHeader.substring(7);
 
-        try {
-            if (jwtUtil.validateToken(token)) {
+        // 서명/만료 검증과 클레임 추출을 파싱 한 번으로 처리 (유효하지 않으면 인증 없이 통과)
+        JwtUtil.TokenClaims claims = jwtUtil.parseClaims(token).orElse(null);
 
-                String id = jwtUtil.getIdFromToken(token);
-                String role = jwtUtil.getRoleFromToken(token);
+        if (claims != null && claims.id() != null &&
+                SecurityContextHolder.getContext().getAuthentication() == null) {
+            User user = authPrincipalCache.getOrLoad(claims.id(), userRepository::findById).orElse(null);
 
-                User user = userRepository.findById(id).orElse(null);
+            if (user != null) {
+                var authorities = List.of(new SimpleGrantedAuthority("ROLE_" + claims.role()));
 
-                if (user != null &&
-                        SecurityContextHolder.getContext().getAuthentication() == null) {
+                var authToken = new UsernamePasswordAuthenticationToken(
+                        new AuthUser(user),
+                        null,
+                        authorities
+                );
 
-                    var authorities = List.of(new SimpleGrantedAuthority("ROLE_" + role));
+                authToken.setDetails(
+                        new WebAuthenticationDetailsSource().buildDetails(request)
+                );
 
-                    var authToken = new UsernamePasswordAuthenticationToken(
-                            new AuthUser(user),
-                            null,
-                            authorities
-                    );
-
-                    authToken.setDetails(
-                            new WebAuthenticationDetailsSource().buildDetails(request)
-                    );
-
-                    SecurityContextHolder.getContext().setAuthentication(authToken);
-                }
+                SecurityContextHolder.getContext().setAuthentication(authToken);
             }
-
-        } catch (JwtException | IllegalArgumentException e) {
-            unauthorized(response, "Unauthorized: Invalid or expired token");
-            return;
         }
 
         chain.doFilter(request, response);
     }
-
-    private void unauthorized(HttpServletResponse response, String msg) throws IOException {
-        response.setStatus(HttpServletResponse.SC_UNAUTHORIZED);
-        response.setContentType("application/json;charset=UTF-8");
-        response.getWriter().write("{\"error\": \"" + msg + "\"}");
-    }
 }
@@ -10,6 +10,7 @@ import org.springframework.stereotype.Component;
 import java.nio.charset.StandardCharsets;
 import java.security.Key;
 import java.util.Date;
+import java.util.Optional;
 
 @Component
 public class JwtUtil {
@@ -22,6 +23,14 @@ public class JwtUtil {
 
     private Key key;
 
+    /** 서명 검증 파서 (불변, 스레드 안전 → 한 번만 만들어 재사용) */
+    private JwtParser parser;
+
+    /**
+     * 검증된 토큰의 클레임 (사용자 ID, 역할)
+     */
+    public record TokenClaims(String id, String role) {}
+
     @PostConstruct
     void init() {
         // secret 길이 검증(최소 32바이트 권장)
@@ -30,6 +39,7 @@ public class JwtUtil {
             throw new IllegalStateException("jwt.secret must be at least 32 bytes");
         }
         this.key = Keys.hmacShaKeyFor(bytes);
+        this.parser = Jwts.parserBuilder().setSigningKey(key).build();
     }
 
     /** 토큰 생성 */
@@ -48,23 +58,31 @@ public class JwtUtil {
         return generateToken(id, "USER");
     }
 
-    public boolean validateToken(String token) {
+    /**
+     * 토큰을 한 번만 파싱해 서명/만료를 검증하고 클레임을 꺼냅니다.
+     * (검증, ID, 역할을 따로 꺼내면 같은 토큰을 세 번 파싱하게 됨)
+     *
+     * @return 유효하지 않은 토큰이면 empty
+     */
+    public Optional<TokenClaims> parseClaims(String token) {
         try {
-            Jwts.parserBuilder().setSigningKey(key).build().parseClaimsJws(token);
-            return true;
-        } catch (JwtException e) {
-            return false;
+            Claims claims = parser.parseClaimsJws(token).getBody();
+            return Optional.of(new TokenClaims(claims.getSubject(), claims.get("role", String.class)));
+        } catch (JwtException | IllegalArgumentException e) {
+            return Optional.empty();
         }
     }
 
+    public boolean validateToken(String token) {
+        return parseClaims(token).isPresent();
+    }
+
     public String getIdFromToken(String token) {
-        return Jwts.parserBuilder().setSigningKey(key).build()
-                .parseClaimsJws(token).getBody().getSubject();
+        return parser.parseClaimsJws(token).getBody().getSubject();
     }
 
     public String getRoleFromToken(String token) {
-        return Jwts.parserBuilder().setSigningKey(key).build()
-                .parseClaimsJws(token).getBody().get("role", String.class);
+        return parser.parseClaimsJws(token).getBody().get("role", String.class);
     }
 
     public long getExpirationMs() {
@@ -0,0 +1,12 @@
+package com.example.record.auth.mail;
+
+/**
+ * 발송 대상으로 가져간 메일 (MailOutboxRepository.claimDue 결과)
+ */
+public interface ClaimedMail {
+    Long getId();
+    String getRecipient();
+    String getSubject();
+    String getBody();
+    Integer getAttempts();
+}
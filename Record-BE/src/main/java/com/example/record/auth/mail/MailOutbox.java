@@ -0,0 +1,70 @@
+package com.example.record.auth.mail;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * 메일 발송 대기열(outbox) 엔티티
+ *
+ * 역할: 인증 코드/임시 비밀번호/아이디 안내 메일을 요청 트랜잭션 안에서 한 행으로 저장합니다.
+ * 실제 SMTP 발송은 커밋 후 MailOutboxDispatcher가 묶음으로 처리하므로, 메일 서버가 느려도 요청이 기다리지 않습니다.
+ *
+ * 상태:
+ * - PENDING: 발송 대기 (next_attempt_at 이후 발송, 발송 중인 행은 임대 시간만큼 뒤로 밀려 있음)
+ * - SENT: 발송 완료 (보관 기간 후 삭제)
+ * - FAILED: 최대 재시도 횟수 초과 (보관 기간 후 삭제)
+ *
+ * 본문에는 인증 코드/임시 비밀번호가 들어 있으므로 SENT/FAILED가 되면 body를 비웁니다. (발송 대기 중에만 보관)
+ */
+@Entity
+@Table(name = "mail_outbox")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class MailOutbox {
+
+    public static final String PENDING = "PENDING";
+    public static final String SENT = "SENT";
+    public static final String FAILED = "FAILED";
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false, length = 255)
+    private String recipient;
+
+    @Column(nullable = false, length = 255)
+    private String subject;
+
+    /** 본문 (SENT/FAILED가 되면 null) */
+    @Column(columnDefinition = "TEXT")
+    private String body;
+
+    @Column(nullable = false, length = 10)
+    @Builder.Default
+    private String status = PENDING;
+
+    /** 발송 시도 횟수 (발송 대상으로 가져갈 때 증가) */
+    @Column(nullable = false)
+    @Builder.Default
+    private Integer attempts = 0;
+
+    /** 이 시각 이후 발송 대상 */
+    @Column(name = "next_attempt_at", nullable = false)
+    private LocalDateTime nextAttemptAt;
+
+    /** 마지막 발송 실패 사유 */
+    @Column(name = "last_error", length = 500)
+    private String lastError;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "sent_at")
+    private LocalDateTime sentAt;
+}
@@ -0,0 +1,279 @@
+package com.example.record.auth.mail;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.mail.MailException;
+import org.springframework.mail.MailSendException;
+import org.springframework.mail.SimpleMailMessage;
+import org.springframework.mail.javamail.JavaMailSender;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 메일 발송 대기열(mail_outbox) 처리기
+ *
+ * 역할:
+ * 1. 요청 트랜잭션 안에서 메일을 mail_outbox에 저장 (enqueue) → 커밋되면 워커를 깨움
+ * 2. 워커는 발송할 행을 FOR UPDATE SKIP LOCKED로 최대 app.mail.outbox.batch-size건씩 가져가
+ *    JavaMailSender.send(묶음)으로 SMTP 연결 하나에 모아 보냄
+ * 3. 실패한 메일은 지수 백오프로 다시 시도하고, app.mail.outbox.max-attempts를 넘으면 FAILED로 둠
+ *    (SENT/FAILED가 된 행은 본문을 비우고, 보관 기간이 지나면 삭제)
+ * 4. 워커를 놓친 행(다른 인스턴스에서 저장, 서버 재시작 등)은 주기적인 폴링으로 처리
+ *
+ * 워커 수는 app.mail.outbox.workers로 제한합니다. (메일 서버가 느려도 동시 연결 수가 늘지 않음)
+ * 여러 인스턴스가 함께 돌아도 SKIP LOCKED와 임대 시간(next_attempt_at) 덕분에 같은 메일을 두 번 가져가지 않습니다.
+ */
+@Slf4j
+@Component
+public class MailOutboxDispatcher {
+
+    private final MailOutboxRepository mailOutboxRepository;
+    private final JavaMailSender mailSender;
+    private final TransactionTemplate outboxTransaction;
+    private final ThreadPoolExecutor executor;
+    private final AtomicInteger activeWorkers = new AtomicInteger();
+
+    private final String from;
+    private final int workers;
+    private final int batchSize;
+    private final int leaseSeconds;
+    private final int maxAttempts;
+    private final long baseBackoffSeconds;
+    private final long maxBackoffSeconds;
+    private final int retentionDays;
+
+    public MailOutboxDispatcher(MailOutboxRepository mailOutboxRepository,
+                                JavaMailSender mailSender,
+                                PlatformTransactionManager transactionManager,
+                                @Value("${app.mail.from}") String from,
+                                @Value("${app.mail.outbox.workers:2}") int workers,
+                                @Value("${app.mail.outbox.batch-size:20}") int batchSize,
+                                @Value("${app.mail.outbox.lease-seconds:120}") int leaseSeconds,
+                                @Value("${app.mail.outbox.max-attempts:8}") int maxAttempts,
+                                @Value("${app.mail.outbox.base-backoff-seconds:30}") long baseBackoffSeconds,
+                                @Value("${app.mail.outbox.max-backoff-seconds:3600}") long maxBackoffSeconds,
+                                @Value("${app.mail.outbox.retention-days:7}") int retentionDays) {
+        this.mailOutboxRepository = mailOutboxRepository;
+        this.mailSender = mailSender;
+        // 워커 스레드/afterCommit 안에서도 자체 트랜잭션으로 가져가기/결과 반영
+        this.outboxTransaction = new TransactionTemplate(transactionManager);
+        this.outboxTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.from = from;
+        this.workers = workers;
+        this.batchSize = batchSize;
+        this.leaseSeconds = leaseSeconds;
+        this.maxAttempts = maxAttempts;
+        this.baseBackoffSeconds = baseBackoffSeconds;
+        this.maxBackoffSeconds = maxBackoffSeconds;
+        this.retentionDays = retentionDays;
+
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(workers, workers, 60L, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(workers),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "mail-outbox-" + threadNumber.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+    }
+
+    /**
+     * 메일을 발송 대기열에 저장합니다. (현재 트랜잭션과 함께 커밋되고, 커밋 후 워커가 발송)
+     * 트랜잭션 밖에서 호출하면 저장 즉시 워커를 깨웁니다.
+     *
+     * @param to 받는 사람
+     * @param subject 제목
+     * @param body 본문 (텍스트)
+     */
+    public void enqueue(String to, String subject, String body) {
+        LocalDateTime now = LocalDateTime.now();
+        mailOutboxRepository.save(MailOutbox.builder()
+                .recipient(to)
+                .subject(subject)
+                .body(body)
+                .nextAttemptAt(now)
+                .createdAt(now)
+                .build());
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    wakeUp();
+                }
+            });
+        } else {
+            wakeUp();
+        }
+    }
+
+    /**
+     * 실행 중인 워커가 app.mail.outbox.workers보다 적으면 하나 더 띄웁니다.
+     */
+    public void wakeUp() {
+        int current;
+        do {
+            current = activeWorkers.get();
+            if (current >= workers) {
+                return;
+            }
+        } while (!activeWorkers.compareAndSet(current, current + 1));
+
+        try {
+            executor.execute(this::drain);
+        } catch (RejectedExecutionException e) {
+            activeWorkers.decrementAndGet();
+        }
+    }
+
+    /**
+     * 다른 인스턴스에서 저장됐거나 재시도 시각이 된 메일 처리 (주기적 폴링)
+     */
+    @Scheduled(fixedDelayString = "${app.mail.outbox.poll-interval-ms:5000}")
+    public void poll() {
+        wakeUp();
+    }
+
+    /**
+     * 보관 기간이 지난 발송 완료/포기 메일 정리 (매일)
+     */
+    @Scheduled(cron = "${app.mail.outbox.trim-cron:0 40 4 * * *}")
+    public void trim() {
+        LocalDateTime cutoff = LocalDateTime.now().minusDays(retentionDays);
+        Integer deleted = outboxTransaction.execute(status -> mailOutboxRepository.deleteFinishedBefore(cutoff));
+        log.info("메일 발송 대기열 정리: cutoff={}, deleted={}", cutoff, deleted);
+    }
+
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        executor.shutdown();
+        if (!executor.awaitTermination(10, TimeUnit.SECONDS)) {
+            // 발송 중이던 메일은 임대 시간이 지나면 다음 기동 때 다시 발송됨
+            log.warn("메일 발송 워커가 종료 대기 시간 안에 끝나지 않았습니다.");
+        }
+    }
+
+    /**
+     * 가져갈 메일이 없을 때까지 묶음 단위로 발송합니다.
+     */
+    private void drain() {
+        try {
+            while (!executor.isShutdown()) {
+                List<ClaimedMail> batch = outboxTransaction.execute(status ->
+                        mailOutboxRepository.claimDue(batchSize, leaseSeconds));
+                if (batch == null || batch.isEmpty()) {
+                    return;
+                }
+                sendBatch(batch);
+                if (batch.size() < batchSize) {
+                    return;
+                }
+            }
+        } catch (RuntimeException e) {
+            log.error("메일 발송 대기열 처리 실패", e);
+        } finally {
+            activeWorkers.decrementAndGet();
+        }
+    }
+
+    /**
+     * 묶음 하나를 SMTP 연결 하나로 보내고, 메일별 결과를 반영합니다.
+     */
+    void sendBatch(List<ClaimedMail> batch) {
+        SimpleMailMessage[] messages = new SimpleMailMessage[batch.size()];
+        for (int i = 0; i < batch.size(); i++) {
+            ClaimedMail mail = batch.get(i);
+            SimpleMailMessage message = new SimpleMailMessage();
+            message.setFrom(from);
+            message.setTo(mail.getRecipient());
+            message.setSubject(mail.getSubject());
+            message.setText(mail.getBody());
+            messages[i] = message;
+        }
+
+        Map<Object, Exception> failures;
+        try {
+            mailSender.send(messages);
+            failures = Map.of();
+        } catch (MailSendException e) {
+            // 연결 실패 시에는 모든 메일이, 일부 수신자 거부 시에는 해당 메일만 담겨 있음
+            failures = e.getFailedMessages();
+            if (failures.isEmpty()) {
+                failures = allFailed(messages, e);
+            }
+        } catch (MailException e) {
+            // 인증 실패 등 → 묶음 전체 재시도
+            failures = allFailed(messages, e);
+        }
+
+        List<Long> sentIds = new ArrayList<>();
+        List<Runnable> failedUpdates = new ArrayList<>();
+        for (int i = 0; i < batch.size(); i++) {
+            ClaimedMail mail = batch.get(i);
+            Exception failure = failures.get(messages[i]);
+            if (failure == null) {
+                sentIds.add(mail.getId());
+                continue;
+            }
+            boolean giveUp = mail.getAttempts() >= maxAttempts;
+            LocalDateTime nextAttemptAt = LocalDateTime.now().plusSeconds(backoffSeconds(mail.getAttempts()));
+            String error = truncate(failure.getMessage());
+            if (giveUp) {
+                failedUpdates.add(() -> mailOutboxRepository.markFailed(mail.getId(), error));
+                log.error("메일 발송 포기: id={}, attempts={}, error={}", mail.getId(), mail.getAttempts(), error);
+            } else {
+                failedUpdates.add(() -> mailOutboxRepository.markRetry(mail.getId(), nextAttemptAt, error));
+                log.warn("메일 발송 실패, 재시도 예약: id={}, attempts={}, nextAttemptAt={}, error={}",
+                        mail.getId(), mail.getAttempts(), nextAttemptAt, error);
+            }
+        }
+
+        outboxTransaction.executeWithoutResult(status -> {
+            if (!sentIds.isEmpty()) {
+                mailOutboxRepository.markSent(sentIds, LocalDateTime.now());
+            }
+            failedUpdates.forEach(Runnable::run);
+        });
+        log.debug("메일 묶음 발송: total={}, sent={}, failed={}", batch.size(), sentIds.size(), failedUpdates.size());
+    }
+
+    /**
+     * 재시도 대기 시간 (base * 2^(attempts-1), 최대 max-backoff-seconds)
+     */
+    long backoffSeconds(int attempts) {
+        int shift = Math.min(Math.max(attempts - 1, 0), 30);
+        return Math.min(baseBackoffSeconds << shift, maxBackoffSeconds);
+    }
+
+    private static Map<Object, Exception> allFailed(SimpleMailMessage[] messages, Exception e) {
+        Map<Object, Exception> failures = new HashMap<>();
+        for (SimpleMailMessage message : messages) {
+            failures.put(message, e);
+        }
+        return failures;
+    }
+
+    private static String truncate(String message) {
+        if (message == null) {
+            return null;
+        }
+        return message.length() > 500 ? message.substring(0, 500) : message;
+    }
+}
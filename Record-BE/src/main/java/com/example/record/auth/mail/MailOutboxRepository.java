@@ -0,0 +1,71 @@
+package com.example.record.auth.mail;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+public interface MailOutboxRepository extends JpaRepository<MailOutbox, Long> {
+
+    /**
+     * 발송할 메일을 최대 limit건 가져갑니다.
+     *
+     * 1. due: 발송 시각이 된 PENDING 행을 FOR UPDATE SKIP LOCKED로 잠금 (다른 워커/인스턴스가 잡은 행은 건너뜀)
+     * 2. claimed: 시도 횟수를 올리고 next_attempt_at을 임대 시간만큼 뒤로 밀어 둠
+     *    (발송 도중 서버가 죽어도 임대 시간이 지나면 다시 발송 대상이 됨)
+     *
+     * idx_mail_outbox_due (status = 'PENDING' 부분 인덱스)로 찾습니다.
+     * PostgreSQL: 데이터 변경 CTE (WITH ... UPDATE ... RETURNING)
+     */
+    @Query(value = "WITH due AS (" +
+           "  SELECT id FROM mail_outbox " +
+           "  WHERE status = 'PENDING' AND next_attempt_at <= NOW() " +
+           "  ORDER BY next_attempt_at, id " +
+           "  LIMIT :limit " +
+           "  FOR UPDATE SKIP LOCKED" +
+           "), claimed AS (" +
+           "  UPDATE mail_outbox m " +
+           "  SET attempts = m.attempts + 1, next_attempt_at = NOW() + make_interval(secs => :leaseSeconds) " +
+           "  FROM due WHERE m.id = due.id " +
+           "  RETURNING m.id, m.recipient, m.subject, m.body, m.attempts" +
+           ") " +
+           "SELECT id, recipient, subject, body, attempts FROM claimed ORDER BY id",
+           nativeQuery = true)
+    List<ClaimedMail> claimDue(@Param("limit") int limit, @Param("leaseSeconds") int leaseSeconds);
+
+    /**
+     * 발송 완료 처리 (본문에 인증 코드/임시 비밀번호가 있으므로 보관하지 않고 비움)
+     */
+    @Modifying
+    @Query("UPDATE MailOutbox m SET m.status = 'SENT', m.sentAt = :sentAt, m.lastError = null, m.body = null " +
+           "WHERE m.id IN :ids")
+    int markSent(@Param("ids") Collection<Long> ids, @Param("sentAt") LocalDateTime sentAt);
+
+    /**
+     * 발송 실패, nextAttemptAt에 다시 시도
+     */
+    @Modifying
+    @Query("UPDATE MailOutbox m SET m.nextAttemptAt = :nextAttemptAt, m.lastError = :error WHERE m.id = :id")
+    int markRetry(@Param("id") Long id,
+                  @Param("nextAttemptAt") LocalDateTime nextAttemptAt,
+                  @Param("error") String error);
+
+    /**
+     * 최대 재시도 횟수 초과로 발송 포기 (더 보낼 일이 없으므로 본문 비움)
+     */
+    @Modifying
+    @Query("UPDATE MailOutbox m SET m.status = 'FAILED', m.lastError = :error, m.body = null WHERE m.id = :id")
+    int markFailed(@Param("id") Long id, @Param("error") String error);
+
+    /**
+     * 보관 기간이 지난 발송 완료/포기 메일 삭제 (SENT는 발송 시각, FAILED는 저장 시각 기준)
+     */
+    @Modifying
+    @Query("DELETE FROM MailOutbox m WHERE (m.status = 'SENT' AND m.sentAt < :cutoff) " +
+           "OR (m.status = 'FAILED' AND m.createdAt < :cutoff)")
+    int deleteFinishedBefore(@Param("cutoff") LocalDateTime cutoff);
+}
@@ -1,5 +1,6 @@
 package com.example.record.auth.password;
 
+import com.example.record.auth.security.AuthPrincipalCache;
 import com.example.record.user.User;
 import com.example.record.user.UserRepository;
 import lombok.RequiredArgsConstructor;
@@ -13,6 +14,7 @@ public class PasswordChangeService {
 
     private final PasswordEncoder passwordEncoder;
     private final UserRepository userRepository;
+    private final AuthPrincipalCache authPrincipalCache;
 
     /**
      * 사용자 ID와 이전 비밀번호로 비밀번호 변경
@@ -34,5 +36,6 @@ public class PasswordChangeService {
         // 새 비밀번호로 변경
         user.setPassword(passwordEncoder.encode(req.getNewPassword()));
         userRepository.save(user);
+        authPrincipalCache.invalidateAfterCommit(user.getId());
     }
 }
@@ -0,0 +1,169 @@
+package com.example.record.auth.security;
+
+import com.example.record.user.User;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.Function;
+
+/**
+ * 인증 사용자(JWT 주체) 캐시
+ *
+ * 역할:
+ * 1. JwtAuthenticationFilter가 요청마다 하던 users 조회를 사용자 ID별로 보관 (TTL + 최대 개수 제한)
+ * 2. 프로필/비밀번호 변경, 회원탈퇴가 커밋되면 해당 사용자만 무효화
+ * 3. 다른 인스턴스에서 바뀐 값은 TTL(app.cache.auth-principal.ttl-ms) 안에 반영
+ *
+ * 컨트롤러가 AuthUser의 User를 수정한 뒤 저장하는 경우가 있으므로,
+ * 캐시한 인스턴스를 그대로 넘기지 않고 요청마다 복사본을 만들어 반환합니다.
+ * (이전에도 필터에서 읽은 User는 준영속 상태였으므로 동작은 같음)
+ *
+ * FriendCountCache와 같이, 조회 시작 시점의 사용자 세대(generation)가 저장 시점까지 그대로일 때만 저장합니다.
+ */
+@Component
+public class AuthPrincipalCache {
+
+    /** 사용자 세대 카운터 스트라이프 수 (2의 거듭제곱) */
+    private static final int GENERATION_STRIPES = 1024;
+
+    private record Entry(User user, long expiresAt) {}
+
+    private final int maxEntries;
+    private final long ttlMs;
+    private final ConcurrentHashMap<String, Entry> entries = new ConcurrentHashMap<>();
+    private final AtomicLongArray generations = new AtomicLongArray(GENERATION_STRIPES);
+
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    private final AtomicLong expirations = new AtomicLong();
+    private final AtomicLong invalidations = new AtomicLong();
+
+    public AuthPrincipalCache(@Value("${app.cache.auth-principal.max-entries:50000}") int maxEntries,
+                              @Value("${app.cache.auth-principal.ttl-ms:300000}") long ttlMs) {
+        this.maxEntries = maxEntries;
+        this.ttlMs = ttlMs;
+    }
+
+    /**
+     * 캐시된 사용자의 복사본을 반환하고, 없거나 만료됐으면 loader로 조회 후 저장합니다.
+     * 존재하지 않는 사용자는 저장하지 않습니다.
+     *
+     * @param userId 사용자 ID (토큰 subject)
+     * @param loader 사용자 조회 (userRepository::findById)
+     */
+    public Optional<User> getOrLoad(String userId, Function<String, Optional<User>> loader) {
+        long now = System.currentTimeMillis();
+        Entry cached = entries.get(userId);
+        if (cached != null) {
+            if (cached.expiresAt() > now) {
+                hits.incrementAndGet();
+                return Optional.of(copyOf(cached.user()));
+            }
+            if (entries.remove(userId, cached)) {
+                expirations.incrementAndGet();
+            }
+        }
+
+        misses.incrementAndGet();
+        long generation = generations.get(stripe(userId));
+        Optional<User> loaded = loader.apply(userId);
+        if (loaded.isEmpty()) {
+            return loaded;
+        }
+
+        User snapshot = copyOf(loaded.get());
+        // 조회 도중 해당 사용자가 바뀌었으면 저장하지 않음
+        // (세대 확인과 저장을 같은 키 잠금 안에서 해 무효화와 순서가 섞이지 않게 함)
+        if (entries.size() >= maxEntries) {
+            evictOne();
+        }
+        entries.compute(userId, (key, existing) ->
+                generations.get(stripe(userId)) == generation ? new Entry(snapshot, now + ttlMs) : existing);
+        return Optional.of(copyOf(snapshot));
+    }
+
+    /**
+     * 현재 트랜잭션이 커밋된 뒤 사용자를 무효화합니다.
+     * (트랜잭션 밖에서 호출하면 즉시 무효화)
+     */
+    public void invalidateAfterCommit(String userId) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    invalidate(userId);
+                }
+            });
+        } else {
+            invalidate(userId);
+        }
+    }
+
+    /**
+     * 사용자를 즉시 무효화합니다.
+     */
+    public void invalidate(String userId) {
+        generations.incrementAndGet(stripe(userId));
+        if (entries.remove(userId) != null) {
+            invalidations.incrementAndGet();
+        }
+    }
+
+    /**
+     * 캐시 지표 조회
+     */
+    public Map<String, Object> stats() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("entries", entries.size());
+        long hitCount = hits.get();
+        long missCount = misses.get();
+        stats.put("hits", hitCount);
+        stats.put("misses", missCount);
+        stats.put("hitRate", hitCount + missCount > 0 ? (hitCount * 100.0 / (hitCount + missCount)) : 0.0);
+        stats.put("expirations", expirations.get());
+        stats.put("invalidations", invalidations.get());
+        stats.put("maxEntries", maxEntries);
+        stats.put("ttlMs", ttlMs);
+        return stats;
+    }
+
+    /**
+     * 가득 찼을 때 임의의 항목 하나를 버립니다. (다음 요청 때 다시 조회됨)
+     */
+    private void evictOne() {
+        Iterator<String> it = entries.keySet().iterator();
+        if (it.hasNext()) {
+            it.next();
+            it.remove();
+        }
+    }
+
+    private static User copyOf(User user) {
+        return User.builder()
+                .id(user.getId())
+                .email(user.getEmail())
+                .password(user.getPassword())
+                .nickname(user.getNickname())
+                .role(user.getRole())
+                .favorite(user.getFavorite())
+                .isAccountPrivate(user.getIsAccountPrivate())
+                .profileImage(user.getProfileImage())
+                .createdAt(user.getCreatedAt())
+                .updatedAt(user.getUpdatedAt())
+                .build();
+    }
+
+    private static int stripe(String userId) {
+        int h = userId.hashCode();
+        return (h ^ (h >>> 16)) & (GENERATION_STRIPES - 1);
+    }
+}
@@ -4,6 +4,7 @@ package com.example.record.auth.security;
 // 공통 Bean (PasswordEncoder, EntryPoint, AuthManager)
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.authentication.AuthenticationManager;
@@ -12,6 +13,7 @@ import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.AuthenticationEntryPoint;
 
+@Slf4j
 @Configuration
 @RequiredArgsConstructor
 public class SecurityCommonConfig {
@@ -23,7 +25,7 @@ public class SecurityCommonConfig {
     public AuthenticationEntryPoint authEntryPoint() {
         return (request, response, e) -> {
             String path = request.getRequestURI();
-            System.out.println("🚫 AuthenticationEntryPoint 호출됨 - 경로: " + path + ", 예외: " + e.getMessage());
+            log.debug("AuthenticationEntryPoint 호출됨: path={}, 예외={}", path, e.getMessage());
             response.setStatus(HttpServletResponse.SC_UNAUTHORIZED);
             response.setContentType("application/json;charset=UTF-8");
             response.getWriter().write("{\"success\":false,\"data\":null,\"message\":\"로그인이 필요합니다.\"}");
@@ -20,6 +20,7 @@ public class SecurityConfig {
 
     private final JwtUtil jwtUtil;
     private final UserRepository userRepository;
+    private final AuthPrincipalCache authPrincipalCache;
     private final AuthenticationEntryPoint authEntryPoint;
 
     @Bean
@@ -66,7 +67,7 @@ public class SecurityConfig {
 
         // JWT 필터 (현재 dev에서는 모든 요청에 대해 실행 → 문제 없음)
         http.addFilterBefore(
-                new JwtAuthenticationFilter(jwtUtil, userRepository),
+                new JwtAuthenticationFilter(jwtUtil, userRepository, authPrincipalCache),
                 UsernamePasswordAuthenticationFilter.class
         );
 
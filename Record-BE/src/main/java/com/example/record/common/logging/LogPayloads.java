@@ -0,0 +1,35 @@
+package com.example.record.common.logging;
+
+/**
+ * 로그에 남기는 외부 API 요청/응답 본문 줄이기
+ *
+ * OpenAI 이미지 응답(b64_json)이나 STT 결과처럼 수 MB까지 커질 수 있는 값을
+ * 앞부분과 전체 길이만 남겨, 로그 한 줄이 비동기 대기열과 디스크를 차지하지 않게 합니다.
+ */
+public final class LogPayloads {
+
+    /** 기본 최대 길이 (문자) */
+    public static final int DEFAULT_MAX_LENGTH = 200;
+
+    private LogPayloads() {
+    }
+
+    /**
+     * 최대 길이를 넘으면 앞부분만 남기고 전체 길이를 붙입니다.
+     * (예: "abc...(12345 chars)")
+     */
+    public static String truncate(Object value, int maxLength) {
+        if (value == null) {
+            return null;
+        }
+        String text = value.toString();
+        if (text.length() <= maxLength) {
+            return text;
+        }
+        return text.substring(0, maxLength) + "...(" + text.length() + " chars)";
+    }
+
+    public static String truncate(Object value) {
+        return truncate(value, DEFAULT_MAX_LENGTH);
+    }
+}
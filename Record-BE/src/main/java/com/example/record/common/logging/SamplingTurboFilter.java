@@ -0,0 +1,60 @@
+package com.example.record.common.logging;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.turbo.TurboFilter;
+import ch.qos.logback.core.spi.FilterReply;
+import org.slf4j.Marker;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 로거 분류(category)별 로그 샘플링 (logback-spring.xml에서 설정)
+ *
+ * loggerPrefix로 시작하는 로거의 level 이하 로그를 rate건 중 1건만 남깁니다.
+ * 그보다 높은 레벨(WARN, ERROR 등)과 다른 로거는 그대로 통과합니다.
+ *
+ * 인증 필터처럼 요청마다 찍히는 로그를 켜 두어도 비동기 대기열이 넘치지 않게 하기 위한 용도이며,
+ * 판단은 원자적 카운터 증가 한 번이라 메시지 포맷팅 전에 값싸게 걸러집니다.
+ */
+public class SamplingTurboFilter extends TurboFilter {
+
+    private String loggerPrefix;
+    private Level level = Level.DEBUG;
+    private int rate = 1;
+    private final AtomicLong counter = new AtomicLong();
+
+    @Override
+    public FilterReply decide(Marker marker, Logger logger, Level eventLevel, String format, Object[] params, Throwable t) {
+        if (!isStarted() || rate <= 1 || eventLevel.toInt() > level.toInt()
+                || !logger.getName().startsWith(loggerPrefix)) {
+            return FilterReply.NEUTRAL;
+        }
+        // 어차피 레벨 때문에 버려질 로그는 카운터를 건드리지 않음
+        if (eventLevel.toInt() < logger.getEffectiveLevel().toInt()) {
+            return FilterReply.NEUTRAL;
+        }
+        return counter.getAndIncrement() % rate == 0 ? FilterReply.NEUTRAL : FilterReply.DENY;
+    }
+
+    @Override
+    public void start() {
+        if (loggerPrefix == null || loggerPrefix.isBlank()) {
+            addError("loggerPrefix가 설정되지 않았습니다: " + getName());
+            return;
+        }
+        super.start();
+    }
+
+    public void setLoggerPrefix(String loggerPrefix) {
+        this.loggerPrefix = loggerPrefix;
+    }
+
+    public void setLevel(String level) {
+        this.level = Level.toLevel(level, Level.DEBUG);
+    }
+
+    public void setRate(int rate) {
+        this.rate = rate;
+    }
+}
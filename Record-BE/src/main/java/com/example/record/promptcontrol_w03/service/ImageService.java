@@ -1,11 +1,13 @@
 package com.example.record.promptcontrol_w03.service;
 
 import com.example.record.AWS.S3Service;
+import com.example.record.common.logging.LogPayloads;
 import com.example.record.review.entity.GeneratedImageUrl;
 import com.example.record.review.entity.Review;
 import com.example.record.review.repository.GeneratedImageUrlRepository;
 import com.example.record.review.repository.ReviewRepository;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.MediaType;
 import org.springframework.stereotype.Service;
@@ -21,6 +23,7 @@ import java.io.IOException;
 import java.util.Base64;
 import java.util.Map;
 
+@Slf4j
 @Service
 @RequiredArgsConstructor
 public class ImageService {
@@ -62,7 +65,7 @@ public class ImageService {
                 "response_format", "b64_json" // base64 인코딩된 이미지 반환 (URL 다운로드 문제 방지)
         );
 
-        System.out.println("📤 BODY => " + body);
+        log.debug("OpenAI 이미지 요청: model={}, prompt={}", imageModel, LogPayloads.truncate(prompt));
 
         Map<?, ?> response = webClient.post()
                 .uri("/images/generations")
@@ -74,18 +77,17 @@ public class ImageService {
                         status -> status.is4xxClientError() || status.is5xxServerError(),
                         clientResponse -> clientResponse.bodyToMono(String.class)
                                 .map(bodyStr -> {
-                                    System.err.println("❌ OpenAI Error Response:");
-                                    System.err.println(bodyStr);
+                                    log.error("OpenAI 이미지 생성 오류 응답: {}", LogPayloads.truncate(bodyStr, 1000));
                                     return new RuntimeException("OpenAI error: " + bodyStr);
                                 })
                 )
                 .bodyToMono(Map.class)
                 .block();
 
-        System.out.println("📥 RESPONSE => " + response);
-
         var dataList = (java.util.List<?>) response.get("data");
         var first = (Map<?, ?>) dataList.get(0);
+        // 응답 전체(b64_json은 수 MB)는 남기지 않고 형식만 기록
+        log.debug("OpenAI 이미지 응답: created={}, fields={}", response.get("created"), first.keySet());
 
         // b64_json이 있으면 사용, 없으면 url 사용
         byte[] imageBytes = null;
@@ -93,15 +95,15 @@ public class ImageService {
             // base64 인코딩된 이미지 사용
             String b64Json = first.get("b64_json").toString();
             imageBytes = Base64.getDecoder().decode(b64Json);
-            System.out.println("✅ Base64 이미지 사용");
+            log.debug("Base64 이미지 사용: length={}", b64Json.length());
         } else if (first.containsKey("url")) {
             // URL에서 이미지 다운로드 시도
             String originalImageUrl = first.get("url").toString();
             try {
                 imageBytes = downloadImageFromUrl(originalImageUrl);
-                System.out.println("✅ URL에서 이미지 다운로드 성공");
+                log.debug("URL에서 이미지 다운로드 성공");
             } catch (Exception e) {
-                System.err.println("⚠️ URL 다운로드 실패, 원본 URL 반환: " + e.getMessage());
+                log.warn("URL 다운로드 실패, 원본 URL 반환: {}", e.getMessage());
                 // URL 다운로드 실패 시 원본 URL 반환
                 return originalImageUrl;
             }
@@ -133,7 +135,7 @@ public class ImageService {
                 "response_format", "b64_json"
         );
 
-        System.out.println("📤 BODY => " + body);
+        log.debug("OpenAI 이미지 요청: model={}, prompt={}", imageModel, LogPayloads.truncate(prompt));
 
         Map<?, ?> response = webClient.post()
                 .uri("/images/generations")
@@ -145,31 +147,30 @@ public class ImageService {
                         status -> status.is4xxClientError() || status.is5xxServerError(),
                         clientResponse -> clientResponse.bodyToMono(String.class)
                                 .map(bodyStr -> {
-                                    System.err.println("❌ OpenAI Error Response:");
-                                    System.err.println(bodyStr);
+                                    log.error("OpenAI 이미지 생성 오류 응답: {}", LogPayloads.truncate(bodyStr, 1000));
                                     return new RuntimeException("OpenAI error: " + bodyStr);
                                 })
                 )
                 .bodyToMono(Map.class)
                 .block();
 
-        System.out.println("📥 RESPONSE => " + response);
-
         var dataList = (java.util.List<?>) response.get("data");
         var first = (Map<?, ?>) dataList.get(0);
+        // 응답 전체(b64_json은 수 MB)는 남기지 않고 형식만 기록
+        log.debug("OpenAI 이미지 응답: created={}, fields={}", response.get("created"), first.keySet());
 
         byte[] imageBytes = null;
         if (first.containsKey("b64_json")) {
             String b64Json = first.get("b64_json").toString();
             imageBytes = Base64.getDecoder().decode(b64Json);
-            System.out.println("✅ Base64 이미지 사용");
+            log.debug("Base64 이미지 사용: length={}", b64Json.length());
         } else if (first.containsKey("url")) {
             String originalImageUrl = first.get("url").toString();
             try {
                 imageBytes = downloadImageFromUrl(originalImageUrl);
-                System.out.println("✅ URL에서 이미지 다운로드 성공");
+                log.debug("URL에서 이미지 다운로드 성공");
             } catch (Exception e) {
-                System.err.println("⚠️ URL 다운로드 실패, 원본 URL 반환: " + e.getMessage());
+                log.warn("URL 다운로드 실패, 원본 URL 반환: {}", e.getMessage());
                 return originalImageUrl;
             }
         } else {
@@ -200,7 +201,7 @@ public class ImageService {
         // DB에 저장
         generatedImageUrlRepository.save(generatedImage);
         
-        System.out.println("✅ 이미지 DB 저장 완료: reviewId=" + reviewId + ", imageUrl=" + imageUrl);
+        log.info("이미지 DB 저장 완료: reviewId={}, imageUrl={}", reviewId, imageUrl);
     }
 
     /**
@@ -260,12 +261,11 @@ public class ImageService {
 
             // 5. S3에 저장
             String url = s3Service.saveGeneratedImage(croppedBytes);
-            System.out.println("✅ 이미지 크롭 및 S3 업로드 완료: " + url + " (원본: " + originalWidth + "x" + originalHeight + " → 크롭: " + targetWidth + "x" + targetHeight + ")");
+            log.info("이미지 크롭 및 S3 업로드 완료: url={}, original={}x{}, cropped={}x{}", url, originalWidth, originalHeight, targetWidth, targetHeight);
             return url;
 
         } catch (IOException e) {
-            System.err.println("❌ 이미지 크롭 실패: " + e.getMessage());
-            e.printStackTrace();
+            log.error("이미지 크롭 실패", e);
             throw new RuntimeException("이미지 크롭 실패: " + e.getMessage(), e);
         }
     }
@@ -0,0 +1,11 @@
+package com.example.record.ratelimit;
+
+/**
+ * 외부 AI 공급자 (공급자별 전체 동시 호출 수 제한 단위)
+ */
+public enum AiProvider {
+    /** OpenAI (GPT, DALL-E, Whisper) */
+    OPENAI,
+    /** Google Cloud Vision (OCR) */
+    GOOGLE_VISION
+}
@@ -0,0 +1,115 @@
+package com.example.record.ratelimit;
+
+import com.example.record.auth.jwt.JwtUtil;
+import com.example.record.auth.security.AuthUser;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * AI 호출 엔드포인트 요청 제한 인터셉터
+ *
+ * 경로별로 호출하는 공급자를 정해 AiRateLimiter에 자리를 요청하고,
+ * 거절되면 컨트롤러를 실행하지 않고 429 + Retry-After로 바로 응답합니다.
+ *
+ * 사용자 키는 JWT 인증 사용자 ID, 없으면 클라이언트 IP입니다.
+ * /review, /stt, /ocr, /generate-image는 JwtAuthenticationFilter가 건너뛰는 경로라 인증 정보가 없으므로,
+ * Authorization 헤더의 Bearer 토큰을 여기서 직접 검증해 사용자 ID를 얻습니다.
+ * (X-User-Id 헤더/userId 파라미터는 값을 바꿔 가며 제한을 피할 수 있어 쓰지 않음)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class AiRateLimitInterceptor implements HandlerInterceptor {
+
+    /** preHandle에서 확보한 공급자 목록 (afterCompletion에서 반납) */
+    private static final String ACQUIRED_ATTRIBUTE = AiRateLimitInterceptor.class.getName() + ".ACQUIRED";
+
+    private static final List<AiProvider> OPENAI = List.of(AiProvider.OPENAI);
+    private static final List<AiProvider> VISION = List.of(AiProvider.GOOGLE_VISION);
+    private static final List<AiProvider> VISION_AND_OPENAI = List.of(AiProvider.OPENAI, AiProvider.GOOGLE_VISION);
+
+    private final AiRateLimiter aiRateLimiter;
+    private final JwtUtil jwtUtil;
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) throws IOException {
+        List<AiProvider> providers = providersFor(request.getRequestURI());
+        if (providers.isEmpty()) {
+            return true;
+        }
+
+        String clientKey = clientKey(request);
+        AiRateLimiter.Decision decision = aiRateLimiter.tryAcquire(clientKey, providers);
+        if (!decision.allowed()) {
+            log.debug("AI 요청 제한: client={}, path={}, reason={}", clientKey, request.getRequestURI(), decision.reason());
+            response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+            response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(decision.retryAfterSeconds()));
+            response.setContentType("application/json;charset=UTF-8");
+            response.getWriter().write("{\"error\": \"" + decision.reason() + "\"}");
+            return false;
+        }
+
+        request.setAttribute(ACQUIRED_ATTRIBUTE, providers);
+        return true;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+        Object acquired = request.getAttribute(ACQUIRED_ATTRIBUTE);
+        if (acquired != null) {
+            request.removeAttribute(ACQUIRED_ATTRIBUTE);
+            aiRateLimiter.release((List<AiProvider>) acquired);
+        }
+    }
+
+    /**
+     * 경로별 호출 공급자
+     * - /ocr: Google Vision만, /ocr/structured, /ocr/extract/**: Vision으로 읽은 뒤 GPT로 구조화
+     * - 나머지(/review/organize, /review/summarize, /prompt, /generate-image, /stt): OpenAI
+     */
+    static List<AiProvider> providersFor(String path) {
+        if (path.equals("/ocr") || path.equals("/ocr/")) {
+            return VISION;
+        }
+        if (path.startsWith("/ocr/")) {
+            return VISION_AND_OPENAI;
+        }
+        if (path.startsWith("/review/organize") || path.startsWith("/review/summarize")
+                || path.startsWith("/prompt") || path.startsWith("/generate-image")
+                || path.startsWith("/stt")) {
+            return OPENAI;
+        }
+        return List.of();
+    }
+
+    /**
+     * 제한 키: 인증 사용자 → 유효한 Bearer 토큰의 사용자 → 클라이언트 IP 순
+     */
+    String clientKey(HttpServletRequest request) {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null && authentication.getPrincipal() instanceof AuthUser authUser) {
+            return "user:" + authUser.getUsername();
+        }
+        String authHeader = request.getHeader(HttpHeaders.AUTHORIZATION);
+        if (StringUtils.hasText(authHeader) && authHeader.startsWith("Bearer ")) {
+            var claims = jwtUtil.parseClaims(authHeader.substring(7));
+            if (claims.isPresent()) {
+                return "user:" + claims.get().id();
+            }
+        }
+        return "ip:" + request.getRemoteAddr();
+    }
+}
@@ -0,0 +1,157 @@
+package com.example.record.ratelimit;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * AI 호출 엔드포인트 요청 제한
+ *
+ * 두 가지를 함께 적용합니다.
+ * 1. 사용자(또는 IP)별 토큰 버킷 (GcraLimiter): 한 클라이언트의 반복 호출을 막음
+ * 2. 공급자별 전체 동시 호출 수 (Semaphore.tryAcquire): 외부 API가 느려질 때 Tomcat 스레드가 모두 묶이지 않게 함
+ *
+ * 둘 다 기다리지 않고 바로 거절(429 + Retry-After)하며, 허용 경로는 CAS 몇 번으로 끝납니다.
+ * 사용자별 제한기는 버킷이 다시 가득 차면(isIdle) 주기적으로 정리해 메모리가 늘지 않게 합니다.
+ */
+@Slf4j
+@Component
+public class AiRateLimiter {
+
+    /**
+     * 제한 결과
+     *
+     * @param allowed 허용 여부
+     * @param retryAfterSeconds 거절 시 다시 시도할 수 있을 때까지의 초
+     * @param reason 거절 사유 (허용이면 null)
+     */
+    public record Decision(boolean allowed, long retryAfterSeconds, String reason) {
+        static final Decision ALLOWED = new Decision(true, 0, null);
+    }
+
+    private final long permitsPerMinute;
+    private final int burst;
+    private final int maxTrackedClients;
+    private final long busyRetryAfterSeconds;
+
+    private final ConcurrentHashMap<String, GcraLimiter> clientLimiters = new ConcurrentHashMap<>();
+    private final GcraLimiter overflowLimiter;
+    private final Map<AiProvider, Semaphore> providerSlots = new EnumMap<>(AiProvider.class);
+    private final Map<AiProvider, Integer> providerMaxConcurrent = new EnumMap<>(AiProvider.class);
+
+    private final AtomicLong allowed = new AtomicLong();
+    private final AtomicLong rejectedClient = new AtomicLong();
+    private final Map<AiProvider, AtomicLong> rejectedBusy = new EnumMap<>(AiProvider.class);
+
+    public AiRateLimiter(@Value("${app.ai-limit.permits-per-minute:20}") long permitsPerMinute,
+                         @Value("${app.ai-limit.burst:5}") int burst,
+                         @Value("${app.ai-limit.max-tracked-clients:100000}") int maxTrackedClients,
+                         @Value("${app.ai-limit.busy-retry-after-seconds:2}") long busyRetryAfterSeconds,
+                         @Value("${app.ai-limit.openai-max-concurrent:16}") int openAiMaxConcurrent,
+                         @Value("${app.ai-limit.google-vision-max-concurrent:8}") int visionMaxConcurrent) {
+        this.permitsPerMinute = permitsPerMinute;
+        this.burst = burst;
+        this.maxTrackedClients = maxTrackedClients;
+        this.busyRetryAfterSeconds = busyRetryAfterSeconds;
+        this.overflowLimiter = new GcraLimiter(permitsPerMinute, burst);
+        providerMaxConcurrent.put(AiProvider.OPENAI, openAiMaxConcurrent);
+        providerMaxConcurrent.put(AiProvider.GOOGLE_VISION, visionMaxConcurrent);
+        for (AiProvider provider : AiProvider.values()) {
+            providerSlots.put(provider, new Semaphore(providerMaxConcurrent.get(provider)));
+            rejectedBusy.put(provider, new AtomicLong());
+        }
+    }
+
+    /**
+     * 요청 하나를 허용할지 결정합니다.
+     * 허용되면 호출한 쪽이 요청이 끝난 뒤 반드시 release(providers)를 호출해야 합니다.
+     *
+     * @param clientKey 사용자 키 (인증 사용자 ID 또는 IP)
+     * @param providers 이 요청이 호출하는 공급자들
+     */
+    public Decision tryAcquire(String clientKey, List<AiProvider> providers) {
+        // 1) 공급자 동시 호출 자리 확보 (일부만 잡혔으면 되돌림)
+        for (int i = 0; i < providers.size(); i++) {
+            AiProvider provider = providers.get(i);
+            if (!providerSlots.get(provider).tryAcquire()) {
+                release(providers.subList(0, i));
+                rejectedBusy.get(provider).incrementAndGet();
+                return new Decision(false, busyRetryAfterSeconds, provider + " 호출이 많아 잠시 후 다시 시도해주세요.");
+            }
+        }
+
+        // 2) 사용자별 토큰 버킷
+        long waitNanos = limiterFor(clientKey).tryAcquire();
+        if (waitNanos > 0) {
+            release(providers);
+            rejectedClient.incrementAndGet();
+            return new Decision(false, GcraLimiter.retryAfterSeconds(waitNanos), "요청이 너무 많습니다. 잠시 후 다시 시도해주세요.");
+        }
+
+        allowed.incrementAndGet();
+        return Decision.ALLOWED;
+    }
+
+    /**
+     * tryAcquire로 확보한 공급자 자리를 돌려줍니다.
+     */
+    public void release(List<AiProvider> providers) {
+        for (AiProvider provider : providers) {
+            providerSlots.get(provider).release();
+        }
+    }
+
+    /**
+     * 버킷이 가득 찬(오래 호출하지 않은) 사용자 제한기 정리 (1분마다)
+     */
+    @Scheduled(fixedDelay = 60_000)
+    public void evictIdle() {
+        int before = clientLimiters.size();
+        clientLimiters.values().removeIf(GcraLimiter::isIdle);
+        log.debug("AI 요청 제한기 정리: before={}, after={}", before, clientLimiters.size());
+    }
+
+    /**
+     * 제한 상태 지표 조회
+     */
+    public Map<String, Object> stats() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("trackedClients", clientLimiters.size());
+        stats.put("allowed", allowed.get());
+        stats.put("rejectedClient", rejectedClient.get());
+        stats.put("permitsPerMinute", permitsPerMinute);
+        stats.put("burst", burst);
+        Map<String, Object> providers = new LinkedHashMap<>();
+        for (AiProvider provider : AiProvider.values()) {
+            Map<String, Object> p = new LinkedHashMap<>();
+            int max = providerMaxConcurrent.get(provider);
+            p.put("inFlight", max - providerSlots.get(provider).availablePermits());
+            p.put("maxConcurrent", max);
+            p.put("rejectedBusy", rejectedBusy.get(provider).get());
+            providers.put(provider.name(), p);
+        }
+        stats.put("providers", providers);
+        return stats;
+    }
+
+    private GcraLimiter limiterFor(String clientKey) {
+        GcraLimiter limiter = clientLimiters.get(clientKey);
+        if (limiter != null) {
+            return limiter;
+        }
+        if (clientLimiters.size() >= maxTrackedClients) {
+            // 가득 찼으면 다음 정리(evictIdle) 전까지 새 클라이언트는 버킷 하나를 함께 씀
+            return overflowLimiter;
+        }
+        return clientLimiters.computeIfAbsent(clientKey, key -> new GcraLimiter(permitsPerMinute, burst));
+    }
+}
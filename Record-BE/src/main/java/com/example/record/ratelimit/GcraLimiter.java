@@ -0,0 +1,82 @@
+package com.example.record.ratelimit;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * 잠금 없는 토큰 버킷 (GCRA, Generic Cell Rate Algorithm)
+ *
+ * 토큰 개수와 마지막 충전 시각 대신 "이론상 다음 도착 시각(TAT)" 하나만 AtomicLong으로 보관합니다.
+ * - 요청마다 TAT를 max(TAT, now) + 발급 간격만큼 CAS로 밀고
+ * - 밀린 TAT가 now + 허용 버스트 구간을 넘으면 거절합니다.
+ *
+ * 초당 rate개씩 채워지고 최대 burst개까지 쌓이는 토큰 버킷과 같은 결과이며,
+ * 객체 하나에 long 하나라 키/사용자별로 만들어도 부담이 없습니다.
+ */
+public final class GcraLimiter {
+
+    /** 토큰 하나가 채워지는 간격 (나노초) */
+    private final long emissionIntervalNanos;
+
+    /** 버킷 크기만큼 앞당겨 쓸 수 있는 구간 (나노초) */
+    private final long burstWindowNanos;
+
+    private final LongSupplier clock;
+    private final AtomicLong theoreticalArrival;
+
+    /**
+     * @param permitsPerMinute 분당 허용 요청 수 (1 이상)
+     * @param burst 한 번에 몰아서 허용하는 최대 요청 수 (1 이상)
+     */
+    public GcraLimiter(long permitsPerMinute, int burst) {
+        this(permitsPerMinute, burst, System::nanoTime);
+    }
+
+    GcraLimiter(long permitsPerMinute, int burst, LongSupplier clock) {
+        if (permitsPerMinute < 1 || burst < 1) {
+            throw new IllegalArgumentException("permitsPerMinute, burst는 1 이상이어야 합니다.");
+        }
+        this.emissionIntervalNanos = TimeUnit.MINUTES.toNanos(1) / permitsPerMinute;
+        this.burstWindowNanos = emissionIntervalNanos * burst;
+        this.clock = clock;
+        // 처음에는 버킷이 가득 찬 상태
+        this.theoreticalArrival = new AtomicLong(clock.getAsLong());
+    }
+
+    /**
+     * 요청 하나를 허용할지 결정합니다.
+     *
+     * @return 허용하면 0, 거절하면 다음 요청이 허용될 때까지 남은 나노초
+     */
+    public long tryAcquire() {
+        while (true) {
+            long now = clock.getAsLong();
+            long current = theoreticalArrival.get();
+            // nanoTime은 음수일 수 있으므로 max 대신 차이로 비교
+            long base = current - now > 0 ? current : now;
+            long next = base + emissionIntervalNanos;
+            long waitNanos = next - now - burstWindowNanos;
+            if (waitNanos > 0) {
+                return waitNanos;
+            }
+            if (theoreticalArrival.compareAndSet(current, next)) {
+                return 0;
+            }
+        }
+    }
+
+    /**
+     * 버킷이 가득 찬 상태인지 (새로 만든 제한기와 같아 버려도 사용량을 잃지 않음)
+     */
+    public boolean isIdle() {
+        return theoreticalArrival.get() - clock.getAsLong() <= 0;
+    }
+
+    /**
+     * 거절 시 Retry-After 헤더 값 (초, 올림)
+     */
+    public static long retryAfterSeconds(long waitNanos) {
+        return Math.max(1, (waitNanos + TimeUnit.SECONDS.toNanos(1) - 1) / TimeUnit.SECONDS.toNanos(1));
+    }
+}
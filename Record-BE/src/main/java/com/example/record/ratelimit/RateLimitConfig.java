@@ -0,0 +1,27 @@
+package com.example.record.ratelimit;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+/**
+ * AI 호출 엔드포인트에 요청 제한 인터셉터 등록
+ */
+@Configuration
+@RequiredArgsConstructor
+public class RateLimitConfig implements WebMvcConfigurer {
+
+    private final AiRateLimitInterceptor aiRateLimitInterceptor;
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(aiRateLimitInterceptor)
+                .addPathPatterns(
+                        "/review/organize", "/review/summarize",
+                        "/prompt", "/prompt/**",
+                        "/generate-image", "/generate-image/**",
+                        "/stt/**",
+                        "/ocr", "/ocr/**");
+    }
+}
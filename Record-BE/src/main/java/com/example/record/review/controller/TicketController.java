@@ -1,25 +1,44 @@
 package com.example.record.review.controller;
 
 import com.example.record.review.dto.request.TicketCreateRequest;
+import com.example.record.review.dto.request.TicketImportRequest;
 import com.example.record.review.dto.request.TicketSearchRequest;
+import com.example.record.review.dto.request.TicketStatisticsCompareRequest;
 import com.example.record.review.dto.request.TicketUpdateRequest;
 import com.example.record.review.dto.response.TicketCreateResponse;
+import com.example.record.review.dto.response.TicketImportResponse;
+import com.example.record.review.dto.response.TicketPageResponse;
 import com.example.record.review.dto.response.TicketResponse;
-import com.example.record.review.dto.response.TicketStatisticsResponse;
-import com.example.record.review.dto.response.YearInReviewResponse;
+import com.example.record.review.dto.response.TicketStatisticsComparisonResponse;
+import com.example.record.review.service.FeedService;
+import com.example.record.review.service.TicketArchiveExportService;
+import com.example.record.review.service.TicketImportService;
+import com.example.record.review.service.TicketResponseCache;
 import com.example.record.review.service.TicketService;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Page;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.time.LocalDate;
 import java.util.List;
 
+@Slf4j
 @RestController
 @RequestMapping("/api/tickets")
 @RequiredArgsConstructor
 public class TicketController {
 
     private final TicketService ticketService;
+    private final TicketResponseCache ticketResponseCache;
+    private final TicketArchiveExportService ticketArchiveExportService;
+    private final TicketImportService ticketImportService;
+    private final FeedService feedService;
 
     /**
      * 티켓 생성
@@ -35,6 +54,22 @@ public class TicketController {
         return ResponseEntity.ok(response);
     }
 
+    /**
+     * 티켓 일괄 등록 (다른 예매 앱 기록 가져오기 등)
+     *
+     * 최대 5000건을 JDBC 배치 INSERT로 한 번에 등록합니다. (하나라도 잘못되면 전체 취소)
+     *
+     * @param requesterUserId 요청하는 사용자 ID (X-User-Id 헤더)
+     * @param request 등록할 티켓 목록 (각 항목의 userId는 무시)
+     * @return 등록 건수
+     */
+    @PostMapping("/me/import")
+    public ResponseEntity<TicketImportResponse> importTickets(
+            @RequestHeader("X-User-Id") String requesterUserId,
+            @RequestBody TicketImportRequest request) {
+        return ResponseEntity.ok(ticketImportService.importTickets(requesterUserId, request.getTickets()));
+    }
+
     /**
      * 사용자의 티켓 목록 조회 (공개 티켓만 반환)
      * 
@@ -48,12 +83,91 @@ public class TicketController {
     public ResponseEntity<List<TicketResponse>> getTicketsByUserId(
             @PathVariable("userId") String userId,
             @RequestHeader(value = "X-User-Id", required = false) String currentUserId) {
-        System.out.println("🔍 GET /api/tickets/user/" + userId + " 요청 받음, currentUserId=" + currentUserId);
         List<TicketResponse> tickets = ticketService.getPublicTicketsByUserId(userId, currentUserId);
-        System.out.println("✅ 공개 티켓 반환: " + tickets.size() + "개");
+        log.debug("공개 티켓 조회: userId={}, currentUserId={}, count={}", userId, currentUserId, tickets.size());
         return ResponseEntity.ok(tickets);
     }
 
+    /**
+     * 사용자의 공개 티켓 목록 커서 페이지 조회
+     *
+     * 정렬: 관람일 최신순 (view_date, created_at, id 내림차순)
+     *
+     * @param userId 사용자 ID
+     * @param currentUserId 조회하는 사용자 ID (X-User-Id 헤더, 좋아요 여부 확인용)
+     * @param cursor 이전 응답의 nextCursor (첫 페이지는 생략)
+     * @param size 페이지 크기 (최대 100)
+     * @return 공개 티켓 페이지
+     */
+    @GetMapping("/user/{userId}/page")
+    public ResponseEntity<TicketPageResponse> getTicketPageByUserId(
+            @PathVariable("userId") String userId,
+            @RequestHeader(value = "X-User-Id", required = false) String currentUserId,
+            @RequestParam(value = "cursor", required = false) String cursor,
+            @RequestParam(value = "size", defaultValue = "20") int size) {
+        return ResponseEntity.ok(ticketService.getPublicTicketPageByUserId(userId, currentUserId, cursor, size));
+    }
+
+    /**
+     * 내 티켓 목록 커서 페이지 조회 (비공개 티켓 포함)
+     *
+     * @param requesterUserId 요청하는 사용자 ID (X-User-Id 헤더)
+     * @param cursor 이전 응답의 nextCursor (첫 페이지는 생략)
+     * @param size 페이지 크기 (최대 100)
+     * @return 내 티켓 페이지
+     */
+    @GetMapping("/me/page")
+    public ResponseEntity<TicketPageResponse> getMyTicketPage(
+            @RequestHeader("X-User-Id") String requesterUserId,
+            @RequestParam(value = "cursor", required = false) String cursor,
+            @RequestParam(value = "size", defaultValue = "20") int size) {
+        return ResponseEntity.ok(ticketService.getTicketPageByUserId(requesterUserId, cursor, size));
+    }
+
+    /**
+     * 친구 피드 커서 페이지 조회 (친구들의 공개 티켓)
+     *
+     * 정렬: 등록 최신순 (created_at, id 내림차순)
+     *
+     * @param requesterUserId 요청하는 사용자 ID (X-User-Id 헤더)
+     * @param cursor 이전 응답의 nextCursor (첫 페이지는 생략)
+     * @param size 페이지 크기 (최대 100)
+     * @return 피드 페이지
+     */
+    @GetMapping("/feed")
+    public ResponseEntity<TicketPageResponse> getFeed(
+            @RequestHeader("X-User-Id") String requesterUserId,
+            @RequestParam(value = "cursor", required = false) String cursor,
+            @RequestParam(value = "size", defaultValue = "20") int size) {
+        return ResponseEntity.ok(feedService.getFeedPage(requesterUserId, cursor, size));
+    }
+
+    /**
+     * 내 기록 전체 내보내기 (티켓, 리뷰, 질문/답변, 생성 이미지 URL)
+     *
+     * DB에서 읽는 즉시 응답으로 흘려보내므로 기록 양과 무관하게 서버 메모리 사용량이 일정합니다.
+     *
+     * @param requesterUserId 요청하는 사용자 ID (X-User-Id 헤더)
+     * @param format ndjson (기본값) 또는 csv (CSV 네 개를 담은 ZIP)
+     * @return 내보내기 파일 스트림
+     */
+    @GetMapping("/me/export")
+    public ResponseEntity<StreamingResponseBody> exportMyArchive(
+            @RequestHeader("X-User-Id") String requesterUserId,
+            @RequestParam(value = "format", defaultValue = "ndjson") String format) {
+        TicketArchiveExportService.Format exportFormat = TicketArchiveExportService.Format.from(format);
+        boolean csv = exportFormat == TicketArchiveExportService.Format.CSV;
+
+        StreamingResponseBody body = out -> ticketArchiveExportService.export(requesterUserId, exportFormat, out);
+        return ResponseEntity.ok()
+                .contentType(csv ? MediaType.parseMediaType("application/zip") : MediaType.parseMediaType("application/x-ndjson"))
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                        .filename(csv ? "record-archive.zip" : "record-archive.ndjson")
+                        .build()
+                        .toString())
+                .body(body);
+    }
+
     /**
      * 티켓 수정
      * 
@@ -105,19 +219,94 @@ public class TicketController {
         return ResponseEntity.ok(tickets);
     }
 
+    /**
+     * 키워드 검색 (관련도 순)
+     *
+     * 제목/공연장/아티스트/후기를 대상으로 하며 오타가 있어도 비슷한 티켓을 찾습니다.
+     *
+     * @param userId 사용자 ID
+     * @param keyword 검색어
+     * @param page 페이지 번호 (0부터 시작)
+     * @param size 페이지 크기 (최대 100)
+     * @return 검색된 티켓 목록 (페이지네이션)
+     */
+    @GetMapping("/user/{userId}/search/keyword")
+    public ResponseEntity<Page<TicketResponse>> searchTicketsByKeyword(
+            @PathVariable("userId") String userId,
+            @RequestParam("q") String keyword,
+            @RequestParam(value = "page", defaultValue = "0") int page,
+            @RequestParam(value = "size", defaultValue = "20") int size) {
+        return ResponseEntity.ok(ticketService.searchTicketsByKeyword(userId, keyword, page, size));
+    }
+
+    /**
+     * 고급 검색 커서 페이지 조회
+     *
+     * 정렬은 관람일 최신순으로 고정되며 sortBy/sortDirection은 무시됩니다.
+     *
+     * @param userId 사용자 ID
+     * @param request 검색 조건
+     * @param cursor 이전 응답의 nextCursor (첫 페이지는 생략)
+     * @param size 페이지 크기 (최대 100)
+     * @return 검색된 티켓 페이지
+     */
+    @PostMapping("/user/{userId}/search/page")
+    public ResponseEntity<TicketPageResponse> searchTicketPage(
+            @PathVariable("userId") String userId,
+            @RequestBody TicketSearchRequest request,
+            @RequestParam(value = "cursor", required = false) String cursor,
+            @RequestParam(value = "size", defaultValue = "20") int size) {
+        return ResponseEntity.ok(ticketService.searchTicketPage(userId, request, cursor, size));
+    }
+
     /**
      * 티켓 통계 분석
      * 
      * @param userId 사용자 ID
      * @param year 분석할 연도 (기본값: 현재 연도)
-     * @return 통계 분석 결과
+     * @return 통계 분석 결과 (TicketStatisticsResponse JSON, 캐시된 바이트를 그대로 응답)
      */
-    @GetMapping("/user/{userId}/statistics")
-    public ResponseEntity<TicketStatisticsResponse> getTicketStatistics(
+    @GetMapping(value = "/user/{userId}/statistics", produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<byte[]> getTicketStatistics(
             @PathVariable("userId") String userId,
             @RequestParam(value = "year", required = false) Integer year) {
-        TicketStatisticsResponse statistics = ticketService.getTicketStatistics(userId, year);
-        return ResponseEntity.ok(statistics);
+        int targetYear = (year != null) ? year : LocalDate.now().getYear();
+        byte[] body = ticketResponseCache.getOrLoad(TicketResponseCache.Kind.STATISTICS, userId, targetYear,
+                () -> ticketService.getTicketStatistics(userId, targetYear));
+        return ResponseEntity.ok().contentType(MediaType.APPLICATION_JSON).body(body);
+    }
+
+    /**
+     * 기간별 티켓 통계 비교 (약식 기간)
+     *
+     * 예: ?periods=2024,2025 / ?periods=2025-Q1,2025-Q2 / ?periods=2025-H1,2025-H2 / ?periods=2025-03,2025-04
+     *
+     * @param userId 사용자 ID
+     * @param periods 비교할 기간 (쉼표 구분, 요청 순서대로 응답)
+     * @return 기간별 통계
+     */
+    @GetMapping("/user/{userId}/statistics/compare")
+    public ResponseEntity<TicketStatisticsComparisonResponse> compareTicketStatistics(
+            @PathVariable("userId") String userId,
+            @RequestParam("periods") List<String> periods) {
+        List<TicketStatisticsCompareRequest.Period> parsed = periods.stream()
+                .map(TicketStatisticsCompareRequest.Period::of)
+                .toList();
+        return ResponseEntity.ok(ticketService.compareTicketStatistics(userId, parsed));
+    }
+
+    /**
+     * 기간별 티켓 통계 비교 (임의 기간)
+     *
+     * @param userId 사용자 ID
+     * @param request 비교할 기간 목록 (startDate, endDate 모두 포함)
+     * @return 기간별 통계
+     */
+    @PostMapping("/user/{userId}/statistics/compare")
+    public ResponseEntity<TicketStatisticsComparisonResponse> compareTicketStatistics(
+            @PathVariable("userId") String userId,
+            @RequestBody TicketStatisticsCompareRequest request) {
+        return ResponseEntity.ok(ticketService.compareTicketStatistics(userId, request.getPeriods()));
     }
 
     /**
@@ -125,14 +314,16 @@ public class TicketController {
      * 
      * @param userId 사용자 ID
      * @param year 분석할 연도 (기본값: 현재 연도)
-     * @return 연말 결산 리포트
+     * @return 연말 결산 리포트 (YearInReviewResponse JSON, 캐시된 바이트를 그대로 응답)
      */
-    @GetMapping("/user/{userId}/year-in-review")
-    public ResponseEntity<YearInReviewResponse> getYearInReview(
+    @GetMapping(value = "/user/{userId}/year-in-review", produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<byte[]> getYearInReview(
             @PathVariable("userId") String userId,
             @RequestParam(value = "year", required = false) Integer year) {
-        YearInReviewResponse review = ticketService.getYearInReview(userId, year);
-        return ResponseEntity.ok(review);
+        int targetYear = (year != null) ? year : LocalDate.now().getYear();
+        byte[] body = ticketResponseCache.getOrLoad(TicketResponseCache.Kind.YEAR_IN_REVIEW, userId, targetYear,
+                () -> ticketService.getYearInReview(userId, targetYear));
+        return ResponseEntity.ok().contentType(MediaType.APPLICATION_JSON).body(body);
     }
 
 }
@@ -1,5 +1,6 @@
 package com.example.record.review.controller;
 
+import com.example.record.review.dto.response.TicketLikeResponse;
 import com.example.record.review.service.TicketLikeService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
@@ -21,18 +22,17 @@ public class TicketLikeController {
      * 
      * @param ticketId 티켓 ID
      * @param userId 사용자 ID (X-User-Id 헤더)
-     * @return 좋아요 상태
+     * @return 토글 후 좋아요 상태와 좋아요 수
      */
     @PostMapping("/{ticketId}/like")
     public ResponseEntity<Map<String, Object>> toggleLike(
             @PathVariable("ticketId") Long ticketId,
             @RequestHeader("X-User-Id") String userId) {
-        boolean isLiked = ticketLikeService.toggleLike(ticketId, userId);
-        long likeCount = ticketLikeService.getLikeCount(ticketId);
-        
+        TicketLikeResponse result = ticketLikeService.toggleLike(ticketId, userId);
+
         Map<String, Object> response = new HashMap<>();
-        response.put("isLiked", isLiked);
-        response.put("likeCount", likeCount);
+        response.put("isLiked", result.isLiked());
+        response.put("likeCount", result.getLikeCount());
         return ResponseEntity.ok(response);
     }
 
@@ -0,0 +1,16 @@
+package com.example.record.review.dto.projection;
+
+import java.time.LocalDateTime;
+
+/**
+ * 기록 내보내기용 생성 이미지 프로젝션
+ */
+public record GeneratedImageExportRow(
+        Long id,
+        Long reviewId,
+        String imageUrl,
+        String style,
+        Boolean isSelected,
+        LocalDateTime createdAt
+) {
+}
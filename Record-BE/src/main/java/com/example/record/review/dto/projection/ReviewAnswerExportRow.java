@@ -0,0 +1,16 @@
+package com.example.record.review.dto.projection;
+
+/**
+ * 기록 내보내기용 리뷰 질문/답변 프로젝션
+ *
+ * @param question 질문 템플릿 문구
+ * @param customText 사용자가 작성한 내용
+ */
+public record ReviewAnswerExportRow(
+        Long id,
+        Long reviewId,
+        Integer displayOrder,
+        String question,
+        String customText
+) {
+}
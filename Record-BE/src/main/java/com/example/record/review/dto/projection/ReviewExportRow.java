@@ -0,0 +1,16 @@
+package com.example.record.review.dto.projection;
+
+import java.time.LocalDateTime;
+
+/**
+ * 기록 내보내기용 리뷰 프로젝션
+ */
+public record ReviewExportRow(
+        Long id,
+        Long ticketId,
+        String summary,
+        String keywords,
+        LocalDateTime createdAt,
+        LocalDateTime updatedAt
+) {
+}
@@ -0,0 +1,24 @@
+package com.example.record.review.dto.projection;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * 기록 내보내기용 티켓 프로젝션 (후기 전문 포함)
+ */
+public record TicketExportRow(
+        Long id,
+        String performanceTitle,
+        String venue,
+        String seat,
+        String artist,
+        String genre,
+        LocalDate viewDate,
+        String posterUrl,
+        String imageUrl,
+        String reviewText,
+        Boolean isPublic,
+        LocalDateTime createdAt,
+        LocalDateTime updatedAt
+) {
+}
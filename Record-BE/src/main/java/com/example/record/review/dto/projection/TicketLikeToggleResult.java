@@ -0,0 +1,22 @@
+package com.example.record.review.dto.projection;
+
+/**
+ * 좋아요 토글 결과 (네이티브 쿼리 프로젝션)
+ */
+public interface TicketLikeToggleResult {
+
+    /**
+     * 토글 후 좋아요 상태 (true: 좋아요, false: 취소)
+     */
+    Boolean getLiked();
+
+    /**
+     * 좋아요 수 증감 (+1: 추가, -1: 취소, 0: 동시 요청으로 변화 없음)
+     */
+    Long getDelta();
+
+    /**
+     * DB에 반영된 좋아요 수 (버퍼에 쌓인 증감과 이번 증감은 제외)
+     */
+    Long getLikeCount();
+}
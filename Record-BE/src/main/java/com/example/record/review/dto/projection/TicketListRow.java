@@ -0,0 +1,32 @@
+package com.example.record.review.dto.projection;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * 티켓 목록/검색용 프로젝션
+ *
+ * 목록 화면에 필요한 컬럼만 읽습니다.
+ * review_text, image_prompt(TEXT)는 읽지 않으므로 TOAST 조회가 없고,
+ * 엔티티가 아니어서 영속성 컨텍스트 스냅샷(dirty checking)도 만들지 않습니다.
+ *
+ * @param userId 작성자 ID (users 조인 없이 tickets.user_id 컬럼 값)
+ * @param likeCount 좋아요 수 (tickets.like_count, 버퍼 미반영분 제외)
+ */
+public record TicketListRow(
+        Long id,
+        String userId,
+        String performanceTitle,
+        String venue,
+        String seat,
+        String artist,
+        String posterUrl,
+        String genre,
+        LocalDate viewDate,
+        String imageUrl,
+        Boolean isPublic,
+        Long likeCount,
+        LocalDateTime createdAt,
+        LocalDateTime updatedAt
+) {
+}
@@ -0,0 +1,21 @@
+package com.example.record.review.dto.projection;
+
+import com.example.record.review.entity.TicketStatisticsRollup.Dimension;
+
+/**
+ * 기간별 통계 쿼리(GROUPING SETS)의 한 행
+ *
+ * 키 규칙은 TicketStatisticsRollup.Dimension과 같고, MONTH만 여러 해에 걸칠 수 있어 "YYYY-MM" 형식입니다.
+ *
+ * @param periodIndex 요청한 기간 순서 (0부터)
+ * @param dimension 집계 차원 (TOTAL은 키가 빈 문자열)
+ * @param dimKey 차원 값 (장르 없음은 빈 문자열)
+ * @param visitCount 관람 수
+ */
+public record TicketStatisticsCell(
+        int periodIndex,
+        Dimension dimension,
+        String dimKey,
+        long visitCount
+) {
+}
@@ -0,0 +1,28 @@
+package com.example.record.review.dto.projection;
+
+import com.example.record.review.entity.Ticket;
+
+import java.time.LocalDate;
+
+/**
+ * 통계 집계에 필요한 티켓 필드만 담은 읽기 전용 프로젝션
+ *
+ * 후기/이미지 프롬프트 같은 TEXT 컬럼은 읽지 않습니다.
+ */
+public record TicketStatisticsFacts(
+        LocalDate viewDate,
+        String genre,
+        String venue,
+        String artist,
+        String performanceTitle
+) {
+    public static TicketStatisticsFacts from(Ticket ticket) {
+        return new TicketStatisticsFacts(
+                ticket.getViewDate(),
+                ticket.getGenre(),
+                ticket.getVenue(),
+                ticket.getArtist(),
+                ticket.getPerformanceTitle()
+        );
+    }
+}
@@ -0,0 +1,24 @@
+package com.example.record.review.dto.projection;
+
+import java.time.LocalDate;
+
+/**
+ * 연말 결산 집계용 티켓 프로젝션
+ *
+ * 후기 전문 대신 길이와 앞 50자만 읽어서, 티켓 수가 많아도 행 하나의 크기가 일정합니다.
+ *
+ * @param reviewLength 후기 길이 (후기가 없으면 null)
+ * @param reviewHead 후기 앞 50자 (후기가 없으면 null)
+ */
+public record TicketYearInReviewRow(
+        Long id,
+        LocalDate viewDate,
+        String genre,
+        String venue,
+        String artist,
+        String performanceTitle,
+        String imageUrl,
+        Integer reviewLength,
+        String reviewHead
+) {
+}
@@ -0,0 +1,10 @@
+package com.example.record.review.dto.projection;
+
+/**
+ * 사용자가 관람한 아티스트 (사용자·아티스트 조합당 한 행)
+ */
+public record UserArtist(
+        String userId,
+        String artist
+) {
+}
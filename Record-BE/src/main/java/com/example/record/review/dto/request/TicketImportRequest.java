@@ -0,0 +1,21 @@
+package com.example.record.review.dto.request;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 티켓 일괄 등록 요청 DTO (다른 예매 앱 기록 가져오기 등)
+ *
+ * 각 항목의 userId는 사용하지 않고, 요청한 사용자(X-User-Id)의 티켓으로 등록합니다.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class TicketImportRequest {
+    private List<TicketCreateRequest> tickets;
+}
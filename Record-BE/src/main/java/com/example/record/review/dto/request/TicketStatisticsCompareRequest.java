@@ -0,0 +1,93 @@
+package com.example.record.review.dto.request;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.time.format.DateTimeParseException;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * 기간별 티켓 통계 비교 요청 DTO
+ *
+ * 임의의 기간 여러 개를 한 번에 비교합니다. (예: 2024년 vs 2025년, 2025-Q1 vs 2025-Q2)
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class TicketStatisticsCompareRequest {
+
+    /**
+     * 비교할 기간 목록 (요청 순서대로 응답)
+     */
+    private List<Period> periods;
+
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Period {
+        /**
+         * 기간 이름 (생략 시 "시작일~종료일")
+         */
+        private String label;
+
+        /**
+         * 시작 날짜 (viewDate 기준, 포함)
+         */
+        private LocalDate startDate;
+
+        /**
+         * 종료 날짜 (viewDate 기준, 포함)
+         */
+        private LocalDate endDate;
+
+        /**
+         * 약식 기간 해석
+         *
+         * - "2025": 연도
+         * - "2025-H1" / "2025-H2": 상·하반기
+         * - "2025-Q1" ~ "2025-Q4": 분기
+         * - "2025-03": 월
+         *
+         * @throws IllegalArgumentException 형식이 맞지 않는 경우
+         */
+        public static Period of(String value) {
+            String text = value == null ? "" : value.trim().toUpperCase(Locale.ROOT);
+            try {
+                if (text.matches("\\d{4}")) {
+                    int year = Integer.parseInt(text);
+                    return of(text, LocalDate.of(year, 1, 1), LocalDate.of(year, 12, 31));
+                }
+                if (text.matches("\\d{4}-H[12]")) {
+                    int year = Integer.parseInt(text.substring(0, 4));
+                    int half = text.charAt(6) - '0';
+                    YearMonth first = YearMonth.of(year, (half - 1) * 6 + 1);
+                    return of(text, first.atDay(1), first.plusMonths(5).atEndOfMonth());
+                }
+                if (text.matches("\\d{4}-Q[1-4]")) {
+                    int year = Integer.parseInt(text.substring(0, 4));
+                    int quarter = text.charAt(6) - '0';
+                    YearMonth first = YearMonth.of(year, (quarter - 1) * 3 + 1);
+                    return of(text, first.atDay(1), first.plusMonths(2).atEndOfMonth());
+                }
+                if (text.matches("\\d{4}-\\d{2}")) {
+                    YearMonth month = YearMonth.parse(text);
+                    return of(text, month.atDay(1), month.atEndOfMonth());
+                }
+            } catch (DateTimeParseException e) {
+                // 아래에서 형식 오류로 처리
+            }
+            throw new IllegalArgumentException("지원하지 않는 기간 형식입니다: " + value);
+        }
+
+        private static Period of(String label, LocalDate startDate, LocalDate endDate) {
+            return Period.builder().label(label).startDate(startDate).endDate(endDate).build();
+        }
+    }
+}
@@ -0,0 +1,16 @@
+package com.example.record.review.dto.response;
+
+import lombok.*;
+
+/**
+ * 좋아요 토글 결과 응답 DTO
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class TicketLikeResponse {
+    private boolean liked;
+    private long likeCount;
+}
@@ -0,0 +1,28 @@
+package com.example.record.review.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 티켓 목록 커서 페이지 응답 DTO
+ *
+ * 다음 페이지는 nextCursor를 cursor 파라미터로 그대로 넘겨 조회합니다.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class TicketPageResponse {
+    private List<TicketResponse> items;
+
+    /**
+     * 다음 페이지 커서 (마지막 페이지면 null)
+     */
+    private String nextCursor;
+
+    private boolean hasNext;
+}
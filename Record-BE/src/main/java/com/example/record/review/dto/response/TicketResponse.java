@@ -1,5 +1,6 @@
 package com.example.record.review.dto.response;
 
+import com.example.record.review.dto.projection.TicketListRow;
 import com.example.record.review.entity.Ticket;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -75,5 +76,27 @@ public class TicketResponse {
                 .likeCount(likeCount)
                 .build();
     }
-}
 
+    /**
+     * 목록/검색 응답 변환 (imagePrompt, reviewText는 목록에서 조회하지 않으므로 null)
+     */
+    public static TicketResponse from(TicketListRow row, Boolean isLiked, Long likeCount) {
+        return TicketResponse.builder()
+                .id(row.id())
+                .userId(row.userId())
+                .performanceTitle(row.performanceTitle())
+                .venue(row.venue())
+                .seat(row.seat())
+                .artist(row.artist())
+                .posterUrl(row.posterUrl())
+                .genre(row.genre())
+                .viewDate(row.viewDate())
+                .imageUrl(row.imageUrl())
+                .isPublic(row.isPublic())
+                .createdAt(row.createdAt())
+                .updatedAt(row.updatedAt())
+                .isLiked(isLiked)
+                .likeCount(likeCount)
+                .build();
+    }
+}
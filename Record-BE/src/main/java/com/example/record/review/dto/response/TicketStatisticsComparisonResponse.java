@@ -0,0 +1,49 @@
+package com.example.record.review.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * 기간별 티켓 통계 비교 응답 DTO
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class TicketStatisticsComparisonResponse {
+
+    /**
+     * 요청한 순서대로의 기간별 통계
+     */
+    private List<PeriodStatistics> periods;
+
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class PeriodStatistics {
+        private String label;
+        private LocalDate startDate;
+        private LocalDate endDate;
+
+        /**
+         * 기간 총 관람 수
+         */
+        private Long totalCount;
+
+        /**
+         * 바로 앞 기간 대비 증가/감소 수 (첫 기간은 null)
+         */
+        private Long changeFromPrevious;
+
+        /**
+         * 차원별 통계 (monthlyTrend 키는 "YYYY-MM", 연도 기준 필드는 비어 있음)
+         */
+        private TicketStatisticsResponse statistics;
+    }
+}
@@ -0,0 +1,54 @@
+package com.example.record.review.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * 친구 피드 받은편지함 엔티티 (fan-out-on-write)
+ *
+ * 역할: 친구가 공개 티켓을 등록하면 친구들의 받은편지함에 한 행씩 미리 넣어 둡니다.
+ * 피드 조회는 내 받은편지함만 (owner_id, created_at, ticket_id) 인덱스로 읽으므로 친구 수와 무관합니다.
+ *
+ * 한 행 = (받는 사용자, 티켓) 조합
+ * - 행은 FeedFanoutService가 네이티브 INSERT ... SELECT로만 만듭니다.
+ * - 티켓 삭제 시 FK(ON DELETE CASCADE)로 함께 삭제되고, 비공개 전환된 티켓은 조회 시 tickets 조인으로 걸러냅니다.
+ */
+@Entity
+@Table(name = "feed_inbox", indexes = {
+    @Index(name = "idx_feed_inbox_owner_ticket", columnList = "owner_id,ticket_id", unique = true),
+    @Index(name = "idx_feed_inbox_owner_seek", columnList = "owner_id,created_at DESC,ticket_id DESC")
+})
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class FeedInboxEntry {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    /**
+     * 피드를 받는 사용자 ID
+     */
+    @Column(name = "owner_id", nullable = false, length = 15)
+    private String ownerId;
+
+    @Column(name = "ticket_id", nullable = false)
+    private Long ticketId;
+
+    /**
+     * 티켓 작성자 ID (친구 삭제 시 해당 친구 글만 지우기 위함)
+     */
+    @Column(name = "author_id", nullable = false, length = 15)
+    private String authorId;
+
+    /**
+     * 티켓 생성 시간 (tickets.created_at 복사본, 피드 정렬 키)
+     */
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+}
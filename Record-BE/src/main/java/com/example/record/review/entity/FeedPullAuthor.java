@@ -0,0 +1,34 @@
+package com.example.record.review.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.annotations.CreationTimestamp;
+
+import java.time.LocalDateTime;
+
+/**
+ * 피드 fan-out 제외 작성자 엔티티
+ *
+ * 친구가 많아(app.feed.fanout-max-friends 초과) 받은편지함에 넣지 않는 작성자입니다.
+ * 이 작성자의 글은 피드 조회 시 작성자별 공개 티켓 인덱스를 직접 읽어 받은편지함과 병합합니다.
+ *
+ * 한 번 지정되면 해제하지 않습니다.
+ * (친구 수가 다시 줄었다고 해제하면, 지정 기간에 등록된 글이 받은편지함에도 없고 직접 읽기 대상에서도 빠지기 때문)
+ */
+@Entity
+@Table(name = "feed_pull_authors")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class FeedPullAuthor {
+
+    @Id
+    @Column(name = "user_id", length = 15)
+    private String userId;
+
+    @Column(name = "created_at")
+    @CreationTimestamp
+    private LocalDateTime createdAt;
+}
@@ -30,8 +30,10 @@ import java.time.LocalDateTime;
 @Builder
 public class GeneratedImageUrl {
 
+    /** 시퀀스 + pooled 최적화 (INSERT 배치용, Ticket.id 참고) */
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "generated_image_url_id_seq")
+    @SequenceGenerator(name = "generated_image_url_id_seq", sequenceName = "generated_image_url_id_seq", allocationSize = 50)
     private Long id;
 
     /**
@@ -19,8 +19,10 @@ import java.util.List;
 @Builder
 public class Review {
 
+    /** 시퀀스 + pooled 최적화 (INSERT 배치용, Ticket.id 참고) */
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "reviews_id_seq")
+    @SequenceGenerator(name = "reviews_id_seq", sequenceName = "reviews_id_seq", allocationSize = 50)
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY)
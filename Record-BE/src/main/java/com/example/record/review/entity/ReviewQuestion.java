@@ -4,7 +4,9 @@ import jakarta.persistence.*;
 import lombok.*;
 
 @Entity
-@Table(name = "review_questions")
+@Table(name = "review_questions", indexes = {
+    @Index(name = "idx_review_questions_review_id", columnList = "review_id")
+})
 @Getter
 @Setter
 @NoArgsConstructor
@@ -8,9 +8,15 @@ import org.hibernate.annotations.UpdateTimestamp;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 
+/**
+ * 공개 티켓 목록용 부분 인덱스(idx_tickets_user_public_seek, WHERE is_public = TRUE)와
+ * 친구 피드용 부분 인덱스(idx_tickets_user_public_created)는
+ * JPA @Index로 표현할 수 없어 schema.sql에만 있습니다.
+ */
 @Entity
 @Table(name = "tickets", indexes = {
-    @Index(name = "idx_tickets_user_id", columnList = "user_id")
+    @Index(name = "idx_tickets_user_id", columnList = "user_id"),
+    @Index(name = "idx_tickets_user_seek", columnList = "user_id,view_date DESC,created_at DESC,id DESC")
 })
 @Getter
 @Setter
@@ -19,8 +25,16 @@ import java.time.LocalDateTime;
 @Builder
 public class Ticket {
 
+    /**
+     * 티켓 ID (시퀀스 + pooled 최적화)
+     *
+     * IDENTITY는 INSERT마다 생성된 ID를 받아야 해서 Hibernate가 INSERT 배치를 끕니다.
+     * 시퀀스에서 50개씩 미리 할당받아 여러 행을 JDBC 배치 한 번으로 넣습니다.
+     * DB 시퀀스의 INCREMENT도 50이어야 합니다. (schema.sql)
+     */
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "tickets_id_seq")
+    @SequenceGenerator(name = "tickets_id_seq", sequenceName = "tickets_id_seq", allocationSize = 50)
     private Long id;
 
     /**
@@ -78,6 +92,17 @@ public class Ticket {
     @Builder.Default
     private Boolean isPublic = true;
 
+    /**
+     * 좋아요 수 (비정규화)
+     *
+     * ticket_likes 추가/삭제와 같은 SQL 문에서 원자적으로 증감되므로
+     * 엔티티에서는 읽기만 합니다. (TicketLikeRepository.toggle 참고)
+     * 기존 DB에 컬럼이 새로 생기면 TicketLikeCountBackfill이 ticket_likes에서 한 번 채웁니다.
+     */
+    @Column(name = "like_count", nullable = false, insertable = false, updatable = false,
+            columnDefinition = "BIGINT NOT NULL DEFAULT 0")
+    private Long likeCount;
+
     /**
      * 티켓 생성 시간
      * 
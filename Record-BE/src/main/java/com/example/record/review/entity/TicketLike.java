@@ -20,6 +20,7 @@ import java.time.LocalDateTime;
 @Builder
 public class TicketLike {
 
+    /** 좋아요는 한 건씩만 저장하므로(배치 INSERT 없음) IDENTITY 유지 */
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
@@ -0,0 +1,65 @@
+package com.example.record.review.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+/**
+ * 사용자별·연도별 티켓 통계 집계 엔티티
+ *
+ * 역할: 통계 화면에 필요한 카운트(월/요일/장르/공연장/아티스트/작품)를 미리 집계해 둡니다.
+ *
+ * 왜 이 엔티티가 필요한가요?
+ * 1. 통계 API가 매번 티켓 전체를 다시 집계하지 않도록 함
+ * 2. 티켓 생성/수정/삭제와 같은 트랜잭션에서 증감하므로 항상 최신 상태 유지
+ * 3. (user_id, stat_year) 인덱스 한 번 조회로 통계 응답을 만들 수 있음
+ *
+ * 한 행 = (사용자, 연도, 차원, 키) 조합의 관람 수
+ * 예: (user1, 2025, GENRE, MUSICAL) → 12
+ */
+@Entity
+@Table(name = "ticket_statistics_rollup", indexes = {
+    @Index(name = "idx_ticket_stat_rollup_unique", columnList = "user_id,stat_year,dimension,dim_key", unique = true)
+})
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class TicketStatisticsRollup {
+
+    /**
+     * 집계 차원
+     *
+     * - TOTAL: 연간 총 관람 수 (키는 빈 문자열)
+     * - MONTH: 월 ("01" ~ "12")
+     * - DAY_OF_WEEK: 요일 ("0"=일요일 ~ "6"=토요일, PostgreSQL DOW와 동일)
+     * - GENRE / VENUE / ARTIST / PERFORMANCE: 해당 값
+     * - INITIALIZED: 사용자 집계가 만들어졌는지 표시하는 마커 (stat_year = 0)
+     */
+    public enum Dimension {
+        TOTAL, MONTH, DAY_OF_WEEK, GENRE, VENUE, ARTIST, PERFORMANCE, INITIALIZED
+    }
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "user_id", nullable = false, length = 15)
+    private String userId;
+
+    @Column(name = "stat_year", nullable = false)
+    private Integer statYear;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "dimension", nullable = false, length = 20)
+    private Dimension dimension;
+
+    /**
+     * 차원 값 (장르 없음 등 null 값은 빈 문자열로 저장)
+     */
+    @Column(name = "dim_key", nullable = false, length = 100)
+    private String dimKey;
+
+    @Column(name = "visit_count", nullable = false)
+    private Long visitCount;
+}
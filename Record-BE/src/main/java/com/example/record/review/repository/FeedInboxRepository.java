@@ -0,0 +1,106 @@
+package com.example.record.review.repository;
+
+import com.example.record.review.dto.projection.TicketListRow;
+import com.example.record.review.entity.FeedInboxEntry;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * 친구 피드 받은편지함 레포지토리
+ *
+ * 역할: 공개 티켓을 친구들의 받은편지함에 넣고(fan-out), 받은편지함을 커서 페이지로 읽습니다.
+ */
+public interface FeedInboxRepository extends JpaRepository<FeedInboxEntry, Long> {
+
+    /**
+     * 티켓 하나를 작성자의 모든 친구 받은편지함에 넣습니다. (SQL 한 문장, 이미 있으면 무시)
+     *
+     * 비공개 티켓이면 아무 행도 넣지 않습니다.
+     * PostgreSQL: INSERT ... SELECT ... ON CONFLICT DO NOTHING
+     *
+     * @return 넣은 행 수
+     */
+    @Modifying
+    @Query(value = "INSERT INTO feed_inbox (owner_id, ticket_id, author_id, created_at) " +
+           "SELECT CASE WHEN f.user_id = t.user_id THEN f.friend_id ELSE f.user_id END, t.id, t.user_id, t.created_at " +
+           "FROM tickets t JOIN friendships f " +
+           "ON f.status = 'ACCEPTED' AND (f.user_id = t.user_id OR f.friend_id = t.user_id) " +
+           "WHERE t.id = :ticketId AND t.is_public = TRUE " +
+           "ON CONFLICT (owner_id, ticket_id) DO NOTHING", nativeQuery = true)
+    int fanOut(@Param("ticketId") Long ticketId);
+
+    /**
+     * 같은 작성자의 티켓 여러 개를 작성자의 모든 친구 받은편지함에 넣습니다. (일괄 등록 시, SQL 한 문장)
+     *
+     * 비공개 티켓은 넣지 않습니다.
+     *
+     * @return 넣은 행 수
+     */
+    @Modifying
+    @Query(value = "INSERT INTO feed_inbox (owner_id, ticket_id, author_id, created_at) " +
+           "SELECT CASE WHEN f.user_id = t.user_id THEN f.friend_id ELSE f.user_id END, t.id, t.user_id, t.created_at " +
+           "FROM tickets t JOIN friendships f " +
+           "ON f.status = 'ACCEPTED' AND (f.user_id = t.user_id OR f.friend_id = t.user_id) " +
+           "WHERE t.id IN (:ticketIds) AND t.is_public = TRUE " +
+           "ON CONFLICT (owner_id, ticket_id) DO NOTHING", nativeQuery = true)
+    int fanOutAll(@Param("ticketIds") Collection<Long> ticketIds);
+
+    /**
+     * 작성자의 최근 공개 티켓을 한 사용자의 받은편지함에 채웁니다. (새 친구 수락 시)
+     *
+     * @param limit 최대 티켓 수
+     * @return 넣은 행 수
+     */
+    @Modifying
+    @Query(value = "INSERT INTO feed_inbox (owner_id, ticket_id, author_id, created_at) " +
+           "SELECT :ownerId, t.id, t.user_id, t.created_at FROM tickets t " +
+           "WHERE t.user_id = :authorId AND t.is_public = TRUE " +
+           "ORDER BY t.created_at DESC, t.id DESC LIMIT :limit " +
+           "ON CONFLICT (owner_id, ticket_id) DO NOTHING", nativeQuery = true)
+    int backfill(@Param("ownerId") String ownerId,
+                 @Param("authorId") String authorId,
+                 @Param("limit") int limit);
+
+    /**
+     * 두 사용자의 받은편지함에서 서로의 글을 지웁니다. (친구 삭제 시)
+     */
+    @Modifying
+    @Query("DELETE FROM FeedInboxEntry e " +
+           "WHERE (e.ownerId = :userId AND e.authorId = :friendId) " +
+           "OR (e.ownerId = :friendId AND e.authorId = :userId)")
+    int deleteBetween(@Param("userId") String userId, @Param("friendId") String friendId);
+
+    /**
+     * 보관 기간이 지난 받은편지함 행을 지웁니다.
+     */
+    @Modifying
+    @Query("DELETE FROM FeedInboxEntry e WHERE e.createdAt < :cutoff")
+    int deleteOlderThan(@Param("cutoff") LocalDateTime cutoff);
+
+    /**
+     * 받은편지함 커서 페이지 조회 (등록 최신순)
+     *
+     * idx_feed_inbox_owner_seek 인덱스로 커서 이후 행부터 읽고, 티켓 PK로 목록 컬럼을 가져옵니다.
+     * 받은편지함에 넣은 뒤 비공개로 바뀐 티켓은 여기서 걸러집니다.
+     *
+     * @param pageable 크기 지정용 (PageRequest.of(0, size + 1))
+     */
+    @Query("SELECT new com.example.record.review.dto.projection.TicketListRow(" +
+           "t.id, t.user.id, t.performanceTitle, t.venue, t.seat, t.artist, t.posterUrl, t.genre, " +
+           "t.viewDate, t.imageUrl, t.isPublic, t.likeCount, t.createdAt, t.updatedAt) " +
+           "FROM FeedInboxEntry e JOIN Ticket t ON t.id = e.ticketId " +
+           "WHERE e.ownerId = :ownerId AND t.isPublic = true " +
+           "AND (e.createdAt, e.ticketId) < (:createdAt, :id) " +
+           "ORDER BY e.createdAt DESC, e.ticketId DESC")
+    List<TicketListRow> findPage(@Param("ownerId") String ownerId,
+                                 @Param("createdAt") LocalDateTime createdAt,
+                                 @Param("id") Long id,
+                                 Pageable pageable);
+}
@@ -0,0 +1,31 @@
+package com.example.record.review.repository;
+
+import com.example.record.review.entity.FeedPullAuthor;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
+
+/**
+ * 피드 fan-out 제외 작성자 레포지토리
+ */
+public interface FeedPullAuthorRepository extends JpaRepository<FeedPullAuthor, String> {
+
+    /**
+     * fan-out 제외 작성자로 지정합니다. (이미 있으면 무시)
+     */
+    @Modifying
+    @Query(value = "INSERT INTO feed_pull_authors (user_id, created_at) VALUES (:userId, NOW()) " +
+           "ON CONFLICT (user_id) DO NOTHING", nativeQuery = true)
+    void mark(@Param("userId") String userId);
+
+    /**
+     * 사용자의 친구 중 fan-out 제외 작성자 ID 목록 (피드 조회 시 직접 읽을 대상)
+     */
+    @Query("SELECT p.userId FROM FeedPullAuthor p, Friendship f " +
+           "WHERE f.status = 'ACCEPTED' " +
+           "AND ((f.user.id = :userId AND f.friend.id = p.userId) OR (f.friend.id = :userId AND f.user.id = p.userId))")
+    List<String> findPullFriendIds(@Param("userId") String userId);
+}
@@ -1,13 +1,23 @@
 package com.example.record.review.repository;
 
+import com.example.record.review.dto.projection.GeneratedImageExportRow;
+import com.example.record.review.dto.projection.ReviewAnswerExportRow;
+import com.example.record.review.dto.projection.ReviewExportRow;
+import com.example.record.review.dto.response.ReviewListItemResponse;
 import com.example.record.review.entity.Review;
+import jakarta.persistence.QueryHint;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 
 import java.util.List;
+import java.util.stream.Stream;
+
+import static org.hibernate.jpa.HibernateHints.HINT_FETCH_SIZE;
+import static org.hibernate.jpa.HibernateHints.HINT_READ_ONLY;
 
 public interface ReviewRepository extends JpaRepository<Review, Long> {
     /**
@@ -18,13 +28,20 @@ public interface ReviewRepository extends JpaRepository<Review, Long> {
      * - Ticket 엔티티에서 userId(String) → user(User 객체)로 변경했기 때문
      * - JPA는 객체 관계를 통해 쿼리를 생성하므로, user.id로 접근해야 합니다.
      * 
+     * 목록에 필요한 컬럼만 생성자 식으로 읽습니다. (티켓의 review_text, image_prompt 등은 읽지 않음)
      * 이 메서드는 다음과 같은 SQL을 생성합니다:
-     * SELECT * FROM reviews r 
+     * SELECT r.id, t.id, r.summary, r.keywords, t.image_url, t.performance_title, r.created_at
+     * FROM reviews r 
      * JOIN tickets t ON r.ticket_id = t.id 
      * WHERE t.user_id = ? 
-     * ORDER BY ... LIMIT ... OFFSET ...
+     * ORDER BY r.created_at DESC, r.id DESC LIMIT ... OFFSET ...
      */
-    Page<Review> findByTicket_User_Id(String userId, Pageable pageable);
+    @Query(value = "SELECT new com.example.record.review.dto.response.ReviewListItemResponse(" +
+           "r.id, t.id, r.summary, r.keywords, t.imageUrl, t.performanceTitle, r.createdAt) " +
+           "FROM Review r JOIN r.ticket t WHERE t.user.id = :userId " +
+           "ORDER BY r.createdAt DESC, r.id DESC",
+           countQuery = "SELECT COUNT(r) FROM Review r WHERE r.ticket.user.id = :userId")
+    Page<ReviewListItemResponse> findListItemsByUserId(@Param("userId") String userId, Pageable pageable);
 
     /**
      * 특정 사용자의 모든 리뷰를 생성 시간 순으로 조회합니다.
@@ -34,4 +51,44 @@ public interface ReviewRepository extends JpaRepository<Review, Long> {
      */
     @Query("SELECT r FROM Review r WHERE r.ticket.user.id = :userId ORDER BY r.createdAt ASC")
     List<Review> findByTicket_User_IdOrderByCreatedAtAsc(@Param("userId") String userId);
-}
\ No newline at end of file
+
+    /**
+     * 기록 내보내기용: 사용자의 전체 리뷰를 DB 커서로 한 행씩 읽습니다. (티켓, 리뷰 ID 순)
+     *
+     * 호출하는 쪽은 트랜잭션 안에서 try-with-resources로 Stream을 닫아야 합니다.
+     */
+    @QueryHints({
+            @QueryHint(name = HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT new com.example.record.review.dto.projection.ReviewExportRow(" +
+           "r.id, r.ticket.id, r.summary, r.keywords, r.createdAt, r.updatedAt) " +
+           "FROM Review r WHERE r.ticket.user.id = :userId ORDER BY r.ticket.id ASC, r.id ASC")
+    Stream<ReviewExportRow> streamExportRows(@Param("userId") String userId);
+
+    /**
+     * 기록 내보내기용: 사용자 리뷰의 질문/답변을 DB 커서로 한 행씩 읽습니다. (리뷰, 표시 순서 순)
+     */
+    @QueryHints({
+            @QueryHint(name = HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT new com.example.record.review.dto.projection.ReviewAnswerExportRow(" +
+           "q.id, r.id, q.displayOrder, qt.templateText, q.customText) " +
+           "FROM ReviewQuestion q JOIN q.review r JOIN q.template qt " +
+           "WHERE r.ticket.user.id = :userId ORDER BY r.id ASC, q.displayOrder ASC, q.id ASC")
+    Stream<ReviewAnswerExportRow> streamAnswerExportRows(@Param("userId") String userId);
+
+    /**
+     * 기록 내보내기용: 사용자 리뷰의 생성 이미지 URL을 DB 커서로 한 행씩 읽습니다. (리뷰, 이미지 ID 순)
+     */
+    @QueryHints({
+            @QueryHint(name = HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT new com.example.record.review.dto.projection.GeneratedImageExportRow(" +
+           "g.id, r.id, g.imageUrl, g.style, g.isSelected, g.createdAt) " +
+           "FROM GeneratedImageUrl g JOIN g.review r " +
+           "WHERE r.ticket.user.id = :userId ORDER BY r.id ASC, g.id ASC")
+    Stream<GeneratedImageExportRow> streamImageExportRows(@Param("userId") String userId);
+}
@@ -1,5 +1,6 @@
 package com.example.record.review.repository;
 
+import com.example.record.review.dto.projection.TicketLikeToggleResult;
 import com.example.record.review.entity.TicketLike;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
@@ -7,6 +8,7 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -22,6 +24,45 @@ public interface TicketLikeRepository extends JpaRepository<TicketLike, Long> {
      */
     long countByTicket_Id(Long ticketId);
 
+    /**
+     * 여러 티켓 중 조회자가 좋아요를 누른 티켓 ID 목록 (목록 응답용, 쿼리 한 번)
+     *
+     * @param userId 조회하는 사용자 ID
+     * @param ticketIds 티켓 ID 목록 (비어 있으면 안 됨)
+     */
+    @Query("SELECT tl.ticket.id FROM TicketLike tl WHERE tl.user.id = :userId AND tl.ticket.id IN :ticketIds")
+    List<Long> findLikedTicketIds(@Param("userId") String userId,
+                                  @Param("ticketIds") Collection<Long> ticketIds);
+
+    /**
+     * 좋아요 토글 (SQL 한 문장, 왕복 한 번)
+     *
+     * 1. ins: 좋아요 추가 시도 (이미 있으면 ON CONFLICT DO NOTHING)
+     * 2. del: 추가되지 않았으면 기존 좋아요 삭제 (DELETE ... RETURNING)
+     * 3. 토글 후 상태, 증감(+1 / -1 / 0), DB에 반영된 좋아요 수를 함께 반환
+     *
+     * like_count 증감은 TicketLikeCountBuffer가 모아서 반영하므로 여기서는 tickets 행을 갱신하지 않습니다.
+     * 동시 요청이 idx_ticket_likes_unique에 부딪혀도 예외 없이 처리됩니다.
+     * 티켓이 없으면 빈 결과를 반환합니다.
+     * PostgreSQL: 데이터 변경 CTE (WITH ... INSERT/DELETE ... RETURNING)
+     */
+    @Query(value = "WITH ins AS (" +
+           "  INSERT INTO ticket_likes (ticket_id, user_id, created_at) " +
+           "  SELECT t.id, :userId, NOW() FROM tickets t WHERE t.id = :ticketId " +
+           "  ON CONFLICT (ticket_id, user_id) DO NOTHING " +
+           "  RETURNING 1" +
+           "), del AS (" +
+           "  DELETE FROM ticket_likes " +
+           "  WHERE ticket_id = :ticketId AND user_id = :userId AND NOT EXISTS (SELECT 1 FROM ins) " +
+           "  RETURNING 1" +
+           ") " +
+           "SELECT NOT EXISTS (SELECT 1 FROM del) AS liked, " +
+           "(SELECT COUNT(*) FROM ins) - (SELECT COUNT(*) FROM del) AS delta, " +
+           "t.like_count AS \"likeCount\" " +
+           "FROM tickets t WHERE t.id = :ticketId",
+           nativeQuery = true)
+    Optional<TicketLikeToggleResult> toggle(@Param("ticketId") Long ticketId, @Param("userId") String userId);
+
     /**
      * 특정 티켓의 좋아요 목록 (사용자 정보 포함)
      */
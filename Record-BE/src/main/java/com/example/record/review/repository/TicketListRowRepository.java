@@ -0,0 +1,27 @@
+package com.example.record.review.repository;
+
+import com.example.record.review.dto.projection.TicketListRow;
+import com.example.record.review.entity.Ticket;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.List;
+
+/**
+ * Specification 조건으로 티켓 목록 프로젝션을 조회하는 레포지토리 조각 (TicketRepository에 합쳐짐)
+ *
+ * JpaSpecificationExecutor는 엔티티 전체만 조회할 수 있어서,
+ * 같은 조건(TicketSpecifications)을 그대로 쓰면서 SELECT 절만 TicketListRow 생성자 식으로 바꿉니다.
+ */
+public interface TicketListRowRepository {
+
+    /**
+     * 조건에 맞는 티켓 목록 프로젝션 조회
+     */
+    List<TicketListRow> findListRows(Specification<Ticket> spec, Sort sort);
+
+    /**
+     * 조건에 맞는 티켓 목록 프로젝션 조회 (최대 limit건)
+     */
+    List<TicketListRow> findListRows(Specification<Ticket> spec, Sort sort, int limit);
+}
@@ -0,0 +1,65 @@
+package com.example.record.review.repository;
+
+import com.example.record.review.dto.projection.TicketListRow;
+import com.example.record.review.entity.Ticket;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.TypedQuery;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+
+import java.util.List;
+
+/**
+ * TicketListRowRepository 구현 (Criteria API 생성자 식)
+ */
+class TicketListRowRepositoryImpl implements TicketListRowRepository {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public List<TicketListRow> findListRows(Specification<Ticket> spec, Sort sort) {
+        return createQuery(spec, sort).getResultList();
+    }
+
+    @Override
+    public List<TicketListRow> findListRows(Specification<Ticket> spec, Sort sort, int limit) {
+        return createQuery(spec, sort).setMaxResults(limit).getResultList();
+    }
+
+    private TypedQuery<TicketListRow> createQuery(Specification<Ticket> spec, Sort sort) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<TicketListRow> query = cb.createQuery(TicketListRow.class);
+        Root<Ticket> root = query.from(Ticket.class);
+
+        // user.id는 tickets.user_id 컬럼이므로 users 조인이 생기지 않음
+        query.select(cb.construct(TicketListRow.class,
+                root.get("id"),
+                root.get("user").get("id"),
+                root.get("performanceTitle"),
+                root.get("venue"),
+                root.get("seat"),
+                root.get("artist"),
+                root.get("posterUrl"),
+                root.get("genre"),
+                root.get("viewDate"),
+                root.get("imageUrl"),
+                root.get("isPublic"),
+                root.get("likeCount"),
+                root.get("createdAt"),
+                root.get("updatedAt")));
+
+        Predicate predicate = spec.toPredicate(root, query, cb);
+        if (predicate != null) {
+            query.where(predicate);
+        }
+        query.orderBy(QueryUtils.toOrders(sort, root, cb));
+        return entityManager.createQuery(query);
+    }
+}
@@ -1,19 +1,37 @@
 package com.example.record.review.repository;
 
+import com.example.record.review.dto.projection.TicketExportRow;
+import com.example.record.review.dto.projection.TicketListRow;
+import com.example.record.review.dto.projection.TicketStatisticsFacts;
+import com.example.record.review.dto.projection.TicketYearInReviewRow;
+import com.example.record.review.dto.projection.UserArtist;
 import com.example.record.review.entity.Ticket;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import static org.hibernate.jpa.HibernateHints.HINT_FETCH_SIZE;
+import static org.hibernate.jpa.HibernateHints.HINT_READ_ONLY;
 
 /**
  * 티켓 레포지토리
  * 
  * 역할: 티켓을 데이터베이스에서 조회하고 관리
  */
-public interface TicketRepository extends JpaRepository<Ticket, Long> {
+public interface TicketRepository extends JpaRepository<Ticket, Long>, JpaSpecificationExecutor<Ticket>,
+        TicketListRowRepository, TicketStatisticsQueryRepository {
 
     /**
      * 특정 사용자의 티켓 개수를 조회합니다.
@@ -25,110 +43,186 @@ public interface TicketRepository extends JpaRepository<Ticket, Long> {
     long countByUser_Id(@Param("userId") String userId);
 
     /**
-     * 특정 사용자의 티켓 목록을 조회합니다.
+     * 특정 사용자의 티켓 목록을 조회합니다. (목록용 프로젝션)
      * 
      * @param userId 사용자 ID
      * @return 해당 사용자의 티켓 목록 (공연 일시 내림차순)
      */
-    @Query("SELECT t FROM Ticket t WHERE t.user.id = :userId ORDER BY t.viewDate DESC, t.createdAt DESC")
-    List<Ticket> findByUser_IdOrderByCreatedAtDesc(@Param("userId") String userId);
+    @Query("SELECT new com.example.record.review.dto.projection.TicketListRow(" +
+           "t.id, t.user.id, t.performanceTitle, t.venue, t.seat, t.artist, t.posterUrl, t.genre, " +
+           "t.viewDate, t.imageUrl, t.isPublic, t.likeCount, t.createdAt, t.updatedAt) " +
+           "FROM Ticket t WHERE t.user.id = :userId ORDER BY t.viewDate DESC, t.createdAt DESC")
+    List<TicketListRow> findListRowsByUserId(@Param("userId") String userId);
 
     /**
-     * 특정 사용자의 공개 티켓 목록을 조회합니다.
+     * 특정 사용자의 공개 티켓 목록을 조회합니다. (목록용 프로젝션)
      * 
      * @param userId 사용자 ID
      * @return 해당 사용자의 공개 티켓 목록 (공연 일시 내림차순)
      */
-    @Query("SELECT t FROM Ticket t WHERE t.user.id = :userId AND t.isPublic = true ORDER BY t.viewDate DESC, t.createdAt DESC")
-    List<Ticket> findPublicTicketsByUserId(@Param("userId") String userId);
+    @Query("SELECT new com.example.record.review.dto.projection.TicketListRow(" +
+           "t.id, t.user.id, t.performanceTitle, t.venue, t.seat, t.artist, t.posterUrl, t.genre, " +
+           "t.viewDate, t.imageUrl, t.isPublic, t.likeCount, t.createdAt, t.updatedAt) " +
+           "FROM Ticket t WHERE t.user.id = :userId AND t.isPublic = true ORDER BY t.viewDate DESC, t.createdAt DESC")
+    List<TicketListRow> findPublicListRowsByUserId(@Param("userId") String userId);
 
     /**
-     * 고급 검색: 조건에 맞는 티켓 목록 조회
+     * ID 목록에 해당하는 티켓 목록 프로젝션 조회 (순서 보장 없음)
+     */
+    @Query("SELECT new com.example.record.review.dto.projection.TicketListRow(" +
+           "t.id, t.user.id, t.performanceTitle, t.venue, t.seat, t.artist, t.posterUrl, t.genre, " +
+           "t.viewDate, t.imageUrl, t.isPublic, t.likeCount, t.createdAt, t.updatedAt) " +
+           "FROM Ticket t WHERE t.id IN :ids")
+    List<TicketListRow> findListRowsByIdIn(@Param("ids") Collection<Long> ids);
+
+    /**
+     * 통계 재집계용: 특정 사용자의 티켓에서 통계에 필요한 필드만 조회합니다.
+     *
+     * @param userId 사용자 ID
+     * @return 관람일/장르/공연장/아티스트/작품명 프로젝션 목록
      */
-    @Query("SELECT t FROM Ticket t WHERE t.user.id = :userId " +
-           "AND (:startDate IS NULL OR t.viewDate >= :startDate) " +
-           "AND (:endDate IS NULL OR t.viewDate <= :endDate) " +
-           "AND (:genre IS NULL OR t.genre = :genre) " +
-           "AND (:venue IS NULL OR t.venue LIKE %:venue%) " +
-           "AND (:artist IS NULL OR t.artist LIKE %:artist%) " +
-           "AND (:performanceTitle IS NULL OR t.performanceTitle LIKE %:performanceTitle%) " +
-           "ORDER BY " +
-           "CASE WHEN :sortBy = 'viewDate' AND :sortDirection = 'ASC' THEN t.viewDate END ASC, " +
-           "CASE WHEN :sortBy = 'viewDate' AND :sortDirection = 'DESC' THEN t.viewDate END DESC, " +
-           "CASE WHEN :sortBy = 'createdAt' AND :sortDirection = 'ASC' THEN t.createdAt END ASC, " +
-           "CASE WHEN :sortBy IS NULL OR :sortBy = 'createdAt' THEN t.viewDate END DESC")
-    List<Ticket> searchTickets(
-            @Param("userId") String userId,
-            @Param("startDate") LocalDate startDate,
-            @Param("endDate") LocalDate endDate,
-            @Param("genre") String genre,
-            @Param("venue") String venue,
-            @Param("artist") String artist,
-            @Param("performanceTitle") String performanceTitle,
-            @Param("sortBy") String sortBy,
-            @Param("sortDirection") String sortDirection
-    );
+    @Query("SELECT new com.example.record.review.dto.projection.TicketStatisticsFacts(" +
+           "t.viewDate, t.genre, t.venue, t.artist, t.performanceTitle) " +
+           "FROM Ticket t WHERE t.user.id = :userId")
+    List<TicketStatisticsFacts> findStatisticsFactsByUserId(@Param("userId") String userId);
 
     /**
-     * 특정 연도의 티켓 개수 조회
-     * PostgreSQL: EXTRACT(YEAR FROM date)
+     * 티켓의 좋아요 수 조회 (비정규화 컬럼)
      */
-    @Query("SELECT COUNT(t) FROM Ticket t WHERE t.user.id = :userId AND EXTRACT(YEAR FROM t.viewDate) = :year")
-    long countByUserAndYear(@Param("userId") String userId, @Param("year") int year);
+    @Query("SELECT t.likeCount FROM Ticket t WHERE t.id = :ticketId")
+    Optional<Long> findLikeCountById(@Param("ticketId") Long ticketId);
 
     /**
-     * 월별 관람 추이 조회
-     * PostgreSQL: EXTRACT(YEAR/MONTH FROM date)
+     * 사용자의 티켓 목록 커서 페이지 조회 (전체 - 본인 조회용)
+     *
+     * (view_date, created_at, id) 행 값 비교로 커서 이후 행부터 읽으므로
+     * idx_tickets_user_seek 인덱스를 그대로 타고, 몇 번째 페이지든 비용이 같습니다.
+     *
+     * @param pageable 크기 지정용 (PageRequest.of(0, size + 1))
      */
-    @Query(value = "SELECT EXTRACT(YEAR FROM t.view_date) as year, EXTRACT(MONTH FROM t.view_date) as month, COUNT(t.id) as count " +
-           "FROM tickets t " +
-           "WHERE t.user_id = :userId AND EXTRACT(YEAR FROM t.view_date) = :year " +
-           "GROUP BY EXTRACT(YEAR FROM t.view_date), EXTRACT(MONTH FROM t.view_date) " +
-           "ORDER BY month", nativeQuery = true)
-    List<Object[]> getMonthlyTrend(@Param("userId") String userId, @Param("year") int year);
+    @Query("SELECT new com.example.record.review.dto.projection.TicketListRow(" +
+           "t.id, t.user.id, t.performanceTitle, t.venue, t.seat, t.artist, t.posterUrl, t.genre, " +
+           "t.viewDate, t.imageUrl, t.isPublic, t.likeCount, t.createdAt, t.updatedAt) " +
+           "FROM Ticket t WHERE t.user.id = :userId " +
+           "AND (t.viewDate, t.createdAt, t.id) < (:viewDate, :createdAt, :id) " +
+           "ORDER BY t.viewDate DESC, t.createdAt DESC, t.id DESC")
+    List<TicketListRow> findPageByUserId(@Param("userId") String userId,
+                                         @Param("viewDate") LocalDate viewDate,
+                                         @Param("createdAt") LocalDateTime createdAt,
+                                         @Param("id") Long id,
+                                         Pageable pageable);
 
     /**
-     * 장르별 통계 조회
-     * PostgreSQL: EXTRACT(YEAR FROM date)
+     * 사용자의 공개 티켓 목록 커서 페이지 조회 (친구 조회용)
      */
-    @Query("SELECT t.genre, COUNT(t) as count FROM Ticket t " +
-           "WHERE t.user.id = :userId AND EXTRACT(YEAR FROM t.viewDate) = :year " +
-           "GROUP BY t.genre ORDER BY count DESC")
-    List<Object[]> getGenreStatistics(@Param("userId") String userId, @Param("year") int year);
+    @Query("SELECT new com.example.record.review.dto.projection.TicketListRow(" +
+           "t.id, t.user.id, t.performanceTitle, t.venue, t.seat, t.artist, t.posterUrl, t.genre, " +
+           "t.viewDate, t.imageUrl, t.isPublic, t.likeCount, t.createdAt, t.updatedAt) " +
+           "FROM Ticket t WHERE t.user.id = :userId AND t.isPublic = true " +
+           "AND (t.viewDate, t.createdAt, t.id) < (:viewDate, :createdAt, :id) " +
+           "ORDER BY t.viewDate DESC, t.createdAt DESC, t.id DESC")
+    List<TicketListRow> findPublicPageByUserId(@Param("userId") String userId,
+                                               @Param("viewDate") LocalDate viewDate,
+                                               @Param("createdAt") LocalDateTime createdAt,
+                                               @Param("id") Long id,
+                                               Pageable pageable);
 
     /**
-     * 공연장별 통계 조회 (TOP N)
-     * PostgreSQL: EXTRACT(YEAR FROM date)
+     * 친구 피드용: 여러 작성자의 공개 티켓을 작성자마다 커서 이후 최대 limit건씩 조회합니다.
+     *
+     * LATERAL 하위 쿼리가 작성자마다 idx_tickets_user_public_created 인덱스를 따로 seek하므로
+     * 결과는 작성자별로 등록 최신순 정렬된 묶음입니다. (묶음 병합은 호출하는 쪽에서)
+     * ID만 반환하며, 목록 컬럼은 findListRowsByIdIn으로 따로 읽습니다.
+     *
+     * @param authorIds 작성자 ID 목록 (비어 있으면 안 됨)
+     * @param limit 작성자당 최대 건수
+     */
+    @Query(value = "SELECT CAST(h.id AS BIGINT) FROM users u CROSS JOIN LATERAL (" +
+           "SELECT t.id, t.created_at FROM tickets t " +
+           "WHERE t.user_id = u.id AND t.is_public = TRUE " +
+           "AND (t.created_at, t.id) < (:createdAt, :id) " +
+           "ORDER BY t.created_at DESC, t.id DESC LIMIT :limit) h " +
+           "WHERE u.id IN (:authorIds)", nativeQuery = true)
+    List<Long> findPublicFeedIdsByAuthors(@Param("authorIds") Collection<String> authorIds,
+                                          @Param("createdAt") LocalDateTime createdAt,
+                                          @Param("id") Long id,
+                                          @Param("limit") int limit);
+
+    /**
+     * 연말 결산용: 기간 내 티켓을 DB 커서로 한 행씩 읽습니다.
+     *
+     * 호출하는 쪽은 트랜잭션 안에서 try-with-resources로 Stream을 닫아야 합니다.
+     * 정렬: 관람일 오름차순, 같은 날은 등록 최신순 (첫/마지막 티켓 판단 기준)
+     *
+     * @param userId 사용자 ID
+     * @param from 시작일 (포함)
+     * @param to 종료일 (포함)
+     * @return 연말 결산 프로젝션 스트림
      */
-    @Query("SELECT t.venue, COUNT(t) as count FROM Ticket t " +
-           "WHERE t.user.id = :userId AND EXTRACT(YEAR FROM t.viewDate) = :year AND t.venue IS NOT NULL " +
-           "GROUP BY t.venue ORDER BY count DESC")
-    List<Object[]> getVenueStatistics(@Param("userId") String userId, @Param("year") int year);
+    @QueryHints({
+            @QueryHint(name = HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT new com.example.record.review.dto.projection.TicketYearInReviewRow(" +
+           "t.id, t.viewDate, t.genre, t.venue, t.artist, t.performanceTitle, t.imageUrl, " +
+           "LENGTH(t.reviewText), SUBSTRING(t.reviewText, 1, 50)) " +
+           "FROM Ticket t WHERE t.user.id = :userId AND t.viewDate BETWEEN :from AND :to " +
+           "ORDER BY t.viewDate ASC, t.createdAt DESC")
+    Stream<TicketYearInReviewRow> streamYearInReviewRows(@Param("userId") String userId,
+                                                         @Param("from") LocalDate from,
+                                                         @Param("to") LocalDate to);
 
     /**
-     * 작품별 통계 조회 (TOP N)
-     * PostgreSQL: EXTRACT(YEAR FROM date)
+     * 기록 내보내기용: 사용자의 전체 티켓을 DB 커서로 한 행씩 읽습니다. (관람일, ID 오름차순)
+     *
+     * 호출하는 쪽은 트랜잭션 안에서 try-with-resources로 Stream을 닫아야 합니다.
      */
-    @Query("SELECT t.performanceTitle, COUNT(t) as count FROM Ticket t " +
-           "WHERE t.user.id = :userId AND EXTRACT(YEAR FROM t.viewDate) = :year " +
-           "GROUP BY t.performanceTitle ORDER BY count DESC")
-    List<Object[]> getPerformanceStatistics(@Param("userId") String userId, @Param("year") int year);
+    @QueryHints({
+            @QueryHint(name = HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT new com.example.record.review.dto.projection.TicketExportRow(" +
+           "t.id, t.performanceTitle, t.venue, t.seat, t.artist, t.genre, t.viewDate, " +
+           "t.posterUrl, t.imageUrl, t.reviewText, t.isPublic, t.createdAt, t.updatedAt) " +
+           "FROM Ticket t WHERE t.user.id = :userId ORDER BY t.viewDate ASC, t.id ASC")
+    Stream<TicketExportRow> streamExportRows(@Param("userId") String userId);
 
     /**
-     * 아티스트별 통계 조회 (TOP N)
-     * PostgreSQL: EXTRACT(YEAR FROM date)
+     * 키워드 검색 (관련도 순, 페이지네이션)
+     *
+     * - search_vector @@ tsquery: 단어/접두사 일치 (제목/공연장/아티스트/후기)
+     * - :keyword <% search_text: 삼중자 단어 유사도 (오타, 부분 일치 허용)
+     * 두 조건 모두 (user_id, ...) GIN 인덱스를 사용하며 BitmapOr로 합쳐집니다.
+     * 정렬: ts_rank와 word_similarity 중 큰 값 내림차순
+     * PostgreSQL: pg_trgm, btree_gin 확장 필요 (schema.sql, 없으면 시작 시 TicketSearchColumns가 생성)
+     *
+     * 순위가 매겨진 ID만 반환하며, 목록 컬럼은 findListRowsByIdIn으로 따로 읽습니다.
+     * (tickets.id는 SERIAL(int4)이므로 Long으로 받기 위해 BIGINT로 변환)
+     *
+     * @param keyword 원본 검색어 (유사도 계산용)
+     * @param tsQuery to_tsquery 형식 검색어 (예: "레미제라블:* & 블루스퀘어:*")
      */
-    @Query("SELECT t.artist, COUNT(t) as count FROM Ticket t " +
-           "WHERE t.user.id = :userId AND EXTRACT(YEAR FROM t.viewDate) = :year AND t.artist IS NOT NULL " +
-           "GROUP BY t.artist ORDER BY count DESC")
-    List<Object[]> getArtistStatistics(@Param("userId") String userId, @Param("year") int year);
+    @Query(value = "SELECT CAST(t.id AS BIGINT) FROM tickets t " +
+           "WHERE t.user_id = :userId " +
+           "AND (t.search_vector @@ to_tsquery('simple', :tsQuery) OR :keyword <% t.search_text) " +
+           "ORDER BY GREATEST(ts_rank(t.search_vector, to_tsquery('simple', :tsQuery)), " +
+           "word_similarity(:keyword, t.search_text)) DESC, t.id DESC",
+           countQuery = "SELECT COUNT(*) FROM tickets t " +
+           "WHERE t.user_id = :userId " +
+           "AND (t.search_vector @@ to_tsquery('simple', :tsQuery) OR :keyword <% t.search_text)",
+           nativeQuery = true)
+    Page<Long> searchIdsByKeyword(@Param("userId") String userId,
+                                  @Param("keyword") String keyword,
+                                  @Param("tsQuery") String tsQuery,
+                                  Pageable pageable);
 
     /**
-     * 요일별 통계 조회
-     * PostgreSQL: EXTRACT(DOW FROM date) - 0(일요일)~6(토요일)
+     * 여러 사용자가 관람한 아티스트 목록 (친구 추천의 공통 아티스트 계산용)
+     *
+     * @param userIds 사용자 ID 목록 (비어 있으면 안 됨)
+     * @return 사용자·아티스트 조합 (중복 없음)
      */
-    @Query(value = "SELECT EXTRACT(DOW FROM t.view_date) as dayOfWeek, COUNT(t.id) as count FROM tickets t " +
-           "WHERE t.user_id = :userId AND EXTRACT(YEAR FROM t.view_date) = :year " +
-           "GROUP BY EXTRACT(DOW FROM t.view_date)", nativeQuery = true)
-    List<Object[]> getDayOfWeekStatistics(@Param("userId") String userId, @Param("year") int year);
-}
\ No newline at end of file
+    @Query("SELECT DISTINCT new com.example.record.review.dto.projection.UserArtist(t.user.id, t.artist) " +
+           "FROM Ticket t WHERE t.user.id IN :userIds AND t.artist IS NOT NULL")
+    List<UserArtist> findArtistsByUserIdIn(@Param("userIds") Collection<String> userIds);
+}
@@ -0,0 +1,117 @@
+package com.example.record.review.repository;
+
+import com.example.record.review.dto.request.TicketSearchRequest;
+import com.example.record.review.entity.Ticket;
+import jakarta.persistence.criteria.Predicate;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 티켓 고급 검색 조건 (JPA Specification)
+ *
+ * 왜 JPQL 하나 대신 Specification을 쓰나요?
+ * - (:x IS NULL OR ...) 형태의 조건은 어떤 값이 들어올지 모르는 범용 실행 계획 하나로 묶여 인덱스를 못 탑니다.
+ * - 요청에 실제로 들어온 조건과 정렬 하나만 SQL에 넣으면, 조건 조합(shape)마다 SQL이 고정되어
+ *   PostgreSQL이 shape별로 인덱스를 쓰는 계획을 캐시할 수 있습니다.
+ *
+ * 조건 순서는 항상 같습니다: user_id → 관람일 범위 → 장르 → 공연장 → 아티스트 → 제목
+ * (커서 페이지의 seek 조건은 search(...).and(after(...))로 맨 뒤에 붙습니다.)
+ */
+public final class TicketSpecifications {
+
+    private static final char LIKE_ESCAPE = '\\';
+
+    private TicketSpecifications() {
+    }
+
+    /**
+     * 검색 요청에서 값이 있는 조건만 포함한 Specification
+     */
+    public static Specification<Ticket> search(String userId, TicketSearchRequest request) {
+        return (root, query, cb) -> {
+            List<Predicate> predicates = new ArrayList<>();
+            predicates.add(cb.equal(root.get("user").get("id"), userId));
+            if (request.getStartDate() != null) {
+                predicates.add(cb.greaterThanOrEqualTo(root.get("viewDate"), request.getStartDate()));
+            }
+            if (request.getEndDate() != null) {
+                predicates.add(cb.lessThanOrEqualTo(root.get("viewDate"), request.getEndDate()));
+            }
+            if (request.getGenre() != null) {
+                predicates.add(cb.equal(root.get("genre"), request.getGenre()));
+            }
+            if (request.getVenue() != null) {
+                predicates.add(cb.like(root.get("venue"), contains(request.getVenue()), LIKE_ESCAPE));
+            }
+            if (request.getArtist() != null) {
+                predicates.add(cb.like(root.get("artist"), contains(request.getArtist()), LIKE_ESCAPE));
+            }
+            if (request.getPerformanceTitle() != null) {
+                predicates.add(cb.like(root.get("performanceTitle"), contains(request.getPerformanceTitle()), LIKE_ESCAPE));
+            }
+            return cb.and(predicates.toArray(new Predicate[0]));
+        };
+    }
+
+    /**
+     * 커서 이후 행 조건 (관람일 최신순 기준)
+     *
+     * (view_date, created_at, id) < (커서) 를 풀어 쓴 조건에 view_date <= 커서 범위를 함께 걸어
+     * idx_tickets_user_seek 인덱스 범위 검색이 되도록 합니다.
+     */
+    public static Specification<Ticket> after(LocalDate viewDate, LocalDateTime createdAt, Long id) {
+        return (root, query, cb) -> cb.and(
+                cb.lessThanOrEqualTo(root.get("viewDate"), viewDate),
+                cb.or(
+                        cb.lessThan(root.get("viewDate"), viewDate),
+                        cb.and(
+                                cb.equal(root.get("viewDate"), viewDate),
+                                cb.or(
+                                        cb.lessThan(root.get("createdAt"), createdAt),
+                                        cb.and(
+                                                cb.equal(root.get("createdAt"), createdAt),
+                                                cb.lessThan(root.get("id"), id))))));
+    }
+
+    /**
+     * 기본 정렬: 관람일 최신순 (목록/커서 페이지와 동일)
+     */
+    public static Sort newestFirst() {
+        return Sort.by(Sort.Order.desc("viewDate"), Sort.Order.desc("createdAt"), Sort.Order.desc("id"));
+    }
+
+    /**
+     * 검색 요청의 정렬 조건 (기존 동작과 동일)
+     *
+     * - viewDate ASC / DESC: 관람일 기준
+     * - createdAt ASC: 등록일 오래된 순
+     * - 그 외 (기본값 포함): 관람일 최신순
+     */
+    public static Sort sort(TicketSearchRequest request) {
+        String sortBy = request.getSortBy() != null ? request.getSortBy() : "createdAt";
+        boolean ascending = "ASC".equals(request.getSortDirection());
+
+        if ("viewDate".equals(sortBy)) {
+            return ascending
+                    ? Sort.by(Sort.Order.asc("viewDate"), Sort.Order.asc("id"))
+                    : Sort.by(Sort.Order.desc("viewDate"), Sort.Order.desc("id"));
+        }
+        if ("createdAt".equals(sortBy) && ascending) {
+            return Sort.by(Sort.Order.asc("createdAt"), Sort.Order.asc("id"));
+        }
+        return newestFirst();
+    }
+
+    private static String contains(String value) {
+        String escaped = value
+                .replace("\\", "\\\\")
+                .replace("%", "\\%")
+                .replace("_", "\\_");
+        return "%" + escaped + "%";
+    }
+}
@@ -0,0 +1,23 @@
+package com.example.record.review.repository;
+
+import com.example.record.review.dto.projection.TicketStatisticsCell;
+import com.example.record.review.dto.request.TicketStatisticsCompareRequest;
+
+import java.util.List;
+
+/**
+ * 여러 기간의 티켓 통계를 한 번에 집계하는 레포지토리 조각 (TicketRepository에 합쳐짐)
+ *
+ * 기간 수만큼 VALUES 행이 달라지므로 @Query 대신 SQL을 직접 만듭니다.
+ */
+public interface TicketStatisticsQueryRepository {
+
+    /**
+     * 기간별 × 차원별(총계/월/요일/장르/공연장/아티스트/작품) 관람 수를 SQL 한 문장으로 조회
+     *
+     * @param userId 사용자 ID
+     * @param periods 기간 목록 (startDate, endDate 모두 포함, 비어 있으면 안 됨)
+     * @return 집계 행 (공연장/아티스트가 없는 티켓은 해당 차원에서 제외)
+     */
+    List<TicketStatisticsCell> findPeriodStatistics(String userId, List<TicketStatisticsCompareRequest.Period> periods);
+}
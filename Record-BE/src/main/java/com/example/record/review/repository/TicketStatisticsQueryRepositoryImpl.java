@@ -0,0 +1,83 @@
+package com.example.record.review.repository;
+
+import com.example.record.review.dto.projection.TicketStatisticsCell;
+import com.example.record.review.dto.request.TicketStatisticsCompareRequest;
+import com.example.record.review.entity.TicketStatisticsRollup.Dimension;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Query;
+import jakarta.persistence.Tuple;
+
+import java.util.List;
+
+/**
+ * TicketStatisticsQueryRepository 구현 (PostgreSQL GROUPING SETS)
+ *
+ * 1. periods: 요청 기간을 VALUES로 만든 뒤
+ * 2. facts: 기간마다 idx_tickets_user_seek 인덱스로 [from, to) 범위만 읽고
+ * 3. GROUPING SETS로 (기간) / (기간, 월) / (기간, 요일) / (기간, 장르) ... 를 한 번에 집계합니다.
+ *
+ * 기간이 겹치면 같은 티켓이 각 기간에 모두 집계됩니다.
+ */
+class TicketStatisticsQueryRepositoryImpl implements TicketStatisticsQueryRepository {
+
+    private static final String QUERY =
+            "WITH periods(idx, from_date, to_date) AS (VALUES %s), " +
+            "facts AS (" +
+            "SELECT p.idx, t.genre, t.venue, t.artist, t.performance_title, " +
+            "TO_CHAR(t.view_date, 'YYYY-MM') AS month, " +
+            "CAST(CAST(EXTRACT(DOW FROM t.view_date) AS INTEGER) AS VARCHAR) AS dow " +
+            "FROM periods p JOIN tickets t ON t.user_id = :userId " +
+            "AND t.view_date >= p.from_date AND t.view_date < p.to_date) " +
+            "SELECT f.idx AS period_index, " +
+            "CASE WHEN GROUPING(f.month) = 0 THEN 'MONTH' " +
+            "WHEN GROUPING(f.dow) = 0 THEN 'DAY_OF_WEEK' " +
+            "WHEN GROUPING(f.genre) = 0 THEN 'GENRE' " +
+            "WHEN GROUPING(f.venue) = 0 THEN 'VENUE' " +
+            "WHEN GROUPING(f.artist) = 0 THEN 'ARTIST' " +
+            "WHEN GROUPING(f.performance_title) = 0 THEN 'PERFORMANCE' " +
+            "ELSE 'TOTAL' END AS dimension, " +
+            // 집합에 없는 컬럼은 NULL이므로 COALESCE 결과가 곧 그 집합의 키 (장르 없음 → '')
+            "COALESCE(f.month, f.dow, f.genre, f.venue, f.artist, f.performance_title, '') AS dim_key, " +
+            "COUNT(*) AS visit_count " +
+            "FROM facts f " +
+            "GROUP BY GROUPING SETS ((f.idx), (f.idx, f.month), (f.idx, f.dow), (f.idx, f.genre), " +
+            "(f.idx, f.venue), (f.idx, f.artist), (f.idx, f.performance_title)) " +
+            "HAVING (GROUPING(f.venue) = 1 OR f.venue IS NOT NULL) " +
+            "AND (GROUPING(f.artist) = 1 OR f.artist IS NOT NULL)";
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public List<TicketStatisticsCell> findPeriodStatistics(String userId,
+                                                           List<TicketStatisticsCompareRequest.Period> periods) {
+        StringBuilder values = new StringBuilder();
+        for (int i = 0; i < periods.size(); i++) {
+            if (i > 0) {
+                values.append(", ");
+            }
+            values.append("(").append(i)
+                    .append(", CAST(:from").append(i).append(" AS DATE)")
+                    .append(", CAST(:to").append(i).append(" AS DATE))");
+        }
+
+        Query query = entityManager.createNativeQuery(String.format(QUERY, values), Tuple.class)
+                .setParameter("userId", userId);
+        for (int i = 0; i < periods.size(); i++) {
+            TicketStatisticsCompareRequest.Period period = periods.get(i);
+            query.setParameter("from" + i, period.getStartDate());
+            query.setParameter("to" + i, period.getEndDate().plusDays(1));
+        }
+
+        @SuppressWarnings("unchecked")
+        List<Tuple> rows = query.getResultList();
+        return rows.stream()
+                .map(row -> new TicketStatisticsCell(
+                        ((Number) row.get("period_index")).intValue(),
+                        Dimension.valueOf((String) row.get("dimension")),
+                        (String) row.get("dim_key"),
+                        ((Number) row.get("visit_count")).longValue()))
+                .toList();
+    }
+}
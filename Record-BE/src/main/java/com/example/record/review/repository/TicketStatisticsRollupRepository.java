@@ -0,0 +1,57 @@
+package com.example.record.review.repository;
+
+import com.example.record.review.entity.TicketStatisticsRollup;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * 티켓 통계 집계 레포지토리
+ *
+ * 역할: 사용자별·연도별 통계 집계 행을 조회하고 증감합니다.
+ */
+public interface TicketStatisticsRollupRepository extends JpaRepository<TicketStatisticsRollup, Long> {
+
+    /**
+     * 특정 사용자의 여러 연도 집계 행을 한 번에 조회합니다.
+     * (user_id, stat_year, ...) 유니크 인덱스를 그대로 사용합니다.
+     *
+     * @param userId 사용자 ID
+     * @param years 조회할 연도 목록 (마커 확인용 0 포함 가능)
+     * @return 집계 행 목록
+     */
+    List<TicketStatisticsRollup> findByUserIdAndStatYearIn(String userId, Collection<Integer> years);
+
+    /**
+     * 집계 행을 원자적으로 증감합니다. (없으면 생성)
+     * PostgreSQL: INSERT ... ON CONFLICT DO UPDATE
+     */
+    @Modifying
+    @Query(value = "INSERT INTO ticket_statistics_rollup (user_id, stat_year, dimension, dim_key, visit_count) " +
+           "VALUES (:userId, :year, :dimension, :dimKey, :delta) " +
+           "ON CONFLICT (user_id, stat_year, dimension, dim_key) " +
+           "DO UPDATE SET visit_count = ticket_statistics_rollup.visit_count + EXCLUDED.visit_count", nativeQuery = true)
+    void upsert(@Param("userId") String userId,
+                @Param("year") int year,
+                @Param("dimension") String dimension,
+                @Param("dimKey") String dimKey,
+                @Param("delta") long delta);
+
+    /**
+     * 특정 사용자의 집계 행을 모두 삭제합니다. (재집계 시 사용)
+     */
+    @Modifying
+    @Query("DELETE FROM TicketStatisticsRollup r WHERE r.userId = :userId")
+    void deleteByUserId(@Param("userId") String userId);
+
+    /**
+     * 같은 사용자의 집계 갱신을 트랜잭션 단위로 직렬화합니다.
+     * PostgreSQL: pg_advisory_xact_lock (트랜잭션 종료 시 자동 해제)
+     */
+    @Query(value = "SELECT 1 FROM pg_advisory_xact_lock(hashtext(:userId))", nativeQuery = true)
+    int lockUser(@Param("userId") String userId);
+}
@@ -0,0 +1,51 @@
+package com.example.record.review.service;
+
+import com.example.record.review.dto.projection.TicketListRow;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * 친구 피드 커서 (keyset 페이지네이션)
+ *
+ * 피드 정렬 순서 (created_at DESC, id DESC)의 마지막 행 값을 담습니다.
+ * 받은편지함과 작성자별 직접 조회가 같은 커서를 쓰므로, 병합 결과도 페이지 사이에 빠지거나 겹치지 않습니다.
+ */
+record FeedCursor(LocalDateTime createdAt, Long id) {
+
+    static final FeedCursor FIRST = new FeedCursor(LocalDateTime.of(9999, 12, 31, 23, 59, 59), Long.MAX_VALUE);
+
+    private static final String SEPARATOR = "|";
+
+    static FeedCursor of(TicketListRow row) {
+        return new FeedCursor(row.createdAt(), row.id());
+    }
+
+    /**
+     * 커서 문자열 해석 (null 또는 빈 문자열이면 첫 페이지)
+     *
+     * @throws IllegalArgumentException 형식이 잘못된 경우
+     */
+    static FeedCursor decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return FIRST;
+        }
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            String[] parts = raw.split("\\" + SEPARATOR);
+            if (parts.length != 2) {
+                throw new IllegalArgumentException("잘못된 커서입니다.");
+            }
+            return new FeedCursor(LocalDateTime.parse(parts[0]), Long.parseLong(parts[1]));
+        } catch (DateTimeParseException | IllegalArgumentException e) {
+            throw new IllegalArgumentException("잘못된 커서입니다.", e);
+        }
+    }
+
+    String encode() {
+        String raw = createdAt + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,210 @@
+package com.example.record.review.service;
+
+import com.example.record.review.repository.FeedInboxRepository;
+import com.example.record.review.repository.FeedPullAuthorRepository;
+import com.example.record.user.FriendshipRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 친구 피드 fan-out 서비스
+ *
+ * 역할:
+ * 1. 공개 티켓이 커밋되면 작성자의 친구 받은편지함(feed_inbox)에 비동기로 넣음 (INSERT ... SELECT 한 문장,
+ *    일괄 등록한 티켓들도 한 문장으로)
+ * 2. 친구가 app.feed.fanout-max-friends명보다 많은 작성자는 넣지 않고 fan-out 제외 작성자로 지정
+ *    (이 작성자의 글은 피드 조회 시 FeedService가 직접 읽어 병합)
+ * 3. 친구 수락 시 서로의 최근 글을 받은편지함에 채우고, 친구 삭제 시 서로의 글을 지움
+ * 4. 보관 기간(app.feed.inbox-retention-days)이 지난 받은편지함 행을 매일 정리
+ *
+ * 비동기 작업은 전용 스레드 풀에서 실행합니다.
+ * 대기열이 가득 차면 호출한 스레드에서 바로 실행해, 작업을 버리지 않고 요청 쪽 속도를 늦춥니다.
+ */
+@Slf4j
+@Service
+public class FeedFanoutService {
+
+    private final FeedInboxRepository feedInboxRepository;
+    private final FeedPullAuthorRepository feedPullAuthorRepository;
+    private final FriendshipRepository friendshipRepository;
+    private final TransactionTemplate fanoutTransaction;
+    private final ThreadPoolExecutor executor;
+    private final long maxFriends;
+    private final int backfillLimit;
+    private final int retentionDays;
+
+    public FeedFanoutService(FeedInboxRepository feedInboxRepository,
+                             FeedPullAuthorRepository feedPullAuthorRepository,
+                             FriendshipRepository friendshipRepository,
+                             PlatformTransactionManager transactionManager,
+                             @Value("${app.feed.fanout-max-friends:500}") long maxFriends,
+                             @Value("${app.feed.fanout-threads:2}") int threads,
+                             @Value("${app.feed.fanout-queue-capacity:10000}") int queueCapacity,
+                             @Value("${app.feed.backfill-limit:50}") int backfillLimit,
+                             @Value("${app.feed.inbox-retention-days:180}") int retentionDays) {
+        this.feedInboxRepository = feedInboxRepository;
+        this.feedPullAuthorRepository = feedPullAuthorRepository;
+        this.friendshipRepository = friendshipRepository;
+        // 대기열이 가득 차 afterCommit 안(호출 스레드)에서 실행될 때도 새 트랜잭션을 열도록 REQUIRES_NEW
+        this.fanoutTransaction = new TransactionTemplate(transactionManager);
+        this.fanoutTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.maxFriends = maxFriends;
+        this.backfillLimit = backfillLimit;
+        this.retentionDays = retentionDays;
+
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(threads, threads, 60L, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "feed-fanout-" + threadNumber.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.CallerRunsPolicy());
+    }
+
+    /**
+     * 현재 트랜잭션이 커밋된 뒤 티켓을 친구 받은편지함에 넣습니다. (트랜잭션 밖이면 즉시 예약)
+     *
+     * 비공개 티켓이면 fan-out 쿼리가 아무 행도 넣지 않으므로, 호출하는 쪽은 공개 여부만 대략 걸러 주면 됩니다.
+     *
+     * @param ticketId 티켓 ID
+     * @param authorId 작성자 ID
+     */
+    public void publishAfterCommit(Long ticketId, String authorId) {
+        afterCommit(() -> fanOut(ticketId, authorId));
+    }
+
+    /**
+     * 현재 트랜잭션이 커밋된 뒤 같은 작성자의 티켓 여러 개를 친구 받은편지함에 넣습니다. (일괄 등록)
+     *
+     * @param ticketIds 공개 티켓 ID 목록 (비어 있으면 아무것도 하지 않음)
+     * @param authorId 작성자 ID
+     */
+    public void publishAllAfterCommit(List<Long> ticketIds, String authorId) {
+        if (ticketIds.isEmpty()) {
+            return;
+        }
+        List<Long> ids = List.copyOf(ticketIds);
+        afterCommit(() -> fanOutAll(ids, authorId));
+    }
+
+    /**
+     * 현재 트랜잭션이 커밋된 뒤 새 친구 두 사람의 받은편지함에 서로의 최근 공개 글을 채웁니다.
+     */
+    public void friendAddedAfterCommit(String userId, String friendId) {
+        afterCommit(() -> {
+            backfill(userId, friendId);
+            backfill(friendId, userId);
+        });
+    }
+
+    /**
+     * 두 사용자의 받은편지함에서 서로의 글을 지웁니다. (친구 삭제와 같은 트랜잭션)
+     */
+    public void removeFriendPosts(String userId, String friendId) {
+        int deleted = feedInboxRepository.deleteBetween(userId, friendId);
+        log.debug("피드 받은편지함 정리: userId={}, friendId={}, deleted={}", userId, friendId, deleted);
+    }
+
+    /**
+     * 보관 기간이 지난 받은편지함 행 정리 (매일)
+     */
+    @Scheduled(cron = "${app.feed.trim-cron:0 30 4 * * *}")
+    public void trimInboxes() {
+        LocalDateTime cutoff = LocalDateTime.now().minusDays(retentionDays);
+        Integer deleted = fanoutTransaction.execute(status -> feedInboxRepository.deleteOlderThan(cutoff));
+        log.info("피드 받은편지함 보관 기간 정리: cutoff={}, deleted={}", cutoff, deleted);
+    }
+
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        executor.shutdown();
+        if (!executor.awaitTermination(10, TimeUnit.SECONDS)) {
+            log.warn("피드 fan-out 작업이 종료 대기 시간 안에 끝나지 않았습니다: queued={}", executor.getQueue().size());
+        }
+    }
+
+    private void fanOut(Long ticketId, String authorId) {
+        fanoutTransaction.executeWithoutResult(status -> {
+            if (!pushesToInboxes(authorId)) {
+                return;
+            }
+            int inserted = feedInboxRepository.fanOut(ticketId);
+            log.debug("피드 fan-out 완료: ticketId={}, authorId={}, inserted={}", ticketId, authorId, inserted);
+        });
+    }
+
+    private void fanOutAll(List<Long> ticketIds, String authorId) {
+        fanoutTransaction.executeWithoutResult(status -> {
+            if (!pushesToInboxes(authorId)) {
+                return;
+            }
+            int inserted = feedInboxRepository.fanOutAll(ticketIds);
+            log.debug("피드 일괄 fan-out 완료: tickets={}, authorId={}, inserted={}", ticketIds.size(), authorId, inserted);
+        });
+    }
+
+    /**
+     * 받은편지함에 넣을 작성자인지 확인합니다. (친구가 너무 많으면 여기서 fan-out 제외 작성자로 지정)
+     */
+    private boolean pushesToInboxes(String authorId) {
+        if (feedPullAuthorRepository.existsById(authorId)) {
+            return false;
+        }
+        long friendCount = friendshipRepository.countAcceptedByUserId(authorId);
+        if (friendCount > maxFriends) {
+            feedPullAuthorRepository.mark(authorId);
+            log.info("피드 fan-out 제외 작성자 지정: userId={}, friendCount={}", authorId, friendCount);
+            return false;
+        }
+        return true;
+    }
+
+    private void backfill(String ownerId, String authorId) {
+        fanoutTransaction.executeWithoutResult(status -> {
+            // fan-out 제외 작성자의 글은 피드 조회 시 직접 읽으므로 채우지 않음
+            if (!feedPullAuthorRepository.existsById(authorId)) {
+                feedInboxRepository.backfill(ownerId, authorId, backfillLimit);
+            }
+        });
+    }
+
+    private void afterCommit(Runnable task) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    submit(task);
+                }
+            });
+        } else {
+            submit(task);
+        }
+    }
+
+    private void submit(Runnable task) {
+        executor.execute(() -> {
+            try {
+                task.run();
+            } catch (RuntimeException e) {
+                log.error("피드 fan-out 작업 실패", e);
+            }
+        });
+    }
+}
@@ -0,0 +1,142 @@
+package com.example.record.review.service;
+
+import com.example.record.review.dto.projection.TicketListRow;
+import com.example.record.review.dto.response.TicketPageResponse;
+import com.example.record.review.repository.FeedInboxRepository;
+import com.example.record.review.repository.FeedPullAuthorRepository;
+import com.example.record.review.repository.TicketRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.*;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 친구 피드 서비스
+ *
+ * 친구들의 공개 티켓을 등록 최신순으로 커서 페이지 조회합니다.
+ *
+ * 조회 순서:
+ * 1. 내 받은편지함(feed_inbox)에서 커서 이후 size + 1건 (인덱스 seek 한 번)
+ * 2. 친구 중 fan-out 제외 작성자(친구가 많은 사용자)가 있으면 작성자마다 커서 이후 size + 1건 (LATERAL seek, 쿼리 한 번)
+ * 3. 정렬된 묶음들을 k-way 병합해 size + 1건을 고름 (중복 티켓은 한 번만)
+ *
+ * 친구 수와 관계없이 쿼리 수와 읽는 행 수가 페이지 크기에 비례합니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class FeedService {
+
+    /** 피드 정렬: 등록 최신순, 같은 시각이면 ID 내림차순 */
+    static final Comparator<TicketListRow> NEWEST_FIRST =
+            Comparator.comparing(TicketListRow::createdAt).thenComparing(TicketListRow::id).reversed();
+
+    private final FeedInboxRepository feedInboxRepository;
+    private final FeedPullAuthorRepository feedPullAuthorRepository;
+    private final TicketRepository ticketRepository;
+    private final TicketService ticketService;
+
+    /**
+     * 친구 피드 커서 페이지 조회
+     *
+     * @param userId 조회하는 사용자 ID
+     * @param cursor 이전 페이지의 nextCursor (첫 페이지는 null)
+     * @param size 페이지 크기
+     * @throws IllegalArgumentException 커서 형식이나 페이지 크기가 잘못된 경우
+     */
+    @Transactional(readOnly = true)
+    public TicketPageResponse getFeedPage(String userId, String cursor, int size) {
+        FeedCursor after = FeedCursor.decode(cursor);
+        int limit = size + 1;
+
+        List<List<TicketListRow>> runs = new ArrayList<>();
+        runs.add(feedInboxRepository.findPage(userId, after.createdAt(), after.id(), TicketService.pageOf(size)));
+
+        List<String> pullAuthorIds = feedPullAuthorRepository.findPullFriendIds(userId);
+        if (!pullAuthorIds.isEmpty()) {
+            runs.addAll(pullRuns(pullAuthorIds, after, limit));
+        }
+
+        List<TicketListRow> merged = mergeNewestFirst(runs, limit);
+        boolean hasNext = merged.size() > size;
+        List<TicketListRow> page = hasNext ? merged.subList(0, size) : merged;
+        return TicketPageResponse.builder()
+                .items(ticketService.toResponses(page, userId))
+                .nextCursor(hasNext ? FeedCursor.of(page.get(page.size() - 1)).encode() : null)
+                .hasNext(hasNext)
+                .build();
+    }
+
+    /**
+     * fan-out 제외 작성자별 공개 티켓 묶음 (각 묶음은 등록 최신순)
+     */
+    private List<List<TicketListRow>> pullRuns(List<String> authorIds, FeedCursor after, int limit) {
+        List<Long> ids = ticketRepository.findPublicFeedIdsByAuthors(authorIds, after.createdAt(), after.id(), limit);
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        Map<Long, TicketListRow> rows = ticketRepository.findListRowsByIdIn(ids).stream()
+                .collect(Collectors.toMap(TicketListRow::id, Function.identity()));
+
+        // ID 목록은 작성자별 seek 순서 그대로이므로, 작성자별로 나누기만 하면 각 묶음이 정렬되어 있음
+        Map<String, List<TicketListRow>> byAuthor = new LinkedHashMap<>();
+        for (Long id : ids) {
+            TicketListRow row = rows.get(id);
+            if (row != null) {
+                byAuthor.computeIfAbsent(row.userId(), author -> new ArrayList<>()).add(row);
+            }
+        }
+        return new ArrayList<>(byAuthor.values());
+    }
+
+    /**
+     * 등록 최신순으로 정렬된 묶음들을 병합해 앞에서부터 최대 limit건을 반환합니다. (k-way 병합)
+     *
+     * 같은 티켓이 여러 묶음에 있으면 한 번만 포함합니다.
+     * (fan-out 제외로 지정되기 전에 받은편지함에 들어간 글)
+     */
+    static List<TicketListRow> mergeNewestFirst(List<List<TicketListRow>> runs, int limit) {
+        PriorityQueue<RunCursor> heads = new PriorityQueue<>(Math.max(1, runs.size()),
+                (a, b) -> NEWEST_FIRST.compare(a.head(), b.head()));
+        for (List<TicketListRow> run : runs) {
+            if (!run.isEmpty()) {
+                heads.add(new RunCursor(run));
+            }
+        }
+
+        List<TicketListRow> merged = new ArrayList<>(limit);
+        Set<Long> seen = new HashSet<>();
+        while (merged.size() < limit && !heads.isEmpty()) {
+            RunCursor cursor = heads.poll();
+            TicketListRow row = cursor.head();
+            if (seen.add(row.id())) {
+                merged.add(row);
+            }
+            if (cursor.advance()) {
+                heads.add(cursor);
+            }
+        }
+        return merged;
+    }
+
+    private static final class RunCursor {
+        private final List<TicketListRow> rows;
+        private int position;
+
+        RunCursor(List<TicketListRow> rows) {
+            this.rows = rows;
+        }
+
+        TicketListRow head() {
+            return rows.get(position);
+        }
+
+        boolean advance() {
+            return ++position < rows.size();
+        }
+    }
+}
@@ -1,5 +1,6 @@
 package com.example.record.review.service;
 
+import com.example.record.auth.security.AuthPrincipalCache;
 import com.example.record.promptcontrol_w03.service.OpenAIChatService;
 import com.example.record.review.entity.QuestionTemplate;
 import com.example.record.review.entity.Review;
@@ -38,6 +39,7 @@ public class ReviewQuestionService {
     private final ReviewRepository reviewRepository;
     private final UserRepository userRepository;
     private final OpenAIChatService openAIChatService;
+    private final AuthPrincipalCache authPrincipalCache;
 
     /**
      * 사용자에게 표시할 질문들을 가져옵니다.
@@ -200,6 +202,7 @@ public class ReviewQuestionService {
                 .orElseThrow(() -> new RuntimeException("사용자를 찾을 수 없습니다: " + userId));
         user.setFavorite(favoriteKeywords);
         userRepository.save(user);
+        authPrincipalCache.invalidateAfterCommit(userId);
         
         log.info("사용자 {}의 선호 키워드 업데이트: {}", userId, favoriteKeywords);
         
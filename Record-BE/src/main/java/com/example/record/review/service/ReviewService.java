@@ -11,12 +11,12 @@ import com.example.record.review.entity.Ticket;
 import com.example.record.review.repository.QuestionTemplateRepository;
 import com.example.record.review.repository.ReviewRepository;
 import com.example.record.review.repository.TicketRepository;
-import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 @Slf4j
 @Service
@@ -97,18 +97,11 @@ public class ReviewService {
      * - findByTicket_UserId → findByTicket_User_Id로 변경
      * - 이유: Ticket 엔티티에서 userId(String) → user(User 객체)로 변경했기 때문
      * - JPA는 객체 관계를 통해 쿼리를 생성하므로, user.id로 접근해야 합니다.
+     * - 리뷰/티켓 엔티티 대신 응답 DTO를 바로 조회합니다. (티켓 지연 로딩 N+1 없음, 최신 리뷰 순)
      */
+    @Transactional(readOnly = true)
     public Page<ReviewListItemResponse> getMyReviews(String userId, Pageable pageable) {
-        return reviewRepository.findByTicket_User_Id(userId, pageable)
-                .map(r -> ReviewListItemResponse.builder()
-                        .reviewId(r.getId())
-                        .ticketId(r.getTicket().getId())
-                        .summary(r.getSummary())
-                        .keywords(r.getKeywords())
-                        .ticketImageUrl(r.getTicket().getImageUrl())
-                        .performanceTitle(r.getTicket().getPerformanceTitle())
-                        .createdAt(r.getCreatedAt())
-                        .build());
+        return reviewRepository.findListItemsByUserId(userId, pageable);
     }
 
     @Transactional
@@ -0,0 +1,57 @@
+package com.example.record.review.service;
+
+import com.example.record.review.entity.GeneratedImageUrl;
+import com.example.record.review.entity.Review;
+import com.example.record.review.entity.Ticket;
+import jakarta.persistence.SequenceGenerator;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * 시퀀스 증가폭 확인 (JPA pooled ID 할당)
+ *
+ * Ticket/Review/GeneratedImageUrl은 시퀀스에서 allocationSize(50)개씩 ID를 미리 받아 INSERT를 배치로 보냅니다.
+ * DB 시퀀스의 INCREMENT가 다르면 increment_size_mismatch_strategy(fix)가 DB 값에 맞추므로,
+ * schema.sql의 ALTER SEQUENCE ... INCREMENT BY 50이 실행되지 않은 DB에서는 행마다 nextval을 호출하게 됩니다.
+ * 오류 없이 느려지기만 하므로 시작 시 확인해 경고를 남깁니다.
+ */
+@Slf4j
+@Component
+public class SequenceIncrementCheck implements SmartInitializingSingleton {
+
+    private static final List<Class<?>> ENTITIES = List.of(Ticket.class, Review.class, GeneratedImageUrl.class);
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public SequenceIncrementCheck(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        for (Class<?> entity : ENTITIES) {
+            SequenceGenerator generator = sequenceGenerator(entity);
+            List<Long> increments = jdbcTemplate.queryForList(
+                    "SELECT increment_by FROM pg_sequences WHERE schemaname = current_schema() AND sequencename = ?",
+                    Long.class, generator.sequenceName());
+            if (increments.isEmpty() || increments.get(0) == generator.allocationSize()) {
+                continue;
+            }
+            log.warn("시퀀스 증가폭이 allocationSize와 다릅니다: sequence={}, increment={}, allocationSize={} " +
+                            "(ID를 행마다 따로 할당하므로 일괄 INSERT가 느려짐, schema.sql의 ALTER SEQUENCE ... INCREMENT BY {} 실행 필요)",
+                    generator.sequenceName(), increments.get(0), generator.allocationSize(), generator.allocationSize());
+        }
+    }
+
+    private static SequenceGenerator sequenceGenerator(Class<?> entity) {
+        try {
+            return entity.getDeclaredField("id").getAnnotation(SequenceGenerator.class);
+        } catch (NoSuchFieldException e) {
+            throw new IllegalStateException("id 필드가 없는 엔티티입니다: " + entity.getSimpleName(), e);
+        }
+    }
+}
@@ -0,0 +1,220 @@
+package com.example.record.review.service;
+
+import com.example.record.review.dto.projection.GeneratedImageExportRow;
+import com.example.record.review.dto.projection.ReviewAnswerExportRow;
+import com.example.record.review.dto.projection.ReviewExportRow;
+import com.example.record.review.dto.projection.TicketExportRow;
+import com.example.record.review.repository.ReviewRepository;
+import com.example.record.review.repository.TicketRepository;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.util.Locale;
+import java.util.stream.Stream;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+/**
+ * 사용자 기록 전체 내보내기 서비스
+ *
+ * 티켓, 리뷰, 리뷰 질문/답변, 생성 이미지 URL을 DB 커서(Stream)로 한 행씩 읽어 바로 출력 스트림에 씁니다.
+ * 목록을 메모리에 모으지 않으므로 티켓이 10개든 10만 개든 힙 사용량이 일정합니다.
+ *
+ * 형식:
+ * - NDJSON: 한 줄에 한 건, {"type":"ticket|review|answer|image", ...필드}
+ * - CSV: tickets.csv, reviews.csv, answers.csv, images.csv 네 파일을 담은 ZIP (Excel 호환 UTF-8 BOM 포함)
+ */
+@Slf4j
+@Service
+public class TicketArchiveExportService {
+
+    /**
+     * 내보내기 형식
+     */
+    public enum Format {
+        NDJSON, CSV;
+
+        /**
+         * 요청 파라미터 해석 (대소문자 무시)
+         *
+         * @throws IllegalArgumentException 지원하지 않는 형식인 경우
+         */
+        public static Format from(String value) {
+            try {
+                return Format.valueOf(value.trim().toUpperCase(Locale.ROOT));
+            } catch (IllegalArgumentException | NullPointerException e) {
+                throw new IllegalArgumentException("지원하지 않는 내보내기 형식입니다: " + value);
+            }
+        }
+    }
+
+    private static final byte[] UTF8_BOM = {(byte) 0xEF, (byte) 0xBB, (byte) 0xBF};
+
+    private final TicketRepository ticketRepository;
+    private final ReviewRepository reviewRepository;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate exportTransaction;
+
+    public TicketArchiveExportService(TicketRepository ticketRepository,
+                                      ReviewRepository reviewRepository,
+                                      ObjectMapper objectMapper,
+                                      PlatformTransactionManager transactionManager) {
+        this.ticketRepository = ticketRepository;
+        this.reviewRepository = reviewRepository;
+        this.objectMapper = objectMapper;
+        // StreamingResponseBody는 컨트롤러 밖(비동기 스레드)에서 실행되므로 트랜잭션을 직접 엽니다.
+        // PostgreSQL은 트랜잭션 안(autocommit off)에서만 fetch size 단위 커서로 읽습니다.
+        this.exportTransaction = new TransactionTemplate(transactionManager);
+        this.exportTransaction.setReadOnly(true);
+    }
+
+    /**
+     * 사용자의 기록 전체를 출력 스트림에 씁니다.
+     *
+     * @param userId 사용자 ID
+     * @param format 내보내기 형식
+     * @param out 응답 출력 스트림 (닫지 않음)
+     */
+    public void export(String userId, Format format, OutputStream out) {
+        log.info("기록 내보내기 시작: userId={}, format={}", userId, format);
+        exportTransaction.executeWithoutResult(status -> {
+            try {
+                if (format == Format.NDJSON) {
+                    writeNdjson(userId, out);
+                } else {
+                    writeCsvZip(userId, out);
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException("기록 내보내기 실패: userId=" + userId, e);
+            }
+        });
+        log.info("기록 내보내기 완료: userId={}, format={}", userId, format);
+    }
+
+    private void writeNdjson(String userId, OutputStream out) throws IOException {
+        JsonGenerator generator = objectMapper.getFactory().createGenerator(out);
+        // 줄 구분자는 직접 쓰고, 응답 스트림은 닫지 않음
+        generator.setRootValueSeparator(null);
+        generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+
+        try (Stream<TicketExportRow> rows = ticketRepository.streamExportRows(userId)) {
+            for (TicketExportRow row : (Iterable<TicketExportRow>) rows::iterator) {
+                writeLine(generator, "ticket", row);
+            }
+        }
+        try (Stream<ReviewExportRow> rows = reviewRepository.streamExportRows(userId)) {
+            for (ReviewExportRow row : (Iterable<ReviewExportRow>) rows::iterator) {
+                writeLine(generator, "review", row);
+            }
+        }
+        try (Stream<ReviewAnswerExportRow> rows = reviewRepository.streamAnswerExportRows(userId)) {
+            for (ReviewAnswerExportRow row : (Iterable<ReviewAnswerExportRow>) rows::iterator) {
+                writeLine(generator, "answer", row);
+            }
+        }
+        try (Stream<GeneratedImageExportRow> rows = reviewRepository.streamImageExportRows(userId)) {
+            for (GeneratedImageExportRow row : (Iterable<GeneratedImageExportRow>) rows::iterator) {
+                writeLine(generator, "image", row);
+            }
+        }
+        generator.close();
+    }
+
+    private void writeLine(JsonGenerator generator, String type, Object row) throws IOException {
+        ObjectNode node = objectMapper.createObjectNode().put("type", type);
+        node.setAll((ObjectNode) objectMapper.valueToTree(row));
+        generator.writeTree(node);
+        generator.writeRaw('\n');
+    }
+
+    private void writeCsvZip(String userId, OutputStream out) throws IOException {
+        ZipOutputStream zip = new ZipOutputStream(out, StandardCharsets.UTF_8);
+        Writer writer = new BufferedWriter(new OutputStreamWriter(zip, StandardCharsets.UTF_8));
+
+        startCsv(zip, writer, "tickets.csv",
+                "id", "performance_title", "venue", "seat", "artist", "genre", "view_date",
+                "poster_url", "image_url", "review_text", "is_public", "created_at", "updated_at");
+        try (Stream<TicketExportRow> rows = ticketRepository.streamExportRows(userId)) {
+            for (TicketExportRow row : (Iterable<TicketExportRow>) rows::iterator) {
+                writeCsvRow(writer, row.id(), row.performanceTitle(), row.venue(), row.seat(), row.artist(),
+                        row.genre(), row.viewDate(), row.posterUrl(), row.imageUrl(), row.reviewText(),
+                        row.isPublic(), row.createdAt(), row.updatedAt());
+            }
+        }
+        endCsv(zip, writer);
+
+        startCsv(zip, writer, "reviews.csv",
+                "id", "ticket_id", "summary", "keywords", "created_at", "updated_at");
+        try (Stream<ReviewExportRow> rows = reviewRepository.streamExportRows(userId)) {
+            for (ReviewExportRow row : (Iterable<ReviewExportRow>) rows::iterator) {
+                writeCsvRow(writer, row.id(), row.ticketId(), row.summary(), row.keywords(),
+                        row.createdAt(), row.updatedAt());
+            }
+        }
+        endCsv(zip, writer);
+
+        startCsv(zip, writer, "answers.csv",
+                "id", "review_id", "display_order", "question", "custom_text");
+        try (Stream<ReviewAnswerExportRow> rows = reviewRepository.streamAnswerExportRows(userId)) {
+            for (ReviewAnswerExportRow row : (Iterable<ReviewAnswerExportRow>) rows::iterator) {
+                writeCsvRow(writer, row.id(), row.reviewId(), row.displayOrder(), row.question(), row.customText());
+            }
+        }
+        endCsv(zip, writer);
+
+        startCsv(zip, writer, "images.csv",
+                "id", "review_id", "image_url", "style", "is_selected", "created_at");
+        try (Stream<GeneratedImageExportRow> rows = reviewRepository.streamImageExportRows(userId)) {
+            for (GeneratedImageExportRow row : (Iterable<GeneratedImageExportRow>) rows::iterator) {
+                writeCsvRow(writer, row.id(), row.reviewId(), row.imageUrl(), row.style(),
+                        row.isSelected(), row.createdAt());
+            }
+        }
+        endCsv(zip, writer);
+
+        // 응답 스트림은 닫지 않고 ZIP 끝부분(central directory)만 씀
+        zip.finish();
+    }
+
+    private static void startCsv(ZipOutputStream zip, Writer writer, String name, String... header) throws IOException {
+        zip.putNextEntry(new ZipEntry(name));
+        zip.write(UTF8_BOM);
+        writeCsvRow(writer, (Object[]) header);
+    }
+
+    private static void endCsv(ZipOutputStream zip, Writer writer) throws IOException {
+        writer.flush();
+        zip.closeEntry();
+    }
+
+    private static void writeCsvRow(Writer writer, Object... values) throws IOException {
+        for (int i = 0; i < values.length; i++) {
+            if (i > 0) {
+                writer.write(',');
+            }
+            writer.write(csvField(values[i]));
+        }
+        writer.write("\r\n");
+    }
+
+    /**
+     * CSV 필드 변환 (RFC 4180: 쉼표/따옴표/줄바꿈이 있으면 따옴표로 감싸고 따옴표는 두 번)
+     */
+    static String csvField(Object value) {
+        if (value == null) {
+            return "";
+        }
+        String text = value.toString();
+        if (text.indexOf(',') < 0 && text.indexOf('"') < 0 && text.indexOf('\n') < 0 && text.indexOf('\r') < 0) {
+            return text;
+        }
+        return '"' + text.replace("\"", "\"\"") + '"';
+    }
+}
@@ -0,0 +1,56 @@
+package com.example.record.review.service;
+
+import com.example.record.review.dto.projection.TicketListRow;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * 티켓 목록 커서 (keyset 페이지네이션)
+ *
+ * 목록 정렬 순서 (view_date DESC, created_at DESC, id DESC)의 마지막 행 값을 담습니다.
+ * 클라이언트에는 Base64(URL-safe) 문자열로만 노출되므로 형식은 언제든 바꿀 수 있습니다.
+ *
+ * 첫 페이지는 어떤 티켓보다도 뒤에 있는 FIRST 커서를 사용해, 모든 페이지가 같은 seek 쿼리를 탑니다.
+ */
+record TicketCursor(LocalDate viewDate, LocalDateTime createdAt, Long id) {
+
+    static final TicketCursor FIRST = new TicketCursor(
+            LocalDate.of(9999, 12, 31), LocalDateTime.of(9999, 12, 31, 23, 59, 59), Long.MAX_VALUE);
+
+    private static final String SEPARATOR = "|";
+
+    static TicketCursor of(TicketListRow row) {
+        return new TicketCursor(row.viewDate(), row.createdAt(), row.id());
+    }
+
+    /**
+     * 커서 문자열 해석 (null 또는 빈 문자열이면 첫 페이지)
+     *
+     * @throws IllegalArgumentException 형식이 잘못된 경우
+     */
+    static TicketCursor decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return FIRST;
+        }
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            String[] parts = raw.split("\\" + SEPARATOR);
+            if (parts.length != 3) {
+                throw new IllegalArgumentException("잘못된 커서입니다.");
+            }
+            return new TicketCursor(LocalDate.parse(parts[0]), LocalDateTime.parse(parts[1]), Long.parseLong(parts[2]));
+        } catch (DateTimeParseException | IllegalArgumentException e) {
+            // NumberFormatException도 IllegalArgumentException에 포함
+            throw new IllegalArgumentException("잘못된 커서입니다.", e);
+        }
+    }
+
+    String encode() {
+        String raw = viewDate + SEPARATOR + createdAt + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,134 @@
+package com.example.record.review.service;
+
+import com.example.record.review.dto.projection.TicketStatisticsFacts;
+import com.example.record.review.dto.request.TicketCreateRequest;
+import com.example.record.review.dto.response.TicketImportResponse;
+import com.example.record.review.entity.Ticket;
+import com.example.record.user.User;
+import com.example.record.user.UserRepository;
+import jakarta.persistence.EntityManager;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 티켓 일괄 등록 서비스
+ *
+ * 역할: 다른 예매 앱 등에서 가져온 수천 건의 티켓을 JDBC 배치 INSERT로 한 번에 등록
+ *
+ * - 티켓 ID는 시퀀스에서 50개씩 미리 할당받으므로(Ticket.id) INSERT가 batch_size 단위로 묶여 전송됩니다.
+ * - batch_size마다 flush/clear 하여 영속성 컨텍스트가 등록 건수만큼 커지지 않게 합니다.
+ * - 통계 집계는 전체 건을 합쳐 한 번만 반영합니다.
+ * - 공개 티켓은 커밋 후 친구 피드 받은편지함에 한 문장으로 넣습니다. (FeedFanoutService.publishAllAfterCommit)
+ */
+@Slf4j
+@Service
+public class TicketImportService {
+
+    /** 요청 한 번에 등록할 수 있는 최대 티켓 수 */
+    static final int MAX_IMPORT_SIZE = 5000;
+
+    private final EntityManager entityManager;
+    private final UserRepository userRepository;
+    private final TicketStatisticsRollupService ticketStatisticsRollupService;
+    private final TicketResponseCache ticketResponseCache;
+    private final FeedFanoutService feedFanoutService;
+    private final int batchSize;
+
+    public TicketImportService(EntityManager entityManager,
+                               UserRepository userRepository,
+                               TicketStatisticsRollupService ticketStatisticsRollupService,
+                               TicketResponseCache ticketResponseCache,
+                               FeedFanoutService feedFanoutService,
+                               @Value("${spring.jpa.properties.hibernate.jdbc.batch_size:50}") int batchSize) {
+        this.entityManager = entityManager;
+        this.userRepository = userRepository;
+        this.ticketStatisticsRollupService = ticketStatisticsRollupService;
+        this.ticketResponseCache = ticketResponseCache;
+        this.feedFanoutService = feedFanoutService;
+        this.batchSize = batchSize;
+    }
+
+    /**
+     * 티켓 일괄 등록 (전부 성공하거나 전부 실패)
+     *
+     * @param userId 등록할 사용자 ID
+     * @param requests 등록할 티켓 목록 (각 항목의 userId는 무시)
+     * @return 등록 건수
+     * @throws IllegalArgumentException 사용자가 없거나, 건수가 범위를 벗어나거나, 필수 값이 빠진 항목이 있는 경우
+     */
+    @Transactional
+    public TicketImportResponse importTickets(String userId, List<TicketCreateRequest> requests) {
+        if (requests == null || requests.isEmpty()) {
+            throw new IllegalArgumentException("등록할 티켓이 없습니다.");
+        }
+        if (requests.size() > MAX_IMPORT_SIZE) {
+            throw new IllegalArgumentException("한 번에 최대 " + MAX_IMPORT_SIZE + "개까지 등록할 수 있습니다.");
+        }
+        for (int i = 0; i < requests.size(); i++) {
+            TicketCreateRequest request = requests.get(i);
+            if (request == null || request.getPerformanceTitle() == null || request.getPerformanceTitle().isBlank()
+                    || request.getViewDate() == null) {
+                throw new IllegalArgumentException("공연 제목과 관람일은 필수입니다: index=" + i);
+            }
+        }
+        if (!userRepository.existsById(userId)) {
+            throw new IllegalArgumentException("사용자를 찾을 수 없습니다: id=" + userId);
+        }
+
+        List<TicketStatisticsFacts> facts = new ArrayList<>(requests.size());
+        List<Long> publicTicketIds = new ArrayList<>();
+        User user = entityManager.getReference(User.class, userId);
+        for (int i = 0; i < requests.size(); i++) {
+            Ticket ticket = toTicket(user, requests.get(i));
+            entityManager.persist(ticket);
+            facts.add(TicketStatisticsFacts.from(ticket));
+            if (Boolean.TRUE.equals(ticket.getIsPublic())) {
+                publicTicketIds.add(ticket.getId());
+            }
+
+            if ((i + 1) % batchSize == 0) {
+                entityManager.flush();
+                entityManager.clear();
+                user = entityManager.getReference(User.class, userId);
+            }
+        }
+        entityManager.flush();
+        entityManager.clear();
+
+        ticketStatisticsRollupService.applyCreatedAll(userId, facts);
+        ticketResponseCache.invalidateAfterCommit(userId);
+        feedFanoutService.publishAllAfterCommit(publicTicketIds, userId);
+
+        log.info("티켓 일괄 등록 완료: userId={}, count={}", userId, requests.size());
+        return TicketImportResponse.builder()
+                .importedCount(requests.size())
+                .build();
+    }
+
+    private static Ticket toTicket(User user, TicketCreateRequest request) {
+        // 이미지 URL에서 쿼리 파라미터 제거 (TicketService.createTicket과 동일)
+        String imageUrl = request.getImageUrl();
+        if (imageUrl != null && imageUrl.contains("?")) {
+            imageUrl = imageUrl.split("\\?")[0];
+        }
+        return Ticket.builder()
+                .user(user)
+                .performanceTitle(request.getPerformanceTitle())
+                .venue(request.getVenue())
+                .seat(request.getSeat())
+                .artist(request.getArtist())
+                .posterUrl(request.getPosterUrl())
+                .genre(request.getGenre())
+                .viewDate(request.getViewDate())
+                .imageUrl(imageUrl)
+                .imagePrompt(request.getImagePrompt())
+                .reviewText(request.getReviewText())
+                .isPublic(request.getIsPublic() != null ? request.getIsPublic() : false)
+                .build();
+    }
+}
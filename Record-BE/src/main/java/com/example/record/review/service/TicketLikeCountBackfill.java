@@ -0,0 +1,52 @@
+package com.example.record.review.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * tickets.like_count 최초 채우기 (기존 DB용, 한 번만)
+ *
+ * like_count는 schema.sql이 추가할 수도, ddl-auto(update)가 DEFAULT 0으로 추가할 수도 있습니다.
+ * 누가 컬럼을 만들었는지와 상관없이 기존 좋아요 수가 한 번은 채워지도록
+ * schema_migrations의 마커 행(MIGRATION)으로 실행 여부를 판단합니다. (schema.sql의 같은 구문과 같은 마커)
+ *
+ * 마커 INSERT와 UPDATE가 한 트랜잭션이라 여러 인스턴스가 동시에 시작해도 한 번만 채웁니다.
+ * 시작 시(웹 서버가 요청을 받기 전) 실행되므로 이 인스턴스의 TicketLikeCountBuffer에는 반영 전 증감이 없습니다.
+ */
+@Slf4j
+@Component
+public class TicketLikeCountBackfill implements SmartInitializingSingleton {
+
+    private static final String MIGRATION = "tickets_like_count_backfill";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate migrationTransaction;
+
+    public TicketLikeCountBackfill(JdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.migrationTransaction = new TransactionTemplate(transactionManager);
+    }
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        jdbcTemplate.execute("CREATE TABLE IF NOT EXISTS schema_migrations (" +
+                "name VARCHAR(100) PRIMARY KEY, applied_at TIMESTAMP NOT NULL DEFAULT NOW())");
+
+        Integer updated = migrationTransaction.execute(status -> {
+            int marked = jdbcTemplate.update(
+                    "INSERT INTO schema_migrations (name) VALUES (?) ON CONFLICT (name) DO NOTHING", MIGRATION);
+            if (marked == 0) {
+                return null;
+            }
+            return jdbcTemplate.update(
+                    "UPDATE tickets t SET like_count = (SELECT COUNT(*) FROM ticket_likes tl WHERE tl.ticket_id = t.id)");
+        });
+        if (updated != null) {
+            log.info("tickets.like_count 최초 채우기 완료: tickets={}", updated);
+        }
+    }
+}
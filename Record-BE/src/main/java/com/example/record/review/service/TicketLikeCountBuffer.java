@@ -0,0 +1,152 @@
+package com.example.record.review.service;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 좋아요 수 쓰기 지연(write-behind) 버퍼
+ *
+ * 역할:
+ * 1. 좋아요/취소 증감(±1)을 티켓별 LongAdder에 모아 둠 (인기 티켓의 같은 행 갱신 경합 제거)
+ * 2. 짧은 주기(app.like-buffer.flush-interval-ms)와 종료 시점에 tickets.like_count로 일괄 반영
+ * 3. 좋아요 수 조회 시 DB 값에 아직 반영되지 않은 증감을 더할 수 있도록 pending 값 제공
+ *
+ * 증감은 좋아요 토글 트랜잭션이 커밋된 뒤에만 버퍼에 쌓입니다.
+ * flush는 "읽은 값만큼 DB 반영 → 성공 시 그만큼 차감" 순서라서, flush 중 들어온 증감은 다음 주기로 넘어갑니다.
+ * (DB 반영과 차감 사이의 짧은 순간에는 조회 값이 실제보다 클 수 있음)
+ */
+@Slf4j
+@Component
+public class TicketLikeCountBuffer {
+
+    /** 이 횟수만큼 연속으로 증감이 없던 티켓은 버퍼에서 제거 */
+    private static final int IDLE_FLUSHES_BEFORE_EVICT = 3;
+
+    private static final String FLUSH_SQL = "UPDATE tickets SET like_count = like_count + ? WHERE id = ?";
+
+    private final ConcurrentHashMap<Long, Cell> cells = new ConcurrentHashMap<>();
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate flushTransaction;
+
+    /**
+     * 제거 직전에 참조를 얻은 스레드가 늦게 더한 증감을 한 주기 더 회수하기 위한 목록 (flush 스레드 전용)
+     */
+    private List<Map.Entry<Long, Cell>> retired = new ArrayList<>();
+
+    public TicketLikeCountBuffer(JdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.flushTransaction = new TransactionTemplate(transactionManager);
+    }
+
+    /**
+     * 좋아요 수 증감 기록 (현재 트랜잭션 커밋 후 반영, 트랜잭션 밖이면 즉시 반영)
+     */
+    public void add(Long ticketId, long delta) {
+        if (delta == 0) {
+            return;
+        }
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    cells.computeIfAbsent(ticketId, id -> new Cell()).pending.add(delta);
+                }
+            });
+        } else {
+            cells.computeIfAbsent(ticketId, id -> new Cell()).pending.add(delta);
+        }
+    }
+
+    /**
+     * 아직 DB에 반영되지 않은 증감
+     */
+    public long pending(Long ticketId) {
+        Cell cell = cells.get(ticketId);
+        return cell != null ? cell.pending.sum() : 0L;
+    }
+
+    /**
+     * 쌓인 증감을 tickets.like_count에 일괄 반영합니다. (JDBC batch, 트랜잭션 하나)
+     */
+    @Scheduled(fixedDelayString = "${app.like-buffer.flush-interval-ms:1000}")
+    public synchronized void flush() {
+        List<Drained> drained = new ArrayList<>();
+        Map<Long, Long> deltas = new HashMap<>();
+
+        // 지난 주기에 제거한 셀에 늦게 들어온 증감 회수
+        for (Map.Entry<Long, Cell> entry : retired) {
+            long late = entry.getValue().pending.sum();
+            if (late != 0) {
+                drained.add(new Drained(entry.getValue(), late));
+                deltas.merge(entry.getKey(), late, Long::sum);
+            }
+        }
+        List<Map.Entry<Long, Cell>> previouslyRetired = retired;
+        retired = new ArrayList<>();
+
+        for (Map.Entry<Long, Cell> entry : cells.entrySet()) {
+            Cell cell = entry.getValue();
+            long value = cell.pending.sum();
+            if (value != 0) {
+                cell.idleFlushes = 0;
+                drained.add(new Drained(cell, value));
+                deltas.merge(entry.getKey(), value, Long::sum);
+            } else if (++cell.idleFlushes >= IDLE_FLUSHES_BEFORE_EVICT && cells.remove(entry.getKey(), cell)) {
+                retired.add(Map.entry(entry.getKey(), cell));
+            }
+        }
+
+        if (deltas.isEmpty()) {
+            return;
+        }
+
+        List<Object[]> args = new ArrayList<>(deltas.size());
+        deltas.forEach((ticketId, delta) -> {
+            if (delta != 0) {
+                args.add(new Object[]{delta, ticketId});
+            }
+        });
+        try {
+            flushTransaction.executeWithoutResult(status -> jdbcTemplate.batchUpdate(FLUSH_SQL, args));
+        } catch (RuntimeException e) {
+            // 차감하지 않았으므로 다음 주기에 다시 시도
+            retired.addAll(previouslyRetired);
+            log.error("좋아요 수 반영 실패: tickets={}", args.size(), e);
+            return;
+        }
+
+        for (Drained d : drained) {
+            d.cell().pending.add(-d.value());
+        }
+        log.debug("좋아요 수 반영 완료: tickets={}", args.size());
+    }
+
+    /**
+     * 애플리케이션 종료 시 남은 증감 반영
+     */
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+        // 방금 제거된 셀까지 회수
+        flush();
+    }
+
+    private static final class Cell {
+        final LongAdder pending = new LongAdder();
+        /** flush 스레드에서만 읽고 씀 */
+        int idleFlushes;
+    }
+
+    private record Drained(Cell cell, long value) {}
+}
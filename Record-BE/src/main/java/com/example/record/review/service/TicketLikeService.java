@@ -1,13 +1,13 @@
 package com.example.record.review.service;
 
+import com.example.record.review.dto.projection.TicketLikeToggleResult;
+import com.example.record.review.dto.response.TicketLikeResponse;
 import com.example.record.review.entity.Ticket;
-import com.example.record.review.entity.TicketLike;
 import com.example.record.review.repository.TicketLikeRepository;
 import com.example.record.review.repository.TicketRepository;
-import com.example.record.user.User;
-import com.example.record.user.UserRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -21,47 +21,48 @@ public class TicketLikeService {
 
     private final TicketLikeRepository ticketLikeRepository;
     private final TicketRepository ticketRepository;
-    private final UserRepository userRepository;
+    private final TicketLikeCountBuffer ticketLikeCountBuffer;
 
     /**
      * 좋아요 추가 또는 취소 (토글)
+     *
+     * 좋아요 행 추가/삭제는 SQL 한 문장으로 처리하고,
+     * like_count 증감은 TicketLikeCountBuffer에 쌓아 주기적으로 일괄 반영합니다.
+     *
      * @param ticketId 티켓 ID
      * @param userId 사용자 ID
-     * @return 좋아요 상태 (true: 좋아요 추가됨, false: 좋아요 취소됨)
+     * @return 토글 후 좋아요 상태와 좋아요 수
      */
     @Transactional
-    public boolean toggleLike(Long ticketId, String userId) {
-        Ticket ticket = ticketRepository.findById(ticketId)
-                .orElseThrow(() -> new IllegalArgumentException("티켓을 찾을 수 없습니다: id=" + ticketId));
-        
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다: id=" + userId));
+    public TicketLikeResponse toggleLike(Long ticketId, String userId) {
+        TicketLikeToggleResult result;
+        try {
+            result = ticketLikeRepository.toggle(ticketId, userId)
+                    .orElseThrow(() -> new IllegalArgumentException("티켓을 찾을 수 없습니다: id=" + ticketId));
+        } catch (DataIntegrityViolationException e) {
+            // ticket_likes.user_id 외래키 위반
+            throw new IllegalArgumentException("사용자를 찾을 수 없습니다: id=" + userId, e);
+        }
+
+        long delta = result.getDelta();
+        ticketLikeCountBuffer.add(ticketId, delta);
+        boolean liked = Boolean.TRUE.equals(result.getLiked());
+        long likeCount = result.getLikeCount() + ticketLikeCountBuffer.pending(ticketId) + delta;
 
-        return ticketLikeRepository.findByTicket_IdAndUser_Id(ticketId, userId)
-                .map(like -> {
-                    // 이미 좋아요가 있으면 취소
-                    ticketLikeRepository.delete(like);
-                    log.info("좋아요 취소: ticketId={}, userId={}", ticketId, userId);
-                    return false;
-                })
-                .orElseGet(() -> {
-                    // 좋아요가 없으면 추가
-                    TicketLike like = TicketLike.builder()
-                            .ticket(ticket)
-                            .user(user)
-                            .build();
-                    ticketLikeRepository.save(like);
-                    log.info("좋아요 추가: ticketId={}, userId={}", ticketId, userId);
-                    return true;
-                });
+        log.info("좋아요 {}: ticketId={}, userId={}, likeCount={}", liked ? "추가" : "취소", ticketId, userId, likeCount);
+        return TicketLikeResponse.builder()
+                .liked(liked)
+                .likeCount(Math.max(likeCount, 0L))
+                .build();
     }
 
     /**
-     * 특정 티켓의 좋아요 개수 조회
+     * 특정 티켓의 좋아요 개수 조회 (DB 값 + 아직 반영되지 않은 증감)
      */
     @Transactional(readOnly = true)
     public long getLikeCount(Long ticketId) {
-        return ticketLikeRepository.countByTicket_Id(ticketId);
+        long persisted = ticketRepository.findLikeCountById(ticketId).orElse(0L);
+        return Math.max(persisted + ticketLikeCountBuffer.pending(ticketId), 0L);
     }
 
     /**
@@ -0,0 +1,208 @@
+package com.example.record.review.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.*;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.Supplier;
+
+/**
+ * 티켓 통계 / 연말 결산 응답 캐시
+ *
+ * 역할:
+ * 1. 이미 JSON으로 직렬화된 응답 바이트를 (사용자, 종류, 연도) 단위로 보관
+ * 2. 티켓 생성/수정/삭제가 커밋되면 해당 사용자의 항목만 무효화
+ * 3. 적중/미스/축출/무효화 횟수를 집계 (/admin/cache/ticket-responses)
+ *
+ * 적중 시 저장된 byte[]를 복사 없이 그대로 응답 본문으로 씁니다. (호출하는 쪽은 수정하면 안 됨)
+ * 사용자별 키 목록(keysByUser)을 함께 두어, 무효화는 전체 항목이 아니라 그 사용자의 항목만 지웁니다.
+ *
+ * 오래된 값이 저장되지 않도록, 계산 시작 시점의 사용자 세대(generation)가
+ * 저장 시점까지 그대로일 때만 캐시에 넣습니다.
+ */
+@Slf4j
+@Component
+public class TicketResponseCache {
+
+    /**
+     * 캐시 대상 응답 종류
+     */
+    public enum Kind {
+        STATISTICS, YEAR_IN_REVIEW
+    }
+
+    /** 사용자 세대 카운터 스트라이프 수 (2의 거듭제곱) */
+    private static final int GENERATION_STRIPES = 1024;
+
+    private final ObjectMapper objectMapper;
+    private final int maxEntries;
+    private final long maxBytes;
+
+    /** 접근 순서 LinkedHashMap (LRU), this 로 동기화 */
+    private final LinkedHashMap<CacheKey, byte[]> entries = new LinkedHashMap<>(16, 0.75f, true);
+    /** 사용자별 캐시 키 (entries와 함께 this 로 동기화) */
+    private final Map<String, Set<CacheKey>> keysByUser = new HashMap<>();
+    private long totalBytes;
+
+    private final AtomicLongArray generations = new AtomicLongArray(GENERATION_STRIPES);
+
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    private final AtomicLong evictions = new AtomicLong();
+    private final AtomicLong invalidations = new AtomicLong();
+
+    public TicketResponseCache(ObjectMapper objectMapper,
+                               @Value("${app.cache.ticket-response.max-entries:2000}") int maxEntries,
+                               @Value("${app.cache.ticket-response.max-bytes:33554432}") long maxBytes) {
+        this.objectMapper = objectMapper;
+        this.maxEntries = maxEntries;
+        this.maxBytes = maxBytes;
+    }
+
+    /**
+     * 캐시된 JSON 바이트를 반환하고, 없으면 loader로 계산 후 직렬화해 저장합니다.
+     *
+     * @param kind 응답 종류
+     * @param userId 사용자 ID
+     * @param year 연도
+     * @param loader 응답 객체 계산 함수
+     * @return JSON 바이트 (UTF-8)
+     */
+    public byte[] getOrLoad(Kind kind, String userId, int year, Supplier<?> loader) {
+        CacheKey key = new CacheKey(userId, kind, year);
+        byte[] stored;
+        synchronized (this) {
+            stored = entries.get(key);
+        }
+        if (stored != null) {
+            hits.incrementAndGet();
+            return stored;
+        }
+
+        misses.incrementAndGet();
+        long generation = generations.get(stripe(userId));
+        byte[] body;
+        try {
+            body = objectMapper.writeValueAsBytes(loader.get());
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("응답 직렬화 실패: " + kind, e);
+        }
+
+        // 계산 도중 해당 사용자의 티켓이 바뀌었으면 저장하지 않음
+        if (generations.get(stripe(userId)) == generation) {
+            put(key, body);
+        }
+        return body;
+    }
+
+    /**
+     * 현재 트랜잭션이 커밋된 뒤 사용자의 캐시 항목을 무효화합니다.
+     * (트랜잭션 밖에서 호출하면 즉시 무효화)
+     */
+    public void invalidateAfterCommit(String userId) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    invalidate(userId);
+                }
+            });
+        } else {
+            invalidate(userId);
+        }
+    }
+
+    /**
+     * 사용자의 캐시 항목을 즉시 무효화합니다.
+     */
+    public void invalidate(String userId) {
+        generations.incrementAndGet(stripe(userId));
+        int removed = 0;
+        synchronized (this) {
+            Set<CacheKey> keys = keysByUser.remove(userId);
+            if (keys != null) {
+                for (CacheKey key : keys) {
+                    totalBytes -= entries.remove(key).length;
+                    removed++;
+                }
+            }
+        }
+        if (removed > 0) {
+            invalidations.addAndGet(removed);
+        }
+    }
+
+    /**
+     * 캐시 지표 조회
+     */
+    public Map<String, Object> stats() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        synchronized (this) {
+            stats.put("entries", entries.size());
+            stats.put("bytes", totalBytes);
+        }
+        long hitCount = hits.get();
+        long missCount = misses.get();
+        stats.put("hits", hitCount);
+        stats.put("misses", missCount);
+        stats.put("hitRate", hitCount + missCount > 0 ? (hitCount * 100.0 / (hitCount + missCount)) : 0.0);
+        stats.put("evictions", evictions.get());
+        stats.put("invalidations", invalidations.get());
+        stats.put("maxEntries", maxEntries);
+        stats.put("maxBytes", maxBytes);
+        return stats;
+    }
+
+    private void put(CacheKey key, byte[] body) {
+        if (body.length > maxBytes) {
+            return;
+        }
+        int evicted = 0;
+        synchronized (this) {
+            byte[] previous = entries.put(key, body);
+            if (previous != null) {
+                totalBytes -= previous.length;
+            } else {
+                keysByUser.computeIfAbsent(key.userId(), userId -> new HashSet<>(4)).add(key);
+            }
+            totalBytes += body.length;
+
+            // 가장 오래 사용하지 않은 항목부터 축출
+            Iterator<Map.Entry<CacheKey, byte[]>> it = entries.entrySet().iterator();
+            while ((entries.size() > maxEntries || totalBytes > maxBytes) && it.hasNext()) {
+                Map.Entry<CacheKey, byte[]> eldest = it.next();
+                totalBytes -= eldest.getValue().length;
+                it.remove();
+                unindex(eldest.getKey());
+                evicted++;
+            }
+        }
+        if (evicted > 0) {
+            evictions.addAndGet(evicted);
+        }
+    }
+
+    /**
+     * 사용자별 키 목록에서 제거 (this 로 동기화된 상태에서 호출)
+     */
+    private void unindex(CacheKey key) {
+        Set<CacheKey> keys = keysByUser.get(key.userId());
+        if (keys != null && keys.remove(key) && keys.isEmpty()) {
+            keysByUser.remove(key.userId());
+        }
+    }
+
+    private static int stripe(String userId) {
+        int h = userId.hashCode();
+        return (h ^ (h >>> 16)) & (GENERATION_STRIPES - 1);
+    }
+
+    private record CacheKey(String userId, Kind kind, int year) {}
+}
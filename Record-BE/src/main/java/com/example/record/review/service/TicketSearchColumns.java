@@ -0,0 +1,64 @@
+package com.example.record.review.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * 티켓 키워드 검색용 확장 모듈/생성 컬럼/인덱스 확인
+ *
+ * TicketRepository.searchByKeyword는 tickets.search_text, tickets.search_vector와
+ * pg_trgm(<%, word_similarity), btree_gin(user_id를 함께 넣은 GIN 인덱스)이 있어야 동작합니다.
+ * 생성 컬럼/식 인덱스라 ddl-auto(update)로는 만들어지지 않으므로, 시작 시(웹 서버가 요청을 받기 전) 확인하고 없으면 만듭니다.
+ * (생성 컬럼 추가는 tickets 전체를 다시 쓰므로 첫 시작이 그만큼 늦어짐)
+ *
+ * 만들 수 없으면(확장 모듈 설치 권한 없음 등) 첫 검색 요청에서 실패하지 않도록 시작을 멈춥니다.
+ */
+@Slf4j
+@Component
+public class TicketSearchColumns implements SmartInitializingSingleton {
+
+    /** schema.sql의 "티켓 검색용 생성 컬럼 및 인덱스"와 같음 */
+    private static final List<String> DDL = List.of(
+            "CREATE EXTENSION IF NOT EXISTS pg_trgm",
+            "CREATE EXTENSION IF NOT EXISTS btree_gin",
+            "ALTER TABLE tickets ADD COLUMN IF NOT EXISTS search_text TEXT GENERATED ALWAYS AS (" +
+                    "performance_title || ' ' || coalesce(venue, '') || ' ' || coalesce(artist, '')) STORED",
+            "ALTER TABLE tickets ADD COLUMN IF NOT EXISTS search_vector TSVECTOR GENERATED ALWAYS AS (" +
+                    "to_tsvector('simple', performance_title || ' ' || coalesce(venue, '') || ' ' || " +
+                    "coalesce(artist, '') || ' ' || coalesce(review_text, ''))) STORED",
+            "CREATE INDEX IF NOT EXISTS idx_tickets_search_text_trgm ON tickets USING GIN (user_id, search_text gin_trgm_ops)",
+            "CREATE INDEX IF NOT EXISTS idx_tickets_search_vector ON tickets USING GIN (user_id, search_vector)");
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public TicketSearchColumns(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        Boolean ready = jdbcTemplate.queryForObject(
+                "SELECT (SELECT COUNT(*) FROM pg_extension WHERE extname IN ('pg_trgm', 'btree_gin')) = 2 " +
+                "AND (SELECT COUNT(*) FROM information_schema.columns WHERE table_schema = current_schema() " +
+                "     AND table_name = 'tickets' AND column_name IN ('search_text', 'search_vector')) = 2 " +
+                "AND (SELECT COUNT(*) FROM pg_indexes WHERE schemaname = current_schema() " +
+                "     AND indexname IN ('idx_tickets_search_text_trgm', 'idx_tickets_search_vector')) = 2",
+                Boolean.class);
+        if (Boolean.TRUE.equals(ready)) {
+            return;
+        }
+
+        try {
+            DDL.forEach(jdbcTemplate::execute);
+            log.info("티켓 검색용 생성 컬럼/인덱스 생성: tickets.search_text, tickets.search_vector");
+        } catch (DataAccessException e) {
+            throw new IllegalStateException("티켓 검색용 생성 컬럼/인덱스를 만들 수 없습니다. " +
+                    "pg_trgm/btree_gin 확장 모듈 설치 권한이 없으면 관리자 계정으로 schema.sql을 실행한 뒤 다시 시작해주세요.", e);
+        }
+    }
+}
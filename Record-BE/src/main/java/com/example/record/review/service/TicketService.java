@@ -1,24 +1,35 @@
 package com.example.record.review.service;
 
+import com.example.record.review.dto.projection.TicketListRow;
+import com.example.record.review.dto.projection.TicketStatisticsCell;
+import com.example.record.review.dto.projection.TicketStatisticsFacts;
+import com.example.record.review.dto.projection.TicketYearInReviewRow;
 import com.example.record.review.dto.request.TicketCreateRequest;
 import com.example.record.review.dto.request.TicketSearchRequest;
+import com.example.record.review.dto.request.TicketStatisticsCompareRequest;
 import com.example.record.review.dto.request.TicketUpdateRequest;
 import com.example.record.review.dto.response.*;
 import com.example.record.review.entity.Ticket;
+import com.example.record.review.entity.TicketStatisticsRollup.Dimension;
 import com.example.record.review.repository.TicketRepository;
 import com.example.record.review.repository.TicketLikeRepository;
+import com.example.record.review.repository.TicketSpecifications;
 import com.example.record.user.User;
 import com.example.record.user.UserRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.time.DayOfWeek;
 import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
 import java.util.*;
 import java.util.stream.Collectors;
-import java.util.stream.IntStream;
+import java.util.stream.Stream;
 
 @Slf4j
 @Service
@@ -28,6 +39,19 @@ public class TicketService {
     private final TicketRepository ticketRepository;
     private final UserRepository userRepository;
     private final TicketLikeRepository ticketLikeRepository;
+    private final TicketStatisticsRollupService ticketStatisticsRollupService;
+    private final TicketResponseCache ticketResponseCache;
+    private final TicketLikeCountBuffer ticketLikeCountBuffer;
+    private final FeedFanoutService feedFanoutService;
+
+    /** 커서 페이지 최대 크기 */
+    static final int MAX_PAGE_SIZE = 100;
+
+    /** 통계 비교 최대 기간 수 */
+    static final int MAX_COMPARE_PERIODS = 8;
+
+    /** 통계 비교 한 기간의 최대 일수 (약 5년) */
+    static final int MAX_COMPARE_PERIOD_DAYS = 1830;
 
     /**
      * 티켓 생성
@@ -65,6 +89,13 @@ public class TicketService {
 
         Ticket saved = ticketRepository.save(ticket);
 
+        // 통계 집계 반영 (같은 트랜잭션)
+        ticketStatisticsRollupService.applyCreated(user.getId(), TicketStatisticsFacts.from(saved));
+        ticketResponseCache.invalidateAfterCommit(user.getId());
+        if (Boolean.TRUE.equals(saved.getIsPublic())) {
+            feedFanoutService.publishAfterCommit(saved.getId(), user.getId());
+        }
+
         log.info("티켓 생성 완료: ticketId={}, userId={}, imageUrl={}", 
                 saved.getId(), request.getUserId(), request.getImageUrl());
 
@@ -81,12 +112,8 @@ public class TicketService {
      */
     @Transactional(readOnly = true)
     public List<TicketResponse> getTicketsByUserId(String userId) {
-        List<Ticket> tickets = ticketRepository.findByUser_IdOrderByCreatedAtDesc(userId);
-        // LAZY 로딩을 트랜잭션 내에서 강제로 로드
-        tickets.forEach(t -> t.getUser().getId());
-        return tickets.stream()
-                .map(TicketResponse::from)
-                .collect(Collectors.toList());
+        List<TicketListRow> tickets = ticketRepository.findListRowsByUserId(userId);
+        return toResponses(tickets, userId);
     }
 
     /**
@@ -97,18 +124,38 @@ public class TicketService {
     @Transactional(readOnly = true)
     public List<TicketResponse> getPublicTicketsByUserId(String userId, String currentUserId) {
         log.info("🔍 공개 티켓 조회 시작: userId={}, currentUserId={}", userId, currentUserId);
-        List<Ticket> tickets = ticketRepository.findPublicTicketsByUserId(userId);
+        List<TicketListRow> tickets = ticketRepository.findPublicListRowsByUserId(userId);
         log.info("✅ 공개 티켓 조회 완료: userId={}, count={}", userId, tickets.size());
-        // LAZY 로딩을 트랜잭션 내에서 강제로 로드
-        tickets.forEach(t -> t.getUser().getId());
-        return tickets.stream()
-                .map(ticket -> {
-                    boolean isLiked = currentUserId != null && 
-                        ticketLikeRepository.findByTicket_IdAndUser_Id(ticket.getId(), currentUserId).isPresent();
-                    long likeCount = ticketLikeRepository.countByTicket_Id(ticket.getId());
-                    return TicketResponse.from(ticket, isLiked, likeCount);
-                })
-                .collect(Collectors.toList());
+        return toResponses(tickets, currentUserId);
+    }
+
+    /**
+     * 사용자의 티켓 목록 커서 페이지 조회 (전체 - 본인 조회용)
+     * @param userId 사용자 ID
+     * @param cursor 이전 페이지의 nextCursor (첫 페이지는 null)
+     * @param size 페이지 크기
+     */
+    @Transactional(readOnly = true)
+    public TicketPageResponse getTicketPageByUserId(String userId, String cursor, int size) {
+        TicketCursor after = TicketCursor.decode(cursor);
+        List<TicketListRow> tickets = ticketRepository.findPageByUserId(
+                userId, after.viewDate(), after.createdAt(), after.id(), pageOf(size));
+        return toPage(tickets, size, userId);
+    }
+
+    /**
+     * 사용자의 공개 티켓 목록 커서 페이지 조회 (친구 조회용)
+     * @param userId 사용자 ID
+     * @param currentUserId 조회하는 사용자 ID (좋아요 여부 확인용, 없으면 null)
+     * @param cursor 이전 페이지의 nextCursor (첫 페이지는 null)
+     * @param size 페이지 크기
+     */
+    @Transactional(readOnly = true)
+    public TicketPageResponse getPublicTicketPageByUserId(String userId, String currentUserId, String cursor, int size) {
+        TicketCursor after = TicketCursor.decode(cursor);
+        List<TicketListRow> tickets = ticketRepository.findPublicPageByUserId(
+                userId, after.viewDate(), after.createdAt(), after.id(), pageOf(size));
+        return toPage(tickets, size, currentUserId);
     }
 
     /**
@@ -127,6 +174,10 @@ public class TicketService {
         if (!ticket.getUser().getId().equals(requesterUserId)) {
             throw new SecurityException("본인 티켓만 수정 가능합니다.");
         }
+
+        // 통계 집계 갱신을 위해 수정 전 값 보관
+        TicketStatisticsFacts before = TicketStatisticsFacts.from(ticket);
+        boolean wasPublic = Boolean.TRUE.equals(ticket.getIsPublic());
         
         // 필드 업데이트 (null이 아닌 경우만)
         if (request.getPerformanceTitle() != null) {
@@ -170,6 +221,12 @@ public class TicketService {
         }
         
         ticketRepository.save(ticket);
+        ticketStatisticsRollupService.applyUpdated(requesterUserId, before, TicketStatisticsFacts.from(ticket));
+        ticketResponseCache.invalidateAfterCommit(requesterUserId);
+        // 비공개 → 공개 전환 시 친구 피드에 넣음 (공개 → 비공개는 피드 조회 시 걸러짐)
+        if (!wasPublic && Boolean.TRUE.equals(ticket.getIsPublic())) {
+            feedFanoutService.publishAfterCommit(ticketId, requesterUserId);
+        }
         log.info("티켓 수정 완료: ticketId={}, userId={}", ticketId, requesterUserId);
     }
 
@@ -198,6 +255,8 @@ public class TicketService {
         
         // 2. 티켓 삭제
         ticketRepository.delete(ticket);
+        ticketStatisticsRollupService.applyDeleted(requesterUserId, TicketStatisticsFacts.from(ticket));
+        ticketResponseCache.invalidateAfterCommit(requesterUserId);
         log.info("티켓 삭제 완료: ticketId={}, userId={}", ticketId, requesterUserId);
     }
 
@@ -206,436 +265,220 @@ public class TicketService {
      */
     @Transactional(readOnly = true)
     public List<TicketResponse> searchTickets(String userId, TicketSearchRequest request) {
-        String sortBy = request.getSortBy() != null ? request.getSortBy() : "createdAt";
-        String sortDirection = request.getSortDirection() != null ? request.getSortDirection() : "DESC";
-        
-        List<Ticket> tickets = ticketRepository.searchTickets(
-                userId,
-                request.getStartDate(),
-                request.getEndDate(),
-                request.getGenre(),
-                request.getVenue(),
-                request.getArtist(),
-                request.getPerformanceTitle(),
-                sortBy,
-                sortDirection
-        );
-        
-        tickets.forEach(t -> t.getUser().getId()); // LAZY 로딩
-        return tickets.stream()
-                .map(TicketResponse::from)
-                .collect(Collectors.toList());
+        List<TicketListRow> tickets = ticketRepository.findListRows(
+                TicketSpecifications.search(userId, request),
+                TicketSpecifications.sort(request));
+        return toResponses(tickets, userId);
     }
 
     /**
-     * 티켓 통계 분석
+     * 키워드 검색 (관련도 순)
+     *
+     * 제목/공연장/아티스트/후기에서 단어·접두사 일치와 오타 허용 유사도 검색을 함께 수행합니다.
+     *
+     * @param userId 사용자 ID
+     * @param keyword 검색어
+     * @param page 페이지 번호 (0부터 시작)
+     * @param size 페이지 크기
+     * @throws IllegalArgumentException 검색어에 글자/숫자가 없는 경우
      */
     @Transactional(readOnly = true)
-    public TicketStatisticsResponse getTicketStatistics(String userId, Integer year) {
-        final int targetYear = (year != null) ? year : LocalDate.now().getYear();
-        
-        // 올해/작년 총 관람 수
-        long totalCountThisYear = ticketRepository.countByUserAndYear(userId, targetYear);
-        long totalCountLastYear = ticketRepository.countByUserAndYear(userId, targetYear - 1);
-        long yearOverYearChange = totalCountThisYear - totalCountLastYear;
-        
-        // 월별 추이
-        Map<String, Long> monthlyTrend = new LinkedHashMap<>();
-        List<Object[]> monthlyData = ticketRepository.getMonthlyTrend(userId, targetYear);
-        for (Object[] row : monthlyData) {
-            int month = ((Number) row[1]).intValue();
-            long count = ((Number) row[2]).longValue();
-            monthlyTrend.put(String.format("%02d", month), count);
+    public Page<TicketResponse> searchTicketsByKeyword(String userId, String keyword, int page, int size) {
+        if (size < 1 || size > MAX_PAGE_SIZE) {
+            throw new IllegalArgumentException("페이지 크기는 1 ~ " + MAX_PAGE_SIZE + " 사이여야 합니다.");
         }
-        // 빈 월은 0으로 채우기
-        IntStream.rangeClosed(1, 12).forEach(month -> {
-            String key = String.format("%02d", month);
-            monthlyTrend.putIfAbsent(key, 0L);
-        });
-        
-        // 장르별 통계
-        List<TicketStatisticsResponse.GenreStatistics> genreStats = new ArrayList<>();
-        List<Object[]> genreData = ticketRepository.getGenreStatistics(userId, targetYear);
-        long totalForGenre = genreData.stream()
-                .mapToLong(row -> ((Number) row[1]).longValue())
-                .sum();
-        for (Object[] row : genreData) {
-            String genre = (String) row[0];
-            long count = ((Number) row[1]).longValue();
-            double percentage = totalForGenre > 0 ? (count * 100.0 / totalForGenre) : 0.0;
-            genreStats.add(TicketStatisticsResponse.GenreStatistics.builder()
-                    .genre(genre)
-                    .count(count)
-                    .percentage(percentage)
-                    .build());
+        String tsQuery = toPrefixTsQuery(keyword);
+        Page<Long> ids = ticketRepository.searchIdsByKeyword(
+                userId, keyword.trim(), tsQuery, PageRequest.of(page, size));
+
+        if (ids.isEmpty()) {
+            return new PageImpl<>(new ArrayList<>(), ids.getPageable(), ids.getTotalElements());
         }
-        
-        // 공연장별 통계 (TOP 10)
-        List<TicketStatisticsResponse.VenueStatistics> topVenues = ticketRepository.getVenueStatistics(userId, targetYear)
-                .stream()
-                .limit(10)
-                .map(row -> TicketStatisticsResponse.VenueStatistics.builder()
-                        .venue((String) row[0])
-                        .count(((Number) row[1]).longValue())
-                        .build())
-                .collect(Collectors.toList());
-        
-        // 작품별 통계 (TOP 10)
-        List<TicketStatisticsResponse.PerformanceStatistics> topPerformances = ticketRepository.getPerformanceStatistics(userId, targetYear)
-                .stream()
-                .limit(10)
-                .map(row -> TicketStatisticsResponse.PerformanceStatistics.builder()
-                        .performanceTitle((String) row[0])
-                        .count(((Number) row[1]).longValue())
-                        .build())
-                .collect(Collectors.toList());
-        
-        // 아티스트별 통계 (TOP 10)
-        List<TicketStatisticsResponse.ArtistStatistics> topArtists = ticketRepository.getArtistStatistics(userId, targetYear)
-                .stream()
-                .limit(10)
-                .map(row -> TicketStatisticsResponse.ArtistStatistics.builder()
-                        .artist((String) row[0])
-                        .count(((Number) row[1]).longValue())
-                        .build())
+
+        // 관련도 순서는 ID 페이지 기준으로 유지
+        Map<Long, TicketListRow> rowsById = ticketRepository.findListRowsByIdIn(ids.getContent()).stream()
+                .collect(Collectors.toMap(TicketListRow::id, row -> row));
+        List<TicketListRow> tickets = ids.getContent().stream()
+                .map(rowsById::get)
+                .filter(Objects::nonNull)
                 .collect(Collectors.toList());
-        
-        // 요일별 통계
-        Map<String, Long> dayOfWeekStats = new LinkedHashMap<>();
-        List<Object[]> dayData = ticketRepository.getDayOfWeekStatistics(userId, targetYear);
-        // PostgreSQL EXTRACT(DOW FROM date): 0=일요일, 1=월요일, ..., 6=토요일
-        String[] dayNames = {"일", "월", "화", "수", "목", "금", "토"};
-        for (Object[] row : dayData) {
-            int dayOfWeek = ((Number) row[0]).intValue();
-            long count = ((Number) row[1]).longValue();
-            dayOfWeekStats.put(dayNames[dayOfWeek], count);
-        }
-        
-        // 평일/주말 비율
-        long weekdayCount = 0;
-        long weekendCount = 0;
-        List<Ticket> allTickets = ticketRepository.findByUser_IdOrderByCreatedAtDesc(userId);
-        for (Ticket ticket : allTickets) {
-            if (ticket.getViewDate().getYear() == targetYear) {
-                DayOfWeek dayOfWeek = ticket.getViewDate().getDayOfWeek();
-                if (dayOfWeek == DayOfWeek.SATURDAY || dayOfWeek == DayOfWeek.SUNDAY) {
-                    weekendCount++;
-                } else {
-                    weekdayCount++;
-                }
-            }
-        }
-        long totalDayCount = weekdayCount + weekendCount;
-        double weekdayPercentage = totalDayCount > 0 ? (weekdayCount * 100.0 / totalDayCount) : 0.0;
-        double weekendPercentage = totalDayCount > 0 ? (weekendCount * 100.0 / totalDayCount) : 0.0;
-        
-        TicketStatisticsResponse.WeekdayWeekendRatio weekdayWeekendRatio = 
-                TicketStatisticsResponse.WeekdayWeekendRatio.builder()
-                        .weekdayCount(weekdayCount)
-                        .weekendCount(weekendCount)
-                        .weekdayPercentage(weekdayPercentage)
-                        .weekendPercentage(weekendPercentage)
-                        .build();
-        
-        // 상반기 vs 하반기
-        long firstHalfCount = 0;
-        long secondHalfCount = 0;
-        for (Ticket ticket : allTickets) {
-            if (ticket.getViewDate().getYear() == targetYear) {
-                int month = ticket.getViewDate().getMonthValue();
-                if (month <= 6) {
-                    firstHalfCount++;
-                } else {
-                    secondHalfCount++;
-                }
-            }
-        }
-        long totalHalfYearCount = firstHalfCount + secondHalfCount;
-        double firstHalfPercentage = totalHalfYearCount > 0 ? (firstHalfCount * 100.0 / totalHalfYearCount) : 0.0;
-        double secondHalfPercentage = totalHalfYearCount > 0 ? (secondHalfCount * 100.0 / totalHalfYearCount) : 0.0;
-        
-        TicketStatisticsResponse.HalfYearComparison halfYearComparison = 
-                TicketStatisticsResponse.HalfYearComparison.builder()
-                        .firstHalfCount(firstHalfCount)
-                        .secondHalfCount(secondHalfCount)
-                        .firstHalfPercentage(firstHalfPercentage)
-                        .secondHalfPercentage(secondHalfPercentage)
-                        .build();
-        
-        return TicketStatisticsResponse.builder()
-                .totalCountThisYear(totalCountThisYear)
-                .totalCountLastYear(totalCountLastYear)
-                .yearOverYearChange(yearOverYearChange)
-                .monthlyTrend(monthlyTrend)
-                .genreStatistics(genreStats)
-                .topVenues(topVenues)
-                .topPerformances(topPerformances)
-                .topArtists(topArtists)
-                .dayOfWeekStatistics(dayOfWeekStats)
-                .weekdayWeekendRatio(weekdayWeekendRatio)
-                .halfYearComparison(halfYearComparison)
-                .build();
+        return new PageImpl<>(toResponses(tickets, userId), ids.getPageable(), ids.getTotalElements());
+    }
+
+    /**
+     * 고급 검색 커서 페이지 조회
+     *
+     * 커서 페이지는 관람일 최신순(view_date, created_at, id 내림차순)으로 고정되며
+     * request의 sortBy/sortDirection은 사용하지 않습니다.
+     */
+    @Transactional(readOnly = true)
+    public TicketPageResponse searchTicketPage(String userId, TicketSearchRequest request, String cursor, int size) {
+        TicketCursor after = TicketCursor.decode(cursor);
+        int limit = pageOf(size).getPageSize();
+        List<TicketListRow> tickets = ticketRepository.findListRows(
+                TicketSpecifications.search(userId, request)
+                        .and(TicketSpecifications.after(after.viewDate(), after.createdAt(), after.id())),
+                TicketSpecifications.newestFirst(),
+                limit);
+        return toPage(tickets, size, userId);
+    }
+
+    /**
+     * 티켓 통계 분석
+     *
+     * 티켓 생성/수정/삭제 시 갱신되는 집계 테이블(ticket_statistics_rollup)에서
+     * 올해/작년 집계 행을 한 번에 읽어 응답을 조립합니다.
+     * (집계가 없는 사용자의 재집계가 읽기 전용 트랜잭션과 커넥션을 따로 잡지 않도록 트랜잭션 없이 호출)
+     */
+    public TicketStatisticsResponse getTicketStatistics(String userId, Integer year) {
+        final int targetYear = (year != null) ? year : LocalDate.now().getYear();
+
+        Map<Integer, Map<Dimension, Map<String, Long>>> counts =
+                ticketStatisticsRollupService.findCounts(userId, targetYear, targetYear - 1);
+
+        long totalCountLastYear = counts.get(targetYear - 1)
+                .getOrDefault(Dimension.TOTAL, Collections.emptyMap())
+                .getOrDefault("", 0L);
+
+        return TicketStatisticsAssembler.assemble(counts.get(targetYear), totalCountLastYear);
     }
 
     /**
      * 연말 결산 (Year-in-Review)
+     *
+     * 대상 연도와 작년 티켓을 DB 커서로 한 행씩 읽으며 YearInReviewAccumulator로 한 번에 집계합니다.
+     * (티켓 수와 무관하게 메모리 사용량이 일정)
      */
     @Transactional(readOnly = true)
     public YearInReviewResponse getYearInReview(String userId, Integer year) {
         final int targetYear = (year != null) ? year : LocalDate.now().getYear();
-        final int lastYear = targetYear - 1;
-        
-        List<Ticket> allTickets = ticketRepository.findByUser_IdOrderByCreatedAtDesc(userId);
-        List<Ticket> yearTickets = allTickets.stream()
-                .filter(t -> t.getViewDate().getYear() == targetYear)
-                .sorted(Comparator.comparing(Ticket::getViewDate))
-                .collect(Collectors.toList());
-        
-        List<Ticket> lastYearTickets = allTickets.stream()
-                .filter(t -> t.getViewDate().getYear() == lastYear)
-                .collect(Collectors.toList());
-        
-        long totalCount = yearTickets.size();
-        long lastYearCount = lastYearTickets.size();
-        long change = totalCount - lastYearCount;
-        double changePercentage = lastYearCount > 0 ? (change * 100.0 / lastYearCount) : 0.0;
-        String trend = change > 0 ? "증가" : (change < 0 ? "감소" : "동일");
-        
-        YearInReviewResponse.YearComparison yearComparison = YearInReviewResponse.YearComparison.builder()
-                .lastYearCount(lastYearCount)
-                .change(change)
-                .changePercentage(changePercentage)
-                .trend(trend)
-                .build();
-        
-        // 장르 TOP 3
-        Map<String, Long> genreCounts = yearTickets.stream()
-                .filter(t -> t.getGenre() != null)
-                .collect(Collectors.groupingBy(Ticket::getGenre, Collectors.counting()));
-        
-        List<YearInReviewResponse.GenreRanking> topGenres = genreCounts.entrySet().stream()
-                .sorted(Map.Entry.<String, Long>comparingByValue().reversed())
-                .limit(3)
-                .map(entry -> {
-                    double percentage = totalCount > 0 ? (entry.getValue() * 100.0 / totalCount) : 0.0;
-                    return YearInReviewResponse.GenreRanking.builder()
-                            .genre(entry.getKey())
-                            .count(entry.getValue())
-                            .percentage(percentage)
-                            .build();
-                })
-                .collect(Collectors.toList());
-        
-        // 가장 많이 간 공연장
-        String mostVisitedVenue = yearTickets.stream()
-                .filter(t -> t.getVenue() != null)
-                .collect(Collectors.groupingBy(Ticket::getVenue, Collectors.counting()))
-                .entrySet().stream()
-                .max(Map.Entry.comparingByValue())
-                .map(Map.Entry::getKey)
-                .orElse(null);
-        
-        // 가장 많이 본 작품
-        String mostWatchedPerformance = yearTickets.stream()
-                .collect(Collectors.groupingBy(Ticket::getPerformanceTitle, Collectors.counting()))
-                .entrySet().stream()
-                .max(Map.Entry.comparingByValue())
-                .map(Map.Entry::getKey)
-                .orElse(null);
-        
-        // 가장 많이 본 아티스트
-        String mostWatchedArtist = yearTickets.stream()
-                .filter(t -> t.getArtist() != null)
-                .collect(Collectors.groupingBy(Ticket::getArtist, Collectors.counting()))
-                .entrySet().stream()
-                .max(Map.Entry.comparingByValue())
-                .map(Map.Entry::getKey)
-                .orElse(null);
-        
-        // 요일별 통계
-        Map<String, Long> dayCounts = new LinkedHashMap<>();
-        long weekdayCount = 0;
-        long weekendCount = 0;
-        String[] dayNames = {"일", "월", "화", "수", "목", "금", "토"};
-        for (Ticket ticket : yearTickets) {
-            DayOfWeek dayOfWeek = ticket.getViewDate().getDayOfWeek();
-            int dayIndex = dayOfWeek.getValue() % 7; // 0=월, 6=일
-            dayCounts.put(dayNames[dayIndex], dayCounts.getOrDefault(dayNames[dayIndex], 0L) + 1);
-            if (dayOfWeek == DayOfWeek.SATURDAY || dayOfWeek == DayOfWeek.SUNDAY) {
-                weekendCount++;
-            } else {
-                weekdayCount++;
+
+        YearInReviewAccumulator accumulator = new YearInReviewAccumulator(targetYear);
+        try (Stream<TicketYearInReviewRow> rows = ticketRepository.streamYearInReviewRows(
+                userId, LocalDate.of(targetYear - 1, 1, 1), LocalDate.of(targetYear, 12, 31))) {
+            rows.forEach(accumulator);
+        }
+        return accumulator.toResponse();
+    }
+
+    /**
+     * 기간별 티켓 통계 비교 (연도 vs 연도, 분기 vs 분기, 임의 기간)
+     *
+     * 모든 기간 × 모든 차원을 GROUPING SETS 쿼리 한 번으로 집계합니다.
+     * (연간 통계처럼 기간마다 API를 다시 호출하지 않아도 됨)
+     *
+     * @param periods 비교할 기간 (1 ~ MAX_COMPARE_PERIODS개, 각 기간 최대 MAX_COMPARE_PERIOD_DAYS일)
+     */
+    @Transactional(readOnly = true)
+    public TicketStatisticsComparisonResponse compareTicketStatistics(String userId,
+                                                                      List<TicketStatisticsCompareRequest.Period> periods) {
+        if (periods == null || periods.isEmpty() || periods.size() > MAX_COMPARE_PERIODS) {
+            throw new IllegalArgumentException("비교할 기간은 1 ~ " + MAX_COMPARE_PERIODS + "개여야 합니다.");
+        }
+        for (TicketStatisticsCompareRequest.Period period : periods) {
+            if (period == null || period.getStartDate() == null || period.getEndDate() == null
+                    || period.getEndDate().isBefore(period.getStartDate())) {
+                throw new IllegalArgumentException("기간의 시작일과 종료일이 올바르지 않습니다.");
+            }
+            if (ChronoUnit.DAYS.between(period.getStartDate(), period.getEndDate()) >= MAX_COMPARE_PERIOD_DAYS) {
+                throw new IllegalArgumentException("한 기간은 최대 " + MAX_COMPARE_PERIOD_DAYS + "일까지 조회할 수 있습니다.");
             }
         }
-        String preferredDayType = weekdayCount > weekendCount ? "평일" : (weekendCount > weekdayCount ? "주말" : "균형");
-        
-        YearInReviewResponse.DayOfWeekStatistics dayOfWeekStats = YearInReviewResponse.DayOfWeekStatistics.builder()
-                .countByDay(dayCounts)
-                .weekdayCount(weekdayCount)
-                .weekendCount(weekendCount)
-                .preferredDayType(preferredDayType)
-                .build();
-        
-        // 상반기 vs 하반기
-        long firstHalfCount = yearTickets.stream()
-                .filter(t -> t.getViewDate().getMonthValue() <= 6)
-                .count();
-        long secondHalfCount = yearTickets.size() - firstHalfCount;
-        String pattern = firstHalfCount > secondHalfCount ? "상반기 집중" : 
-                        (secondHalfCount > firstHalfCount ? "하반기 집중" : "균형");
-        
-        YearInReviewResponse.HalfYearPattern halfYearPattern = YearInReviewResponse.HalfYearPattern.builder()
-                .firstHalfCount(firstHalfCount)
-                .secondHalfCount(secondHalfCount)
-                .pattern(pattern)
-                .build();
-        
-        // 스페셜 포인트
-        YearInReviewResponse.TicketInfo firstTicket = null;
-        YearInReviewResponse.TicketInfo lastTicket = null;
-        YearInReviewResponse.TicketInfo mostMemorableTicket = null;
-        
-        if (!yearTickets.isEmpty()) {
-            Ticket first = yearTickets.get(0);
-            firstTicket = YearInReviewResponse.TicketInfo.builder()
-                    .ticketId(first.getId())
-                    .performanceTitle(first.getPerformanceTitle())
-                    .viewDate(first.getViewDate())
-                    .venue(first.getVenue())
-                    .reviewPreview(first.getReviewText() != null && first.getReviewText().length() > 50 ? 
-                            first.getReviewText().substring(0, 50) + "..." : first.getReviewText())
-                    .build();
-            
-            Ticket last = yearTickets.get(yearTickets.size() - 1);
-            lastTicket = YearInReviewResponse.TicketInfo.builder()
-                    .ticketId(last.getId())
-                    .performanceTitle(last.getPerformanceTitle())
-                    .viewDate(last.getViewDate())
-                    .venue(last.getVenue())
-                    .reviewPreview(last.getReviewText() != null && last.getReviewText().length() > 50 ? 
-                            last.getReviewText().substring(0, 50) + "..." : last.getReviewText())
-                    .build();
-            
-            // 가장 긴 후기를 가진 티켓을 가장 기억에 남는 티켓으로 선택
-            mostMemorableTicket = yearTickets.stream()
-                    .filter(t -> t.getReviewText() != null)
-                    .max(Comparator.comparing(t -> t.getReviewText().length()))
-                    .map(t -> YearInReviewResponse.TicketInfo.builder()
-                            .ticketId(t.getId())
-                            .performanceTitle(t.getPerformanceTitle())
-                            .viewDate(t.getViewDate())
-                            .venue(t.getVenue())
-                            .reviewPreview(t.getReviewText().length() > 50 ? 
-                                    t.getReviewText().substring(0, 50) + "..." : t.getReviewText())
-                            .build())
-                    .orElse(null);
+
+        List<Map<Dimension, Map<String, Long>>> counts = new ArrayList<>(periods.size());
+        for (int i = 0; i < periods.size(); i++) {
+            counts.add(new EnumMap<>(Dimension.class));
         }
-        
-        YearInReviewResponse.SpecialPoints specialPoints = YearInReviewResponse.SpecialPoints.builder()
-                .firstTicket(firstTicket)
-                .lastTicket(lastTicket)
-                .mostMemorableTicket(mostMemorableTicket)
-                .build();
-        
-        // 공연 소비 성향 유형 분석
-        String consumptionType = determineConsumptionType(yearTickets, genreCounts, mostVisitedVenue);
-        YearInReviewResponse.ConsumptionType consumptionTypeObj = YearInReviewResponse.ConsumptionType.builder()
-                .type(consumptionType)
-                .description(getConsumptionTypeDescription(consumptionType))
-                .confidence(0.8) // 간단한 분석이므로 고정값
-                .build();
-        
-        // 가장 사랑한 아티스트 TOP 5
-        List<YearInReviewResponse.FavoriteArtist> favoriteArtists = yearTickets.stream()
-                .filter(t -> t.getArtist() != null)
-                .collect(Collectors.groupingBy(Ticket::getArtist, Collectors.counting()))
-                .entrySet().stream()
-                .sorted(Map.Entry.<String, Long>comparingByValue().reversed())
-                .limit(5)
-                .map(entry -> {
-                    double percentage = totalCount > 0 ? (entry.getValue() * 100.0 / totalCount) : 0.0;
-                    return YearInReviewResponse.FavoriteArtist.builder()
-                            .artist(entry.getKey())
-                            .count(entry.getValue())
-                            .percentage(percentage)
-                            .build();
-                })
-                .collect(Collectors.toList());
-        
-        // 공연 수집 성향 지표
-        long ticketsWithImages = yearTickets.stream()
-                .filter(t -> t.getImageUrl() != null && !t.getImageUrl().isEmpty())
-                .count();
-        double imageGenerationRate = totalCount > 0 ? (ticketsWithImages * 100.0 / totalCount) : 0.0;
-        
-        YearInReviewResponse.CollectionMetrics collectionMetrics = YearInReviewResponse.CollectionMetrics.builder()
-                .totalImageGenerations(ticketsWithImages)
-                .ticketsWithImages(ticketsWithImages)
-                .imageGenerationRate(imageGenerationRate)
-                .build();
-        
-        return YearInReviewResponse.builder()
-                .year(targetYear)
-                .totalCount(totalCount)
-                .yearComparison(yearComparison)
-                .topGenres(topGenres)
-                .mostVisitedVenue(mostVisitedVenue)
-                .mostWatchedPerformance(mostWatchedPerformance)
-                .mostWatchedArtist(mostWatchedArtist)
-                .dayOfWeekStatistics(dayOfWeekStats)
-                .halfYearPattern(halfYearPattern)
-                .specialPoints(specialPoints)
-                .consumptionType(consumptionTypeObj)
-                .favoriteArtists(favoriteArtists)
-                .collectionMetrics(collectionMetrics)
+        for (TicketStatisticsCell cell : ticketRepository.findPeriodStatistics(userId, periods)) {
+            counts.get(cell.periodIndex())
+                    .computeIfAbsent(cell.dimension(), d -> new HashMap<>())
+                    .put(cell.dimKey(), cell.visitCount());
+        }
+
+        List<TicketStatisticsComparisonResponse.PeriodStatistics> results = new ArrayList<>(periods.size());
+        Long previousTotal = null;
+        for (int i = 0; i < periods.size(); i++) {
+            TicketStatisticsCompareRequest.Period period = periods.get(i);
+            long total = counts.get(i).getOrDefault(Dimension.TOTAL, Collections.emptyMap()).getOrDefault("", 0L);
+            results.add(TicketStatisticsComparisonResponse.PeriodStatistics.builder()
+                    .label(period.getLabel() != null ? period.getLabel() : period.getStartDate() + "~" + period.getEndDate())
+                    .startDate(period.getStartDate())
+                    .endDate(period.getEndDate())
+                    .totalCount(total)
+                    .changeFromPrevious(previousTotal != null ? total - previousTotal : null)
+                    .statistics(TicketStatisticsAssembler.assemblePeriod(counts.get(i), period.getStartDate(), period.getEndDate()))
+                    .build());
+            previousTotal = total;
+        }
+        return TicketStatisticsComparisonResponse.builder()
+                .periods(results)
                 .build();
     }
-    
-    private String determineConsumptionType(List<Ticket> tickets, Map<String, Long> genreCounts, String mostVisitedVenue) {
-        // 극장 러버형: 같은 공연장을 많이 방문
-        long sameVenueCount = tickets.stream()
-                .filter(t -> t.getVenue() != null && t.getVenue().equals(mostVisitedVenue))
-                .count();
-        double venueRatio = tickets.size() > 0 ? (sameVenueCount * 100.0 / tickets.size()) : 0.0;
-        if (venueRatio > 40) {
-            return "극장 러버형";
-        }
-        
-        // 배우 추종형: 같은 아티스트를 많이 봄
-        Map<String, Long> artistCounts = tickets.stream()
-                .filter(t -> t.getArtist() != null)
-                .collect(Collectors.groupingBy(Ticket::getArtist, Collectors.counting()));
-        if (!artistCounts.isEmpty()) {
-            long maxArtistCount = artistCounts.values().stream().max(Long::compare).orElse(0L);
-            double artistRatio = tickets.size() > 0 ? (maxArtistCount * 100.0 / tickets.size()) : 0.0;
-            if (artistRatio > 30) {
-                return "배우 추종형";
-            }
+
+    /**
+     * 다음 페이지 존재 여부 확인을 위해 size + 1건을 조회합니다.
+     */
+    static Pageable pageOf(int size) {
+        if (size < 1 || size > MAX_PAGE_SIZE) {
+            throw new IllegalArgumentException("페이지 크기는 1 ~ " + MAX_PAGE_SIZE + " 사이여야 합니다.");
         }
-        
-        // 신작 탐험가형: 같은 작품을 반복해서 보지 않음
-        Map<String, Long> performanceCounts = tickets.stream()
-                .collect(Collectors.groupingBy(Ticket::getPerformanceTitle, Collectors.counting()));
-        long uniquePerformances = performanceCounts.size();
-        double uniquenessRatio = tickets.size() > 0 ? (uniquePerformances * 100.0 / tickets.size()) : 0.0;
-        if (uniquenessRatio > 80) {
-            return "신작 탐험가형";
+        return PageRequest.of(0, size + 1);
+    }
+
+    private TicketPageResponse toPage(List<TicketListRow> tickets, int size, String viewerId) {
+        boolean hasNext = tickets.size() > size;
+        List<TicketListRow> page = hasNext ? tickets.subList(0, size) : tickets;
+        return TicketPageResponse.builder()
+                .items(toResponses(page, viewerId))
+                .nextCursor(hasNext ? TicketCursor.of(page.get(page.size() - 1)).encode() : null)
+                .hasNext(hasNext)
+                .build();
+    }
+
+    /**
+     * 티켓 목록을 응답으로 변환합니다.
+     *
+     * 좋아요 수는 tickets.like_count 컬럼에 버퍼의 미반영 증감을 더해 사용하고,
+     * 조회자 좋아요 여부는 목록 전체에 대해 쿼리 한 번으로 조회합니다. (티켓 수와 무관하게 쿼리 수 일정)
+     *
+     * @param viewerId 조회하는 사용자 ID (없으면 null)
+     */
+    List<TicketResponse> toResponses(List<TicketListRow> tickets, String viewerId) {
+        if (tickets.isEmpty()) {
+            return new ArrayList<>();
         }
-        
-        return "균형잡힌 관람자형";
+        Set<Long> likedTicketIds = viewerId == null ? Collections.emptySet() : new HashSet<>(
+                ticketLikeRepository.findLikedTicketIds(viewerId,
+                        tickets.stream().map(TicketListRow::id).collect(Collectors.toList())));
+
+        return tickets.stream()
+                .map(row -> TicketResponse.from(row,
+                        likedTicketIds.contains(row.id()),
+                        likeCountOf(row)))
+                .collect(Collectors.toList());
+    }
+
+    private long likeCountOf(TicketListRow row) {
+        long persisted = row.likeCount() != null ? row.likeCount() : 0L;
+        return Math.max(persisted + ticketLikeCountBuffer.pending(row.id()), 0L);
     }
-    
-    private String getConsumptionTypeDescription(String type) {
-        switch (type) {
-            case "극장 러버형":
-                return "특정 공연장을 자주 방문하는 당신은 그 공연장의 분위기와 시설을 사랑하는 타입입니다.";
-            case "배우 추종형":
-                return "특정 배우나 아티스트의 작품을 자주 보는 당신은 그들의 연기나 음악을 깊이 즐기는 타입입니다.";
-            case "신작 탐험가형":
-                return "다양한 작품을 탐험하는 당신은 새로운 경험을 추구하는 모험가 타입입니다.";
-            default:
-                return "균형잡힌 관람 패턴을 보이는 당신은 다양한 공연을 즐기는 타입입니다.";
+
+    /**
+     * 검색어를 접두사 tsquery로 변환합니다. ("레미 블루" → "레미:* & 블루:*")
+     * 한국어는 조사가 붙어 저장되므로("레미제라블을") 접두사 일치로 찾습니다.
+     */
+    private static String toPrefixTsQuery(String keyword) {
+        if (keyword == null) {
+            throw new IllegalArgumentException("검색어를 입력해주세요.");
         }
+        String tsQuery = Arrays.stream(keyword.trim().split("\\s+"))
+                .map(term -> term.replaceAll("[^\\p{L}\\p{N}]", ""))
+                .filter(term -> !term.isEmpty())
+                .map(term -> term + ":*")
+                .collect(Collectors.joining(" & "));
+        if (tsQuery.isEmpty()) {
+            throw new IllegalArgumentException("검색어를 입력해주세요.");
+        }
+        return tsQuery;
     }
 }
-
@@ -0,0 +1,171 @@
+package com.example.record.review.service;
+
+import com.example.record.review.dto.response.TicketStatisticsResponse;
+import com.example.record.review.entity.TicketStatisticsRollup.Dimension;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.*;
+import java.util.function.BiFunction;
+import java.util.stream.Collectors;
+
+/**
+ * 차원별 관람 수(차원 → 키 → 수)로부터 TicketStatisticsResponse를 조립합니다.
+ *
+ * 집계 테이블 기반 연간 통계와 기간 비교 통계(GROUPING SETS)에서 사용합니다.
+ * 키 규칙은 TicketStatisticsRollup.Dimension 설명을 따릅니다.
+ */
+final class TicketStatisticsAssembler {
+
+    /** PostgreSQL EXTRACT(DOW FROM date): 0=일요일, 1=월요일, ..., 6=토요일 */
+    static final String[] DAY_NAMES = {"일", "월", "화", "수", "목", "금", "토"};
+
+    private static final int TOP_LIMIT = 10;
+
+    private TicketStatisticsAssembler() {
+    }
+
+    /**
+     * 연간 통계 응답 조립
+     *
+     * @param counts 올해 차원별 관람 수
+     * @param totalCountLastYear 작년 총 관람 수
+     */
+    static TicketStatisticsResponse assemble(Map<Dimension, Map<String, Long>> counts, long totalCountLastYear) {
+        long totalCountThisYear = counts(counts, Dimension.TOTAL).getOrDefault("", 0L);
+
+        // 월별 추이 (빈 월은 0으로 채우기)
+        Map<String, Long> monthly = counts(counts, Dimension.MONTH);
+        Map<String, Long> monthlyTrend = new LinkedHashMap<>();
+        for (int month = 1; month <= 12; month++) {
+            String key = String.format("%02d", month);
+            monthlyTrend.put(key, monthly.getOrDefault(key, 0L));
+        }
+
+        TicketStatisticsResponse response = assembleDimensions(counts);
+        response.setTotalCountThisYear(totalCountThisYear);
+        response.setTotalCountLastYear(totalCountLastYear);
+        response.setYearOverYearChange(totalCountThisYear - totalCountLastYear);
+        response.setMonthlyTrend(monthlyTrend);
+        return response;
+    }
+
+    /**
+     * 기간 통계 응답 조립 (기간 비교용)
+     *
+     * 월별 추이는 "YYYY-MM" 키로 기간에 걸친 모든 달을 0으로 채워 넣습니다.
+     * 연도 기준 필드(totalCountThisYear 등)는 채우지 않습니다.
+     *
+     * @param counts 기간의 차원별 관람 수 (MONTH 키는 "YYYY-MM")
+     * @param startDate 시작일 (포함)
+     * @param endDate 종료일 (포함)
+     */
+    static TicketStatisticsResponse assemblePeriod(Map<Dimension, Map<String, Long>> counts,
+                                                   LocalDate startDate, LocalDate endDate) {
+        Map<String, Long> monthly = counts(counts, Dimension.MONTH);
+        Map<String, Long> monthlyTrend = new LinkedHashMap<>();
+        for (YearMonth month = YearMonth.from(startDate); !month.isAfter(YearMonth.from(endDate)); month = month.plusMonths(1)) {
+            String key = month.toString();
+            monthlyTrend.put(key, monthly.getOrDefault(key, 0L));
+        }
+
+        TicketStatisticsResponse response = assembleDimensions(counts);
+        response.setMonthlyTrend(monthlyTrend);
+        return response;
+    }
+
+    /**
+     * 연도와 무관한 차원(장르/공연장/작품/아티스트/요일/평일·주말/상·하반기)을 채운 응답을 만듭니다.
+     * MONTH 키는 "MM" 또는 "YYYY-MM" 형식 모두 허용합니다. (마지막 두 자리를 월로 사용)
+     */
+    static TicketStatisticsResponse assembleDimensions(Map<Dimension, Map<String, Long>> counts) {
+        // 장르별 통계 (장르 없음은 빈 문자열 키 → null)
+        Map<String, Long> genres = counts(counts, Dimension.GENRE);
+        long totalForGenre = genres.values().stream().mapToLong(Long::longValue).sum();
+        List<TicketStatisticsResponse.GenreStatistics> genreStats = sortedByCountDesc(genres).stream()
+                .map(e -> TicketStatisticsResponse.GenreStatistics.builder()
+                        .genre(e.getKey().isEmpty() ? null : e.getKey())
+                        .count(e.getValue())
+                        .percentage(totalForGenre > 0 ? (e.getValue() * 100.0 / totalForGenre) : 0.0)
+                        .build())
+                .collect(Collectors.toList());
+
+        List<TicketStatisticsResponse.VenueStatistics> topVenues = top(counts(counts, Dimension.VENUE),
+                (venue, count) -> TicketStatisticsResponse.VenueStatistics.builder().venue(venue).count(count).build());
+        List<TicketStatisticsResponse.PerformanceStatistics> topPerformances = top(counts(counts, Dimension.PERFORMANCE),
+                (title, count) -> TicketStatisticsResponse.PerformanceStatistics.builder().performanceTitle(title).count(count).build());
+        List<TicketStatisticsResponse.ArtistStatistics> topArtists = top(counts(counts, Dimension.ARTIST),
+                (artist, count) -> TicketStatisticsResponse.ArtistStatistics.builder().artist(artist).count(count).build());
+
+        // 요일별 통계 + 평일/주말 비율
+        Map<String, Long> days = counts(counts, Dimension.DAY_OF_WEEK);
+        Map<String, Long> dayOfWeekStats = new LinkedHashMap<>();
+        long weekdayCount = 0;
+        long weekendCount = 0;
+        for (int dow = 0; dow < 7; dow++) {
+            Long count = days.get(String.valueOf(dow));
+            if (count == null) {
+                continue;
+            }
+            dayOfWeekStats.put(DAY_NAMES[dow], count);
+            if (dow == 0 || dow == 6) {
+                weekendCount += count;
+            } else {
+                weekdayCount += count;
+            }
+        }
+        long totalDayCount = weekdayCount + weekendCount;
+
+        // 상반기 vs 하반기
+        long firstHalfCount = 0;
+        long secondHalfCount = 0;
+        for (Map.Entry<String, Long> e : counts(counts, Dimension.MONTH).entrySet()) {
+            String key = e.getKey();
+            int month = Integer.parseInt(key.substring(key.length() - 2));
+            if (month <= 6) {
+                firstHalfCount += e.getValue();
+            } else {
+                secondHalfCount += e.getValue();
+            }
+        }
+        long totalHalfYearCount = firstHalfCount + secondHalfCount;
+
+        return TicketStatisticsResponse.builder()
+                .genreStatistics(genreStats)
+                .topVenues(topVenues)
+                .topPerformances(topPerformances)
+                .topArtists(topArtists)
+                .dayOfWeekStatistics(dayOfWeekStats)
+                .weekdayWeekendRatio(TicketStatisticsResponse.WeekdayWeekendRatio.builder()
+                        .weekdayCount(weekdayCount)
+                        .weekendCount(weekendCount)
+                        .weekdayPercentage(totalDayCount > 0 ? (weekdayCount * 100.0 / totalDayCount) : 0.0)
+                        .weekendPercentage(totalDayCount > 0 ? (weekendCount * 100.0 / totalDayCount) : 0.0)
+                        .build())
+                .halfYearComparison(TicketStatisticsResponse.HalfYearComparison.builder()
+                        .firstHalfCount(firstHalfCount)
+                        .secondHalfCount(secondHalfCount)
+                        .firstHalfPercentage(totalHalfYearCount > 0 ? (firstHalfCount * 100.0 / totalHalfYearCount) : 0.0)
+                        .secondHalfPercentage(totalHalfYearCount > 0 ? (secondHalfCount * 100.0 / totalHalfYearCount) : 0.0)
+                        .build())
+                .build();
+    }
+
+    private static Map<String, Long> counts(Map<Dimension, Map<String, Long>> counts, Dimension dimension) {
+        return counts.getOrDefault(dimension, Collections.emptyMap());
+    }
+
+    private static List<Map.Entry<String, Long>> sortedByCountDesc(Map<String, Long> counts) {
+        return counts.entrySet().stream()
+                .sorted(Map.Entry.<String, Long>comparingByValue().reversed()
+                        .thenComparing(Map.Entry.comparingByKey()))
+                .collect(Collectors.toList());
+    }
+
+    private static <T> List<T> top(Map<String, Long> counts, BiFunction<String, Long, T> mapper) {
+        return sortedByCountDesc(counts).stream()
+                .limit(TOP_LIMIT)
+                .map(e -> mapper.apply(e.getKey(), e.getValue()))
+                .collect(Collectors.toList());
+    }
+}
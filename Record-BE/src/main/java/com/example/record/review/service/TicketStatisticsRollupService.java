@@ -0,0 +1,191 @@
+package com.example.record.review.service;
+
+import com.example.record.review.dto.projection.TicketStatisticsFacts;
+import com.example.record.review.entity.TicketStatisticsRollup;
+import com.example.record.review.entity.TicketStatisticsRollup.Dimension;
+import com.example.record.review.repository.TicketRepository;
+import com.example.record.review.repository.TicketStatisticsRollupRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.*;
+
+/**
+ * 티켓 통계 집계(rollup) 서비스
+ *
+ * 역할:
+ * 1. 티켓 생성/수정/삭제 시 같은 트랜잭션에서 집계 행을 증감
+ * 2. 통계 조회 시 (user_id, stat_year) 인덱스 한 번 조회로 집계 값을 반환
+ * 3. 집계가 아직 없는 사용자(기존 데이터)는 첫 조회 시 티켓으로부터 재집계
+ */
+@Slf4j
+@Service
+public class TicketStatisticsRollupService {
+
+    /** 집계가 만들어졌는지 표시하는 마커 행의 연도 */
+    private static final int MARKER_YEAR = 0;
+
+    private final TicketStatisticsRollupRepository rollupRepository;
+    private final TicketRepository ticketRepository;
+    private final TransactionTemplate readTransaction;
+    private final TransactionTemplate rebuildTransaction;
+
+    public TicketStatisticsRollupService(TicketStatisticsRollupRepository rollupRepository,
+                                         TicketRepository ticketRepository,
+                                         PlatformTransactionManager transactionManager) {
+        this.rollupRepository = rollupRepository;
+        this.ticketRepository = ticketRepository;
+        // 조회와 재집계를 차례로 각자 트랜잭션에서 실행 (한 요청이 커넥션을 하나만 잡음)
+        this.readTransaction = new TransactionTemplate(transactionManager);
+        this.readTransaction.setReadOnly(true);
+        this.rebuildTransaction = new TransactionTemplate(transactionManager);
+    }
+
+    /**
+     * 티켓 생성 반영 (+1)
+     */
+    @Transactional
+    public void applyCreated(String userId, TicketStatisticsFacts created) {
+        Map<RollupKey, Long> deltas = new HashMap<>();
+        accumulate(deltas, created, 1);
+        apply(userId, deltas);
+    }
+
+    /**
+     * 여러 티켓 생성 반영 (일괄 등록용, 키별 증감을 합쳐 한 번씩만 반영)
+     */
+    @Transactional
+    public void applyCreatedAll(String userId, Collection<TicketStatisticsFacts> created) {
+        Map<RollupKey, Long> deltas = new HashMap<>();
+        created.forEach(facts -> accumulate(deltas, facts, 1));
+        apply(userId, deltas);
+    }
+
+    /**
+     * 티켓 수정 반영 (이전 값 -1, 새 값 +1, 변하지 않은 키는 상쇄)
+     */
+    @Transactional
+    public void applyUpdated(String userId, TicketStatisticsFacts before, TicketStatisticsFacts after) {
+        Map<RollupKey, Long> deltas = new HashMap<>();
+        accumulate(deltas, before, -1);
+        accumulate(deltas, after, 1);
+        apply(userId, deltas);
+    }
+
+    /**
+     * 티켓 삭제 반영 (-1)
+     */
+    @Transactional
+    public void applyDeleted(String userId, TicketStatisticsFacts deleted) {
+        Map<RollupKey, Long> deltas = new HashMap<>();
+        accumulate(deltas, deleted, -1);
+        apply(userId, deltas);
+    }
+
+    /**
+     * 여러 연도의 집계 값을 조회합니다.
+     *
+     * 집계가 없으면 읽기 트랜잭션을 끝낸 뒤 재집계 트랜잭션(사용자 advisory lock)에서 다시 만들고 읽습니다.
+     * 읽기 전용 트랜잭션 밖에서 호출해야 합니다. (안에서 호출하면 재집계 쓰기가 읽기 전용 트랜잭션에 합류함)
+     *
+     * @param userId 사용자 ID
+     * @param years 조회할 연도들
+     * @return 연도 → 차원 → 키 → 관람 수 (0 이하인 값은 제외)
+     */
+    public Map<Integer, Map<Dimension, Map<String, Long>>> findCounts(String userId, int... years) {
+        List<Integer> yearList = new ArrayList<>(years.length + 1);
+        yearList.add(MARKER_YEAR);
+        for (int year : years) {
+            yearList.add(year);
+        }
+
+        List<TicketStatisticsRollup> rows = readTransaction.execute(status ->
+                rollupRepository.findByUserIdAndStatYearIn(userId, yearList));
+        boolean initialized = rows.stream().anyMatch(r -> r.getDimension() == Dimension.INITIALIZED);
+        if (!initialized) {
+            rows = rebuildTransaction.execute(status -> {
+                rebuild(userId);
+                return rollupRepository.findByUserIdAndStatYearIn(userId, yearList);
+            });
+        }
+
+        Map<Integer, Map<Dimension, Map<String, Long>>> result = new HashMap<>();
+        for (int year : years) {
+            result.put(year, new EnumMap<>(Dimension.class));
+        }
+        for (TicketStatisticsRollup row : rows) {
+            if (row.getDimension() == Dimension.INITIALIZED || row.getVisitCount() <= 0) {
+                continue;
+            }
+            result.get(row.getStatYear())
+                    .computeIfAbsent(row.getDimension(), d -> new HashMap<>())
+                    .put(row.getDimKey(), row.getVisitCount());
+        }
+        return result;
+    }
+
+    /**
+     * 특정 사용자의 집계를 티켓 데이터로부터 다시 만듭니다.
+     * (집계 테이블 도입 이전에 등록된 티켓이 있는 사용자용)
+     */
+    private void rebuild(String userId) {
+        rollupRepository.lockUser(userId);
+        rollupRepository.deleteByUserId(userId);
+
+        Map<RollupKey, Long> counts = new HashMap<>();
+        for (TicketStatisticsFacts facts : ticketRepository.findStatisticsFactsByUserId(userId)) {
+            accumulate(counts, facts, 1);
+        }
+        counts.put(new RollupKey(MARKER_YEAR, Dimension.INITIALIZED, ""), 1L);
+
+        List<TicketStatisticsRollup> rows = counts.entrySet().stream()
+                .map(e -> TicketStatisticsRollup.builder()
+                        .userId(userId)
+                        .statYear(e.getKey().year())
+                        .dimension(e.getKey().dimension())
+                        .dimKey(e.getKey().key())
+                        .visitCount(e.getValue())
+                        .build())
+                .toList();
+        rollupRepository.saveAll(rows);
+        log.info("티켓 통계 재집계 완료: userId={}, rows={}", userId, rows.size());
+    }
+
+    private void apply(String userId, Map<RollupKey, Long> deltas) {
+        deltas.values().removeIf(delta -> delta == 0);
+        if (deltas.isEmpty()) {
+            return;
+        }
+        rollupRepository.lockUser(userId);
+        deltas.forEach((key, delta) -> rollupRepository.upsert(
+                userId, key.year(), key.dimension().name(), key.key(), delta));
+    }
+
+    private static void accumulate(Map<RollupKey, Long> target, TicketStatisticsFacts facts, long delta) {
+        if (facts == null || facts.viewDate() == null) {
+            return;
+        }
+        int year = facts.viewDate().getYear();
+        // DayOfWeek: 월(1) ~ 일(7) → PostgreSQL DOW와 동일하게 일(0) ~ 토(6)
+        int dayOfWeek = facts.viewDate().getDayOfWeek().getValue() % 7;
+
+        target.merge(new RollupKey(year, Dimension.TOTAL, ""), delta, Long::sum);
+        target.merge(new RollupKey(year, Dimension.MONTH, String.format("%02d", facts.viewDate().getMonthValue())), delta, Long::sum);
+        target.merge(new RollupKey(year, Dimension.DAY_OF_WEEK, String.valueOf(dayOfWeek)), delta, Long::sum);
+        target.merge(new RollupKey(year, Dimension.GENRE, facts.genre() != null ? facts.genre() : ""), delta, Long::sum);
+        if (facts.venue() != null) {
+            target.merge(new RollupKey(year, Dimension.VENUE, facts.venue()), delta, Long::sum);
+        }
+        if (facts.artist() != null) {
+            target.merge(new RollupKey(year, Dimension.ARTIST, facts.artist()), delta, Long::sum);
+        }
+        if (facts.performanceTitle() != null) {
+            target.merge(new RollupKey(year, Dimension.PERFORMANCE, facts.performanceTitle()), delta, Long::sum);
+        }
+    }
+
+    private record RollupKey(int year, Dimension dimension, String key) {}
+}
@@ -0,0 +1,254 @@
+package com.example.record.review.service;
+
+import com.example.record.review.dto.projection.TicketYearInReviewRow;
+import com.example.record.review.dto.response.YearInReviewResponse;
+
+import java.time.LocalDate;
+import java.util.*;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+
+/**
+ * 연말 결산 한 번 순회(one-pass) 집계기
+ *
+ * 역할: 티켓 행을 한 건씩 받아 장르/공연장/작품/아티스트/요일/상·하반기/이미지/첫·마지막 티켓을
+ * 동시에 누적하고, 마지막에 YearInReviewResponse를 만듭니다.
+ *
+ * 사용 규칙:
+ * - 행은 관람일 오름차순(같은 날은 등록 최신순)으로 넣어야 첫/마지막 티켓이 기존과 같습니다.
+ * - 대상 연도와 작년 행만 집계하고, 나머지 연도 행은 무시합니다.
+ * - 상태를 가지므로 요청마다 새로 만들어 사용합니다. (스레드 안전하지 않음)
+ */
+final class YearInReviewAccumulator implements Consumer<TicketYearInReviewRow> {
+
+    private static final String[] DAY_NAMES = TicketStatisticsAssembler.DAY_NAMES;
+    private static final int PREVIEW_LENGTH = 50;
+
+    private final int targetYear;
+
+    private long totalCount;
+    private long lastYearCount;
+    private long firstHalfCount;
+    private long weekdayCount;
+    private long weekendCount;
+    private long ticketsWithImages;
+
+    private final Map<String, Long> genreCounts = new HashMap<>();
+    private final Map<String, Long> venueCounts = new HashMap<>();
+    private final Map<String, Long> performanceCounts = new HashMap<>();
+    private final Map<String, Long> artistCounts = new HashMap<>();
+    private final Map<String, Long> dayCounts = new LinkedHashMap<>();
+
+    private TicketYearInReviewRow first;
+    private TicketYearInReviewRow last;
+    private TicketYearInReviewRow mostMemorable;
+
+    YearInReviewAccumulator(int targetYear) {
+        this.targetYear = targetYear;
+    }
+
+    @Override
+    public void accept(TicketYearInReviewRow row) {
+        LocalDate viewDate = row.viewDate();
+        if (viewDate == null) {
+            return;
+        }
+        int year = viewDate.getYear();
+        if (year == targetYear - 1) {
+            lastYearCount++;
+            return;
+        }
+        if (year != targetYear) {
+            return;
+        }
+
+        totalCount++;
+        if (first == null) {
+            first = row;
+        }
+        last = row;
+        // 같은 길이면 먼저 본 티켓 유지
+        if (row.reviewLength() != null
+                && (mostMemorable == null || row.reviewLength() > mostMemorable.reviewLength())) {
+            mostMemorable = row;
+        }
+
+        if (row.genre() != null) {
+            genreCounts.merge(row.genre(), 1L, Long::sum);
+        }
+        if (row.venue() != null) {
+            venueCounts.merge(row.venue(), 1L, Long::sum);
+        }
+        if (row.artist() != null) {
+            artistCounts.merge(row.artist(), 1L, Long::sum);
+        }
+        performanceCounts.merge(row.performanceTitle(), 1L, Long::sum);
+
+        // DayOfWeek: 월(1) ~ 일(7) → 일(0) ~ 토(6)
+        int dayIndex = viewDate.getDayOfWeek().getValue() % 7;
+        dayCounts.merge(DAY_NAMES[dayIndex], 1L, Long::sum);
+        if (dayIndex == 0 || dayIndex == 6) {
+            weekendCount++;
+        } else {
+            weekdayCount++;
+        }
+
+        if (viewDate.getMonthValue() <= 6) {
+            firstHalfCount++;
+        }
+        if (row.imageUrl() != null && !row.imageUrl().isEmpty()) {
+            ticketsWithImages++;
+        }
+    }
+
+    /**
+     * 누적한 값으로 연말 결산 응답을 만듭니다.
+     */
+    YearInReviewResponse toResponse() {
+        long change = totalCount - lastYearCount;
+        double changePercentage = lastYearCount > 0 ? (change * 100.0 / lastYearCount) : 0.0;
+        String trend = change > 0 ? "증가" : (change < 0 ? "감소" : "동일");
+
+        List<YearInReviewResponse.GenreRanking> topGenres = sortedByCountDesc(genreCounts).stream()
+                .limit(3)
+                .map(entry -> YearInReviewResponse.GenreRanking.builder()
+                        .genre(entry.getKey())
+                        .count(entry.getValue())
+                        .percentage(percentage(entry.getValue()))
+                        .build())
+                .collect(Collectors.toList());
+
+        List<Map.Entry<String, Long>> artists = sortedByCountDesc(artistCounts);
+        List<YearInReviewResponse.FavoriteArtist> favoriteArtists = artists.stream()
+                .limit(5)
+                .map(entry -> YearInReviewResponse.FavoriteArtist.builder()
+                        .artist(entry.getKey())
+                        .count(entry.getValue())
+                        .percentage(percentage(entry.getValue()))
+                        .build())
+                .collect(Collectors.toList());
+
+        String mostVisitedVenue = topKey(sortedByCountDesc(venueCounts));
+        String mostWatchedPerformance = topKey(sortedByCountDesc(performanceCounts));
+        String mostWatchedArtist = topKey(artists);
+
+        String preferredDayType = weekdayCount > weekendCount ? "평일" : (weekendCount > weekdayCount ? "주말" : "균형");
+        long secondHalfCount = totalCount - firstHalfCount;
+        String pattern = firstHalfCount > secondHalfCount ? "상반기 집중" :
+                        (secondHalfCount > firstHalfCount ? "하반기 집중" : "균형");
+
+        String consumptionType = determineConsumptionType(mostVisitedVenue);
+
+        return YearInReviewResponse.builder()
+                .year(targetYear)
+                .totalCount(totalCount)
+                .yearComparison(YearInReviewResponse.YearComparison.builder()
+                        .lastYearCount(lastYearCount)
+                        .change(change)
+                        .changePercentage(changePercentage)
+                        .trend(trend)
+                        .build())
+                .topGenres(topGenres)
+                .mostVisitedVenue(mostVisitedVenue)
+                .mostWatchedPerformance(mostWatchedPerformance)
+                .mostWatchedArtist(mostWatchedArtist)
+                .dayOfWeekStatistics(YearInReviewResponse.DayOfWeekStatistics.builder()
+                        .countByDay(dayCounts)
+                        .weekdayCount(weekdayCount)
+                        .weekendCount(weekendCount)
+                        .preferredDayType(preferredDayType)
+                        .build())
+                .halfYearPattern(YearInReviewResponse.HalfYearPattern.builder()
+                        .firstHalfCount(firstHalfCount)
+                        .secondHalfCount(secondHalfCount)
+                        .pattern(pattern)
+                        .build())
+                .specialPoints(YearInReviewResponse.SpecialPoints.builder()
+                        .firstTicket(toTicketInfo(first))
+                        .lastTicket(toTicketInfo(last))
+                        .mostMemorableTicket(toTicketInfo(mostMemorable))
+                        .build())
+                .consumptionType(YearInReviewResponse.ConsumptionType.builder()
+                        .type(consumptionType)
+                        .description(getConsumptionTypeDescription(consumptionType))
+                        .confidence(0.8) // 간단한 분석이므로 고정값
+                        .build())
+                .favoriteArtists(favoriteArtists)
+                .collectionMetrics(YearInReviewResponse.CollectionMetrics.builder()
+                        .totalImageGenerations(ticketsWithImages)
+                        .ticketsWithImages(ticketsWithImages)
+                        .imageGenerationRate(percentage(ticketsWithImages))
+                        .build())
+                .build();
+    }
+
+    private String determineConsumptionType(String mostVisitedVenue) {
+        if (totalCount == 0) {
+            return "균형잡힌 관람자형";
+        }
+
+        // 극장 러버형: 같은 공연장을 많이 방문
+        long sameVenueCount = mostVisitedVenue != null ? venueCounts.get(mostVisitedVenue) : 0L;
+        if (percentage(sameVenueCount) > 40) {
+            return "극장 러버형";
+        }
+
+        // 배우 추종형: 같은 아티스트를 많이 봄
+        long maxArtistCount = artistCounts.values().stream().max(Long::compare).orElse(0L);
+        if (percentage(maxArtistCount) > 30) {
+            return "배우 추종형";
+        }
+
+        // 신작 탐험가형: 같은 작품을 반복해서 보지 않음
+        if (percentage(performanceCounts.size()) > 80) {
+            return "신작 탐험가형";
+        }
+
+        return "균형잡힌 관람자형";
+    }
+
+    private static String getConsumptionTypeDescription(String type) {
+        switch (type) {
+            case "극장 러버형":
+                return "특정 공연장을 자주 방문하는 당신은 그 공연장의 분위기와 시설을 사랑하는 타입입니다.";
+            case "배우 추종형":
+                return "특정 배우나 아티스트의 작품을 자주 보는 당신은 그들의 연기나 음악을 깊이 즐기는 타입입니다.";
+            case "신작 탐험가형":
+                return "다양한 작품을 탐험하는 당신은 새로운 경험을 추구하는 모험가 타입입니다.";
+            default:
+                return "균형잡힌 관람 패턴을 보이는 당신은 다양한 공연을 즐기는 타입입니다.";
+        }
+    }
+
+    private double percentage(long count) {
+        return totalCount > 0 ? (count * 100.0 / totalCount) : 0.0;
+    }
+
+    private static YearInReviewResponse.TicketInfo toTicketInfo(TicketYearInReviewRow row) {
+        if (row == null) {
+            return null;
+        }
+        String preview = row.reviewHead();
+        if (preview != null && row.reviewLength() != null && row.reviewLength() > PREVIEW_LENGTH) {
+            preview = preview + "...";
+        }
+        return YearInReviewResponse.TicketInfo.builder()
+                .ticketId(row.id())
+                .performanceTitle(row.performanceTitle())
+                .viewDate(row.viewDate())
+                .venue(row.venue())
+                .reviewPreview(preview)
+                .build();
+    }
+
+    private static String topKey(List<Map.Entry<String, Long>> sorted) {
+        return sorted.isEmpty() ? null : sorted.get(0).getKey();
+    }
+
+    private static List<Map.Entry<String, Long>> sortedByCountDesc(Map<String, Long> counts) {
+        return counts.entrySet().stream()
+                .sorted(Map.Entry.<String, Long>comparingByValue().reversed()
+                        .thenComparing(Map.Entry.comparingByKey(Comparator.nullsFirst(Comparator.naturalOrder()))))
+                .collect(Collectors.toList());
+    }
+}
@@ -1,16 +1,76 @@
 package com.example.record.user;
 
+import com.example.record.ApiKeyRegistry;
+import com.example.record.auth.email.EmailVerificationStore;
+import com.example.record.auth.security.AuthPrincipalCache;
+import com.example.record.ratelimit.AiRateLimiter;
+import com.example.record.review.service.TicketResponseCache;
+import lombok.RequiredArgsConstructor;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
+import java.util.Map;
+
 @RestController
 @RequestMapping("/admin")
+@RequiredArgsConstructor
 public class AdminController {
 
+    private final TicketResponseCache ticketResponseCache;
+    private final FriendCountCache friendCountCache;
+    private final AuthPrincipalCache authPrincipalCache;
+    private final ApiKeyRegistry apiKeyRegistry;
+    private final AiRateLimiter aiRateLimiter;
+    private final EmailVerificationStore emailVerificationStore;
+
     // GET /admin/dashboard 요청 시 관리자용 메시지 반환
     @GetMapping("/dashboard")
     public String adminDashboard() {
         return "관리자 전용 페이지입니다.";
     }
+
+    // GET /admin/cache/ticket-responses 요청 시 통계/연말 결산 응답 캐시 지표 반환
+    @GetMapping("/cache/ticket-responses")
+    public Map<String, Object> ticketResponseCacheStats() {
+        return ticketResponseCache.stats();
+    }
+
+    // GET /admin/cache/friend-counts 요청 시 친구 수/받은 요청 수 캐시 지표 반환
+    @GetMapping("/cache/friend-counts")
+    public Map<String, Object> friendCountCacheStats() {
+        return friendCountCache.stats();
+    }
+
+    // GET /admin/cache/auth-principals 요청 시 인증 사용자(JWT 주체) 캐시 지표 반환
+    @GetMapping("/cache/auth-principals")
+    public Map<String, Object> authPrincipalCacheStats() {
+        return authPrincipalCache.stats();
+    }
+
+    // GET /admin/cache/email-verifications 요청 시 이메일 인증 코드 저장소 지표 반환
+    @GetMapping("/cache/email-verifications")
+    public Map<String, Object> emailVerificationStats() {
+        return emailVerificationStore.stats();
+    }
+
+    // GET /admin/api-keys 요청 시 API 키 레지스트리 지표(허용/거절 수) 반환
+    @GetMapping("/api-keys")
+    public Map<String, Object> apiKeyStats() {
+        return apiKeyRegistry.stats();
+    }
+
+    // POST /admin/api-keys/refresh 요청 시 api_key 테이블을 다시 읽어 즉시 반영
+    @PostMapping("/api-keys/refresh")
+    public Map<String, Object> refreshApiKeys() {
+        apiKeyRegistry.refresh();
+        return apiKeyRegistry.stats();
+    }
+
+    // GET /admin/ai-limits 요청 시 AI 엔드포인트 요청 제한 상태(공급자별 동시 호출 수, 거절 수) 반환
+    @GetMapping("/ai-limits")
+    public Map<String, Object> aiLimitStats() {
+        return aiRateLimiter.stats();
+    }
 }
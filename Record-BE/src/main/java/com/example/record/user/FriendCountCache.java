@@ -0,0 +1,150 @@
+package com.example.record.user;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.ToLongFunction;
+
+/**
+ * 친구 수 / 받은 친구 요청 수 캐시
+ *
+ * 역할:
+ * 1. 화면마다 폴링하는 배지 숫자를 사용자별로 보관 (적중 시 맵 조회 한 번, 객체 생성 없음)
+ * 2. 친구 요청/수락/거절/삭제가 커밋되면 관련된 두 사용자의 값만 무효화
+ * 3. 미스일 때는 (status, user_id) / (status, friend_id) 인덱스 COUNT 쿼리로 다시 채움
+ *
+ * 커밋 시 값을 직접 증감하지 않고 무효화하는 이유:
+ * DB 커밋과 afterCommit 사이에 다른 요청이 이미 커밋된 값을 읽어 저장할 수 있어 증감이 두 번 반영될 수 있습니다.
+ * 대신 TicketResponseCache와 같이, 조회 시작 시점의 사용자 세대(generation)가 저장 시점까지 그대로일 때만 저장합니다.
+ */
+@Component
+public class FriendCountCache {
+
+    /**
+     * 캐시 대상 숫자 종류
+     */
+    public enum Kind {
+        /** 친구 수 (ACCEPTED, 보낸/받은 쪽 모두) */
+        FRIENDS,
+        /** 받은 대기 중 친구 요청 수 */
+        PENDING_RECEIVED
+    }
+
+    /** 사용자 세대 카운터 스트라이프 수 (2의 거듭제곱) */
+    private static final int GENERATION_STRIPES = 1024;
+
+    private final int maxEntries;
+    private final Map<Kind, ConcurrentHashMap<String, Long>> counts = Map.of(
+            Kind.FRIENDS, new ConcurrentHashMap<>(),
+            Kind.PENDING_RECEIVED, new ConcurrentHashMap<>());
+    private final AtomicLongArray generations = new AtomicLongArray(GENERATION_STRIPES);
+
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    private final AtomicLong invalidations = new AtomicLong();
+
+    public FriendCountCache(@Value("${app.cache.friend-count.max-entries:100000}") int maxEntries) {
+        this.maxEntries = maxEntries;
+    }
+
+    /**
+     * 캐시된 숫자를 반환하고, 없으면 loader로 조회 후 저장합니다.
+     *
+     * @param kind 숫자 종류
+     * @param userId 사용자 ID
+     * @param loader COUNT 쿼리
+     */
+    public long getOrLoad(Kind kind, String userId, ToLongFunction<String> loader) {
+        ConcurrentHashMap<String, Long> map = counts.get(kind);
+        Long cached = map.get(userId);
+        if (cached != null) {
+            hits.incrementAndGet();
+            return cached;
+        }
+
+        misses.incrementAndGet();
+        long generation = generations.get(stripe(userId));
+        long count = loader.applyAsLong(userId);
+
+        // 조회 도중 해당 사용자의 친구 관계가 바뀌었으면 저장하지 않음
+        // (세대 확인과 저장을 같은 키 잠금 안에서 해 무효화와 순서가 섞이지 않게 함)
+        if (map.size() >= maxEntries) {
+            evictOne(map);
+        }
+        map.compute(userId, (key, existing) ->
+                generations.get(stripe(userId)) == generation ? Long.valueOf(count) : existing);
+        return count;
+    }
+
+    /**
+     * 현재 트랜잭션이 커밋된 뒤 사용자들의 숫자를 무효화합니다.
+     * (트랜잭션 밖에서 호출하면 즉시 무효화)
+     */
+    public void invalidateAfterCommit(String... userIds) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    invalidate(userIds);
+                }
+            });
+        } else {
+            invalidate(userIds);
+        }
+    }
+
+    /**
+     * 사용자들의 숫자를 즉시 무효화합니다.
+     */
+    public void invalidate(String... userIds) {
+        for (String userId : userIds) {
+            generations.incrementAndGet(stripe(userId));
+            for (ConcurrentHashMap<String, Long> map : counts.values()) {
+                if (map.remove(userId) != null) {
+                    invalidations.incrementAndGet();
+                }
+            }
+        }
+    }
+
+    /**
+     * 캐시 지표 조회
+     */
+    public Map<String, Object> stats() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("friendEntries", counts.get(Kind.FRIENDS).size());
+        stats.put("pendingEntries", counts.get(Kind.PENDING_RECEIVED).size());
+        long hitCount = hits.get();
+        long missCount = misses.get();
+        stats.put("hits", hitCount);
+        stats.put("misses", missCount);
+        stats.put("hitRate", hitCount + missCount > 0 ? (hitCount * 100.0 / (hitCount + missCount)) : 0.0);
+        stats.put("invalidations", invalidations.get());
+        stats.put("maxEntries", maxEntries);
+        return stats;
+    }
+
+    /**
+     * 가득 찼을 때 임의의 항목 하나를 버립니다. (다음 조회 때 COUNT로 다시 채워짐)
+     */
+    private static void evictOne(ConcurrentHashMap<String, Long> map) {
+        Iterator<String> it = map.keySet().iterator();
+        if (it.hasNext()) {
+            it.next();
+            it.remove();
+        }
+    }
+
+    private static int stripe(String userId) {
+        int h = userId.hashCode();
+        return (h ^ (h >>> 16)) & (GENERATION_STRIPES - 1);
+    }
+}
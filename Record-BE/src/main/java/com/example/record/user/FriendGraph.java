@@ -0,0 +1,319 @@
+package com.example.record.user;
+
+import com.example.record.user.dto.FriendshipEdge;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.*;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.Stream;
+
+/**
+ * 메모리 친구 그래프 (수락된 친구 관계 인접 목록)
+ *
+ * 역할:
+ * 1. 시작 시 friendships(ACCEPTED)를 한 번 읽어 사용자별 친구 집합을 만듦
+ * 2. 친구 수락/삭제가 커밋되면 간선을 바로 추가/제거
+ * 3. 친구의 친구를 세어 "알 수도 있는 사람" 후보를 계산 (SQL 재귀 조회 없이 마이크로초 단위)
+ *
+ * 메모리 구조:
+ * - 사용자 ID(String)는 처음 볼 때 0부터 증가하는 int 번호를 붙이고
+ * - 친구 집합은 정렬된 int 배열(IntSet)로 보관해 박싱/노드 객체가 없습니다.
+ *
+ * 다른 서버 인스턴스에서 일어난 변경도 반영되도록 주기적으로(app.friend-graph.rebuild-interval-ms) 다시 만듭니다.
+ * 다시 만드는 동안 커밋된 변경은 따로 기록해 두었다가 새 그래프에 한 번 더 적용합니다. (추가/제거는 멱등)
+ */
+@Slf4j
+@Component
+public class FriendGraph {
+
+    /**
+     * 친구의 친구 후보
+     *
+     * @param userId 후보 사용자 ID
+     * @param mutualFriendCount 함께 아는 친구 수
+     */
+    public record Mutual(String userId, int mutualFriendCount) {}
+
+    private final FriendshipRepository friendshipRepository;
+    private final TransactionTemplate loadTransaction;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    /** lock으로 보호 */
+    private Graph graph = new Graph();
+    private boolean ready;
+    /** 다시 만드는 중에 커밋된 변경 (null이면 다시 만드는 중 아님), lock으로 보호 */
+    private List<Change> changesDuringRebuild;
+
+    public FriendGraph(FriendshipRepository friendshipRepository, PlatformTransactionManager transactionManager) {
+        this.friendshipRepository = friendshipRepository;
+        // 시작 시점/스케줄러 스레드에서 DB 커서로 읽기 위해 트랜잭션을 직접 엽니다.
+        this.loadTransaction = new TransactionTemplate(transactionManager);
+        this.loadTransaction.setReadOnly(true);
+    }
+
+    /**
+     * 애플리케이션 시작 후 그래프를 만듭니다. (완료 전까지 추천 결과는 비어 있음)
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void onReady() {
+        rebuild();
+    }
+
+    /**
+     * DB에서 그래프를 다시 만듭니다.
+     */
+    @Scheduled(initialDelayString = "${app.friend-graph.rebuild-interval-ms:600000}",
+               fixedDelayString = "${app.friend-graph.rebuild-interval-ms:600000}")
+    public void rebuild() {
+        lock.writeLock().lock();
+        try {
+            if (changesDuringRebuild != null) {
+                return;
+            }
+            changesDuringRebuild = new ArrayList<>();
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        long started = System.nanoTime();
+        Graph rebuilt = new Graph();
+        try {
+            loadTransaction.executeWithoutResult(status -> {
+                try (Stream<FriendshipEdge> edges = friendshipRepository.streamAcceptedEdges()) {
+                    edges.forEach(edge -> rebuilt.add(edge.userId(), edge.friendId()));
+                }
+            });
+        } catch (RuntimeException e) {
+            lock.writeLock().lock();
+            try {
+                changesDuringRebuild = null;
+            } finally {
+                lock.writeLock().unlock();
+            }
+            log.error("친구 그래프 적재 실패 (기존 그래프 유지)", e);
+            return;
+        }
+
+        lock.writeLock().lock();
+        try {
+            for (Change change : changesDuringRebuild) {
+                change.applyTo(rebuilt);
+            }
+            changesDuringRebuild = null;
+            graph = rebuilt;
+            ready = true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+        log.info("친구 그래프 적재 완료: users={}, edges={}, elapsedMs={}",
+                rebuilt.userIds.size(), rebuilt.edgeCount, (System.nanoTime() - started) / 1_000_000);
+    }
+
+    /**
+     * 현재 트랜잭션이 커밋된 뒤 친구 관계를 추가합니다. (트랜잭션 밖이면 즉시)
+     */
+    public void addAfterCommit(String userId, String friendId) {
+        afterCommit(new Change(true, userId, friendId));
+    }
+
+    /**
+     * 현재 트랜잭션이 커밋된 뒤 친구 관계를 제거합니다. (트랜잭션 밖이면 즉시)
+     */
+    public void removeAfterCommit(String userId, String friendId) {
+        afterCommit(new Change(false, userId, friendId));
+    }
+
+    /**
+     * 친구의 친구 중 아직 친구가 아닌 사용자를 함께 아는 친구 수 내림차순으로 반환합니다.
+     *
+     * 친구들의 친구 번호를 한 배열에 모아 정렬한 뒤 같은 번호의 개수를 세므로,
+     * 비용은 (친구들의 친구 수 합) log (같은 값)에 비례하고 전체 사용자 수와 무관합니다.
+     *
+     * @param userId 기준 사용자 ID
+     * @param limit 최대 후보 수
+     * @return 후보 목록 (같은 수면 사용자 번호가 작은(먼저 등장한) 순), 그래프가 준비되지 않았으면 빈 목록
+     */
+    public List<Mutual> friendsOfFriends(String userId, int limit) {
+        lock.readLock().lock();
+        try {
+            Integer self = graph.index.get(userId);
+            if (!ready || self == null) {
+                return List.of();
+            }
+            IntSet mine = graph.adjacency.get(self);
+
+            int total = 0;
+            for (int i = 0; i < mine.size; i++) {
+                total += graph.adjacency.get(mine.values[i]).size;
+            }
+            int[] candidates = new int[total];
+            int n = 0;
+            for (int i = 0; i < mine.size; i++) {
+                IntSet theirs = graph.adjacency.get(mine.values[i]);
+                for (int j = 0; j < theirs.size; j++) {
+                    int candidate = theirs.values[j];
+                    if (candidate != self && !mine.contains(candidate)) {
+                        candidates[n++] = candidate;
+                    }
+                }
+            }
+            Arrays.sort(candidates, 0, n);
+
+            // (함께 아는 친구 수 << 32 | ~번호) 를 내림차순 정렬하면 수 내림차순, 번호 오름차순
+            long[] ranked = new long[n];
+            int m = 0;
+            for (int i = 0; i < n; ) {
+                int j = i;
+                while (j < n && candidates[j] == candidates[i]) {
+                    j++;
+                }
+                ranked[m++] = ((long) (j - i) << 32) | (~candidates[i] & 0xFFFFFFFFL);
+                i = j;
+            }
+            Arrays.sort(ranked, 0, m);
+
+            List<Mutual> result = new ArrayList<>(Math.min(limit, m));
+            for (int i = m - 1; i >= 0 && result.size() < limit; i--) {
+                int id = ~(int) ranked[i];
+                result.add(new Mutual(graph.userIds.get(id), (int) (ranked[i] >>> 32)));
+            }
+            return result;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 그래프가 준비되었는지 여부
+     */
+    public boolean isReady() {
+        lock.readLock().lock();
+        try {
+            return ready;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void afterCommit(Change change) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    apply(change);
+                }
+            });
+        } else {
+            apply(change);
+        }
+    }
+
+    private void apply(Change change) {
+        lock.writeLock().lock();
+        try {
+            change.applyTo(graph);
+            if (changesDuringRebuild != null) {
+                changesDuringRebuild.add(change);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private record Change(boolean add, String userId, String friendId) {
+        void applyTo(Graph graph) {
+            if (add) {
+                graph.add(userId, friendId);
+            } else {
+                graph.remove(userId, friendId);
+            }
+        }
+    }
+
+    /**
+     * 사용자 번호 + 인접 목록 (FriendGraph의 lock으로 보호)
+     */
+    private static final class Graph {
+        private final Map<String, Integer> index = new HashMap<>();
+        private final List<String> userIds = new ArrayList<>();
+        private final List<IntSet> adjacency = new ArrayList<>();
+        private long edgeCount;
+
+        void add(String userId, String friendId) {
+            int a = intern(userId);
+            int b = intern(friendId);
+            if (a != b && adjacency.get(a).add(b)) {
+                adjacency.get(b).add(a);
+                edgeCount++;
+            }
+        }
+
+        void remove(String userId, String friendId) {
+            Integer a = index.get(userId);
+            Integer b = index.get(friendId);
+            if (a != null && b != null && adjacency.get(a).remove(b)) {
+                adjacency.get(b).remove(a);
+                edgeCount--;
+            }
+        }
+
+        private int intern(String userId) {
+            Integer id = index.get(userId);
+            if (id != null) {
+                return id;
+            }
+            int next = userIds.size();
+            index.put(userId, next);
+            userIds.add(userId);
+            adjacency.add(new IntSet());
+            return next;
+        }
+    }
+
+    /**
+     * 정렬된 int 배열 집합 (친구 수가 많지 않으므로 이진 탐색 + 배열 이동으로 충분)
+     */
+    static final class IntSet {
+        private static final int[] EMPTY = new int[0];
+
+        int[] values = EMPTY;
+        int size;
+
+        boolean contains(int value) {
+            return Arrays.binarySearch(values, 0, size, value) >= 0;
+        }
+
+        boolean add(int value) {
+            int pos = Arrays.binarySearch(values, 0, size, value);
+            if (pos >= 0) {
+                return false;
+            }
+            int insertAt = -pos - 1;
+            if (size == values.length) {
+                values = Arrays.copyOf(values, Math.max(4, size * 2));
+            }
+            System.arraycopy(values, insertAt, values, insertAt + 1, size - insertAt);
+            values[insertAt] = value;
+            size++;
+            return true;
+        }
+
+        boolean remove(int value) {
+            int pos = Arrays.binarySearch(values, 0, size, value);
+            if (pos < 0) {
+                return false;
+            }
+            System.arraycopy(values, pos + 1, values, pos, size - pos - 1);
+            size--;
+            return true;
+        }
+    }
+}
@@ -0,0 +1,105 @@
+package com.example.record.user;
+
+import com.example.record.review.dto.projection.UserArtist;
+import com.example.record.review.repository.TicketRepository;
+import com.example.record.user.dto.FriendSuggestionResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.*;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 알 수도 있는 사람(친구 추천) 서비스
+ *
+ * 1. 메모리 친구 그래프(FriendGraph)에서 친구의 친구를 함께 아는 친구 수 순으로 뽑고
+ * 2. 대기 중인 요청이 있는 사람, 비공개 계정을 제외한 뒤
+ * 3. 후보들과 나의 관람 아티스트를 쿼리 한 번으로 읽어 공통 아티스트 수로 한 번 더 정렬합니다.
+ *
+ * 정렬: 함께 아는 친구 수 → 공통 아티스트 수 → 사용자 ID
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class FriendSuggestionService {
+
+    /** 최대 추천 수 */
+    static final int MAX_LIMIT = 50;
+
+    /** 공통 아티스트까지 비교할 후보 수 (추천 수의 배수) */
+    private static final int CANDIDATE_POOL_FACTOR = 3;
+
+    /** 응답에 담을 공통 아티스트 수 */
+    private static final int SHARED_ARTIST_SAMPLE = 3;
+
+    private final FriendGraph friendGraph;
+    private final FriendshipRepository friendshipRepository;
+    private final UserRepository userRepository;
+    private final TicketRepository ticketRepository;
+
+    /**
+     * 친구 추천 목록 조회
+     *
+     * @param userId 기준 사용자 ID
+     * @param limit 최대 추천 수 (1 ~ MAX_LIMIT)
+     * @return 추천 목록 (친구 그래프 적재 전이면 빈 목록)
+     * @throws IllegalArgumentException limit이 범위를 벗어난 경우
+     */
+    @Transactional(readOnly = true)
+    public List<FriendSuggestionResponse> suggest(String userId, int limit) {
+        if (limit < 1 || limit > MAX_LIMIT) {
+            throw new IllegalArgumentException("추천 수는 1 ~ " + MAX_LIMIT + " 사이여야 합니다.");
+        }
+
+        List<FriendGraph.Mutual> mutuals = friendGraph.friendsOfFriends(userId, limit * CANDIDATE_POOL_FACTOR);
+        if (mutuals.isEmpty()) {
+            return List.of();
+        }
+        Set<String> pending = new HashSet<>(friendshipRepository.findPendingCounterpartIds(userId));
+        Map<String, User> users = userRepository.findAllById(mutuals.stream().map(FriendGraph.Mutual::userId).toList())
+                .stream()
+                .filter(user -> !Boolean.TRUE.equals(user.getIsAccountPrivate()))
+                .collect(Collectors.toMap(User::getId, Function.identity()));
+        List<FriendGraph.Mutual> candidates = mutuals.stream()
+                .filter(mutual -> users.containsKey(mutual.userId()) && !pending.contains(mutual.userId()))
+                .toList();
+        if (candidates.isEmpty()) {
+            return List.of();
+        }
+
+        // 나와 후보들의 아티스트를 한 번에 조회
+        List<String> artistOwners = new ArrayList<>(candidates.size() + 1);
+        artistOwners.add(userId);
+        candidates.forEach(candidate -> artistOwners.add(candidate.userId()));
+        Map<String, Set<String>> artists = new HashMap<>();
+        for (UserArtist row : ticketRepository.findArtistsByUserIdIn(artistOwners)) {
+            artists.computeIfAbsent(row.userId(), id -> new HashSet<>()).add(row.artist());
+        }
+        Set<String> myArtists = artists.getOrDefault(userId, Set.of());
+
+        return candidates.stream()
+                .map(candidate -> {
+                    User user = users.get(candidate.userId());
+                    List<String> shared = artists.getOrDefault(candidate.userId(), Set.of()).stream()
+                            .filter(myArtists::contains)
+                            .sorted()
+                            .toList();
+                    return FriendSuggestionResponse.builder()
+                            .userId(user.getId())
+                            .nickname(user.getNickname())
+                            .profileImage(user.getProfileImage())
+                            .mutualFriendCount(candidate.mutualFriendCount())
+                            .sharedArtistCount(shared.size())
+                            .sharedArtists(shared.subList(0, Math.min(SHARED_ARTIST_SAMPLE, shared.size())))
+                            .build();
+                })
+                .sorted(Comparator.comparing(FriendSuggestionResponse::getMutualFriendCount).reversed()
+                        .thenComparing(Comparator.comparing(FriendSuggestionResponse::getSharedArtistCount).reversed())
+                        .thenComparing(FriendSuggestionResponse::getUserId))
+                .limit(limit)
+                .collect(Collectors.toList());
+    }
+}
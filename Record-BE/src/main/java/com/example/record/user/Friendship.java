@@ -18,9 +18,20 @@ import java.time.LocalDateTime;
  * 3. 친구 목록 조회
  * 4. 친구 요청 중복 방지
  * 5. 친구 관계 상태 관리
+ * 
+ * 두 사용자 사이에는 방향과 관계없이 행이 하나만 있습니다.
+ * 정규화 키 유니크 인덱스 idx_friendships_pair (LEAST(user_id, friend_id), GREATEST(user_id, friend_id))는
+ * 식 인덱스라 JPA @Index로 표현할 수 없어 schema.sql에만 있습니다.
+ * 친구 요청(FriendshipRepository.sendOrAccept)의 ON CONFLICT가 이 인덱스에 의존하므로 schema.sql 적용이 전제이며,
+ * ddl-auto로만 만든 DB에서는 시작 시 FriendshipPairIndex가 만들거나(중복 행이 있으면) 시작을 멈춥니다.
  */
 @Entity
-@Table(name = "friendships")
+@Table(name = "friendships", indexes = {
+    @Index(name = "idx_friendships_user_id", columnList = "user_id"),
+    @Index(name = "idx_friendships_friend_id", columnList = "friend_id"),
+    @Index(name = "idx_friendships_status_user", columnList = "status,user_id"),
+    @Index(name = "idx_friendships_status_friend", columnList = "status,friend_id")
+})
 @Getter
 @Setter
 @NoArgsConstructor
@@ -1,6 +1,8 @@
 package com.example.record.user;
 
+import com.example.record.user.dto.FriendSuggestionResponse;
 import com.example.record.user.dto.FriendshipResponse;
+import com.example.record.user.dto.FriendshipStatusResponse;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
@@ -27,6 +29,7 @@ import java.util.stream.Collectors;
 public class FriendshipController {
 
     private final FriendshipService friendshipService;
+    private final FriendSuggestionService friendSuggestionService;
 
     /**
      * 친구 요청을 보냅니다.
@@ -119,27 +122,20 @@ public class FriendshipController {
     @GetMapping("/{userId}/friends")
     public ResponseEntity<?> getFriends(@PathVariable("userId") String userId) {
         try {
-            List<Friendship> friends = friendshipService.getFriends(userId);
+            List<FriendshipResponse> friends = friendshipService.getFriends(userId);
             List<FriendshipResponse> responses = friends.stream()
-                    .map(friendship -> {
-                        // 현재 사용자가 아닌 친구의 정보만 포함하도록 변환
-                        FriendshipResponse response = FriendshipResponse.from(friendship);
+                    .map(response -> {
                         // 현재 사용자가 user인 경우 friend 정보를, friend인 경우 user 정보를 사용
-                        if (friendship.getUser().getId().equals(userId)) {
+                        if (userId.equals(response.getUserId())) {
                             // 현재 사용자가 요청을 보낸 경우 -> friend가 친구
-                            response.setUserId(friendship.getFriend().getId());
-                            response.setUserNickname(friendship.getFriend().getNickname());
-                            response.setUserProfileImage(friendship.getFriend().getProfileImage());
-                            response.setFriendId(null);
-                            response.setFriendNickname(null);
-                            response.setFriendProfileImage(null);
-                        } else {
-                            // 현재 사용자가 요청을 받은 경우 -> user가 친구
-                            response.setFriendId(null);
-                            response.setFriendNickname(null);
-                            response.setFriendProfileImage(null);
-                            // userId, userNickname, userProfileImage는 이미 친구 정보로 설정됨
+                            response.setUserId(response.getFriendId());
+                            response.setUserNickname(response.getFriendNickname());
+                            response.setUserProfileImage(response.getFriendProfileImage());
                         }
+                        // 현재 사용자가 요청을 받은 경우 -> user가 친구 (이미 친구 정보로 설정됨)
+                        response.setFriendId(null);
+                        response.setFriendNickname(null);
+                        response.setFriendProfileImage(null);
                         return response;
                     })
                     .collect(Collectors.toList());
@@ -158,10 +154,7 @@ public class FriendshipController {
     @GetMapping("/{userId}/sent-requests")
     public ResponseEntity<?> getSentFriendRequests(@PathVariable("userId") String userId) {
         try {
-            List<Friendship> sentRequests = friendshipService.getSentFriendRequests(userId);
-            List<FriendshipResponse> responses = sentRequests.stream()
-                    .map(FriendshipResponse::from)
-                    .collect(Collectors.toList());
+            List<FriendshipResponse> responses = friendshipService.getSentFriendRequests(userId);
             return ResponseEntity.ok(responses);
         } catch (Exception e) {
             return ResponseEntity.status(500).body("서버 오류가 발생했습니다.");
@@ -177,10 +170,7 @@ public class FriendshipController {
     @GetMapping("/{userId}/received-requests")
     public ResponseEntity<?> getReceivedFriendRequests(@PathVariable("userId") String userId) {
         try {
-            List<Friendship> receivedRequests = friendshipService.getReceivedFriendRequests(userId);
-            List<FriendshipResponse> responses = receivedRequests.stream()
-                    .map(FriendshipResponse::from)
-                    .collect(Collectors.toList());
+            List<FriendshipResponse> responses = friendshipService.getReceivedFriendRequests(userId);
             return ResponseEntity.ok(responses);
         } catch (Exception e) {
             return ResponseEntity.status(500).body("서버 오류가 발생했습니다.");
@@ -243,5 +233,50 @@ public class FriendshipController {
             return ResponseEntity.status(500).body("서버 오류가 발생했습니다.");
         }
     }
-}
 
+    /**
+     * 여러 사용자와의 관계 상태를 한 번에 조회합니다.
+     *
+     * 사용자 검색 결과 목록에 친구/요청 상태를 표시할 때 사용합니다.
+     *
+     * @param requesterId 조회하는 사용자 ID (X-User-Id 헤더)
+     * @param userIds 상대 사용자 ID 목록 (쉼표 구분, 최대 100명)
+     * @return 요청 순서대로 관계 상태 목록
+     */
+    @GetMapping("/statuses")
+    public ResponseEntity<?> getFriendshipStatuses(
+            @RequestHeader("X-User-Id") String requesterId,
+            @RequestParam("userIds") List<String> userIds) {
+        try {
+            List<FriendshipStatusResponse> statuses = friendshipService.getRelations(requesterId, userIds);
+            return ResponseEntity.ok(statuses);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(e.getMessage());
+        } catch (Exception e) {
+            return ResponseEntity.status(500).body("서버 오류가 발생했습니다.");
+        }
+    }
+
+    /**
+     * 알 수도 있는 사람(친구 추천)을 조회합니다.
+     *
+     * 함께 아는 친구 수, 공통 관람 아티스트 수 순으로 정렬합니다.
+     *
+     * @param requesterId 요청하는 사용자 ID (X-User-Id 헤더)
+     * @param limit 최대 추천 수 (기본 20, 최대 50)
+     * @return 추천 목록
+     */
+    @GetMapping("/suggestions")
+    public ResponseEntity<?> getFriendSuggestions(
+            @RequestHeader("X-User-Id") String requesterId,
+            @RequestParam(value = "limit", defaultValue = "20") int limit) {
+        try {
+            List<FriendSuggestionResponse> suggestions = friendSuggestionService.suggest(requesterId, limit);
+            return ResponseEntity.ok(suggestions);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(e.getMessage());
+        } catch (Exception e) {
+            return ResponseEntity.status(500).body("서버 오류가 발생했습니다.");
+        }
+    }
+}
@@ -0,0 +1,48 @@
+package com.example.record.user;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * 친구 관계 정규화 키 유니크 인덱스(idx_friendships_pair) 확인
+ *
+ * FriendshipRepository.sendOrAccept의 ON CONFLICT ((LEAST(...)), (GREATEST(...)))는 이 인덱스가 있어야 동작합니다.
+ * 식 인덱스라 ddl-auto(update)로는 만들어지지 않으므로, 시작 시(웹 서버가 요청을 받기 전) 확인하고 없으면 만듭니다.
+ *
+ * 이미 양방향 중복 행이 있어 만들 수 없으면 시작을 멈춥니다.
+ * (schema.sql의 friendships 중복 정리 후 다시 시작)
+ */
+@Slf4j
+@Component
+public class FriendshipPairIndex implements SmartInitializingSingleton {
+
+    private static final String INDEX_NAME = "idx_friendships_pair";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public FriendshipPairIndex(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        Boolean exists = jdbcTemplate.queryForObject(
+                "SELECT EXISTS (SELECT 1 FROM pg_indexes WHERE schemaname = current_schema() AND indexname = ?)",
+                Boolean.class, INDEX_NAME);
+        if (Boolean.TRUE.equals(exists)) {
+            return;
+        }
+
+        try {
+            jdbcTemplate.execute("CREATE UNIQUE INDEX IF NOT EXISTS " + INDEX_NAME +
+                    " ON friendships (LEAST(user_id, friend_id), GREATEST(user_id, friend_id))");
+            log.info("친구 관계 정규화 키 인덱스 생성: {}", INDEX_NAME);
+        } catch (DataAccessException e) {
+            throw new IllegalStateException(INDEX_NAME + " 인덱스를 만들 수 없습니다. " +
+                    "friendships에 같은 두 사용자 사이의 중복 행이 있으면 schema.sql의 friendships 정리 구문을 실행한 뒤 다시 시작해주세요.", e);
+        }
+    }
+}
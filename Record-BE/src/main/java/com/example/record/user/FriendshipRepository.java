@@ -1,11 +1,22 @@
 package com.example.record.user;
 
+import com.example.record.user.dto.FriendRequestResult;
+import com.example.record.user.dto.FriendshipEdge;
+import com.example.record.user.dto.FriendshipLink;
+import com.example.record.user.dto.FriendshipResponse;
+import jakarta.persistence.QueryHint;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
+
+import static org.hibernate.jpa.HibernateHints.HINT_FETCH_SIZE;
+import static org.hibernate.jpa.HibernateHints.HINT_READ_ONLY;
 
 /**
  * 친구 관계 레포지토리
@@ -43,36 +54,162 @@ public interface FriendshipRepository extends JpaRepository<Friendship, Long> {
     List<Friendship> findByFriend_Id(String friendId);
 
     /**
-     * 특정 사용자 간의 친구 관계를 조회합니다.
-     * (user-friend 또는 friend-user 관계 모두 포함)
+     * 두 사용자 간의 친구 관계를 조회합니다. (방향 무관)
+     *
+     * 두 사용자 쌍의 정규화 키 (LEAST, GREATEST) 유니크 인덱스(idx_friendships_pair)를 한 번만 읽습니다.
      *
-     * @param userId1 첫 번째 사용자 ID
-     * @param friendId1 첫 번째 사용자의 친구 ID
-     * @param userId2 두 번째 사용자 ID
-     * @param friendId2 두 번째 사용자의 친구 ID
+     * @param userId 첫 번째 사용자 ID
+     * @param otherId 두 번째 사용자 ID
      * @return 두 사용자 간의 친구 관계 (존재하지 않으면 Optional.empty())
      */
-    Optional<Friendship> findByUser_IdAndFriend_IdOrUser_IdAndFriend_Id(String userId1, String friendId1, String userId2, String friendId2);
+    @Query(value = "SELECT * FROM friendships " +
+           "WHERE LEAST(user_id, friend_id) = LEAST(:userId, :otherId) " +
+           "AND GREATEST(user_id, friend_id) = GREATEST(:userId, :otherId)", nativeQuery = true)
+    Optional<Friendship> findByPair(@Param("userId") String userId, @Param("otherId") String otherId);
+
+    /**
+     * 친구 요청 보내기 (SQL 한 문장, 왕복 한 번)
+     *
+     * 1. users_ok: 요청자와 대상이 모두 있는지 확인
+     * 2. up: PENDING 요청 추가 시도
+     *    - 두 사용자 사이에 이미 관계가 있으면 idx_friendships_pair 충돌
+     *    - 상대가 나에게 보낸 PENDING 요청이 있었다면 그 요청을 ACCEPTED로 변경 (서로 동시에 보내도 하나로 합쳐짐)
+     *    - 그 밖의 충돌은 아무것도 바꾸지 않음
+     * 3. 사용자 존재 여부와 변경된 행(ID, 상태)을 함께 반환
+     *
+     * 존재 확인과 INSERT 사이에 다른 요청이 끼어들 틈이 없으므로, 양방향 중복 행이 생기지 않습니다.
+     * PostgreSQL: 데이터 변경 CTE + INSERT ... ON CONFLICT (식 인덱스) DO UPDATE ... WHERE
+     * idx_friendships_pair가 있어야 합니다. (schema.sql, 없으면 시작 시 FriendshipPairIndex가 생성)
+     */
+    @Query(value = "WITH users_ok AS (" +
+           "  SELECT COUNT(*) = 2 AS ok FROM users WHERE id IN (:requesterId, :targetId)" +
+           "), up AS (" +
+           "  INSERT INTO friendships (user_id, friend_id, status, created_at, updated_at) " +
+           "  SELECT :requesterId, :targetId, 'PENDING', NOW(), NOW() FROM users_ok WHERE users_ok.ok " +
+           "  ON CONFLICT ((LEAST(user_id, friend_id)), (GREATEST(user_id, friend_id))) " +
+           "  DO UPDATE SET status = 'ACCEPTED', updated_at = NOW() " +
+           "  WHERE friendships.status = 'PENDING' AND friendships.user_id = EXCLUDED.friend_id " +
+           "  RETURNING CAST(id AS BIGINT) AS id, status" +
+           ") " +
+           "SELECT users_ok.ok AS \"usersExist\", up.id AS \"friendshipId\", up.status AS status " +
+           "FROM users_ok LEFT JOIN up ON TRUE",
+           nativeQuery = true)
+    FriendRequestResult sendOrAccept(@Param("requesterId") String requesterId, @Param("targetId") String targetId);
+
+    /**
+     * 받은 대기 중 친구 요청 수락 (조건부 UPDATE 한 문장)
+     *
+     * 요청을 받은 사용자 본인이고 아직 PENDING일 때만 바뀌므로,
+     * 같은 요청을 동시에 수락해도 한 번만 성공합니다.
+     *
+     * @return 요청을 보낸 사용자 ID (수락하지 못했으면 Optional.empty())
+     */
+    @Query(value = "WITH acc AS (" +
+           "  UPDATE friendships SET status = 'ACCEPTED', updated_at = NOW() " +
+           "  WHERE id = :friendshipId AND friend_id = :requesterId AND status = 'PENDING' " +
+           "  RETURNING user_id" +
+           ") SELECT user_id FROM acc",
+           nativeQuery = true)
+    Optional<String> acceptPending(@Param("friendshipId") Long friendshipId,
+                                   @Param("requesterId") String requesterId);
+
+    /**
+     * 한 사용자와 여러 사용자 사이의 친구 관계를 한 번에 조회합니다. (방향 무관, 사용자 검색 결과 표시용)
+     *
+     * 두 방향 조건이 각각 idx_friendships_user_id와 idx_friendships_friend_id를 타고 BitmapOr로 합쳐집니다.
+     *
+     * @param userId 기준 사용자 ID
+     * @param otherIds 상대 사용자 ID 목록 (비어 있으면 안 됨)
+     */
+    @Query("SELECT new com.example.record.user.dto.FriendshipLink(f.id, f.user.id, f.friend.id, f.status) " +
+           "FROM Friendship f " +
+           "WHERE (f.user.id = :userId AND f.friend.id IN :otherIds) " +
+           "OR (f.friend.id = :userId AND f.user.id IN :otherIds)")
+    List<FriendshipLink> findLinks(@Param("userId") String userId, @Param("otherIds") Collection<String> otherIds);
+
+    /**
+     * 특정 사용자의 친구 수를 조회합니다. (상태가 ACCEPTED인 경우)
+     *
+     * f.user.id / f.friend.id는 외래 키 컬럼이므로 users 조인 없이
+     * idx_friendships_status_user / idx_friendships_status_friend 인덱스만 읽습니다.
+     *
+     * @param userId 사용자 ID (user 또는 friend 어느 쪽이든)
+     * @return 친구 수
+     */
+    @Query("SELECT COUNT(f) FROM Friendship f " +
+           "WHERE f.status = 'ACCEPTED' AND (f.user.id = :userId OR f.friend.id = :userId)")
+    long countAcceptedByUserId(@Param("userId") String userId);
 
     /**
-     * 특정 사용자 간의 친구 요청이 존재하는지 확인합니다.
-     * (user-friend 또는 friend-user 관계 모두 포함)
+     * 특정 사용자에게 온 대기 중인 친구 요청 수를 조회합니다.
+     *
+     * @param friendId 요청을 받은 사용자 ID
+     * @return 받은 친구 요청 수 (PENDING 상태만)
+     */
+    @Query("SELECT COUNT(f) FROM Friendship f WHERE f.friend.id = :friendId AND f.status = 'PENDING'")
+    long countPendingByFriendId(@Param("friendId") String friendId);
+
+    /**
+     * 특정 사용자의 친구 목록을 응답 DTO로 바로 조회합니다. (상태가 ACCEPTED인 경우)
+     *
+     * 양쪽 사용자 정보를 조인해 필요한 컬럼만 읽으므로, 엔티티 지연 로딩(N+1)과 스냅샷이 없습니다.
+     *
+     * @param userId 사용자 ID (user 또는 friend 어느 쪽이든)
+     * @return 친구 관계 목록 (user/friend 양쪽 정보 포함)
+     */
+    @Query("SELECT new com.example.record.user.dto.FriendshipResponse(" +
+           "f.id, u.id, u.nickname, u.profileImage, fr.id, fr.nickname, fr.profileImage, " +
+           "f.status, f.createdAt, f.updatedAt) " +
+           "FROM Friendship f JOIN f.user u JOIN f.friend fr " +
+           "WHERE f.status = 'ACCEPTED' AND (u.id = :userId OR fr.id = :userId)")
+    List<FriendshipResponse> findAcceptedResponsesByUserId(@Param("userId") String userId);
+
+    /**
+     * 특정 사용자가 보낸 대기 중인 친구 요청을 응답 DTO로 바로 조회합니다.
+     *
+     * @param userId 요청을 보낸 사용자 ID
+     * @return 보낸 친구 요청 목록 (PENDING 상태만)
+     */
+    @Query("SELECT new com.example.record.user.dto.FriendshipResponse(" +
+           "f.id, u.id, u.nickname, u.profileImage, fr.id, fr.nickname, fr.profileImage, " +
+           "f.status, f.createdAt, f.updatedAt) " +
+           "FROM Friendship f JOIN f.user u JOIN f.friend fr " +
+           "WHERE u.id = :userId AND f.status = 'PENDING'")
+    List<FriendshipResponse> findPendingResponsesByUserId(@Param("userId") String userId);
+
+    /**
+     * 특정 사용자에게 온 대기 중인 친구 요청을 응답 DTO로 바로 조회합니다.
+     *
+     * @param friendId 요청을 받은 사용자 ID
+     * @return 받은 친구 요청 목록 (PENDING 상태만)
+     */
+    @Query("SELECT new com.example.record.user.dto.FriendshipResponse(" +
+           "f.id, u.id, u.nickname, u.profileImage, fr.id, fr.nickname, fr.profileImage, " +
+           "f.status, f.createdAt, f.updatedAt) " +
+           "FROM Friendship f JOIN f.user u JOIN f.friend fr " +
+           "WHERE fr.id = :friendId AND f.status = 'PENDING'")
+    List<FriendshipResponse> findPendingResponsesByFriendId(@Param("friendId") String friendId);
+
+    /**
+     * 특정 사용자와 대기 중인 친구 요청이 있는 상대 ID 목록 (보낸/받은 쪽 모두)
      *
      * @param userId 사용자 ID
-     * @param friendId 친구 ID
-     * @return 친구 요청이 존재하면 true, 아니면 false
+     * @return 요청 상대 사용자 ID 목록
      */
-    boolean existsByUser_IdAndFriend_Id(String userId, String friendId);
+    @Query("SELECT CASE WHEN f.user.id = :userId THEN f.friend.id ELSE f.user.id END FROM Friendship f " +
+           "WHERE f.status = 'PENDING' AND (f.user.id = :userId OR f.friend.id = :userId)")
+    List<String> findPendingCounterpartIds(@Param("userId") String userId);
 
     /**
-     * 특정 사용자의 친구 목록을 조회합니다. (상태가 ACCEPTED인 경우)
+     * 수락된 친구 관계 전체를 DB 커서로 한 행씩 읽습니다. (친구 그래프 적재용)
      *
-     * @param userId1 첫 번째 사용자 ID
-     * @param status1 첫 번째 상태
-     * @param userId2 두 번째 사용자 ID
-     * @param status2 두 번째 상태
-     * @return 해당 사용자의 친구 목록
+     * 호출하는 쪽은 트랜잭션 안에서 try-with-resources로 Stream을 닫아야 합니다.
      */
-    List<Friendship> findByUser_IdAndStatusOrFriend_IdAndStatus(String userId1, String status1, String userId2, String status2);
+    @QueryHints({
+            @QueryHint(name = HINT_FETCH_SIZE, value = "1000"),
+            @QueryHint(name = HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT new com.example.record.user.dto.FriendshipEdge(f.user.id, f.friend.id) " +
+           "FROM Friendship f WHERE f.status = 'ACCEPTED'")
+    Stream<FriendshipEdge> streamAcceptedEdges();
 }
-
@@ -1,11 +1,17 @@
 package com.example.record.user;
 
+import com.example.record.review.service.FeedFanoutService;
+import com.example.record.user.dto.FriendRequestResult;
+import com.example.record.user.dto.FriendshipLink;
+import com.example.record.user.dto.FriendshipResponse;
+import com.example.record.user.dto.FriendshipStatusResponse;
+import com.example.record.user.dto.FriendshipStatusResponse.Relation;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.util.List;
-import java.util.Optional;
+import java.util.*;
 
 /**
  * 친구 관계 서비스
@@ -27,6 +33,12 @@ public class FriendshipService {
 
     private final FriendshipRepository friendshipRepository;
     private final UserRepository userRepository;
+    private final FriendCountCache friendCountCache;
+    private final FriendGraph friendGraph;
+    private final FeedFanoutService feedFanoutService;
+
+    /** 관계 상태 일괄 조회 최대 사용자 수 */
+    static final int MAX_RELATION_LOOKUP = 100;
 
     /**
      * 친구 요청을 보냅니다.
@@ -36,6 +48,9 @@ public class FriendshipService {
      * 2. 자기 자신 요청 방지: 자신에게 친구 요청을 보낼 수 없음
      * 3. 존재하지 않는 사용자 요청 방지: 실제 사용자에게만 요청 가능
      * 
+     * 상대가 이미 나에게 보낸 대기 중 요청이 있으면, 새 요청을 만들지 않고 그 요청을 수락합니다.
+     * (두 사람이 동시에 서로에게 보내도 친구 관계는 하나만 생김)
+     * 
      * @param requesterId 요청을 보내는 사용자 ID
      * @param targetId 요청을 받을 사용자 ID
      * @return 친구 요청이 성공적으로 보내졌으면 true, 아니면 false
@@ -48,27 +63,20 @@ public class FriendshipService {
             throw new IllegalArgumentException("자기 자신에게 친구 요청을 보낼 수 없습니다.");
         }
 
-        // 요청을 받을 사용자가 존재하는지 확인
-        User targetUser = userRepository.findById(targetId)
-                .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 사용자입니다."));
-
-        // 이미 친구 요청이 있는지 확인
-        if (friendshipRepository.existsByUser_IdAndFriend_Id(requesterId, targetId) ||
-                friendshipRepository.existsByUser_IdAndFriend_Id(targetId, requesterId)) {
+        // 존재 확인 + 중복 확인 + 생성(또는 상대 요청 수락)을 한 문장으로 처리
+        FriendRequestResult result = friendshipRepository.sendOrAccept(requesterId, targetId);
+        if (!Boolean.TRUE.equals(result.getUsersExist())) {
+            throw new IllegalArgumentException("존재하지 않는 사용자입니다.");
+        }
+        if (result.getFriendshipId() == null) {
             throw new IllegalArgumentException("이미 친구 요청이 있거나 친구 관계가 존재합니다.");
         }
 
-        // 친구 요청 생성
-        User requesterUser = userRepository.findById(requesterId)
-                .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 사용자입니다."));
-
-        Friendship friendship = Friendship.builder()
-                .user(requesterUser)
-                .friend(targetUser)
-                .status("PENDING")
-                .build();
-
-        friendshipRepository.save(friendship);
+        friendCountCache.invalidateAfterCommit(requesterId, targetId);
+        if ("ACCEPTED".equals(result.getStatus())) {
+            // 상대가 먼저 보낸 요청이 있었으면 바로 친구가 됨
+            onAccepted(targetId, requesterId);
+        }
         return true;
     }
 
@@ -80,6 +88,9 @@ public class FriendshipService {
      * 2. 상태 확인: 대기 중인 요청만 수락 가능
      * 3. 양방향 친구 관계: 수락 시 양쪽 모두 친구가 됨
      * 
+     * 권한과 상태 확인을 조건부 UPDATE 한 문장에 담아, 동시에 수락해도 한 번만 성공합니다.
+     * 실패한 경우에만 사유를 알려주기 위해 친구 관계를 조회합니다.
+     * 
      * @param requesterId 요청을 수락하는 사용자 ID
      * @param friendshipId 친구 관계 ID
      * @return 친구 요청이 성공적으로 수락되었으면 true, 아니면 false
@@ -87,30 +98,40 @@ public class FriendshipService {
      */
     @Transactional
     public boolean acceptFriendRequest(String requesterId, Long friendshipId) {
-        Friendship friendship = friendshipRepository.findById(friendshipId)
-                .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 친구 요청입니다."));
+        Optional<String> senderId = friendshipRepository.acceptPending(friendshipId, requesterId);
+        if (senderId.isEmpty()) {
+            throw acceptFailure(requesterId, friendshipId);
+        }
 
+        friendCountCache.invalidateAfterCommit(senderId.get(), requesterId);
+        onAccepted(senderId.get(), requesterId);
+        return true;
+    }
+
+    private IllegalArgumentException acceptFailure(String requesterId, Long friendshipId) {
+        Friendship friendship = friendshipRepository.findById(friendshipId).orElse(null);
+        if (friendship == null) {
+            return new IllegalArgumentException("존재하지 않는 친구 요청입니다.");
+        }
         // 요청을 받은 사용자만 수락할 수 있음
         if (!friendship.getFriend().getId().equals(requesterId)) {
-            throw new IllegalArgumentException("본인의 친구 요청만 수락할 수 있습니다.");
+            return new IllegalArgumentException("본인의 친구 요청만 수락할 수 있습니다.");
         }
-
-        // 대기 중인 요청만 수락 가능
-        if (!friendship.isPending()) {
-            String currentStatus = friendship.getStatus();
-            if ("ACCEPTED".equals(currentStatus)) {
-                throw new IllegalArgumentException("이미 수락된 친구 요청입니다.");
-            } else if ("REJECTED".equals(currentStatus)) {
-                throw new IllegalArgumentException("이미 거절된 친구 요청입니다.");
-            } else {
-                throw new IllegalArgumentException("대기 중인 친구 요청만 수락할 수 있습니다. (현재 상태: " + currentStatus + ")");
-            }
+        String currentStatus = friendship.getStatus();
+        if ("ACCEPTED".equals(currentStatus)) {
+            return new IllegalArgumentException("이미 수락된 친구 요청입니다.");
+        } else if ("REJECTED".equals(currentStatus)) {
+            return new IllegalArgumentException("이미 거절된 친구 요청입니다.");
         }
+        return new IllegalArgumentException("대기 중인 친구 요청만 수락할 수 있습니다. (현재 상태: " + currentStatus + ")");
+    }
 
-        // 친구 요청 수락
-        friendship.accept();
-        friendshipRepository.save(friendship);
-        return true;
+    /**
+     * 친구 관계가 성립한 뒤의 후속 처리 (커밋 후 친구 그래프 반영, 피드 채우기)
+     */
+    private void onAccepted(String senderId, String receiverId) {
+        friendGraph.addAfterCommit(senderId, receiverId);
+        feedFanoutService.friendAddedAfterCommit(senderId, receiverId);
     }
 
     /**
@@ -143,24 +164,21 @@ public class FriendshipService {
 
         // 친구 요청 거절 시 DB에서 완전히 삭제
         friendshipRepository.delete(friendship);
+        friendCountCache.invalidateAfterCommit(friendship.getUser().getId(), requesterId);
         return true;
     }
 
     /**
      * 특정 사용자의 친구 목록을 조회합니다.
      * 
+     * 엔티티 대신 응답 DTO를 바로 조회합니다. (친구 수만큼 사용자 지연 로딩하지 않음)
+     * 
      * @param userId 사용자 ID
-     * @return 해당 사용자의 친구 목록
+     * @return 해당 사용자의 친구 목록 (user/friend 양쪽 정보 포함)
      */
     @Transactional(readOnly = true)
-    public List<Friendship> getFriends(String userId) {
-        List<Friendship> friendships = friendshipRepository.findByUser_IdAndStatusOrFriend_IdAndStatus(userId, "ACCEPTED", userId, "ACCEPTED");
-        // LAZY 로딩을 트랜잭션 내에서 강제로 로드
-        friendships.forEach(f -> {
-            f.getUser().getId();  // user 로드
-            f.getFriend().getId();  // friend 로드
-        });
-        return friendships;
+    public List<FriendshipResponse> getFriends(String userId) {
+        return friendshipRepository.findAcceptedResponsesByUserId(userId);
     }
 
     /**
@@ -170,17 +188,8 @@ public class FriendshipService {
      * @return 해당 사용자가 보낸 친구 요청 목록 (PENDING 상태만)
      */
     @Transactional(readOnly = true)
-    public List<Friendship> getSentFriendRequests(String userId) {
-        List<Friendship> friendships = friendshipRepository.findByUser_Id(userId);
-        // LAZY 로딩을 트랜잭션 내에서 강제로 로드
-        friendships.forEach(f -> {
-            f.getUser().getId();  // user 로드
-            f.getFriend().getId();  // friend 로드
-        });
-        // PENDING 상태인 요청만 반환 (이미 수락/거절된 요청은 제외)
-        return friendships.stream()
-                .filter(Friendship::isPending)
-                .toList();
+    public List<FriendshipResponse> getSentFriendRequests(String userId) {
+        return friendshipRepository.findPendingResponsesByUserId(userId);
     }
 
     /**
@@ -190,17 +199,8 @@ public class FriendshipService {
      * @return 해당 사용자가 받은 친구 요청 목록 (PENDING 상태만)
      */
     @Transactional(readOnly = true)
-    public List<Friendship> getReceivedFriendRequests(String userId) {
-        List<Friendship> friendships = friendshipRepository.findByFriend_Id(userId);
-        // LAZY 로딩을 트랜잭션 내에서 강제로 로드
-        friendships.forEach(f -> {
-            f.getUser().getId();  // user 로드
-            f.getFriend().getId();  // friend 로드
-        });
-        // PENDING 상태인 요청만 반환 (이미 수락/거절된 요청은 제외)
-        return friendships.stream()
-                .filter(Friendship::isPending)
-                .toList();
+    public List<FriendshipResponse> getReceivedFriendRequests(String userId) {
+        return friendshipRepository.findPendingResponsesByFriendId(userId);
     }
 
     /**
@@ -211,7 +211,54 @@ public class FriendshipService {
      * @return 두 사용자 간의 친구 관계 (없으면 Optional.empty())
      */
     public Optional<Friendship> getFriendship(String userId, String friendId) {
-        return friendshipRepository.findByUser_IdAndFriend_IdOrUser_IdAndFriend_Id(userId, friendId, userId, friendId);
+        return friendshipRepository.findByPair(userId, friendId);
+    }
+
+    /**
+     * 여러 사용자와의 관계 상태를 한 번에 조회합니다. (사용자 검색 결과 표시용, 쿼리 한 번)
+     *
+     * @param userId 조회하는 사용자 ID
+     * @param otherIds 상대 사용자 ID 목록 (최대 MAX_RELATION_LOOKUP명, 중복은 한 번만 응답)
+     * @return 요청 순서대로 관계 상태 (관계가 없으면 NONE)
+     * @throws IllegalArgumentException 목록이 비었거나 너무 많은 경우
+     */
+    @Transactional(readOnly = true)
+    public List<FriendshipStatusResponse> getRelations(String userId, Collection<String> otherIds) {
+        Set<String> targets = new LinkedHashSet<>(otherIds);
+        if (targets.isEmpty() || targets.size() > MAX_RELATION_LOOKUP) {
+            throw new IllegalArgumentException("사용자 ID는 1 ~ " + MAX_RELATION_LOOKUP + "개까지 조회할 수 있습니다.");
+        }
+
+        Map<String, FriendshipLink> links = new HashMap<>();
+        for (FriendshipLink link : friendshipRepository.findLinks(userId, targets)) {
+            links.put(userId.equals(link.userId()) ? link.friendId() : link.userId(), link);
+        }
+
+        List<FriendshipStatusResponse> responses = new ArrayList<>(targets.size());
+        for (String otherId : targets) {
+            FriendshipLink link = links.get(otherId);
+            responses.add(FriendshipStatusResponse.builder()
+                    .userId(otherId)
+                    .relation(relationOf(userId, otherId, link))
+                    .friendshipId(link != null ? link.friendshipId() : null)
+                    .build());
+        }
+        return responses;
+    }
+
+    private static Relation relationOf(String userId, String otherId, FriendshipLink link) {
+        if (userId.equals(otherId)) {
+            return Relation.SELF;
+        }
+        if (link == null) {
+            return Relation.NONE;
+        }
+        return switch (link.status()) {
+            case "ACCEPTED" -> Relation.FRIENDS;
+            case "PENDING" -> userId.equals(link.userId()) ? Relation.REQUEST_SENT : Relation.REQUEST_RECEIVED;
+            case "REJECTED" -> Relation.REJECTED;
+            default -> Relation.NONE;
+        };
     }
 
     /**
@@ -240,29 +287,39 @@ public class FriendshipService {
 
         // 친구 관계 삭제
         friendshipRepository.delete(friendship);
+        friendCountCache.invalidateAfterCommit(friendship.getUser().getId(), friendship.getFriend().getId());
+        if (friendship.isAccepted()) {
+            friendGraph.removeAfterCommit(friendship.getUser().getId(), friendship.getFriend().getId());
+            feedFanoutService.removeFriendPosts(friendship.getUser().getId(), friendship.getFriend().getId());
+        }
         return true;
     }
 
     /**
      * 특정 사용자의 친구 수를 조회합니다.
-     * 
+     *
+     * 캐시에 있으면 그대로 반환하고, 없으면 인덱스 COUNT 쿼리 한 번으로 채웁니다.
+     * (친구 요청/수락/거절/삭제 커밋 시 무효화)
+     * 캐시 적중 시 커넥션을 잡지 않도록 트랜잭션을 새로 열지 않습니다.
+     *
      * @param userId 사용자 ID
      * @return 해당 사용자의 친구 수
      */
+    @Transactional(propagation = Propagation.SUPPORTS)
     public long getFriendCount(String userId) {
-        return friendshipRepository.findByUser_IdAndStatusOrFriend_IdAndStatus(userId, "ACCEPTED", userId, "ACCEPTED").size();
+        return friendCountCache.getOrLoad(FriendCountCache.Kind.FRIENDS, userId,
+                friendshipRepository::countAcceptedByUserId);
     }
 
     /**
      * 특정 사용자가 받은 대기 중인 친구 요청 수를 조회합니다.
-     * 
+     *
      * @param userId 사용자 ID
      * @return 해당 사용자가 받은 대기 중인 친구 요청 수
      */
+    @Transactional(propagation = Propagation.SUPPORTS)
     public long getPendingFriendRequestCount(String userId) {
-        return friendshipRepository.findByFriend_Id(userId).stream()
-                .filter(friendship -> "PENDING".equals(friendship.getStatus()))
-                .count();
+        return friendCountCache.getOrLoad(FriendCountCache.Kind.PENDING_RECEIVED, userId,
+                friendshipRepository::countPendingByFriendId);
     }
 }
-
@@ -1,7 +1,9 @@
 package com.example.record.user;
 
+import com.example.record.auth.security.AuthPrincipalCache;
 import com.example.record.auth.security.AuthUser;
 import com.example.record.common.ApiResponse;
+import com.example.record.user.dto.UserSearchPageResponse;
 import jakarta.validation.constraints.NotBlank;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
@@ -22,6 +24,8 @@ public class UserController {
     private final PasswordEncoder passwordEncoder;
     private final UserService userService;
     private final FriendshipService friendshipService;
+    private final UserSearchService userSearchService;
+    private final AuthPrincipalCache authPrincipalCache;
 
     // ────────────────────────────────
     // Request DTO
@@ -212,6 +216,23 @@ public class UserController {
         );
     }
 
+    // ────────────────────────────────
+    // 5-1. 아이디/닉네임 검색 (접두사 + 오타 허용, 관계 상태 포함)
+    // ────────────────────────────────
+    @GetMapping("/search")
+    public ResponseEntity<ApiResponse<?>> searchUsers(
+            @RequestParam("q") String keyword,
+            @RequestParam(value = "page", defaultValue = "0") int page,
+            @RequestParam(value = "size", defaultValue = "20") int size,
+            @RequestHeader(value = "X-User-Id", required = false) String searcherId) {
+        try {
+            UserSearchPageResponse response = userSearchService.search(keyword, searcherId, page, size);
+            return ResponseEntity.ok(new ApiResponse<>(true, response, "사용자 검색 성공"));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(new ApiResponse<>(false, null, e.getMessage()));
+        }
+    }
+
     // ────────────────────────────────
     // 6. 회원탈퇴
     // ────────────────────────────────
@@ -238,6 +259,7 @@ public class UserController {
         }
 
         userRepository.delete(user);
+        authPrincipalCache.invalidateAfterCommit(user.getId());
         return ResponseEntity.ok(
                 new ApiResponse<>(true, null, "회원탈퇴가 완료되었습니다.")
         );
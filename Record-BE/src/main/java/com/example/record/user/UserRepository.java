@@ -1,6 +1,11 @@
 package com.example.record.user;
 
+import com.example.record.user.dto.UserSearchRow;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
 import java.util.Optional;
 
 public interface UserRepository extends JpaRepository<User, String> {
@@ -12,4 +17,51 @@ public interface UserRepository extends JpaRepository<User, String> {
 
     // 비밀번호 재설정 (id + email 일치 검증)
     Optional<User> findByIdAndEmail(String id, String email);
+
+    /**
+     * 사용자 검색 - 아이디/닉네임 접두사 일치만 (검색어가 짧을 때)
+     *
+     * lower(id), lower(nickname) text_pattern_ops 인덱스 두 개를 BitmapOr로 범위 검색합니다.
+     * 비공개 계정은 본인 외에는 제외합니다.
+     *
+     * @param keyword 소문자 검색어 (정확히 일치 판단용)
+     * @param prefix LIKE 패턴 (검색어의 %, _, ! 를 !로 이스케이프한 뒤 % 를 붙인 값)
+     * @param viewerId 검색하는 사용자 ID (없으면 빈 문자열)
+     */
+    @Query(value = "SELECT u.id AS id, u.nickname AS nickname, u.profile_image AS \"profileImage\" " +
+           "FROM users u " +
+           "WHERE (lower(u.id) LIKE :prefix ESCAPE '!' OR lower(u.nickname) LIKE :prefix ESCAPE '!') " +
+           "AND (u.is_account_private IS NOT TRUE OR u.id = :viewerId) " +
+           "ORDER BY CASE WHEN lower(u.id) = :keyword THEN 0 ELSE 1 END, u.id " +
+           "LIMIT :limit OFFSET :offset", nativeQuery = true)
+    List<UserSearchRow> searchByPrefix(@Param("keyword") String keyword,
+                                       @Param("prefix") String prefix,
+                                       @Param("viewerId") String viewerId,
+                                       @Param("limit") int limit,
+                                       @Param("offset") int offset);
+
+    /**
+     * 사용자 검색 - 접두사 일치 + 삼중자 단어 유사도 (오타 허용)
+     *
+     * 접두사 조건은 text_pattern_ops 인덱스로, :keyword <% search_text 조건은
+     * idx_users_search_text_trgm(GIN) 인덱스로 찾아 BitmapOr로 합칩니다.
+     * 정렬: 아이디 정확히 일치 → 접두사 일치 → word_similarity 내림차순
+     * PostgreSQL: pg_trgm 확장 필요 (schema.sql, 없으면 시작 시 UserSearchColumns가 생성)
+     *
+     * @param keyword 소문자 검색어 (3글자 이상)
+     */
+    @Query(value = "SELECT u.id AS id, u.nickname AS nickname, u.profile_image AS \"profileImage\" " +
+           "FROM users u " +
+           "WHERE (lower(u.id) LIKE :prefix ESCAPE '!' OR lower(u.nickname) LIKE :prefix ESCAPE '!' " +
+           "OR :keyword <% u.search_text) " +
+           "AND (u.is_account_private IS NOT TRUE OR u.id = :viewerId) " +
+           "ORDER BY CASE WHEN lower(u.id) = :keyword THEN 0 " +
+           "WHEN lower(u.id) LIKE :prefix ESCAPE '!' OR lower(u.nickname) LIKE :prefix ESCAPE '!' THEN 1 " +
+           "ELSE 2 END, word_similarity(:keyword, u.search_text) DESC, u.id " +
+           "LIMIT :limit OFFSET :offset", nativeQuery = true)
+    List<UserSearchRow> searchByPrefixOrSimilarity(@Param("keyword") String keyword,
+                                                   @Param("prefix") String prefix,
+                                                   @Param("viewerId") String viewerId,
+                                                   @Param("limit") int limit,
+                                                   @Param("offset") int offset);
 }
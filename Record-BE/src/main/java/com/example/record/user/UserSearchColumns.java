@@ -0,0 +1,59 @@
+package com.example.record.user;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * 사용자 검색용 확장 모듈/생성 컬럼/인덱스 확인
+ *
+ * UserRepository.searchByPrefixOrSimilarity는 users.search_text와 pg_trgm(<%, word_similarity)이 있어야 동작합니다.
+ * 생성 컬럼/식 인덱스라 ddl-auto(update)로는 만들어지지 않으므로, 시작 시(웹 서버가 요청을 받기 전) 확인하고 없으면 만듭니다.
+ *
+ * 만들 수 없으면(확장 모듈 설치 권한 없음 등) 첫 검색 요청에서 실패하지 않도록 시작을 멈춥니다.
+ */
+@Slf4j
+@Component
+public class UserSearchColumns implements SmartInitializingSingleton {
+
+    /** schema.sql의 "사용자 검색용 생성 컬럼 및 인덱스"와 같음 */
+    private static final List<String> DDL = List.of(
+            "CREATE EXTENSION IF NOT EXISTS pg_trgm",
+            "ALTER TABLE users ADD COLUMN IF NOT EXISTS search_text TEXT GENERATED ALWAYS AS (" +
+                    "lower(id) || ' ' || lower(nickname)) STORED",
+            "CREATE INDEX IF NOT EXISTS idx_users_search_text_trgm ON users USING GIN (search_text gin_trgm_ops)",
+            "CREATE INDEX IF NOT EXISTS idx_users_id_prefix ON users (lower(id) text_pattern_ops)",
+            "CREATE INDEX IF NOT EXISTS idx_users_nickname_prefix ON users (lower(nickname) text_pattern_ops)");
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public UserSearchColumns(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        Boolean ready = jdbcTemplate.queryForObject(
+                "SELECT EXISTS (SELECT 1 FROM pg_extension WHERE extname = 'pg_trgm') " +
+                "AND EXISTS (SELECT 1 FROM information_schema.columns WHERE table_schema = current_schema() " +
+                "            AND table_name = 'users' AND column_name = 'search_text') " +
+                "AND (SELECT COUNT(*) FROM pg_indexes WHERE schemaname = current_schema() " +
+                "     AND indexname IN ('idx_users_search_text_trgm', 'idx_users_id_prefix', 'idx_users_nickname_prefix')) = 3",
+                Boolean.class);
+        if (Boolean.TRUE.equals(ready)) {
+            return;
+        }
+
+        try {
+            DDL.forEach(jdbcTemplate::execute);
+            log.info("사용자 검색용 생성 컬럼/인덱스 생성: users.search_text");
+        } catch (DataAccessException e) {
+            throw new IllegalStateException("사용자 검색용 생성 컬럼/인덱스를 만들 수 없습니다. " +
+                    "pg_trgm 확장 모듈 설치 권한이 없으면 관리자 계정으로 schema.sql을 실행한 뒤 다시 시작해주세요.", e);
+        }
+    }
+}
@@ -0,0 +1,115 @@
+package com.example.record.user;
+
+import com.example.record.user.dto.FriendshipStatusResponse;
+import com.example.record.user.dto.UserSearchItemResponse;
+import com.example.record.user.dto.UserSearchPageResponse;
+import com.example.record.user.dto.UserSearchRow;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 사용자 검색 서비스 (아이디/닉네임 접두사 + 오타 허용)
+ *
+ * 1. 검색어가 3글자 미만이면 접두사 일치만, 3글자 이상이면 삼중자 유사도도 함께 찾고
+ * 2. 검색한 사용자와의 관계 상태를 결과 전체에 대해 쿼리 한 번으로 붙입니다.
+ *
+ * 두 쿼리 모두 인덱스만으로 후보를 찾으므로 사용자 수가 늘어도 응답 시간이 거의 일정합니다.
+ * 관련도 순 정렬이라 커서 대신 페이지 번호를 쓰며, 깊은 페이지는 막습니다. (MAX_PAGE)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class UserSearchService {
+
+    /** 최소 검색어 길이 (1글자 접두사는 후보가 너무 많음) */
+    static final int MIN_KEYWORD_LENGTH = 2;
+
+    /** 삼중자 유사도 검색을 함께 쓰는 검색어 길이 */
+    static final int FUZZY_KEYWORD_LENGTH = 3;
+
+    /** 최대 검색어 길이 (닉네임 컬럼 길이) */
+    static final int MAX_KEYWORD_LENGTH = 30;
+
+    /** 페이지 최대 크기 */
+    static final int MAX_PAGE_SIZE = 50;
+
+    /** 최대 페이지 번호 */
+    static final int MAX_PAGE = 20;
+
+    private final UserRepository userRepository;
+    private final FriendshipService friendshipService;
+
+    /**
+     * 사용자 검색
+     *
+     * @param keyword 검색어 (아이디 또는 닉네임 일부, 대소문자 무시)
+     * @param viewerId 검색하는 사용자 ID (없으면 null, 관계 상태를 붙이지 않음)
+     * @param page 페이지 번호 (0부터)
+     * @param size 페이지 크기
+     * @throws IllegalArgumentException 검색어/페이지 값이 잘못된 경우
+     */
+    @Transactional(readOnly = true)
+    public UserSearchPageResponse search(String keyword, String viewerId, int page, int size) {
+        String normalized = keyword == null ? "" : keyword.trim().toLowerCase(Locale.ROOT);
+        if (normalized.length() < MIN_KEYWORD_LENGTH || normalized.length() > MAX_KEYWORD_LENGTH) {
+            throw new IllegalArgumentException(
+                    "검색어는 " + MIN_KEYWORD_LENGTH + " ~ " + MAX_KEYWORD_LENGTH + "자로 입력해주세요.");
+        }
+        if (size < 1 || size > MAX_PAGE_SIZE) {
+            throw new IllegalArgumentException("페이지 크기는 1 ~ " + MAX_PAGE_SIZE + " 사이여야 합니다.");
+        }
+        if (page < 0 || page > MAX_PAGE) {
+            throw new IllegalArgumentException("페이지 번호는 0 ~ " + MAX_PAGE + " 사이여야 합니다.");
+        }
+
+        String prefix = escapeLike(normalized) + "%";
+        String viewer = viewerId != null ? viewerId : "";
+        // 다음 페이지 존재 여부 확인을 위해 size + 1건 조회
+        List<UserSearchRow> rows = normalized.length() >= FUZZY_KEYWORD_LENGTH
+                ? userRepository.searchByPrefixOrSimilarity(normalized, prefix, viewer, size + 1, page * size)
+                : userRepository.searchByPrefix(normalized, prefix, viewer, size + 1, page * size);
+
+        boolean hasNext = rows.size() > size;
+        List<UserSearchRow> pageRows = hasNext ? rows.subList(0, size) : rows;
+
+        Map<String, FriendshipStatusResponse> relations = viewerId == null || pageRows.isEmpty()
+                ? Map.of()
+                : friendshipService.getRelations(viewerId, pageRows.stream().map(UserSearchRow::getId).toList())
+                        .stream()
+                        .collect(Collectors.toMap(FriendshipStatusResponse::getUserId, Function.identity()));
+
+        List<UserSearchItemResponse> items = pageRows.stream()
+                .map(row -> {
+                    FriendshipStatusResponse relation = relations.get(row.getId());
+                    return UserSearchItemResponse.builder()
+                            .userId(row.getId())
+                            .nickname(row.getNickname())
+                            .profileImage(row.getProfileImage())
+                            .relation(relation != null ? relation.getRelation() : null)
+                            .friendshipId(relation != null ? relation.getFriendshipId() : null)
+                            .build();
+                })
+                .collect(Collectors.toList());
+
+        return UserSearchPageResponse.builder()
+                .items(items)
+                .page(page)
+                .hasNext(hasNext)
+                .build();
+    }
+
+    /**
+     * LIKE 패턴 특수문자 이스케이프 (ESCAPE '!')
+     */
+    static String escapeLike(String value) {
+        return value.replace("!", "!!").replace("%", "!%").replace("_", "!_");
+    }
+}
@@ -1,11 +1,14 @@
 package com.example.record.user;
 
 import com.example.record.AWS.S3Service;
+import com.example.record.auth.security.AuthPrincipalCache;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
 
+@Slf4j
 @Service
 @RequiredArgsConstructor
 public class UserService {
@@ -13,6 +16,7 @@ public class UserService {
     private final UserRepository userRepository;
     private final LocalFileStorageService localFileStorageService;
     private final S3Service s3Service;
+    private final AuthPrincipalCache authPrincipalCache;
 
     @Transactional
     public User updateProfile(User user, UserController.UpdateProfileRequest req) {
@@ -27,6 +31,7 @@ public class UserService {
             user.setIsAccountPrivate(req.getIsAccountPrivate());
         }
 
+        authPrincipalCache.invalidateAfterCommit(user.getId());
         return userRepository.save(user);
     }
 
@@ -48,6 +53,7 @@ public class UserService {
         }
 
         user.setNickname(nickname.trim());
+        authPrincipalCache.invalidateAfterCommit(user.getId());
         return userRepository.save(user);
     }
 
@@ -67,7 +73,8 @@ public class UserService {
         // 3) User 엔티티에 새로운 URL 반영
         user.setProfileImage(imageUrl);
 
-        // 4) DB 저장
+        // 4) DB 저장 (커밋 후 인증 사용자 캐시 무효화)
+        authPrincipalCache.invalidateAfterCommit(user.getId());
         return userRepository.save(user);
     }
 
@@ -84,7 +91,7 @@ public class UserService {
         } else {
             // 로컬 경로인 경우 (기존 데이터 마이그레이션 중일 수 있음)
             // S3로 완전히 전환되면 이 부분은 제거 가능
-            System.out.println("⚠ 로컬 경로 이미지는 삭제하지 않음 (S3로 마이그레이션 필요): " + imageUrl);
+            log.info("로컬 경로 이미지는 삭제하지 않음 (S3로 마이그레이션 필요): {}", imageUrl);
         }
     }
 
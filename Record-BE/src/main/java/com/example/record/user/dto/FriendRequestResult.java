@@ -0,0 +1,22 @@
+package com.example.record.user.dto;
+
+/**
+ * 친구 요청 보내기 결과 (네이티브 쿼리 프로젝션)
+ */
+public interface FriendRequestResult {
+
+    /**
+     * 요청자와 대상 사용자가 모두 존재하는지 여부
+     */
+    Boolean getUsersExist();
+
+    /**
+     * 새로 만들었거나 수락된 친구 관계 ID (이미 관계가 있어 아무것도 바뀌지 않았으면 null)
+     */
+    Long getFriendshipId();
+
+    /**
+     * 변경 후 상태 (PENDING: 새 요청, ACCEPTED: 상대가 먼저 보낸 요청을 수락함)
+     */
+    String getStatus();
+}
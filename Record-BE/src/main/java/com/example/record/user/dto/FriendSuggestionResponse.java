@@ -0,0 +1,36 @@
+package com.example.record.user.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 알 수도 있는 사람(친구 추천) 응답 DTO
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class FriendSuggestionResponse {
+    private String userId;
+    private String nickname;
+    private String profileImage;
+
+    /**
+     * 함께 아는 친구 수
+     */
+    private Integer mutualFriendCount;
+
+    /**
+     * 둘 다 관람한 아티스트 수
+     */
+    private Integer sharedArtistCount;
+
+    /**
+     * 둘 다 관람한 아티스트 (최대 3개, 이름순)
+     */
+    private List<String> sharedArtists;
+}
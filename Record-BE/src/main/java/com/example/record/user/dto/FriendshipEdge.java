@@ -0,0 +1,13 @@
+package com.example.record.user.dto;
+
+/**
+ * 수락된 친구 관계 한 건 (친구 그래프 적재용 프로젝션)
+ *
+ * @param userId 요청을 보낸 사용자 ID
+ * @param friendId 요청을 받은 사용자 ID
+ */
+public record FriendshipEdge(
+        String userId,
+        String friendId
+) {
+}
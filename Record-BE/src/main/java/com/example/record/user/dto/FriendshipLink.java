@@ -0,0 +1,17 @@
+package com.example.record.user.dto;
+
+/**
+ * 두 사용자 사이의 친구 관계 한 건 (관계 상태 일괄 조회용 프로젝션)
+ *
+ * @param friendshipId 친구 관계 ID
+ * @param userId 요청을 보낸 사용자 ID
+ * @param friendId 요청을 받은 사용자 ID
+ * @param status 상태 (PENDING, ACCEPTED, REJECTED)
+ */
+public record FriendshipLink(
+        Long friendshipId,
+        String userId,
+        String friendId,
+        String status
+) {
+}
@@ -0,0 +1,38 @@
+package com.example.record.user.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 조회자 기준 다른 사용자와의 관계 상태 응답 DTO (사용자 검색 결과 표시용)
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class FriendshipStatusResponse {
+
+    /**
+     * 관계 상태
+     *
+     * - NONE: 관계 없음
+     * - FRIENDS: 친구
+     * - REQUEST_SENT: 내가 보낸 요청 대기 중
+     * - REQUEST_RECEIVED: 상대가 보낸 요청 대기 중 (수락/거절 가능)
+     * - REJECTED: 거절된 요청
+     * - SELF: 본인
+     */
+    public enum Relation {
+        NONE, FRIENDS, REQUEST_SENT, REQUEST_RECEIVED, REJECTED, SELF
+    }
+
+    private String userId;
+    private Relation relation;
+
+    /**
+     * 친구 관계 ID (수락/거절/삭제 요청용, 관계가 없으면 null)
+     */
+    private Long friendshipId;
+}
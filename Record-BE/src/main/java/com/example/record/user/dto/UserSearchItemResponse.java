@@ -0,0 +1,29 @@
+package com.example.record.user.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 사용자 검색 결과 항목 응답 DTO
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class UserSearchItemResponse {
+    private String userId;
+    private String nickname;
+    private String profileImage;
+
+    /**
+     * 검색한 사용자 기준 관계 상태 (검색자를 모르면 null)
+     */
+    private FriendshipStatusResponse.Relation relation;
+
+    /**
+     * 친구 관계 ID (수락/거절/삭제 요청용, 관계가 없으면 null)
+     */
+    private Long friendshipId;
+}
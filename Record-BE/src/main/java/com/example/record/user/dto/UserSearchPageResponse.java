@@ -0,0 +1,28 @@
+package com.example.record.user.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 사용자 검색 페이지 응답 DTO
+ *
+ * 정렬: 아이디 정확히 일치 → 아이디/닉네임 접두사 일치 → 유사도 높은 순
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class UserSearchPageResponse {
+    private List<UserSearchItemResponse> items;
+
+    /**
+     * 현재 페이지 번호 (0부터)
+     */
+    private int page;
+
+    private boolean hasNext;
+}
@@ -0,0 +1,15 @@
+package com.example.record.user.dto;
+
+/**
+ * 사용자 검색 결과 한 건 (네이티브 쿼리 프로젝션)
+ *
+ * 검색 목록에 필요한 컬럼만 읽습니다. (비밀번호/이메일 등은 읽지 않음)
+ */
+public interface UserSearchRow {
+
+    String getId();
+
+    String getNickname();
+
+    String getProfileImage();
+}
@@ -2,7 +2,6 @@ package com.example.record;
 
 
 import com.example.record.user.User;
-import com.example.record.user.Friendship;
 import com.example.record.user.FriendshipService;
 import com.example.record.user.dto.FriendshipResponse;
 import lombok.RequiredArgsConstructor;
@@ -32,25 +31,20 @@ public class DBTestController {
      */
     @GetMapping("/users/{userId}/friends")
     public List<FriendshipResponse> getUserFriends(@PathVariable("userId") String userId) {
-        List<Friendship> friends = friendshipService.getFriends(userId);
+        List<FriendshipResponse> friends = friendshipService.getFriends(userId);
         return friends.stream()
-                .map(friendship -> {
-                    FriendshipResponse response = FriendshipResponse.from(friendship);
+                .map(response -> {
                     // 현재 사용자가 아닌 친구의 정보만 포함하도록 변환
-                    if (friendship.getUser().getId().equals(userId)) {
+                    if (userId.equals(response.getUserId())) {
                         // 현재 사용자가 요청을 보낸 경우 -> friend가 친구
-                        response.setUserId(friendship.getFriend().getId());
-                        response.setUserNickname(friendship.getFriend().getNickname());
-                        response.setUserProfileImage(friendship.getFriend().getProfileImage());
-                        response.setFriendId(null);
-                        response.setFriendNickname(null);
-                        response.setFriendProfileImage(null);
-                    } else {
-                        // 현재 사용자가 요청을 받은 경우 -> user가 친구
-                        response.setFriendId(null);
-                        response.setFriendNickname(null);
-                        response.setFriendProfileImage(null);
+                        response.setUserId(response.getFriendId());
+                        response.setUserNickname(response.getFriendNickname());
+                        response.setUserProfileImage(response.getFriendProfileImage());
                     }
+                    // 현재 사용자가 요청을 받은 경우 -> user가 친구
+                    response.setFriendId(null);
+                    response.setFriendNickname(null);
+                    response.setFriendProfileImage(null);
                     return response;
                 })
                 .collect(Collectors.toList());
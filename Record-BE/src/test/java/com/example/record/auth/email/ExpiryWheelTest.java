@@ -0,0 +1,55 @@
+package com.example.record.auth.email;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 타이밍 휠 만료 후보 전달 검증
+ */
+class ExpiryWheelTest {
+
+    @Test
+    void passesKeysOnlyAfterTheirTick() {
+        ExpiryWheel wheel = new ExpiryWheel(1_000, 8, 0);
+        wheel.schedule("a", 2_500);
+        wheel.schedule("b", 5_000);
+
+        List<String> expired = new ArrayList<>();
+        wheel.advance(1_999, expired::add);
+        assertThat(expired).isEmpty();
+
+        wheel.advance(2_000, expired::add);
+        assertThat(expired).containsExactly("a");
+
+        wheel.advance(5_000, expired::add);
+        assertThat(expired).containsExactly("a", "b");
+    }
+
+    @Test
+    void drainsEverySlotOnceAfterLongPause() {
+        ExpiryWheel wheel = new ExpiryWheel(1_000, 4, 0);
+        wheel.schedule("a", 1_000);
+        wheel.schedule("b", 3_000);
+
+        List<String> expired = new ArrayList<>();
+        wheel.advance(100_000, expired::add);
+        assertThat(expired).containsExactlyInAnyOrder("a", "b");
+    }
+
+    @Test
+    void keyRescheduledIntoDrainingSlotWaitsForNextRound() {
+        ExpiryWheel wheel = new ExpiryWheel(1_000, 4, 0);
+        wheel.schedule("a", 1_000);
+
+        List<String> expired = new ArrayList<>();
+        wheel.advance(1_000, key -> {
+            expired.add(key);
+            wheel.schedule(key, 1_000);
+        });
+        assertThat(expired).containsExactly("a");
+    }
+}
@@ -0,0 +1,115 @@
+package com.example.record.auth.mail;
+
+import com.example.record.support.LocalSmtpServer;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mail.MailSendException;
+import org.springframework.mail.SimpleMailMessage;
+import org.springframework.mail.javamail.JavaMailSender;
+import org.springframework.mail.javamail.JavaMailSenderImpl;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+/**
+ * 메일 발송 대기열 묶음 발송 결과 반영 검증
+ * (연결 하나로 보낸 묶음 중 일부만 거부되면, 거부된 메일만 백오프 재시도)
+ *
+ * 마지막 테스트는 실제 JavaMailSenderImpl로 로컬 SMTP 서버(LocalSmtpServer)에 보내
+ * MailSendException.getFailedMessages()의 키가 넘긴 SimpleMailMessage인지까지 확인합니다.
+ */
+@ExtendWith(MockitoExtension.class)
+class MailOutboxDispatcherTest {
+
+    @Mock
+    private MailOutboxRepository mailOutboxRepository;
+
+    @Mock
+    private JavaMailSender mailSender;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private MailOutboxDispatcher dispatcher;
+
+    private record Claimed(Long getId, String getRecipient, String getSubject, String getBody, Integer getAttempts)
+            implements ClaimedMail {}
+
+    @BeforeEach
+    void setUp() {
+        dispatcher = new MailOutboxDispatcher(mailOutboxRepository, mailSender, transactionManager,
+                "no-reply@record.example.com", 1, 20, 120, 3, 30, 3600, 7);
+    }
+
+    @Test
+    void rejectedRecipientIsRetriedAndOthersMarkedSent() {
+        doAnswer(invocation -> {
+            SimpleMailMessage[] messages = invocation.getArgument(0);
+            throw new MailSendException(Map.of(messages[1], new IllegalStateException("rejected")));
+        }).when(mailSender).send(any(SimpleMailMessage[].class));
+
+        dispatcher.sendBatch(List.of(
+                new Claimed(1L, "a@record.example.com", "s", "b", 1),
+                new Claimed(2L, "b@record.example.com", "s", "b", 1)));
+
+        verify(mailOutboxRepository).markSent(eq(List.of(1L)), any());
+        verify(mailOutboxRepository).markRetry(eq(2L), any(), eq("rejected"));
+        verify(mailOutboxRepository, never()).markFailed(any(), any());
+    }
+
+    @Test
+    void givesUpAfterMaxAttempts() {
+        doAnswer(invocation -> {
+            throw new MailSendException("connection refused");
+        }).when(mailSender).send(any(SimpleMailMessage[].class));
+
+        dispatcher.sendBatch(List.of(new Claimed(3L, "c@record.example.com", "s", "b", 3)));
+
+        verify(mailOutboxRepository, never()).markSent(any(), any());
+        verify(mailOutboxRepository).markFailed(3L, "connection refused");
+        verify(mailOutboxRepository, never()).markRetry(any(), any(), any());
+    }
+
+    @Test
+    void batchOverLocalSmtpRetriesOnlyRejectedRecipient() throws Exception {
+        try (LocalSmtpServer smtp = LocalSmtpServer.start("rejected@record.example.com")) {
+            JavaMailSenderImpl smtpSender = new JavaMailSenderImpl();
+            smtpSender.setHost("localhost");
+            smtpSender.setPort(smtp.port());
+            MailOutboxDispatcher smtpDispatcher = new MailOutboxDispatcher(mailOutboxRepository, smtpSender,
+                    transactionManager, "no-reply@record.example.com", 1, 20, 120, 3, 30, 3600, 7);
+
+            smtpDispatcher.sendBatch(List.of(
+                    new Claimed(1L, "a@record.example.com", "code", "123456", 1),
+                    new Claimed(2L, "rejected@record.example.com", "code", "234567", 1),
+                    new Claimed(3L, "c@record.example.com", "code", "345678", 1)));
+
+            verify(mailOutboxRepository).markSent(eq(List.of(1L, 3L)), any());
+            verify(mailOutboxRepository).markRetry(eq(2L), any(), any());
+            verify(mailOutboxRepository, never()).markFailed(any(), any());
+            assertThat(smtp.connections()).isEqualTo(1);
+            assertThat(smtp.received())
+                    .extracting(LocalSmtpServer.Received::recipients)
+                    .containsExactly(List.of("a@record.example.com"), List.of("c@record.example.com"));
+        }
+    }
+
+    @Test
+    void backoffDoublesUpToMax() {
+        assertThat(dispatcher.backoffSeconds(1)).isEqualTo(30);
+        assertThat(dispatcher.backoffSeconds(2)).isEqualTo(60);
+        assertThat(dispatcher.backoffSeconds(4)).isEqualTo(240);
+        assertThat(dispatcher.backoffSeconds(20)).isEqualTo(3600);
+    }
+}
@@ -0,0 +1,70 @@
+package com.example.record.ratelimit;
+
+import com.example.record.auth.jwt.JwtUtil;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * AI 요청 제한 사용자 키 검증
+ *
+ * JwtAuthenticationFilter가 건너뛰는 경로(/review, /stt, /ocr, /generate-image)에서도
+ * 같은 IP의 서로 다른 사용자는 각자 버킷을 써야 합니다. (프록시 뒤에서 IP 하나를 공유해도)
+ */
+class AiRateLimitInterceptorTest {
+
+    private static final String SHARED_IP = "10.0.0.1";
+
+    private AiRateLimitInterceptor interceptor;
+
+    @BeforeEach
+    void setUp() {
+        JwtUtil jwtUtil = mock(JwtUtil.class);
+        when(jwtUtil.parseClaims(anyString())).thenReturn(Optional.empty());
+        when(jwtUtil.parseClaims("token-a")).thenReturn(Optional.of(new JwtUtil.TokenClaims("alice", "USER")));
+        when(jwtUtil.parseClaims("token-b")).thenReturn(Optional.of(new JwtUtil.TokenClaims("bob", "USER")));
+        // 분당 1회, 버스트 1 → 사용자마다 첫 요청만 허용
+        AiRateLimiter limiter = new AiRateLimiter(1, 1, 100, 2, 16, 8);
+        interceptor = new AiRateLimitInterceptor(limiter, jwtUtil);
+    }
+
+    @Test
+    void differentTokensFromSameIpGetSeparateBuckets() throws Exception {
+        assertThat(call("token-a").getStatus()).isEqualTo(200);
+        assertThat(call("token-a").getStatus()).isEqualTo(429);
+        assertThat(call("token-b").getStatus()).isEqualTo(200);
+    }
+
+    @Test
+    void invalidTokenFallsBackToIp() {
+        MockHttpServletRequest request = request("forged");
+
+        assertThat(interceptor.clientKey(request)).isEqualTo("ip:" + SHARED_IP);
+        assertThat(interceptor.clientKey(request("token-a"))).isEqualTo("user:alice");
+    }
+
+    private MockHttpServletResponse call(String token) throws Exception {
+        MockHttpServletRequest request = request(token);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        if (interceptor.preHandle(request, response, new Object())) {
+            interceptor.afterCompletion(request, response, new Object(), null);
+        }
+        return response;
+    }
+
+    private static MockHttpServletRequest request(String token) {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/review/summarize");
+        request.setRemoteAddr(SHARED_IP);
+        request.addHeader(HttpHeaders.AUTHORIZATION, "Bearer " + token);
+        return request;
+    }
+}
@@ -0,0 +1,47 @@
+package com.example.record.ratelimit;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * GCRA 제한기 검증 (분당 60회 = 1초에 하나, 버스트 3)
+ */
+class GcraLimiterTest {
+
+    private static final long SECOND = TimeUnit.SECONDS.toNanos(1);
+
+    @Test
+    void allowsBurstThenRefillsOnePerInterval() {
+        // nanoTime이 음수인 경우도 다루도록 음수에서 시작
+        AtomicLong now = new AtomicLong(-5 * SECOND);
+        GcraLimiter limiter = new GcraLimiter(60, 3, now::get);
+
+        assertThat(limiter.tryAcquire()).isZero();
+        assertThat(limiter.tryAcquire()).isZero();
+        assertThat(limiter.tryAcquire()).isZero();
+        assertThat(limiter.tryAcquire()).isEqualTo(SECOND);
+
+        now.addAndGet(SECOND / 2);
+        assertThat(limiter.tryAcquire()).isEqualTo(SECOND / 2);
+        assertThat(GcraLimiter.retryAfterSeconds(SECOND / 2)).isEqualTo(1);
+
+        now.addAndGet(SECOND / 2);
+        assertThat(limiter.tryAcquire()).isZero();
+        assertThat(limiter.tryAcquire()).isEqualTo(SECOND);
+    }
+
+    @Test
+    void idleTimeDoesNotAccumulateBeyondBurst() {
+        AtomicLong now = new AtomicLong();
+        GcraLimiter limiter = new GcraLimiter(60, 2, now::get);
+
+        now.addAndGet(60 * SECOND);
+        assertThat(limiter.tryAcquire()).isZero();
+        assertThat(limiter.tryAcquire()).isZero();
+        assertThat(limiter.tryAcquire()).isPositive();
+    }
+}
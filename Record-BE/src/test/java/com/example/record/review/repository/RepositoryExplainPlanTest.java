@@ -0,0 +1,494 @@
+package com.example.record.review.repository;
+
+import com.example.record.review.dto.request.TicketStatisticsCompareRequest;
+import com.example.record.support.PostgresTestDatabase;
+import com.example.record.user.FriendshipRepository;
+import com.example.record.user.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.context.TestPropertySource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 리포지토리 조회 쿼리 실행 계획 회귀 테스트
+ *
+ * 목록/통계/내보내기/친구 조회에 쓰이는 리포지토리 메서드를 실제로 호출하고,
+ * 그때 실행된 SQL을 같은 바인딩 값으로 EXPLAIN 하여 큰 테이블을 순차 스캔하지 않는지 확인합니다.
+ * 인덱스를 지우거나 조건을 인덱스를 못 타는 형태(EXTRACT 등)로 바꾸면 여기서 실패합니다.
+ *
+ * schema.sql로 초기화한 PostgreSQL에서 실행합니다. (PostgresTestDatabase: Testcontainers 또는 TEST_DB_URL)
+ * 테스트마다 사용자 500명, 티켓 3만 건 규모의 데이터를 넣고 ANALYZE 한 뒤 확인하며, 트랜잭션은 롤백됩니다.
+ */
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import(RepositoryExplainPlanTest.CaptureConfig.class)
+@TestPropertySource(properties = "spring.jpa.hibernate.ddl-auto=none")
+class RepositoryExplainPlanTest {
+
+    private static final String USER_ID = "xu7";
+    private static final PageRequest FIRST_PAGE = PageRequest.of(0, 21);
+
+    private static final List<String> SEED = List.of(
+            "INSERT INTO users (id, email, password, nickname) " +
+            "SELECT 'xu' || g, 'xu' || g || '@explain.test', 'x', '사용자' || g FROM generate_series(1, 500) g",
+            "INSERT INTO tickets (user_id, performance_title, venue, artist, genre, view_date, review_text, is_public, created_at) " +
+            "SELECT 'xu' || (1 + g % 500), '작품' || (g % 300), '공연장' || (g % 40), '아티스트' || (g % 200), " +
+            "CASE WHEN g % 2 = 0 THEN 'MUSICAL' ELSE 'BAND' END, DATE '2020-01-01' + (g % 2190), " +
+            "'후기 ' || g, g % 4 <> 0, NOW() - (g || ' minutes')::interval FROM generate_series(1, 30000) g",
+            "INSERT INTO reviews (ticket_id, summary, keywords) " +
+            "SELECT id, '요약 ' || id, '키워드' FROM (SELECT id, row_number() OVER (ORDER BY id) rn FROM tickets " +
+            "WHERE user_id LIKE 'xu%') s WHERE rn % 3 = 0",
+            "WITH qt AS (INSERT INTO questions_templates (template_text, category, genre) " +
+            "VALUES ('질문', 'explain', 'MUSICAL') RETURNING id) " +
+            "INSERT INTO review_questions (review_id, template_id, display_order, custom_text) " +
+            "SELECT r.id, qt.id, g, '답변' FROM reviews r JOIN tickets t ON t.id = r.ticket_id " +
+            "CROSS JOIN qt CROSS JOIN generate_series(1, 3) g WHERE t.user_id LIKE 'xu%'",
+            "INSERT INTO generated_image_url (review_id, image_url, style, is_selected) " +
+            "SELECT r.id, 'https://example.com/' || r.id || '.png', 'default', TRUE " +
+            "FROM reviews r JOIN tickets t ON t.id = r.ticket_id WHERE t.user_id LIKE 'xu%'",
+            "INSERT INTO ticket_likes (ticket_id, user_id) " +
+            "SELECT id, 'xu' || (1 + (rn * 31) % 500) FROM (SELECT id, row_number() OVER (ORDER BY id) rn FROM tickets " +
+            "WHERE user_id LIKE 'xu%') s WHERE rn % 2 = 0 ON CONFLICT DO NOTHING",
+            "INSERT INTO friendships (user_id, friend_id, status) " +
+            "SELECT 'xu' || (1 + g % 500), 'xu' || (1 + (g * 7 + g / 500) % 500), " +
+            "CASE WHEN g % 5 = 0 THEN 'PENDING' ELSE 'ACCEPTED' END FROM generate_series(1, 8000) g " +
+            "WHERE g % 500 <> (g * 7 + g / 500) % 500 ON CONFLICT DO NOTHING",
+            "INSERT INTO ticket_statistics_rollup (user_id, stat_year, dimension, dim_key, visit_count) " +
+            "SELECT 'xu' || (1 + g % 500), 2020 + (g / 500) % 6, 'GENRE', 'k' || (g % 7), 1 " +
+            "FROM generate_series(1, 21000) g ON CONFLICT DO NOTHING",
+            "INSERT INTO feed_inbox (owner_id, ticket_id, author_id, created_at) " +
+            "SELECT CASE WHEN f.user_id = t.user_id THEN f.friend_id ELSE f.user_id END, t.id, t.user_id, t.created_at " +
+            "FROM tickets t JOIN friendships f ON f.status = 'ACCEPTED' AND (f.user_id = t.user_id OR f.friend_id = t.user_id) " +
+            "WHERE t.user_id LIKE 'xu%' AND t.is_public AND t.id % 10 = 0 ON CONFLICT DO NOTHING",
+            "INSERT INTO feed_pull_authors (user_id) SELECT 'xu' || g FROM generate_series(1, 500, 50) g",
+            "ANALYZE users, tickets, reviews, review_questions, generated_image_url, ticket_likes, " +
+            "friendships, ticket_statistics_rollup, feed_inbox, feed_pull_authors"
+    );
+
+    @DynamicPropertySource
+    static void datasource(DynamicPropertyRegistry registry) {
+        PostgresTestDatabase.register(registry);
+    }
+
+    @Autowired
+    private TicketRepository ticketRepository;
+
+    @Autowired
+    private ReviewRepository reviewRepository;
+
+    @Autowired
+    private TicketLikeRepository ticketLikeRepository;
+
+    @Autowired
+    private TicketStatisticsRollupRepository ticketStatisticsRollupRepository;
+
+    @Autowired
+    private FriendshipRepository friendshipRepository;
+
+    @Autowired
+    private FeedInboxRepository feedInboxRepository;
+
+    @Autowired
+    private FeedPullAuthorRepository feedPullAuthorRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private DataSource dataSource;
+
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void seed() {
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        SEED.forEach(jdbcTemplate::execute);
+        StatementCapture.STATEMENTS.clear();
+    }
+
+    // ===== tickets =====
+
+    @Test
+    void ticketCountUsesUserIndex() {
+        ticketRepository.countByUser_Id(USER_ID);
+
+        assertThat(explain()).contains("idx_tickets_user").doesNotContain("Seq Scan on tickets");
+    }
+
+    @Test
+    void ticketListUsesSeekIndexWithoutSort() {
+        ticketRepository.findListRowsByUserId(USER_ID);
+
+        assertThat(explain()).contains("idx_tickets_user_seek").doesNotContain("Seq Scan on tickets");
+    }
+
+    @Test
+    void publicTicketListUsesPartialIndex() {
+        ticketRepository.findPublicListRowsByUserId(USER_ID);
+
+        assertThat(explain()).contains("idx_tickets_user_public_seek").doesNotContain("Seq Scan on tickets");
+    }
+
+    @Test
+    void ticketPageSeeksFromCursor() {
+        ticketRepository.findPageByUserId(USER_ID, LocalDate.of(2023, 6, 1), LocalDateTime.now(), Long.MAX_VALUE, FIRST_PAGE);
+
+        assertThat(explain()).contains("idx_tickets_user_seek").doesNotContain("Seq Scan on tickets");
+    }
+
+    @Test
+    void publicTicketPageSeeksPartialIndex() {
+        ticketRepository.findPublicPageByUserId(USER_ID, LocalDate.of(2023, 6, 1), LocalDateTime.now(), Long.MAX_VALUE, FIRST_PAGE);
+
+        assertThat(explain()).contains("idx_tickets_user_public_seek").doesNotContain("Seq Scan on tickets");
+    }
+
+    @Test
+    void ticketsByIdsUsePrimaryKey() {
+        List<Long> ids = jdbcTemplate.queryForList(
+                "SELECT CAST(id AS BIGINT) FROM tickets WHERE user_id = ? LIMIT 20", Long.class, USER_ID);
+        StatementCapture.STATEMENTS.clear();
+
+        ticketRepository.findListRowsByIdIn(ids);
+
+        assertThat(explain()).contains("tickets_pkey").doesNotContain("Seq Scan on tickets");
+    }
+
+    @Test
+    void statisticsFactsUseUserIndex() {
+        ticketRepository.findStatisticsFactsByUserId(USER_ID);
+
+        assertThat(explain()).contains("idx_tickets_user").doesNotContain("Seq Scan on tickets");
+    }
+
+    @Test
+    void periodStatisticsUseViewDateRange() {
+        ticketRepository.findPeriodStatistics(USER_ID, List.of(
+                TicketStatisticsCompareRequest.Period.of("2023"),
+                TicketStatisticsCompareRequest.Period.of("2024-Q1")));
+
+        assertThat(explain()).contains("idx_tickets_user_seek").contains("view_date >=")
+                .doesNotContain("Seq Scan on tickets");
+    }
+
+    @Test
+    void yearInReviewStreamUsesSeekIndex() {
+        try (Stream<?> rows = ticketRepository.streamYearInReviewRows(USER_ID,
+                LocalDate.of(2023, 1, 1), LocalDate.of(2023, 12, 31))) {
+            rows.findFirst();
+        }
+
+        assertThat(explain()).contains("idx_tickets_user_seek").doesNotContain("Seq Scan on tickets");
+    }
+
+    @Test
+    void exportStreamUsesUserIndex() {
+        try (Stream<?> rows = ticketRepository.streamExportRows(USER_ID)) {
+            rows.findFirst();
+        }
+
+        assertThat(explain()).contains("idx_tickets_user").doesNotContain("Seq Scan on tickets");
+    }
+
+    @Test
+    void keywordSearchUsesGinIndexes() {
+        ticketRepository.searchIdsByKeyword(USER_ID, "작품1", "작품1:*", PageRequest.of(0, 20));
+
+        assertThat(explain()).contains("idx_tickets_search").doesNotContain("Seq Scan on tickets");
+    }
+
+    // ===== reviews =====
+
+    @Test
+    void reviewListJoinsThroughIndexes() {
+        reviewRepository.findListItemsByUserId(USER_ID, PageRequest.of(0, 20));
+
+        assertThat(explain()).contains("idx_reviews_ticket_id")
+                .doesNotContain("Seq Scan on tickets").doesNotContain("Seq Scan on reviews");
+    }
+
+    @Test
+    void reviewExportStreamsUseIndexes() {
+        try (Stream<?> rows = reviewRepository.streamExportRows(USER_ID)) {
+            rows.findFirst();
+        }
+        try (Stream<?> rows = reviewRepository.streamAnswerExportRows(USER_ID)) {
+            rows.findFirst();
+        }
+        try (Stream<?> rows = reviewRepository.streamImageExportRows(USER_ID)) {
+            rows.findFirst();
+        }
+
+        List<String> plans = explainAll();
+        assertThat(plans).hasSize(3).allSatisfy(plan ->
+                assertThat(plan).doesNotContain("Seq Scan on tickets").doesNotContain("Seq Scan on reviews")
+                        .doesNotContain("Seq Scan on review_questions").doesNotContain("Seq Scan on generated_image_url"));
+    }
+
+    // ===== ticket_likes =====
+
+    @Test
+    void likedTicketIdsUseLikeIndex() {
+        List<Long> ids = jdbcTemplate.queryForList(
+                "SELECT CAST(id AS BIGINT) FROM tickets WHERE user_id = ? LIMIT 20", Long.class, USER_ID);
+        StatementCapture.STATEMENTS.clear();
+
+        ticketLikeRepository.findLikedTicketIds("xu8", ids);
+
+        assertThat(explain()).contains("ticket_likes").contains("Index").doesNotContain("Seq Scan on ticket_likes");
+    }
+
+    @Test
+    void likeCountUsesTicketIndex() {
+        ticketLikeRepository.countByTicket_Id(1L);
+
+        assertThat(explain()).contains("idx_ticket_likes_ticket_id").doesNotContain("Seq Scan on ticket_likes");
+    }
+
+    // ===== friendships =====
+
+    @Test
+    void friendListsUseStatusIndexes() {
+        friendshipRepository.findAcceptedResponsesByUserId(USER_ID);
+        friendshipRepository.findPendingResponsesByUserId(USER_ID);
+        friendshipRepository.findPendingResponsesByFriendId(USER_ID);
+
+        List<String> plans = explainAll();
+        assertThat(plans).hasSize(3).allSatisfy(plan ->
+                assertThat(plan).contains("idx_friendships").doesNotContain("Seq Scan on friendships")
+                        .doesNotContain("Seq Scan on users"));
+    }
+
+    @Test
+    void friendCountsUseStatusIndexesOnly() {
+        friendshipRepository.countAcceptedByUserId(USER_ID);
+        friendshipRepository.countPendingByFriendId(USER_ID);
+
+        List<String> plans = explainAll();
+        assertThat(plans).hasSize(2).allSatisfy(plan ->
+                assertThat(plan).contains("idx_friendships").doesNotContain("Seq Scan on friendships")
+                        .doesNotContain("users"));
+    }
+
+    @Test
+    void friendshipPairLookupsUseIndexes() {
+        friendshipRepository.findByPair(USER_ID, "xu8");
+        friendshipRepository.findLinks(USER_ID, List.of("xu8", "xu50", "xu99"));
+
+        List<String> plans = explainAll();
+        assertThat(plans).hasSize(2);
+        assertThat(plans.get(0)).contains("idx_friendships_pair").doesNotContain("Seq Scan on friendships");
+        assertThat(plans.get(1)).doesNotContain("Seq Scan on friendships");
+    }
+
+    // ===== users =====
+
+    @Test
+    void userSearchUsesPrefixAndTrigramIndexes() {
+        jdbcTemplate.execute("INSERT INTO users (id, email, password, nickname) " +
+                "SELECT 'xs' || g, 'xs' || g || '@explain.test', 'x', 'nick' || md5(g::text) " +
+                "FROM generate_series(1, 50000) g");
+        jdbcTemplate.execute("ANALYZE users");
+        StatementCapture.STATEMENTS.clear();
+
+        userRepository.searchByPrefix("xs12", "xs12%", USER_ID, 21, 0);
+        userRepository.searchByPrefixOrSimilarity("nick3fa", "nick3fa%", USER_ID, 21, 0);
+
+        List<String> plans = explainAll();
+        assertThat(plans).hasSize(2).allSatisfy(plan -> assertThat(plan).doesNotContain("Seq Scan on users"));
+        assertThat(plans.get(0)).contains("idx_users_id_prefix").contains("idx_users_nickname_prefix");
+        assertThat(plans.get(1)).contains("idx_users_search_text_trgm");
+    }
+
+    // ===== feed =====
+
+    @Test
+    void feedInboxPageSeeksOwnerIndex() {
+        feedInboxRepository.findPage(USER_ID, LocalDateTime.of(9999, 12, 31, 23, 59, 59), Long.MAX_VALUE, FIRST_PAGE);
+
+        assertThat(explain()).contains("idx_feed_inbox_owner_seek")
+                .doesNotContain("Seq Scan on feed_inbox").doesNotContain("Seq Scan on tickets");
+    }
+
+    @Test
+    void pullAuthorFeedSeeksEachAuthor() {
+        ticketRepository.findPublicFeedIdsByAuthors(List.of("xu1", "xu51", "xu101"),
+                LocalDateTime.of(9999, 12, 31, 23, 59, 59), Long.MAX_VALUE, 21);
+
+        assertThat(explain()).contains("idx_tickets_user_public_created").doesNotContain("Seq Scan on tickets");
+    }
+
+    @Test
+    void pullFriendIdsUseFriendshipIndexes() {
+        feedPullAuthorRepository.findPullFriendIds(USER_ID);
+
+        assertThat(explain()).contains("idx_friendships").doesNotContain("Seq Scan on friendships");
+    }
+
+    // ===== ticket_statistics_rollup =====
+
+    @Test
+    void rollupUsesUniqueIndex() {
+        ticketStatisticsRollupRepository.findByUserIdAndStatYearIn(USER_ID, List.of(2023, 2024));
+
+        assertThat(explain()).contains("idx_ticket_stat_rollup_unique")
+                .doesNotContain("Seq Scan on ticket_statistics_rollup");
+    }
+
+    /**
+     * 마지막 준비 이후 리포지토리가 처음 실행한 SELECT의 실행 계획
+     * (Page 조회는 목록 쿼리 다음에 count 쿼리가 올 수 있으므로 첫 번째를 봅니다.)
+     */
+    private String explain() {
+        return explainAll().get(0);
+    }
+
+    /**
+     * 마지막 준비 이후 리포지토리가 실행한 모든 SELECT를 같은 바인딩 값으로 EXPLAIN 합니다.
+     * 테스트 트랜잭션과 같은 커넥션에서 실행하므로 넣어 둔 데이터와 통계가 그대로 보입니다.
+     */
+    private List<String> explainAll() {
+        List<StatementCapture.Captured> selects = StatementCapture.STATEMENTS.stream()
+                .filter(StatementCapture.Captured::isSelect)
+                .toList();
+        assertThat(selects).isNotEmpty();
+
+        List<String> plans = new ArrayList<>();
+        for (StatementCapture.Captured captured : selects) {
+            plans.add(jdbcTemplate.execute((ConnectionCallback<String>) connection -> {
+                try (PreparedStatement ps = connection.prepareStatement("EXPLAIN " + captured.sql())) {
+                    captured.bind(ps);
+                    List<String> lines = new ArrayList<>();
+                    try (ResultSet rs = ps.executeQuery()) {
+                        while (rs.next()) {
+                            lines.add(rs.getString(1));
+                        }
+                    }
+                    return String.join("\n", lines);
+                }
+            }));
+        }
+        StatementCapture.STATEMENTS.clear();
+        return plans;
+    }
+
+    /**
+     * DataSource → Connection → PreparedStatement를 감싸 실행된 SQL과 바인딩 값을 기록합니다.
+     * (StatementInspector는 SQL만 보이고 값은 보이지 않으므로 JDBC 단계에서 가로챕니다.)
+     */
+    @TestConfiguration
+    static class CaptureConfig {
+
+        @Bean
+        static BeanPostProcessor capturingDataSource() {
+            return new BeanPostProcessor() {
+                @Override
+                public Object postProcessAfterInitialization(Object bean, String beanName) {
+                    if (bean instanceof DataSource target) {
+                        return StatementCapture.wrap(DataSource.class, target, (method, result, args) ->
+                                "getConnection".equals(method.getName())
+                                        ? StatementCapture.wrap(Connection.class, (Connection) result, StatementCapture::onConnection)
+                                        : result);
+                    }
+                    return bean;
+                }
+            };
+        }
+    }
+
+    static final class StatementCapture {
+
+        static final List<Captured> STATEMENTS = new CopyOnWriteArrayList<>();
+
+        record Captured(String sql, Map<Integer, Object[]> params) {
+
+            boolean isSelect() {
+                String head = sql.stripLeading().toLowerCase();
+                return head.startsWith("select") || head.startsWith("with");
+            }
+
+            void bind(PreparedStatement ps) throws java.sql.SQLException {
+                for (Map.Entry<Integer, Object[]> param : params.entrySet()) {
+                    Object[] args = param.getValue();
+                    if (args[0] == null) {
+                        ps.setNull(param.getKey(), (Integer) args[1]);
+                    } else {
+                        ps.setObject(param.getKey(), args[0]);
+                    }
+                }
+            }
+        }
+
+        @FunctionalInterface
+        interface AfterCall {
+            Object apply(Method method, Object result, Object[] args) throws Exception;
+        }
+
+        private StatementCapture() {
+        }
+
+        @SuppressWarnings("unchecked")
+        static <T> T wrap(Class<T> type, T target, AfterCall after) {
+            InvocationHandler handler = (proxy, method, args) -> {
+                Object result;
+                try {
+                    result = method.invoke(target, args);
+                } catch (InvocationTargetException e) {
+                    throw e.getCause();
+                }
+                return after.apply(method, result, args);
+            };
+            return (T) Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type}, handler);
+        }
+
+        static Object onConnection(Method method, Object result, Object[] args) {
+            if ("prepareStatement".equals(method.getName()) && args != null && args[0] instanceof String sql) {
+                Map<Integer, Object[]> params = new TreeMap<>();
+                return wrap(PreparedStatement.class, (PreparedStatement) result, (m, r, a) -> {
+                    String name = m.getName();
+                    if (name.equals("setNull") && a.length >= 2) {
+                        params.put((Integer) a[0], new Object[]{null, a[1]});
+                    } else if (name.startsWith("set") && a != null && a.length >= 2 && a[0] instanceof Integer index) {
+                        params.put(index, new Object[]{a[1]});
+                    } else if (name.equals("clearParameters")) {
+                        params.clear();
+                    } else if (name.startsWith("execute") && (a == null || a.length == 0)) {
+                        STATEMENTS.add(new Captured(sql, new TreeMap<>(params)));
+                    }
+                    return r;
+                });
+            }
+            return result;
+        }
+    }
+}
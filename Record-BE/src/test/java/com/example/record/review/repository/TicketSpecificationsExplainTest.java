@@ -0,0 +1,130 @@
+package com.example.record.review.repository;
+
+import com.example.record.review.dto.request.TicketSearchRequest;
+import com.example.record.support.PostgresTestDatabase;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.context.TestPropertySource;
+
+import javax.sql.DataSource;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 티켓 고급 검색 Specification 실행 계획 검증
+ *
+ * 조건 조합(shape)별로 Hibernate가 만든 SQL을 그대로 EXPLAIN 하여
+ * IS NULL 조건이 없고 인덱스를 사용하는지 확인합니다.
+ *
+ * schema.sql로 초기화한 PostgreSQL에서 실행합니다. (PostgresTestDatabase: Testcontainers 또는 TEST_DB_URL)
+ * 빈 테이블에서도 인덱스 사용 가능 여부를 보기 위해 enable_seqscan을 끄고 확인합니다.
+ */
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@TestPropertySource(properties = {
+        "spring.jpa.hibernate.ddl-auto=none",
+        "spring.jpa.properties.hibernate.session_factory.statement_inspector="
+                + "com.example.record.review.repository.TicketSpecificationsExplainTest$SqlCapture"
+})
+class TicketSpecificationsExplainTest {
+
+    private static final String USER_ID = "explain-user";
+
+    @DynamicPropertySource
+    static void datasource(DynamicPropertyRegistry registry) {
+        PostgresTestDatabase.register(registry);
+    }
+
+    @Autowired
+    private TicketRepository ticketRepository;
+
+    @Autowired
+    private DataSource dataSource;
+
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        // 같은 트랜잭션 안에서만 적용
+        jdbcTemplate.execute("SET LOCAL enable_seqscan = off");
+        SqlCapture.STATEMENTS.clear();
+    }
+
+    @Test
+    void userOnlyUsesSeekIndexWithoutSort() {
+        TicketSearchRequest request = new TicketSearchRequest();
+
+        String plan = explain(request, USER_ID);
+
+        assertThat(plan).contains("idx_tickets_user_seek").doesNotContain("Seq Scan").doesNotContain("Sort");
+    }
+
+    @Test
+    void dateRangeUsesSeekIndexRange() {
+        TicketSearchRequest request = TicketSearchRequest.builder()
+                .startDate(LocalDate.of(2025, 1, 1))
+                .endDate(LocalDate.of(2025, 12, 31))
+                .build();
+
+        String plan = explain(request, USER_ID, request.getStartDate(), request.getEndDate());
+
+        assertThat(plan).contains("idx_tickets_user_seek").contains("view_date").doesNotContain("Seq Scan");
+    }
+
+    @Test
+    void genreAndVenueFilterOnUserIndex() {
+        TicketSearchRequest request = TicketSearchRequest.builder()
+                .genre("MUSICAL")
+                .venue("블루스퀘어")
+                .sortBy("viewDate")
+                .sortDirection("ASC")
+                .build();
+
+        String plan = explain(request, USER_ID, "MUSICAL", "%블루스퀘어%");
+
+        assertThat(plan).contains("Index").doesNotContain("Seq Scan");
+    }
+
+    /**
+     * Specification으로 조회한 뒤, 실행된 SQL을 같은 파라미터로 EXPLAIN 합니다.
+     *
+     * @param args SQL에 바인딩될 순서대로의 파라미터 (user_id → 관람일 범위 → 장르 → 공연장 → 아티스트 → 제목)
+     */
+    private String explain(TicketSearchRequest request, Object... args) {
+        ticketRepository.findListRows(TicketSpecifications.search(USER_ID, request), TicketSpecifications.sort(request));
+
+        String sql = SqlCapture.STATEMENTS.stream()
+                .filter(s -> s.trim().toLowerCase().startsWith("select"))
+                .reduce((first, second) -> second)
+                .orElseThrow();
+        assertThat(sql.toLowerCase()).doesNotContain("is null");
+
+        List<String> plan = jdbcTemplate.queryForList("EXPLAIN " + sql, String.class, args);
+        return String.join("\n", plan);
+    }
+
+    /**
+     * Hibernate가 실행하는 SQL을 기록합니다.
+     */
+    public static class SqlCapture implements StatementInspector {
+
+        static final List<String> STATEMENTS = new CopyOnWriteArrayList<>();
+
+        @Override
+        public String inspect(String sql) {
+            STATEMENTS.add(sql);
+            return sql;
+        }
+    }
+}
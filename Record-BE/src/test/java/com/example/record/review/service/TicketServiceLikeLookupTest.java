@@ -0,0 +1,102 @@
+package com.example.record.review.service;
+
+import com.example.record.review.dto.response.TicketResponse;
+import com.example.record.support.PostgresTestDatabase;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.context.TestPropertySource;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 티켓 목록 조회 SQL 수 검증
+ *
+ * 실제 PostgreSQL에서 목록을 조회하고 Hibernate 통계로 실행된 SQL 문 수를 셉니다.
+ * 티켓 수와 무관하게 목록 1번 + 조회자 좋아요 여부 1번이어야 합니다. (티켓마다 좋아요 수/여부를 조회하면 실패)
+ */
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import(TicketService.class)
+@TestPropertySource(properties = {
+        "spring.jpa.hibernate.ddl-auto=none",
+        "spring.jpa.properties.hibernate.generate_statistics=true"
+})
+class TicketServiceLikeLookupTest {
+
+    private static final String OWNER = "likeowner";
+    private static final String VIEWER = "likeviewer";
+
+    @DynamicPropertySource
+    static void datasource(DynamicPropertyRegistry registry) {
+        PostgresTestDatabase.register(registry);
+    }
+
+    @Autowired
+    private TicketService ticketService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @MockBean
+    private TicketStatisticsRollupService ticketStatisticsRollupService;
+
+    @MockBean
+    private TicketResponseCache ticketResponseCache;
+
+    @MockBean
+    private TicketLikeCountBuffer ticketLikeCountBuffer;
+
+    @MockBean
+    private FeedFanoutService feedFanoutService;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate.update("INSERT INTO users (id, email, password, nickname) VALUES (?, ?, 'x', ?), (?, ?, 'x', ?)",
+                OWNER, OWNER + "@like.test", "작성자", VIEWER, VIEWER + "@like.test", "조회자");
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 20, 200})
+    void publicTicketListRunsTwoStatements(int ticketCount) {
+        jdbcTemplate.update("INSERT INTO tickets (user_id, performance_title, view_date, is_public, like_count) " +
+                "SELECT ?, '작품' || g, DATE '2025-01-01' + g, TRUE, g % 3 FROM generate_series(1, ?) g", OWNER, ticketCount);
+        jdbcTemplate.update("INSERT INTO ticket_likes (ticket_id, user_id) " +
+                "SELECT id, ? FROM tickets WHERE user_id = ? AND id % 2 = 0", VIEWER, OWNER);
+        statistics.clear();
+
+        List<TicketResponse> responses = ticketService.getPublicTicketsByUserId(OWNER, VIEWER);
+
+        assertThat(responses).hasSize(ticketCount);
+        assertThat(responses).allSatisfy(r -> assertThat(r.getIsLiked()).isEqualTo(r.getId() % 2 == 0));
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+    }
+
+    @Test
+    void emptyListSkipsLikeQuery() {
+        statistics.clear();
+
+        assertThat(ticketService.getPublicTicketsByUserId(OWNER, VIEWER)).isEmpty();
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+}
@@ -0,0 +1,133 @@
+package com.example.record.support;
+
+import java.io.*;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 테스트용 로컬 SMTP 서버 (프로세스 안에서 실행)
+ *
+ * 실제 JavaMailSender가 SMTP로 보내는 내용을 받아 기록합니다.
+ * 지정한 수신자는 RCPT TO 단계에서 550으로 거부합니다. (일부 수신자 거부 상황 재현)
+ * 연결은 받은 순서대로 하나씩 처리합니다.
+ *
+ * 사용법: try (LocalSmtpServer smtp = LocalSmtpServer.start("rejected@...")) { ... smtp.port() ... }
+ */
+public final class LocalSmtpServer implements Closeable {
+
+    /**
+     * 받은 메일 한 통
+     *
+     * @param recipients RCPT TO로 받은 수신자
+     * @param data DATA 본문 (헤더 포함)
+     */
+    public record Received(List<String> recipients, String data) {}
+
+    private final ServerSocket serverSocket;
+    private final Set<String> rejectedRecipients;
+    private final List<Received> received = new CopyOnWriteArrayList<>();
+    private final AtomicInteger connections = new AtomicInteger();
+
+    private LocalSmtpServer(Set<String> rejectedRecipients) throws IOException {
+        this.serverSocket = new ServerSocket(0, 50, InetAddress.getLoopbackAddress());
+        this.rejectedRecipients = rejectedRecipients;
+    }
+
+    /**
+     * 빈 포트에서 서버를 시작합니다.
+     *
+     * @param rejectedRecipients 거부할 수신자 주소
+     */
+    public static LocalSmtpServer start(String... rejectedRecipients) throws IOException {
+        LocalSmtpServer server = new LocalSmtpServer(Set.of(rejectedRecipients));
+        Thread acceptor = new Thread(server::acceptLoop, "local-smtp");
+        acceptor.setDaemon(true);
+        acceptor.start();
+        return server;
+    }
+
+    public int port() {
+        return serverSocket.getLocalPort();
+    }
+
+    public List<Received> received() {
+        return List.copyOf(received);
+    }
+
+    /** 지금까지 받은 SMTP 연결 수 */
+    public int connections() {
+        return connections.get();
+    }
+
+    @Override
+    public void close() throws IOException {
+        serverSocket.close();
+    }
+
+    private void acceptLoop() {
+        while (!serverSocket.isClosed()) {
+            try (Socket socket = serverSocket.accept()) {
+                connections.incrementAndGet();
+                handle(socket);
+            } catch (IOException e) {
+                // 서버 종료 또는 클라이언트 연결 끊김
+            }
+        }
+    }
+
+    private void handle(Socket socket) throws IOException {
+        BufferedReader in = new BufferedReader(new InputStreamReader(socket.getInputStream(), StandardCharsets.UTF_8));
+        Writer out = new OutputStreamWriter(socket.getOutputStream(), StandardCharsets.UTF_8);
+        reply(out, "220 localhost ESMTP");
+
+        List<String> recipients = new ArrayList<>();
+        String line;
+        while ((line = in.readLine()) != null) {
+            String command = line.length() >= 4 ? line.substring(0, 4).toUpperCase() : line.toUpperCase();
+            switch (command) {
+                case "EHLO", "HELO", "NOOP" -> reply(out, "250 localhost");
+                case "MAIL", "RSET" -> {
+                    recipients.clear();
+                    reply(out, "250 OK");
+                }
+                case "RCPT" -> {
+                    String address = line.substring(line.indexOf('<') + 1, line.lastIndexOf('>'));
+                    if (rejectedRecipients.contains(address)) {
+                        reply(out, "550 5.1.1 Mailbox unavailable: " + address);
+                    } else {
+                        recipients.add(address);
+                        reply(out, "250 OK");
+                    }
+                }
+                case "DATA" -> {
+                    reply(out, "354 End data with <CR><LF>.<CR><LF>");
+                    StringBuilder data = new StringBuilder();
+                    String dataLine;
+                    while ((dataLine = in.readLine()) != null && !dataLine.equals(".")) {
+                        data.append(dataLine.startsWith("..") ? dataLine.substring(1) : dataLine).append("\r\n");
+                    }
+                    received.add(new Received(List.copyOf(recipients), data.toString()));
+                    recipients.clear();
+                    reply(out, "250 OK");
+                }
+                case "QUIT" -> {
+                    reply(out, "221 Bye");
+                    return;
+                }
+                default -> reply(out, "502 Command not implemented");
+            }
+        }
+    }
+
+    private static void reply(Writer out, String line) throws IOException {
+        out.write(line + "\r\n");
+        out.flush();
+    }
+}
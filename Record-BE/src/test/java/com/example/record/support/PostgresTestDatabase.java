@@ -0,0 +1,68 @@
+package com.example.record.support;
+
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.utility.MountableFile;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * 실제 PostgreSQL이 필요한 테스트용 데이터베이스
+ *
+ * 기본은 Testcontainers로 PostgreSQL을 띄우고 저장소 루트의 schema.sql로 초기화합니다.
+ * (테스트 JVM에서 한 번만 띄워 모든 테스트 클래스가 함께 씀, Docker 필요)
+ * TEST_DB_URL을 지정하면 컨테이너 대신 그 DB를 사용합니다. (schema.sql로 미리 초기화해 두어야 함)
+ *
+ * 사용법: @DataJpaTest 테스트의 @DynamicPropertySource에서 register(registry) 호출
+ */
+public final class PostgresTestDatabase {
+
+    private static final String IMAGE = "postgres:16-alpine";
+
+    private static PostgreSQLContainer<?> container;
+
+    private PostgresTestDatabase() {
+    }
+
+    /**
+     * spring.datasource.* 를 테스트 DB로 지정합니다.
+     */
+    public static void register(DynamicPropertyRegistry registry) {
+        String url = System.getenv("TEST_DB_URL");
+        if (url != null && !url.isBlank()) {
+            registry.add("spring.datasource.url", () -> url);
+            registry.add("spring.datasource.username", () -> System.getenv("TEST_DB_USER"));
+            registry.add("spring.datasource.password", () -> System.getenv("TEST_DB_PASSWORD"));
+            return;
+        }
+        PostgreSQLContainer<?> postgres = container();
+        registry.add("spring.datasource.url", postgres::getJdbcUrl);
+        registry.add("spring.datasource.username", postgres::getUsername);
+        registry.add("spring.datasource.password", postgres::getPassword);
+    }
+
+    private static synchronized PostgreSQLContainer<?> container() {
+        if (container == null) {
+            PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>(IMAGE)
+                    .withCopyFileToContainer(MountableFile.forHostPath(schemaFile()),
+                            "/docker-entrypoint-initdb.d/schema.sql");
+            postgres.start();
+            container = postgres;
+        }
+        return container;
+    }
+
+    /**
+     * Gradle 테스트 작업 디렉터리(Record-BE) 기준으로 저장소 루트의 schema.sql을 찾습니다.
+     */
+    private static Path schemaFile() {
+        for (Path candidate : new Path[]{Path.of("schema.sql"), Path.of("..", "schema.sql")}) {
+            if (Files.isRegularFile(candidate)) {
+                return candidate.toAbsolutePath();
+            }
+        }
+        throw new IllegalStateException("schema.sql을 찾을 수 없습니다. (작업 디렉터리: "
+                + Path.of("").toAbsolutePath() + ")");
+    }
+}
@@ -0,0 +1,71 @@
+package com.example.record.user;
+
+import com.example.record.user.dto.FriendshipEdge;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.when;
+
+/**
+ * 메모리 친구 그래프의 친구의 친구 계산 검증
+ *
+ * a - b, a - c, b - d, c - d, c - e, d - f
+ * → a 기준: d (b, c 두 명과 친구), e (c 한 명과 친구)
+ */
+@ExtendWith(MockitoExtension.class)
+class FriendGraphTest {
+
+    @Mock
+    private FriendshipRepository friendshipRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private FriendGraph friendGraph;
+
+    @BeforeEach
+    void setUp() {
+        when(friendshipRepository.streamAcceptedEdges()).thenReturn(Stream.of(
+                new FriendshipEdge("a", "b"),
+                new FriendshipEdge("c", "a"),
+                new FriendshipEdge("b", "d"),
+                new FriendshipEdge("d", "c"),
+                new FriendshipEdge("c", "e"),
+                new FriendshipEdge("d", "f")));
+        friendGraph = new FriendGraph(friendshipRepository, transactionManager);
+        friendGraph.rebuild();
+    }
+
+    @Test
+    void ranksByMutualFriendCountAndExcludesExistingFriends() {
+        assertThat(friendGraph.friendsOfFriends("a", 10)).containsExactly(
+                new FriendGraph.Mutual("d", 2),
+                new FriendGraph.Mutual("e", 1));
+    }
+
+    @Test
+    void committedChangesUpdateSuggestions() {
+        // 트랜잭션 밖에서 호출하면 즉시 반영
+        friendGraph.addAfterCommit("a", "d");
+        assertThat(friendGraph.friendsOfFriends("a", 10))
+                .extracting(FriendGraph.Mutual::userId)
+                .containsExactly("e", "f");
+
+        friendGraph.removeAfterCommit("c", "a");
+        assertThat(friendGraph.friendsOfFriends("a", 10)).containsExactly(
+                new FriendGraph.Mutual("c", 1),
+                new FriendGraph.Mutual("f", 1));
+    }
+
+    @Test
+    void unknownUserHasNoSuggestions() {
+        assertThat(friendGraph.friendsOfFriends("nobody", 10)).isEmpty();
+    }
+}
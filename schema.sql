@@ -11,6 +11,12 @@
 --
 -- ============================================================================
 
+-- 확장 모듈
+-- pg_trgm: 삼중자(trigram) 유사도 검색 (오타 허용, 부분 일치)
+-- btree_gin: GIN 인덱스에 user_id 같은 일반 컬럼을 함께 넣기 위해 사용
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+CREATE EXTENSION IF NOT EXISTS btree_gin;
+
 -- 1. users 테이블
 CREATE TABLE IF NOT EXISTS users (
     id VARCHAR(15) PRIMARY KEY,
@@ -25,6 +31,17 @@ CREATE TABLE IF NOT EXISTS users (
     updated_at TIMESTAMP DEFAULT NOW()
 );
 
+-- 사용자 검색용 생성 컬럼 및 인덱스
+-- search_text: 아이디 + 닉네임 소문자 (삼중자 유사도, 오타 허용)
+-- 접두사 검색(LIKE 'abc%')은 text_pattern_ops btree 인덱스로 범위 검색합니다. (삼중자는 3글자 미만 검색어에 약함)
+ALTER TABLE users ADD COLUMN IF NOT EXISTS search_text TEXT GENERATED ALWAYS AS (
+    lower(id) || ' ' || lower(nickname)
+) STORED;
+
+CREATE INDEX IF NOT EXISTS idx_users_search_text_trgm ON users USING GIN (search_text gin_trgm_ops);
+CREATE INDEX IF NOT EXISTS idx_users_id_prefix ON users (lower(id) text_pattern_ops);
+CREATE INDEX IF NOT EXISTS idx_users_nickname_prefix ON users (lower(nickname) text_pattern_ops);
+
 -- 2. friendships 테이블 (친구 관계)
 CREATE TABLE IF NOT EXISTS friendships (
     id SERIAL PRIMARY KEY,
@@ -38,6 +55,19 @@ CREATE TABLE IF NOT EXISTS friendships (
 
 CREATE INDEX IF NOT EXISTS idx_friendships_user_id ON friendships(user_id);
 CREATE INDEX IF NOT EXISTS idx_friendships_friend_id ON friendships(friend_id);
+-- 상태별 친구/요청 목록 (status = ? AND (user_id = ? OR friend_id = ?) → 두 인덱스 BitmapOr)
+CREATE INDEX IF NOT EXISTS idx_friendships_status_user ON friendships(status, user_id);
+CREATE INDEX IF NOT EXISTS idx_friendships_status_friend ON friendships(status, friend_id);
+-- 두 사용자 쌍의 정규화 키 (방향 무관 중복 방지, 친구 요청 upsert의 ON CONFLICT 대상)
+-- 기존 DB의 양방향 중복 행은 ACCEPTED 우선, 그다음 먼저 만든 행만 남기고 정리합니다.
+DELETE FROM friendships f USING friendships g
+WHERE LEAST(f.user_id, f.friend_id) = LEAST(g.user_id, g.friend_id)
+  AND GREATEST(f.user_id, f.friend_id) = GREATEST(g.user_id, g.friend_id)
+  AND f.id <> g.id
+  AND ((g.status = 'ACCEPTED') > (f.status = 'ACCEPTED')
+       OR ((g.status = 'ACCEPTED') = (f.status = 'ACCEPTED') AND g.id < f.id));
+CREATE UNIQUE INDEX IF NOT EXISTS idx_friendships_pair
+    ON friendships (LEAST(user_id, friend_id), GREATEST(user_id, friend_id));
 
 -- 3. tickets 테이블
 CREATE TABLE IF NOT EXISTS tickets (
@@ -54,11 +84,34 @@ CREATE TABLE IF NOT EXISTS tickets (
     image_prompt TEXT,
     review_text TEXT,
     is_public BOOLEAN DEFAULT TRUE,
+    like_count BIGINT NOT NULL DEFAULT 0,
     created_at TIMESTAMP DEFAULT NOW(),
     updated_at TIMESTAMP DEFAULT NOW()
 );
 
 CREATE INDEX IF NOT EXISTS idx_tickets_user_id ON tickets(user_id);
+-- 티켓 목록 커서 페이지네이션 (view_date, created_at, id) seek용
+-- (user_id, view_date) 앞부분이 같으므로 사용자별 기간 조회(연도 통계, 연말 결산)도 이 인덱스로 범위 검색합니다.
+CREATE INDEX IF NOT EXISTS idx_tickets_user_seek ON tickets(user_id, view_date DESC, created_at DESC, id DESC);
+-- 공개 티켓 목록(친구 조회)용 부분 인덱스: 비공개 티켓은 인덱스에 넣지 않음
+CREATE INDEX IF NOT EXISTS idx_tickets_user_public_seek ON tickets(user_id, view_date DESC, created_at DESC, id DESC)
+    WHERE is_public = TRUE;
+-- 친구 피드의 fan-out 제외 작성자 직접 조회용 (등록 최신순 seek)
+CREATE INDEX IF NOT EXISTS idx_tickets_user_public_created ON tickets(user_id, created_at DESC, id DESC)
+    WHERE is_public = TRUE;
+
+-- 티켓 검색용 생성 컬럼 및 인덱스
+-- search_text: 제목/공연장/아티스트 (삼중자 유사도, 오타 허용)
+-- search_vector: 제목/공연장/아티스트/후기 ('simple' 설정: 형태소 분석 없이 공백 단위, 한국어는 접두사 검색으로 보완)
+ALTER TABLE tickets ADD COLUMN IF NOT EXISTS search_text TEXT GENERATED ALWAYS AS (
+    performance_title || ' ' || coalesce(venue, '') || ' ' || coalesce(artist, '')
+) STORED;
+ALTER TABLE tickets ADD COLUMN IF NOT EXISTS search_vector TSVECTOR GENERATED ALWAYS AS (
+    to_tsvector('simple', performance_title || ' ' || coalesce(venue, '') || ' ' || coalesce(artist, '') || ' ' || coalesce(review_text, ''))
+) STORED;
+
+CREATE INDEX IF NOT EXISTS idx_tickets_search_text_trgm ON tickets USING GIN (user_id, search_text gin_trgm_ops);
+CREATE INDEX IF NOT EXISTS idx_tickets_search_vector ON tickets USING GIN (user_id, search_vector);
 
 -- 4. reviews 테이블
 CREATE TABLE IF NOT EXISTS reviews (
@@ -89,6 +142,8 @@ CREATE TABLE IF NOT EXISTS review_questions (
     custom_text TEXT
 );
 
+CREATE INDEX IF NOT EXISTS idx_review_questions_review_id ON review_questions(review_id);
+
 -- 7. generated_image_url 테이블 (생성된 이미지)
 CREATE TABLE IF NOT EXISTS generated_image_url (
     id SERIAL PRIMARY KEY,
@@ -113,6 +168,24 @@ CREATE TABLE IF NOT EXISTS ticket_likes (
 CREATE INDEX IF NOT EXISTS idx_ticket_likes_ticket_id ON ticket_likes(ticket_id);
 CREATE INDEX IF NOT EXISTS idx_ticket_likes_user_id ON ticket_likes(user_id);
 
+-- tickets.like_count 컬럼 추가 및 기존 좋아요 수 채우기 (기존 DB용)
+-- 컬럼은 ddl-auto(update)가 먼저 DEFAULT 0으로 만들었을 수도 있으므로, 채우기 여부는
+-- schema_migrations 마커로 판단합니다. (TicketLikeCountBackfill이 시작 시 같은 마커로 한 번 실행)
+ALTER TABLE tickets ADD COLUMN IF NOT EXISTS like_count BIGINT NOT NULL DEFAULT 0;
+
+CREATE TABLE IF NOT EXISTS schema_migrations (
+    name VARCHAR(100) PRIMARY KEY,
+    applied_at TIMESTAMP NOT NULL DEFAULT NOW()
+);
+
+DO $$
+BEGIN
+    INSERT INTO schema_migrations (name) VALUES ('tickets_like_count_backfill') ON CONFLICT (name) DO NOTHING;
+    IF FOUND THEN
+        UPDATE tickets t SET like_count = (SELECT COUNT(*) FROM ticket_likes tl WHERE tl.ticket_id = t.id);
+    END IF;
+END $$;
+
 -- 9. user_custom_questions 테이블 (사용자 맞춤 질문)
 CREATE TABLE IF NOT EXISTS user_custom_questions (
     id SERIAL PRIMARY KEY,
@@ -135,6 +208,9 @@ CREATE TABLE IF NOT EXISTS email_verification (
     created_at TIMESTAMP DEFAULT NOW()
 );
 
+-- 이메일별 최신 코드 조회 (findTopByEmailOrderByCreatedAtDesc)
+CREATE INDEX IF NOT EXISTS idx_email_verification_email_created ON email_verification(email, created_at DESC);
+
 -- 11. transcription 테이블 (STT 전사 결과)
 CREATE TABLE IF NOT EXISTS transcription (
     id SERIAL PRIMARY KEY,
@@ -192,6 +268,69 @@ CREATE TABLE IF NOT EXISTS band_db (
     created_at TIMESTAMP DEFAULT NOW()
 );
 
+-- 16. ticket_statistics_rollup 테이블 (사용자별·연도별 티켓 통계 집계)
+-- 티켓 생성/수정/삭제와 같은 트랜잭션에서 증감됩니다.
+-- 기존 사용자는 첫 통계 조회 시 자동으로 재집계됩니다. (dimension = 'INITIALIZED' 마커)
+CREATE TABLE IF NOT EXISTS ticket_statistics_rollup (
+    id BIGSERIAL PRIMARY KEY,
+    user_id VARCHAR(15) NOT NULL REFERENCES users(id) ON DELETE CASCADE,
+    stat_year INTEGER NOT NULL,
+    dimension VARCHAR(20) NOT NULL,
+    dim_key VARCHAR(100) NOT NULL,
+    visit_count BIGINT NOT NULL
+);
+
+CREATE UNIQUE INDEX IF NOT EXISTS idx_ticket_stat_rollup_unique
+    ON ticket_statistics_rollup(user_id, stat_year, dimension, dim_key);
+
+-- 17. feed_inbox 테이블 (친구 피드 받은편지함, fan-out-on-write)
+-- 공개 티켓 커밋 후 작성자의 친구 수만큼 행이 비동기로 들어갑니다. (FeedFanoutService)
+CREATE TABLE IF NOT EXISTS feed_inbox (
+    id BIGSERIAL PRIMARY KEY,
+    owner_id VARCHAR(15) NOT NULL REFERENCES users(id) ON DELETE CASCADE,
+    ticket_id BIGINT NOT NULL REFERENCES tickets(id) ON DELETE CASCADE,
+    author_id VARCHAR(15) NOT NULL,
+    created_at TIMESTAMP NOT NULL
+);
+
+CREATE UNIQUE INDEX IF NOT EXISTS idx_feed_inbox_owner_ticket ON feed_inbox(owner_id, ticket_id);
+CREATE INDEX IF NOT EXISTS idx_feed_inbox_owner_seek ON feed_inbox(owner_id, created_at DESC, ticket_id DESC);
+
+-- 18. feed_pull_authors 테이블 (친구가 많아 fan-out하지 않는 작성자, 피드 조회 시 직접 읽음)
+CREATE TABLE IF NOT EXISTS feed_pull_authors (
+    user_id VARCHAR(15) PRIMARY KEY REFERENCES users(id) ON DELETE CASCADE,
+    created_at TIMESTAMP DEFAULT NOW()
+);
+
+-- 19. mail_outbox 테이블 (메일 발송 대기열, 요청 트랜잭션에서 저장 → MailOutboxDispatcher가 발송)
+CREATE TABLE IF NOT EXISTS mail_outbox (
+    id BIGSERIAL PRIMARY KEY,
+    recipient VARCHAR(255) NOT NULL,
+    subject VARCHAR(255) NOT NULL,
+    body TEXT,                                       -- 발송 대기 중에만 보관 (SENT/FAILED가 되면 NULL)
+    status VARCHAR(10) NOT NULL DEFAULT 'PENDING',   -- PENDING, SENT, FAILED
+    attempts INTEGER NOT NULL DEFAULT 0,
+    next_attempt_at TIMESTAMP NOT NULL DEFAULT NOW(),
+    last_error VARCHAR(500),
+    created_at TIMESTAMP NOT NULL DEFAULT NOW(),
+    sent_at TIMESTAMP
+);
+
+-- 발송 대상 조회 (PENDING 행만 담는 부분 인덱스, 발송 완료 행이 쌓여도 크기 일정)
+CREATE INDEX IF NOT EXISTS idx_mail_outbox_due ON mail_outbox(next_attempt_at, id) WHERE status = 'PENDING';
+
+-- 본문 NOT NULL 해제 후 이미 끝난 메일의 본문(인증 코드/임시 비밀번호) 비우기 (기존 DB용)
+ALTER TABLE mail_outbox ALTER COLUMN body DROP NOT NULL;
+UPDATE mail_outbox SET body = NULL WHERE status IN ('SENT', 'FAILED') AND body IS NOT NULL;
+
+-- 시퀀스 증가폭 (JPA pooled 최적화: @SequenceGenerator allocationSize = 50과 같아야 함)
+-- 애플리케이션이 50개 단위로 ID를 미리 할당받아 INSERT를 JDBC 배치로 보냅니다.
+ALTER SEQUENCE tickets_id_seq INCREMENT BY 50;
+ALTER SEQUENCE reviews_id_seq INCREMENT BY 50;
+ALTER SEQUENCE generated_image_url_id_seq INCREMENT BY 50;
+-- ticket_likes는 한 건씩 저장(IDENTITY)하므로 증가폭 1 유지 (INCREMENT BY 50으로 바꿨던 DB 되돌림)
+ALTER SEQUENCE ticket_likes_id_seq INCREMENT BY 1;
+
 -- ============================================================================
 -- 테이블 생성 완료
 -- ============================================================================